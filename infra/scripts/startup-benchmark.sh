@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# scripts/startup-benchmark.sh
+# - prod 프로필 기동 시간(프로세스 시작 → readiness UP) 을 모드별로 측정
+#     jar     : 일반 실행 (AOT/CDS 없음)
+#     aot     : -Dspring.aot.enabled=true
+#     aot-cds : AOT + AppCDS 아카이브(app.jsa)
+# - 목표: aot-cds 중앙값 TARGET_SECONDS(기본 3.0초) 이하, 넘으면 exit 1
+# - 사전 준비: ./scripts/start.sh (MySQL/Redis), ./gradlew cdsArchive
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/../.." && pwd)"
+CDS_DIR="${ROOT_DIR}/build/cds"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8080}"
+TARGET_SECONDS="${TARGET_SECONDS:-3.0}"
+JAVA_BIN="${JAVA_BIN:-java}"
+READINESS_URL="http://localhost:${PORT}/actuator/health/readiness"
+
+APP_JAR="$(find "${CDS_DIR}" -maxdepth 1 -name '*.jar' | head -n 1)"
+if [ -z "${APP_JAR}" ] || [ ! -f "${CDS_DIR}/app.jsa" ]; then
+  echo "ERROR: ${CDS_DIR} 에 추출된 jar/app.jsa 가 없습니다. ./gradlew cdsArchive 를 먼저 실행하세요." >&2
+  exit 1
+fi
+
+# 한 번 기동해 readiness 까지 걸린 초를 출력
+measure() {
+  local mode="$1"
+  local opts=()
+  case "${mode}" in
+    jar) ;;
+    aot) opts=(-Dspring.aot.enabled=true) ;;
+    aot-cds) opts=(-Dspring.aot.enabled=true -XX:SharedArchiveFile="${CDS_DIR}/app.jsa" -Xshare:auto) ;;
+  esac
+
+  local start end pid
+  start=$(date +%s%N)
+  "${JAVA_BIN}" "${opts[@]}" -jar "${APP_JAR}" --spring.profiles.active=prod --server.port="${PORT}" \
+    >"${CDS_DIR}/startup-${mode}.log" 2>&1 &
+  pid=$!
+
+  until curl -sf "${READINESS_URL}" >/dev/null 2>&1; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "ERROR: ${mode} 기동 실패 (로그: ${CDS_DIR}/startup-${mode}.log)" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+
+  kill "${pid}" && wait "${pid}" 2>/dev/null || true
+  awk -v s="${start}" -v e="${end}" 'BEGIN { printf "%.3f", (e - s) / 1e9 }'
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else printf "%.3f", (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+echo "mode      median(s)  runs"
+RESULT=""
+for mode in jar aot aot-cds; do
+  samples=()
+  for ((i = 1; i <= RUNS; i++)); do
+    samples+=("$(measure "${mode}")")
+  done
+  m=$(printf '%s\n' "${samples[@]}" | median)
+  printf '%-9s %-10s %s\n' "${mode}" "${m}" "${samples[*]}"
+  RESULT="${m}"
+done
+
+if awk -v m="${RESULT}" -v t="${TARGET_SECONDS}" 'BEGIN { exit !(m > t) }'; then
+  echo "FAIL: aot-cds 중앙값 ${RESULT}s > 목표 ${TARGET_SECONDS}s" >&2
+  exit 1
+fi
+echo "OK: aot-cds 중앙값 ${RESULT}s <= 목표 ${TARGET_SECONDS}s"
@@ -0,0 +1,110 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.backsuend.coucommerce.cart.cache.CartSnapshot;
+import com.backsuend.coucommerce.cart.cache.CartSnapshotCodec;
+import com.backsuend.coucommerce.catalog.cache.ProductSnapshot;
+import com.backsuend.coucommerce.catalog.cache.ProductSnapshotCodec;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 컴팩트 바이너리 vs Jackson JSON 직렬화 비교.
+ * 실행: ./gradlew jmh -Pjmh.includes=RedisSerializerBenchmark
+ * 페이로드 크기는 setup 에서 한 번 출력.
+ *
+ * @author rua
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+	private CompactBinaryRedisSerializer<ProductSnapshot> binaryProduct;
+	private Jackson2JsonRedisSerializer<ProductSnapshot> jsonProduct;
+	private CompactBinaryRedisSerializer<CartSnapshot> binaryCart;
+	private Jackson2JsonRedisSerializer<CartSnapshot> jsonCart;
+
+	private ProductSnapshot product;
+	private CartSnapshot cart;
+	private byte[] binaryProductBytes;
+	private byte[] jsonProductBytes;
+	private byte[] binaryCartBytes;
+	private byte[] jsonCartBytes;
+
+	@Setup
+	public void setUp() {
+		ObjectMapper mapper = new ObjectMapper();
+		binaryProduct = new CompactBinaryRedisSerializer<>(new ProductSnapshotCodec());
+		jsonProduct = new Jackson2JsonRedisSerializer<>(mapper, ProductSnapshot.class);
+		binaryCart = new CompactBinaryRedisSerializer<>(new CartSnapshotCodec());
+		jsonCart = new Jackson2JsonRedisSerializer<>(mapper, CartSnapshot.class);
+
+		product = new ProductSnapshot(123_456L, 42L, "무선 이어폰 프로", 159_000, 7, Category.DIGITAL, true,
+			1_760_000_000_000L);
+		List<CartSnapshot.Item> items = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			items.add(new CartSnapshot.Item(100_000L + i * 37, 1 + i % 3));
+		}
+		cart = new CartSnapshot(9_876L, items);
+
+		binaryProductBytes = binaryProduct.serialize(product);
+		jsonProductBytes = jsonProduct.serialize(product);
+		binaryCartBytes = binaryCart.serialize(cart);
+		jsonCartBytes = jsonCart.serialize(cart);
+		System.out.printf("product bytes: binary=%d json=%d / cart bytes: binary=%d json=%d%n",
+			binaryProductBytes.length, jsonProductBytes.length, binaryCartBytes.length, jsonCartBytes.length);
+	}
+
+	@Benchmark
+	public byte[] productSerializeBinary() {
+		return binaryProduct.serialize(product);
+	}
+
+	@Benchmark
+	public byte[] productSerializeJson() {
+		return jsonProduct.serialize(product);
+	}
+
+	@Benchmark
+	public ProductSnapshot productDeserializeBinary() {
+		return binaryProduct.deserialize(binaryProductBytes);
+	}
+
+	@Benchmark
+	public ProductSnapshot productDeserializeJson() {
+		return jsonProduct.deserialize(jsonProductBytes);
+	}
+
+	@Benchmark
+	public byte[] cartSerializeBinary() {
+		return binaryCart.serialize(cart);
+	}
+
+	@Benchmark
+	public byte[] cartSerializeJson() {
+		return jsonCart.serialize(cart);
+	}
+
+	@Benchmark
+	public CartSnapshot cartDeserializeBinary() {
+		return binaryCart.deserialize(binaryCartBytes);
+	}
+
+	@Benchmark
+	public CartSnapshot cartDeserializeJson() {
+		return jsonCart.deserialize(jsonCartBytes);
+	}
+}
@@ -0,0 +1,102 @@
+package com.backsuend.coucommerce.common.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * ApiResponse 봉투 직렬화: 전용 컨버터 vs ObjectMapper 전체 직렬화.
+ * 실행: ./gradlew jmh -Pjmh.includes=ApiResponseWriteBenchmark (-prof gc 로 할당량 비교 권장)
+ *
+ * @author rua
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseWriteBenchmark {
+
+	public record Item(long id, String name, int price) {
+	}
+
+	private ObjectMapper objectMapper;
+	private ApiResponseHttpMessageConverter converter;
+	private ByteArrayOutputStream out;
+
+	private ApiResponse<Object> noData;
+	private ApiResponse<Object> smallData;
+	private ApiResponse<Object> listData;
+
+	@Setup
+	public void setUp() {
+		// Spring Boot 기본 ObjectMapper 와 같은 설정 (JavaTimeModule + ISO-8601)
+		objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+		converter = new ApiResponseHttpMessageConverter(objectMapper);
+		out = new ByteArrayOutputStream(8192);
+
+		noData = ApiResponse.noContent();
+		smallData = ApiResponse.ok(new Item(1L, "무선 이어폰", 159_000));
+		listData = ApiResponse.ok(List.of(
+			new Item(1L, "무선 이어폰", 159_000),
+			new Item(2L, "보조 배터리", 39_000),
+			new Item(3L, "USB-C 케이블", 9_900)));
+	}
+
+	@Benchmark
+	public int envelopeOnlyConverter() throws IOException {
+		out.reset();
+		converter.write(noData, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int envelopeOnlyJackson() throws IOException {
+		out.reset();
+		objectMapper.writeValue(out, noData);
+		return out.size();
+	}
+
+	@Benchmark
+	public int smallDataConverter() throws IOException {
+		out.reset();
+		converter.write(smallData, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int smallDataJackson() throws IOException {
+		out.reset();
+		objectMapper.writeValue(out, smallData);
+		return out.size();
+	}
+
+	@Benchmark
+	public int listDataConverter() throws IOException {
+		out.reset();
+		converter.write(listData, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int listDataJackson() throws IOException {
+		out.reset();
+		objectMapper.writeValue(out, listData);
+		return out.size();
+	}
+}
@@ -0,0 +1,82 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 부하 테스트용 비동기 HTTP 클라이언트. 2xx 가 아니면 {@link HttpStatusException} 으로 실패.
+ *
+ * @author rua
+ */
+final class ApiClient {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final HttpClient http;
+	private final ObjectMapper objectMapper;
+	private final URI baseUri;
+
+	ApiClient(URI baseUri, ObjectMapper objectMapper) {
+		this.baseUri = baseUri;
+		this.objectMapper = objectMapper;
+		this.http = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+	}
+
+	CompletableFuture<JsonNode> get(String path) {
+		return send(HttpRequest.newBuilder(baseUri.resolve(path)).GET());
+	}
+
+	CompletableFuture<JsonNode> post(String path, Object body) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(body);
+		} catch (Exception ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+		return send(HttpRequest.newBuilder(baseUri.resolve(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json)));
+	}
+
+	private CompletableFuture<JsonNode> send(HttpRequest.Builder builder) {
+		HttpRequest request = builder.timeout(REQUEST_TIMEOUT).header("Accept", "application/json").build();
+		return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+			if (response.statusCode() / 100 != 2) {
+				throw new HttpStatusException(response.statusCode());
+			}
+			try {
+				byte[] body = response.body();
+				return body.length == 0 ? objectMapper.nullNode() : objectMapper.readTree(body);
+			} catch (Exception ex) {
+				throw new CompletionException(ex);
+			}
+		});
+	}
+
+	static final class HttpStatusException extends RuntimeException {
+
+		private final int status;
+
+		HttpStatusException(int status) {
+			super("HTTP " + status, null, false, false);
+			this.status = status;
+		}
+
+		int status() {
+			return status;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실행 인자 ({@code --key=value}).
+ * <ul>
+ *   <li>{@code --duration=60} / {@code --warmup=15}: 측정·웜업 구간(초)</li>
+ *   <li>{@code --rate.<시나리오>=N}: 초당 도착 수, 0 이면 해당 시나리오 제외</li>
+ *   <li>{@code --report=build/reports/load-test/report.json}</li>
+ *   <li>{@code --baseline=경로}: 이전 리포트와 비교해 아래 중 하나라도 넘으면 실패
+ *     <ul>
+ *       <li>{@code --max-p99-regression=0.10}: 성공 요청 p99 증가 비율</li>
+ *       <li>{@code --max-error-rate-increase=0.01}: 오류율 증가폭 (절대값, 0.01 = 1%p)</li>
+ *       <li>{@code --max-throughput-drop=0.10}: 목표 도착률 대비 달성 처리량 비율의 감소 비율</li>
+ *     </ul>
+ *   </li>
+ * </ul>
+ *
+ * @author rua
+ */
+record LoadTestOptions(
+	Duration duration,
+	Duration warmup,
+	Map<String, Double> rates,
+	Path report,
+	Path baseline,
+	double maxP99Regression,
+	double maxErrorRateIncrease,
+	double maxThroughputDrop
+) {
+	private static final Map<String, Double> DEFAULT_RATES = Map.of(
+		"browse", 200.0,
+		"cartAdd", 50.0,
+		"checkout", 10.0,
+		"payment", 5.0);
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("--key=value 형식이 아닌 인자: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		Map<String, Double> rates = new LinkedHashMap<>();
+		for (Scenario scenario : Scenarios.all()) {
+			String name = scenario.name();
+			rates.put(name, Double.parseDouble(values.getOrDefault("rate." + name,
+				String.valueOf(DEFAULT_RATES.get(name)))));
+		}
+		String baseline = values.get("baseline");
+		return new LoadTestOptions(
+			Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+			Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+			rates,
+			Path.of(values.getOrDefault("report", "build/reports/load-test/report.json")),
+			baseline == null ? null : Path.of(baseline),
+			Double.parseDouble(values.getOrDefault("max-p99-regression", "0.10")),
+			Double.parseDouble(values.getOrDefault("max-error-rate-increase", "0.01")),
+			Double.parseDouble(values.getOrDefault("max-throughput-drop", "0.10")));
+	}
+}
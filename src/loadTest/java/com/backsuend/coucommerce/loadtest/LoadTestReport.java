@@ -0,0 +1,149 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 시나리오별 결과를 JSON 리포트로 기록하고, 기준(baseline) 리포트 대비 회귀를 판정.
+ * - p99 는 성공 요청만 집계하므로 빠르게 실패하는 요청이 늘면 오히려 좋아 보임 → 오류율과 달성 처리량도 함께 판정
+ * - 처리량은 목표 도착률 대비 비율로 비교 (실행마다 --rate 가 달라도 비교 가능)
+ * 리포트 형식은 CI 가 그대로 다음 실행의 baseline 으로 쓸 수 있게 유지.
+ *
+ * @author rua
+ */
+final class LoadTestReport {
+
+	private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+	private static final String[] PERCENTILE_KEYS = {"p50", "p90", "p99", "p999"};
+
+	private final ObjectMapper objectMapper;
+	private final LoadTestOptions options;
+	private final List<ScenarioResult> results;
+
+	LoadTestReport(ObjectMapper objectMapper, LoadTestOptions options, List<ScenarioResult> results) {
+		this.objectMapper = objectMapper;
+		this.options = options;
+		this.results = results;
+	}
+
+	/** 리포트를 기록하고 회귀 목록 반환 (비어 있으면 통과) */
+	List<String> write() throws IOException {
+		ObjectNode root = objectMapper.createObjectNode();
+		root.put("generatedAt", Instant.now().toString());
+		root.put("warmupSeconds", options.warmup().toSeconds());
+		root.put("durationSeconds", options.duration().toSeconds());
+
+		ObjectNode scenarios = root.putObject("scenarios");
+		for (ScenarioResult result : results) {
+			ObjectNode node = scenarios.putObject(result.name());
+			node.put("targetRate", result.targetRate());
+			node.put("completed", result.completed());
+			node.put("errors", result.errors());
+			ObjectNode byStatus = node.putObject("errorsByStatus");
+			result.errorsByStatus().forEach((status, count) -> byStatus.put(String.valueOf(status), count));
+			node.put("errorRate", errorRate(result.completed(), result.errors()));
+			node.put("throughput", round(result.throughput()));
+			ObjectNode latency = node.putObject("latencyMs");
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				latency.put(PERCENTILE_KEYS[i], round(result.percentileMillis(PERCENTILES[i])));
+			}
+			latency.put("max", round(result.latencyMicros().getMaxValue() / 1000.0));
+			latency.put("mean", round(result.latencyMicros().getMean() / 1000.0));
+		}
+
+		List<String> regressions = compareWithBaseline(scenarios);
+		ObjectNode gate = root.putObject("gate");
+		gate.put("baseline", options.baseline() == null ? null : options.baseline().toString());
+		gate.put("maxP99Regression", options.maxP99Regression());
+		gate.put("maxErrorRateIncrease", options.maxErrorRateIncrease());
+		gate.put("maxThroughputDrop", options.maxThroughputDrop());
+		gate.put("passed", regressions.isEmpty());
+		ArrayNode violations = gate.putArray("violations");
+		regressions.forEach(violations::add);
+
+		Path report = options.report();
+		if (report.getParent() != null) {
+			Files.createDirectories(report.getParent());
+		}
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), root);
+		return regressions;
+	}
+
+	/** baseline 에 있는 시나리오만 비교. 새 시나리오는 다음 baseline 부터 대상 */
+	private List<String> compareWithBaseline(ObjectNode current) throws IOException {
+		List<String> regressions = new ArrayList<>();
+		if (options.baseline() == null) {
+			return regressions;
+		}
+		JsonNode baseline = objectMapper.readTree(options.baseline().toFile()).path("scenarios");
+		for (ScenarioResult result : results) {
+			JsonNode previous = baseline.path(result.name());
+			if (previous.isMissingNode()) {
+				continue;
+			}
+			comparePercentile(result, previous, current.path(result.name()), regressions);
+			compareErrorRate(result, previous, regressions);
+			compareThroughput(result, previous, regressions);
+		}
+		return regressions;
+	}
+
+	private void comparePercentile(ScenarioResult result, JsonNode previous, JsonNode current,
+		List<String> regressions) {
+		double baselineP99 = previous.path("latencyMs").path("p99").asDouble();
+		if (baselineP99 <= 0) {
+			return;
+		}
+		double p99 = current.path("latencyMs").path("p99").asDouble();
+		double limit = baselineP99 * (1 + options.maxP99Regression());
+		if (p99 > limit) {
+			regressions.add("%s p99 %.2fms > 허용치 %.2fms (baseline %.2fms)"
+				.formatted(result.name(), p99, limit, baselineP99));
+		}
+	}
+
+	/** errorRate 가 없는 이전 형식 baseline 은 completed/errors 로 계산 */
+	private void compareErrorRate(ScenarioResult result, JsonNode previous, List<String> regressions) {
+		double baselineRate = previous.has("errorRate")
+			? previous.path("errorRate").asDouble()
+			: errorRate(previous.path("completed").asLong(), previous.path("errors").asLong());
+		double rate = errorRate(result.completed(), result.errors());
+		double limit = baselineRate + options.maxErrorRateIncrease();
+		if (rate > limit) {
+			regressions.add("%s 오류율 %.2f%% > 허용치 %.2f%% (baseline %.2f%%)"
+				.formatted(result.name(), rate * 100, limit * 100, baselineRate * 100));
+		}
+	}
+
+	private void compareThroughput(ScenarioResult result, JsonNode previous, List<String> regressions) {
+		double baselineTarget = previous.path("targetRate").asDouble();
+		if (baselineTarget <= 0 || result.targetRate() <= 0) {
+			return;
+		}
+		double baselineRatio = previous.path("throughput").asDouble() / baselineTarget;
+		double ratio = result.throughput() / result.targetRate();
+		double limit = baselineRatio * (1 - options.maxThroughputDrop());
+		if (ratio < limit) {
+			regressions.add("%s 처리량 %.2f/s (목표 대비 %.1f%%) < 허용치 %.1f%% (baseline %.1f%%)"
+				.formatted(result.name(), result.throughput(), ratio * 100, limit * 100, baselineRatio * 100));
+		}
+	}
+
+	private static double errorRate(long completed, long errors) {
+		long total = completed + errors;
+		return total == 0 ? 0.0 : (double)errors / total;
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+}
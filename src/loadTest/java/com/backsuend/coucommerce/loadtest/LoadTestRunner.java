@@ -0,0 +1,84 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.backsuend.coucommerce.CouCommerceApplication;
+import com.backsuend.coucommerce.loadtest.redis.InMemoryRedisServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * browse → cart → checkout → payment 종단 부하 테스트.
+ * 임베디드 H2(MySQL 모드)와 인메모리 Redis 대역으로 앱을 띄운 뒤 시나리오별 개방형 부하를 동시에 걸고
+ * HdrHistogram 백분위/처리량을 JSON 리포트로 남김. baseline 대비 p99/오류율/처리량 회귀가 있으면 종료 코드 1.
+ *
+ * <pre>./gradlew loadTest --args="--duration=120 --rate.browse=400 --baseline=baseline.json"</pre>
+ *
+ * @author rua
+ */
+public final class LoadTestRunner {
+
+	private LoadTestRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		List<String> regressions;
+
+		try (InMemoryRedisServer redis = InMemoryRedisServer.start()) {
+			SpringApplicationBuilder application = new SpringApplicationBuilder(CouCommerceApplication.class)
+				.profiles("loadtest")
+				.properties("server.port=0", "spring.data.redis.port=" + redis.port());
+
+			try (ConfigurableApplicationContext context = application.run()) {
+				int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+				ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+				ApiClient client = new ApiClient(URI.create("http://localhost:" + port), objectMapper);
+				List<ScenarioResult> results = runAll(new OpenModelDriver(client), options);
+
+				regressions = new LoadTestReport(objectMapper, options, results).write();
+				results.forEach(LoadTestRunner::print);
+				System.out.println("report: " + options.report().toAbsolutePath());
+			}
+		}
+
+		if (!regressions.isEmpty()) {
+			regressions.forEach(regression -> System.err.println("회귀: " + regression));
+			System.exit(1);
+		}
+		System.exit(0);
+	}
+
+	/** 시나리오마다 도착 생성 스레드를 하나씩 두어 트래픽 믹스를 동시에 발생 */
+	private static List<ScenarioResult> runAll(OpenModelDriver driver, LoadTestOptions options) throws Exception {
+		List<Future<ScenarioResult>> futures = new ArrayList<>();
+		try (ExecutorService generators = Executors.newThreadPerTaskExecutor(
+			Thread.ofPlatform().name("load-generator-", 0).factory())) {
+			for (Scenario scenario : Scenarios.all()) {
+				double rate = options.rates().get(scenario.name());
+				if (rate > 0) {
+					futures.add(generators.submit(
+						() -> driver.run(scenario, rate, options.warmup(), options.duration())));
+				}
+			}
+			List<ScenarioResult> results = new ArrayList<>();
+			for (Future<ScenarioResult> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		}
+	}
+
+	private static void print(ScenarioResult result) {
+		System.out.printf("%-10s rate=%6.1f/s done=%7d err=%5d tput=%7.1f/s p50=%7.2fms p99=%8.2fms p999=%8.2fms%n",
+			result.name(), result.targetRate(), result.completed(), result.errors(), result.throughput(),
+			result.percentileMillis(50), result.percentileMillis(99), result.percentileMillis(99.9));
+	}
+}
@@ -0,0 +1,122 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.backsuend.coucommerce.loadtest.ApiClient.HttpStatusException;
+
+/**
+ * 개방형(open model) 부하 발생기.
+ * 도착 간격은 지수분포(포아송 도착)이고 응답을 기다리지 않고 다음 요청을 보냄 → 서버가 느려지면 동시 요청이 쌓임.
+ * 지연은 실제 전송 시각이 아니라 "예정된" 도착 시각부터 측정 → 발생기 지연이 coordinated omission 으로 숨지 않음.
+ * 종료 후 DRAIN_TIMEOUT 안에 끝나지 않은 측정 구간 요청은 상태 0(타임아웃) 오류로 집계 → 가장 느린 요청이 결과에서 빠지지 않음.
+ *
+ * @author rua
+ */
+final class OpenModelDriver {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+	private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+	private static final int TIMED_OUT_STATUS = 0;
+
+	private final ApiClient client;
+
+	OpenModelDriver(ApiClient client) {
+		this.client = client;
+	}
+
+	/** 호출 스레드에서 웜업 + 측정 구간 동안 도착을 생성하고, 진행 중 요청이 끝나길 기다린 뒤 결과 반환 */
+	ScenarioResult run(Scenario scenario, double ratePerSecond, Duration warmup, Duration duration) {
+		Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		LongAdder errors = new LongAdder();
+		Map<Integer, LongAdder> errorsByStatus = new ConcurrentHashMap<>();
+		AtomicInteger inFlight = new AtomicInteger();
+		// 아직 결과를 집계하지 않은 측정 구간 요청 - 완료 콜백과 드레인 타임아웃 중 먼저 꺼낸 쪽이 한 번만 집계
+		Set<Object> pendingMeasured = ConcurrentHashMap.newKeySet();
+
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long end = measureFrom + duration.toNanos();
+		double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+		long next = start;
+
+		while (true) {
+			next += (long)(-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos);
+			if (next >= end) {
+				break;
+			}
+			sleepUntil(next);
+			long intendedStart = next;
+			Object ticket = intendedStart >= measureFrom ? new Object() : null;
+			if (ticket != null) {
+				pendingMeasured.add(ticket);
+			}
+			inFlight.incrementAndGet();
+			scenario.run(client).whenComplete((ignored, failure) -> {
+				try {
+					if (ticket == null || !pendingMeasured.remove(ticket)) {
+						return;
+					}
+					if (failure == null) {
+						long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+						histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+					} else {
+						errors.increment();
+						errorsByStatus.computeIfAbsent(statusOf(failure), s -> new LongAdder()).increment();
+					}
+				} finally {
+					inFlight.decrementAndGet();
+				}
+			});
+		}
+		drain(inFlight);
+		for (Object ticket : pendingMeasured) {
+			if (pendingMeasured.remove(ticket)) {
+				errors.increment();
+				errorsByStatus.computeIfAbsent(TIMED_OUT_STATUS, s -> new LongAdder()).increment();
+			}
+		}
+
+		Map<Integer, Long> statusCounts = new TreeMap<>();
+		errorsByStatus.forEach((status, count) -> statusCounts.put(status, count.sum()));
+		long completed = histogram.getTotalCount();
+		double seconds = duration.toNanos() / 1e9;
+		return new ScenarioResult(scenario.name(), ratePerSecond, completed, errors.sum(), statusCounts,
+			completed / seconds, histogram);
+	}
+
+	private static void sleepUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	private static void drain(AtomicInteger inFlight) {
+		long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+		while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		}
+	}
+
+	/** HTTP 상태 오류는 상태 코드로, 연결 실패·타임아웃 등은 0 으로 집계 */
+	private static int statusOf(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof HttpStatusException statusException) {
+				return statusException.status();
+			}
+		}
+		return TIMED_OUT_STATUS;
+	}
+}
@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 한 번의 도착(arrival)이 수행하는 사용자 여정. 여러 요청으로 이뤄질 수 있으며 전체가 하나의 지연 샘플.
+ *
+ * @author rua
+ */
+interface Scenario {
+
+	String name();
+
+	CompletableFuture<?> run(ApiClient client);
+}
@@ -0,0 +1,24 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 측정 구간(웜업 제외)의 시나리오 결과. 지연은 마이크로초 단위 히스토그램.
+ *
+ * @author rua
+ */
+record ScenarioResult(
+	String name,
+	double targetRate,
+	long completed,
+	long errors,
+	Map<Integer, Long> errorsByStatus,
+	double throughput,
+	Histogram latencyMicros
+) {
+	double percentileMillis(double percentile) {
+		return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
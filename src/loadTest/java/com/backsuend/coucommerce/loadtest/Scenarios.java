@@ -0,0 +1,111 @@
+package com.backsuend.coucommerce.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 시나리오 정의. 회원/상품 id 범위는 loadtest-data.sql 시드와 맞춰야 함.
+ * 시나리오마다 회원 범위를 나눠 checkout 이 다른 시나리오의 장바구니를 비우지 않게 함.
+ *
+ * @author rua
+ */
+final class Scenarios {
+
+	static final int PRODUCT_COUNT = 5_000;
+	static final int CART_MEMBER_FROM = 1;
+	static final int CART_MEMBER_TO = 1_000;
+	static final int CHECKOUT_MEMBER_FROM = 1_001;
+	static final int CHECKOUT_MEMBER_TO = 1_500;
+	static final int PAYMENT_MEMBER_FROM = 1_501;
+	static final int PAYMENT_MEMBER_TO = 2_000;
+
+	private static final Category[] CATEGORIES = Category.values();
+
+	private Scenarios() {
+	}
+
+	static List<Scenario> all() {
+		return List.of(browse(), cartAdd(), checkout(), payment());
+	}
+
+	/** 카테고리별 상품 목록 (앞쪽 페이지 위주) */
+	static Scenario browse() {
+		return scenario("browse", client -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			Category category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+			int page = random.nextInt(10) < 7 ? 0 : random.nextInt(1, 5);
+			return client.get("/api/products?category=" + category.name() + "&page=" + page + "&size=20");
+		});
+	}
+
+	static Scenario cartAdd() {
+		return scenario("cartAdd", client -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long memberId = random.nextLong(CART_MEMBER_FROM, CART_MEMBER_TO + 1);
+			return addRandomItem(client, memberId);
+		});
+	}
+
+	/** 장바구니 1~3개 담고 주문 */
+	static Scenario checkout() {
+		AtomicLong sequence = new AtomicLong();
+		return scenario("checkout", client -> placeOrder(client,
+			nextMember(sequence, CHECKOUT_MEMBER_FROM, CHECKOUT_MEMBER_TO)));
+	}
+
+	/** 주문 후 결제까지 */
+	static Scenario payment() {
+		AtomicLong sequence = new AtomicLong();
+		return scenario("payment", client -> placeOrder(client,
+			nextMember(sequence, PAYMENT_MEMBER_FROM, PAYMENT_MEMBER_TO))
+			.thenCompose(order -> client.post(
+				"/api/orders/" + order.path("data").path("orderId").asLong() + "/payments",
+				Map.of("cardBrand", "KB"))));
+	}
+
+	private static CompletableFuture<JsonNode> placeOrder(ApiClient client, long memberId) {
+		int lines = ThreadLocalRandom.current().nextInt(1, 4);
+		CompletableFuture<?> cart = CompletableFuture.completedFuture(null);
+		for (int i = 0; i < lines; i++) {
+			cart = cart.thenCompose(ignored -> addRandomItem(client, memberId));
+		}
+		return cart.thenCompose(ignored -> client.post("/api/members/" + memberId + "/checkout", Map.of(
+			"receiverName", "부하테스트",
+			"receiverRoadName", "서울시 중구 세종대로 110",
+			"receiverPhone", "010-0000-0000",
+			"receiverPostalCode", "04524")));
+	}
+
+	private static CompletableFuture<?> addRandomItem(ApiClient client, long memberId) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long productId = random.nextLong(1, PRODUCT_COUNT + 1);
+		return client.post("/api/members/" + memberId + "/cart/items",
+			Map.of("productId", productId, "quantity", random.nextInt(1, 4)));
+	}
+
+	/** 같은 회원이 동시에 두 번 주문하지 않도록 주문 회원을 순환 배정 */
+	private static long nextMember(AtomicLong sequence, int from, int to) {
+		return from + Math.floorMod(sequence.getAndIncrement(), to - from + 1);
+	}
+
+	private static Scenario scenario(String name, Function<ApiClient, CompletableFuture<?>> body) {
+		return new Scenario() {
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public CompletableFuture<?> run(ApiClient client) {
+				return body.apply(client);
+			}
+		};
+	}
+}
@@ -0,0 +1,692 @@
+package com.backsuend.coucommerce.loadtest.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 부하 테스트용 인메모리 Redis 대역 (RESP2, 단일 락으로 명령 직렬 실행 = Redis 단일 스레드 모델).
+ * 애플리케이션이 실제로 쓰는 명령만 구현: 문자열/TTL, 해시, 정렬 집합, pub/sub, 연결 관리.
+ * 새 Redis 명령을 쓰는 기능을 추가하면 여기에도 추가.
+ * 키/필드는 ISO-8859-1 로 바이트를 1:1 보존해 문자열로 다룸.
+ *
+ * @author rua
+ */
+public final class InMemoryRedisServer implements AutoCloseable {
+
+	private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NULL_BULK = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private final ServerSocket serverSocket;
+	private final Object lock = new Object();
+	private final Map<String, Object> data = new HashMap<>();
+	private final Map<String, Long> expiresAt = new HashMap<>();
+	private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+	private volatile boolean running = true;
+
+	private InMemoryRedisServer(ServerSocket serverSocket) {
+		this.serverSocket = serverSocket;
+	}
+
+	public static InMemoryRedisServer start() throws IOException {
+		ServerSocket serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+		InMemoryRedisServer server = new InMemoryRedisServer(serverSocket);
+		Thread.ofPlatform().daemon().name("redis-standin-accept").start(server::acceptLoop);
+		return server;
+	}
+
+	public int port() {
+		return serverSocket.getLocalPort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		running = false;
+		serverSocket.close();
+	}
+
+	private void acceptLoop() {
+		while (running) {
+			try {
+				Socket socket = serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				Connection connection = new Connection(socket);
+				Thread.ofVirtual().name("redis-standin-conn").start(connection::serve);
+			} catch (IOException ex) {
+				if (running) {
+					throw new IllegalStateException("Redis 대역 accept 실패", ex);
+				}
+			}
+		}
+	}
+
+	private final class Connection {
+
+		private final Socket socket;
+		private final InputStream in;
+		private final OutputStream out;
+		private final Set<String> channels = new CopyOnWriteArraySet<>();
+
+		Connection(Socket socket) throws IOException {
+			this.socket = socket;
+			this.in = new BufferedInputStream(socket.getInputStream());
+			this.out = new BufferedOutputStream(socket.getOutputStream());
+		}
+
+		void serve() {
+			try (socket) {
+				List<byte[]> command;
+				while ((command = readCommand()) != null) {
+					Reply reply = new Reply();
+					execute(command, reply);
+					synchronized (out) {
+						out.write(reply.bytes());
+						// 파이프라인으로 연달아 들어온 명령은 한 번에 내보냄
+						if (in.available() == 0) {
+							out.flush();
+						}
+					}
+				}
+			} catch (IOException ignored) {
+				// 클라이언트 종료
+			} finally {
+				for (String channel : channels) {
+					subscribers.getOrDefault(channel, Set.of()).remove(this);
+				}
+			}
+		}
+
+		void push(byte[] message) throws IOException {
+			synchronized (out) {
+				out.write(message);
+				out.flush();
+			}
+		}
+
+		private List<byte[]> readCommand() throws IOException {
+			int first = in.read();
+			if (first == -1) {
+				return null;
+			}
+			if (first != '*') {
+				throw new IOException("RESP 배열이 아닌 명령");
+			}
+			int count = (int)readNumber();
+			List<byte[]> args = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				if (in.read() != '$') {
+					throw new IOException("bulk string 이 아닌 인자");
+				}
+				int length = (int)readNumber();
+				byte[] arg = in.readNBytes(length);
+				in.skipNBytes(2);
+				args.add(arg);
+			}
+			return args;
+		}
+
+		private long readNumber() throws IOException {
+			long value = 0;
+			boolean negative = false;
+			int b;
+			while ((b = in.read()) != '\r') {
+				if (b == '-') {
+					negative = true;
+				} else {
+					value = value * 10 + (b - '0');
+				}
+			}
+			in.read();
+			return negative ? -value : value;
+		}
+
+		private void execute(List<byte[]> command, Reply reply) throws IOException {
+			String name = text(command.get(0)).toUpperCase();
+			switch (name) {
+				case "PING" -> reply.simple("PONG");
+				case "SELECT", "QUIT" -> reply.ok();
+				case "CLIENT" -> reply.ok();
+				case "SUBSCRIBE" -> subscribe(command, reply);
+				case "UNSUBSCRIBE" -> unsubscribe(command, reply);
+				case "PUBLISH" -> reply.integer(publish(key(command, 1), command.get(2)));
+				default -> {
+					synchronized (lock) {
+						executeData(name, command, reply);
+					}
+				}
+			}
+		}
+
+		private void subscribe(List<byte[]> command, Reply reply) {
+			for (int i = 1; i < command.size(); i++) {
+				String channel = key(command, i);
+				subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(this);
+				channels.add(channel);
+				reply.arrayHeader(3).bulk("subscribe").bulk(command.get(i)).integer(channels.size());
+			}
+		}
+
+		private void unsubscribe(List<byte[]> command, Reply reply) {
+			List<String> targets = new ArrayList<>();
+			if (command.size() == 1) {
+				targets.addAll(channels);
+			} else {
+				for (int i = 1; i < command.size(); i++) {
+					targets.add(key(command, i));
+				}
+			}
+			for (String channel : targets) {
+				channels.remove(channel);
+				subscribers.getOrDefault(channel, Set.of()).remove(this);
+				reply.arrayHeader(3).bulk("unsubscribe").bulk(bytes(channel)).integer(channels.size());
+			}
+		}
+	}
+
+	private long publish(String channel, byte[] message) {
+		Set<Connection> targets = subscribers.getOrDefault(channel, Set.of());
+		byte[] payload = new Reply().arrayHeader(3).bulk("message").bulk(bytes(channel)).bulk(message).bytes();
+		long delivered = 0;
+		for (Connection target : targets) {
+			try {
+				target.push(payload);
+				delivered++;
+			} catch (IOException ignored) {
+				// 끊긴 구독자는 serve() 종료 시 정리됨
+			}
+		}
+		return delivered;
+	}
+
+	private void executeData(String name, List<byte[]> command, Reply reply) {
+		switch (name) {
+			case "GET" -> {
+				Object value = live(key(command, 1));
+				if (value == null) {
+					reply.nullBulk();
+				} else {
+					reply.bulk((byte[])value);
+				}
+			}
+			case "SET" -> set(command, reply);
+			case "DEL" -> {
+				long removed = 0;
+				for (int i = 1; i < command.size(); i++) {
+					if (live(key(command, i)) != null) {
+						remove(key(command, i));
+						removed++;
+					}
+				}
+				reply.integer(removed);
+			}
+			case "EXISTS" -> {
+				long found = 0;
+				for (int i = 1; i < command.size(); i++) {
+					found += live(key(command, i)) != null ? 1 : 0;
+				}
+				reply.integer(found);
+			}
+			case "EXPIRE", "PEXPIRE" -> {
+				String key = key(command, 1);
+				long amount = number(command, 2);
+				if (live(key) == null) {
+					reply.integer(0);
+				} else {
+					expiresAt.put(key, System.currentTimeMillis() + ("EXPIRE".equals(name) ? amount * 1000 : amount));
+					reply.integer(1);
+				}
+			}
+			case "TTL", "PTTL" -> {
+				String key = key(command, 1);
+				if (live(key) == null) {
+					reply.integer(-2);
+				} else if (!expiresAt.containsKey(key)) {
+					reply.integer(-1);
+				} else {
+					long remaining = expiresAt.get(key) - System.currentTimeMillis();
+					reply.integer("TTL".equals(name) ? (remaining + 999) / 1000 : remaining);
+				}
+			}
+			case "INCR", "INCRBY", "DECRBY" -> {
+				String key = key(command, 1);
+				long delta = "INCR".equals(name) ? 1 : number(command, 2) * ("DECRBY".equals(name) ? -1 : 1);
+				Object current = live(key);
+				long updated = (current == null ? 0 : Long.parseLong(text((byte[])current))) + delta;
+				data.put(key, bytes(Long.toString(updated)));
+				reply.integer(updated);
+			}
+			case "HGET" -> {
+				byte[] value = hash(key(command, 1), false).get(key(command, 2));
+				if (value == null) {
+					reply.nullBulk();
+				} else {
+					reply.bulk(value);
+				}
+			}
+			case "HSET", "HMSET" -> {
+				Map<String, byte[]> hash = hash(key(command, 1), true);
+				long added = 0;
+				for (int i = 2; i + 1 < command.size(); i += 2) {
+					added += hash.put(key(command, i), command.get(i + 1)) == null ? 1 : 0;
+				}
+				if ("HMSET".equals(name)) {
+					reply.ok();
+				} else {
+					reply.integer(added);
+				}
+			}
+			case "HGETALL" -> {
+				Map<String, byte[]> hash = hash(key(command, 1), false);
+				reply.arrayHeader(hash.size() * 2);
+				for (Map.Entry<String, byte[]> entry : hash.entrySet()) {
+					reply.bulk(bytes(entry.getKey())).bulk(entry.getValue());
+				}
+			}
+			case "HINCRBY" -> {
+				Map<String, byte[]> hash = hash(key(command, 1), true);
+				String field = key(command, 2);
+				byte[] current = hash.get(field);
+				long updated = (current == null ? 0 : Long.parseLong(text(current))) + number(command, 3);
+				hash.put(field, bytes(Long.toString(updated)));
+				reply.integer(updated);
+			}
+			case "HDEL" -> {
+				Map<String, byte[]> hash = hash(key(command, 1), false);
+				long removed = 0;
+				for (int i = 2; i < command.size(); i++) {
+					removed += hash.remove(key(command, i)) != null ? 1 : 0;
+				}
+				reply.integer(removed);
+			}
+			case "ZADD" -> reply.integer(zAdd(command));
+			case "ZREM" -> {
+				SortedSet set = sortedSet(key(command, 1), false);
+				long removed = 0;
+				for (int i = 2; i < command.size(); i++) {
+					removed += set.remove(key(command, i)) ? 1 : 0;
+				}
+				reply.integer(removed);
+			}
+			case "ZSCORE" -> {
+				Double score = sortedSet(key(command, 1), false).scores.get(key(command, 2));
+				if (score == null) {
+					reply.nullBulk();
+				} else {
+					reply.bulk(formatScore(score));
+				}
+			}
+			case "ZCARD" -> reply.integer(sortedSet(key(command, 1), false).scores.size());
+			case "ZRANGEBYSCORE" -> zRangeByScore(command, reply);
+			case "ZINCRBY" -> {
+				SortedSet set = sortedSet(key(command, 1), true);
+				String member = key(command, 3);
+				double score = set.scores.getOrDefault(member, 0.0) + parseScore(text(command.get(2)));
+				set.put(member, score);
+				reply.bulk(formatScore(score));
+			}
+			case "ZREVRANGE" -> zRevRange(command, reply);
+			case "ZREMRANGEBYRANK" -> reply.integer(zRemRangeByRank(command));
+			case "ZUNIONSTORE" -> reply.integer(zUnionStore(command));
+			case "RENAME" -> {
+				String source = key(command, 1);
+				Object value = live(source);
+				if (value == null) {
+					reply.error("ERR no such key");
+				} else {
+					Long expireAt = expiresAt.get(source);
+					String target = key(command, 2);
+					remove(source);
+					remove(target);
+					data.put(target, value);
+					if (expireAt != null) {
+						expiresAt.put(target, expireAt);
+					}
+					reply.ok();
+				}
+			}
+			default -> reply.error("ERR unknown command '" + name + "'");
+		}
+	}
+
+	/** ZADD key [NX|XX] [CH] score member [score member ...] */
+	private long zAdd(List<byte[]> command) {
+		SortedSet set = sortedSet(key(command, 1), true);
+		boolean nx = false;
+		boolean xx = false;
+		boolean ch = false;
+		int index = 2;
+		for (; index < command.size(); index++) {
+			String option = text(command.get(index)).toUpperCase();
+			if ("NX".equals(option)) {
+				nx = true;
+			} else if ("XX".equals(option)) {
+				xx = true;
+			} else if ("CH".equals(option)) {
+				ch = true;
+			} else {
+				break;
+			}
+		}
+		long changed = 0;
+		for (; index + 1 < command.size(); index += 2) {
+			double score = parseScore(text(command.get(index)));
+			String member = key(command, index + 1);
+			Double previous = set.scores.get(member);
+			if ((nx && previous != null) || (xx && previous == null)) {
+				continue;
+			}
+			set.put(member, score);
+			if (previous == null || (ch && previous != score)) {
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	/** ZRANGEBYSCORE key min max [WITHSCORES] [LIMIT offset count] */
+	private void zRangeByScore(List<byte[]> command, Reply reply) {
+		SortedSet set = sortedSet(key(command, 1), false);
+		String min = text(command.get(2));
+		String max = text(command.get(3));
+		boolean withScores = false;
+		long offset = 0;
+		long count = Long.MAX_VALUE;
+		for (int i = 4; i < command.size(); i++) {
+			String option = text(command.get(i)).toUpperCase();
+			if ("WITHSCORES".equals(option)) {
+				withScores = true;
+			} else if ("LIMIT".equals(option)) {
+				offset = number(command, ++i);
+				count = number(command, ++i);
+				count = count < 0 ? Long.MAX_VALUE : count;
+			}
+		}
+		List<ScoredMember> matched = new ArrayList<>();
+		for (ScoredMember entry : set.ordered) {
+			if (!aboveMin(entry.score, min)) {
+				continue;
+			}
+			if (!belowMax(entry.score, max) || matched.size() >= count) {
+				break;
+			}
+			if (offset > 0) {
+				offset--;
+				continue;
+			}
+			matched.add(entry);
+		}
+		reply.arrayHeader(matched.size() * (withScores ? 2 : 1));
+		for (ScoredMember entry : matched) {
+			reply.bulk(bytes(entry.member));
+			if (withScores) {
+				reply.bulk(formatScore(entry.score));
+			}
+		}
+	}
+
+	/** ZREVRANGE key start stop [WITHSCORES] */
+	private void zRevRange(List<byte[]> command, Reply reply) {
+		SortedSet set = sortedSet(key(command, 1), false);
+		boolean withScores = command.size() > 4 && "WITHSCORES".equalsIgnoreCase(text(command.get(4)));
+		List<ScoredMember> descending = new ArrayList<>(set.ordered.descendingSet());
+		int[] range = rankRange(descending.size(), number(command, 2), number(command, 3));
+		reply.arrayHeader((range[1] - range[0]) * (withScores ? 2 : 1));
+		for (ScoredMember entry : descending.subList(range[0], range[1])) {
+			reply.bulk(bytes(entry.member));
+			if (withScores) {
+				reply.bulk(formatScore(entry.score));
+			}
+		}
+	}
+
+	/** ZREMRANGEBYRANK key start stop (점수 오름차순 순위) */
+	private long zRemRangeByRank(List<byte[]> command) {
+		SortedSet set = sortedSet(key(command, 1), false);
+		List<ScoredMember> ascending = new ArrayList<>(set.ordered);
+		int[] range = rankRange(ascending.size(), number(command, 2), number(command, 3));
+		for (ScoredMember entry : ascending.subList(range[0], range[1])) {
+			set.remove(entry.member);
+		}
+		return range[1] - range[0];
+	}
+
+	/** ZUNIONSTORE destination numkeys key [key ...] (가중치/집계 옵션 없이 합산) */
+	private long zUnionStore(List<byte[]> command) {
+		String destination = key(command, 1);
+		int keys = (int)number(command, 2);
+		SortedSet union = new SortedSet();
+		for (int i = 0; i < keys; i++) {
+			for (Map.Entry<String, Double> entry : sortedSet(key(command, 3 + i), false).scores.entrySet()) {
+				union.put(entry.getKey(), union.scores.getOrDefault(entry.getKey(), 0.0) + entry.getValue());
+			}
+		}
+		remove(destination);
+		if (!union.scores.isEmpty()) {
+			data.put(destination, union);
+		}
+		return union.scores.size();
+	}
+
+	/** 음수 순위(-1 = 마지막)를 풀어 [from, to) 로 */
+	private static int[] rankRange(int size, long start, long stop) {
+		long from = start < 0 ? Math.max(size + start, 0) : start;
+		long to = (stop < 0 ? size + stop : Math.min(stop, size - 1L)) + 1;
+		if (from >= to || from >= size) {
+			return new int[] {0, 0};
+		}
+		return new int[] {(int)from, (int)to};
+	}
+
+	private SortedSet sortedSet(String key, boolean create) {
+		Object value = live(key);
+		if (value == null) {
+			SortedSet set = new SortedSet();
+			if (create) {
+				data.put(key, set);
+			}
+			return set;
+		}
+		return (SortedSet)value;
+	}
+
+	private static boolean aboveMin(double score, String min) {
+		return min.startsWith("(") ? score > parseScore(min.substring(1)) : score >= parseScore(min);
+	}
+
+	private static boolean belowMax(double score, String max) {
+		return max.startsWith("(") ? score < parseScore(max.substring(1)) : score <= parseScore(max);
+	}
+
+	private static double parseScore(String value) {
+		return switch (value.toLowerCase()) {
+			case "-inf" -> Double.NEGATIVE_INFINITY;
+			case "+inf", "inf" -> Double.POSITIVE_INFINITY;
+			default -> Double.parseDouble(value);
+		};
+	}
+
+	private static String formatScore(double score) {
+		boolean integral = score == Math.rint(score) && Math.abs(score) < 1e17;
+		return integral ? Long.toString((long)score) : Double.toString(score);
+	}
+
+	/** SET key value [EX s | PX ms] [NX | XX] */
+	private void set(List<byte[]> command, Reply reply) {
+		String key = key(command, 1);
+		long expireAt = 0;
+		boolean nx = false;
+		boolean xx = false;
+		for (int i = 3; i < command.size(); i++) {
+			String option = text(command.get(i)).toUpperCase();
+			switch (option) {
+				case "EX" -> expireAt = System.currentTimeMillis() + number(command, ++i) * 1000;
+				case "PX" -> expireAt = System.currentTimeMillis() + number(command, ++i);
+				case "NX" -> nx = true;
+				case "XX" -> xx = true;
+				default -> {
+					// KEEPTTL/GET 등은 사용하지 않음
+				}
+			}
+		}
+		boolean exists = live(key) != null;
+		if ((nx && exists) || (xx && !exists)) {
+			reply.nullBulk();
+			return;
+		}
+		data.put(key, command.get(2));
+		if (expireAt > 0) {
+			expiresAt.put(key, expireAt);
+		} else {
+			expiresAt.remove(key);
+		}
+		reply.ok();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, byte[]> hash(String key, boolean create) {
+		Object value = live(key);
+		if (value == null) {
+			if (!create) {
+				return Map.of();
+			}
+			Map<String, byte[]> hash = new LinkedHashMap<>();
+			data.put(key, hash);
+			return hash;
+		}
+		return (Map<String, byte[]>)value;
+	}
+
+	/** 만료된 키는 조회 시점에 제거 */
+	private Object live(String key) {
+		Long expireAt = expiresAt.get(key);
+		if (expireAt != null && expireAt <= System.currentTimeMillis()) {
+			remove(key);
+			return null;
+		}
+		return data.get(key);
+	}
+
+	private void remove(String key) {
+		data.remove(key);
+		expiresAt.remove(key);
+	}
+
+	private static String key(List<byte[]> command, int index) {
+		return new String(command.get(index), StandardCharsets.ISO_8859_1);
+	}
+
+	private static long number(List<byte[]> command, int index) {
+		return Long.parseLong(text(command.get(index)));
+	}
+
+	private static String text(byte[] value) {
+		return new String(value, StandardCharsets.ISO_8859_1);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private record ScoredMember(double score, String member) {
+	}
+
+	/** 정렬 집합 = 멤버→점수 맵 + (점수, 멤버) 순서 집합 */
+	private static final class SortedSet {
+
+		private static final Comparator<ScoredMember> ORDER = Comparator.comparingDouble(ScoredMember::score)
+			.thenComparing(ScoredMember::member);
+
+		private final Map<String, Double> scores = new HashMap<>();
+		private final TreeSet<ScoredMember> ordered = new TreeSet<>(ORDER);
+
+		void put(String member, double score) {
+			Double previous = scores.put(member, score);
+			if (previous != null) {
+				ordered.remove(new ScoredMember(previous, member));
+			}
+			ordered.add(new ScoredMember(score, member));
+		}
+
+		boolean remove(String member) {
+			Double previous = scores.remove(member);
+			if (previous == null) {
+				return false;
+			}
+			ordered.remove(new ScoredMember(previous, member));
+			return true;
+		}
+	}
+
+	/** RESP2 응답 버퍼 */
+	private static final class Reply {
+
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+
+		Reply ok() {
+			buffer.writeBytes(OK);
+			return this;
+		}
+
+		Reply simple(String value) {
+			return line('+', value);
+		}
+
+		Reply error(String message) {
+			return line('-', message);
+		}
+
+		Reply integer(long value) {
+			return line(':', Long.toString(value));
+		}
+
+		Reply nullBulk() {
+			buffer.writeBytes(NULL_BULK);
+			return this;
+		}
+
+		Reply bulk(String value) {
+			return bulk(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		Reply bulk(byte[] value) {
+			line('$', Integer.toString(value.length));
+			buffer.writeBytes(value);
+			buffer.write('\r');
+			buffer.write('\n');
+			return this;
+		}
+
+		Reply arrayHeader(int size) {
+			return line('*', Integer.toString(size));
+		}
+
+		byte[] bytes() {
+			return buffer.toByteArray();
+		}
+
+		private Reply line(char type, String value) {
+			buffer.write(type);
+			buffer.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+			buffer.write('\r');
+			buffer.write('\n');
+			return this;
+		}
+	}
+}
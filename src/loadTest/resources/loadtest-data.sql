@@ -0,0 +1,32 @@
+-- 부하 테스트 시드 (H2 MySQL 모드). id 범위는 Scenarios 상수와 맞출 것
+-- 1~2000: 구매자, 2001~2020: 승인된 판매자, 상품 1~5000 (재고는 측정 중 소진되지 않을 만큼)
+insert into member (id, email, password, phone, name, role, created_at, updated_at)
+select x, concat('buyer', x, '@loadtest.local'), 'loadtest', '010-0000-0000', concat('buyer', x), 'BUYER',
+       now(), now()
+from system_range(1, 2000);
+
+insert into member (id, email, password, phone, name, role, created_at, updated_at)
+select x, concat('seller', x, '@loadtest.local'), 'loadtest', '010-0000-0000', concat('seller', x), 'SELLER',
+       now(), now()
+from system_range(2001, 2020);
+
+insert into seller (member_id, status, created_at, updated_at)
+select x, 'APPROVED', now(), now()
+from system_range(2001, 2020);
+
+insert into product (id, member_id, name, detail, stock, price, category, is_status, created_at, updated_at)
+select x, 2001 + mod(x, 20), concat('상품 ', x), '부하 테스트 상품', 100000000, 1000 + mod(x, 50) * 100,
+       case mod(x, 7)
+           when 0 then 'FASHION'
+           when 1 then 'BEAUTY'
+           when 2 then 'FOOD'
+           when 3 then 'DIGITAL'
+           when 4 then 'HOME'
+           when 5 then 'BOOKS'
+           else 'ETC'
+       end,
+       true, now(), now()
+from system_range(1, 5000);
+
+alter table member alter column id restart with 3000;
+alter table product alter column id restart with 6000;
@@ -0,0 +1,22 @@
+package com.backsuend.coucommerce.auth.cache;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.entity.Role;
+
+/**
+ * 로그인 세션 캐시 (인증 후 매 요청마다 필요한 최소 정보)
+ *
+ * @author rua
+ */
+public record MemberSession(
+	long memberId,
+	String email,
+	String name,
+	Role role,
+	long issuedAtEpochMillis
+) {
+	public static MemberSession of(Member member, long issuedAtEpochMillis) {
+		return new MemberSession(member.getId(), member.getEmail(), member.getName(), member.getRole(),
+			issuedAtEpochMillis);
+	}
+}
@@ -0,0 +1,41 @@
+package com.backsuend.coucommerce.auth.cache;
+
+import com.backsuend.coucommerce.auth.entity.Role;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryCodec;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryReader;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryWriter;
+
+/**
+ * v1: memberId, email, name, role, issuedAt
+ *
+ * @author rua
+ */
+public class MemberSessionCodec implements BinaryCodec<MemberSession> {
+
+	private static final Role[] ROLES = Role.values();
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public void write(MemberSession value, BinaryWriter out) {
+		out.writeLong(value.memberId())
+			.writeString(value.email())
+			.writeString(value.name())
+			.writeEnum(value.role())
+			.writeLong(value.issuedAtEpochMillis());
+	}
+
+	@Override
+	public MemberSession read(BinaryReader in, int version) {
+		return new MemberSession(
+			in.readLong(),
+			in.readString(),
+			in.readString(),
+			in.readEnum(ROLES),
+			in.readLong()
+		);
+	}
+}
@@ -0,0 +1,60 @@
+package com.backsuend.coucommerce.auth.cache;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.common.redis.serializer.CompactBinaryRedisSerializer;
+
+/**
+ * 로그인 세션 저장소. 불투명 토큰(256비트 난수) → {@link MemberSession} 을 Redis 에 TTL 과 함께 보관.
+ * - 값은 컴팩트 바이너리 포맷 (노드 간 롤링 배포 중에도 이전 스키마 버전을 읽음)
+ * - 권한 변경은 토큰 만료(ttl) 후 재로그인 시 반영
+ *
+ * @author rua
+ */
+@Component
+public class MemberSessionStore {
+
+	static final String KEY_PREFIX = "auth:session:";
+	private static final int TOKEN_BYTES = 32;
+
+	private final RedisTemplate<String, MemberSession> redis;
+	private final Duration ttl;
+	private final SecureRandom random = new SecureRandom();
+
+	public MemberSessionStore(RedisConnectionFactory connectionFactory,
+		@Value("${auth.session.ttl:12h}") Duration ttl) {
+		this.redis = new RedisTemplate<>();
+		this.redis.setConnectionFactory(connectionFactory);
+		this.redis.setKeySerializer(RedisSerializer.string());
+		this.redis.setValueSerializer(new CompactBinaryRedisSerializer<>(new MemberSessionCodec()));
+		this.redis.afterPropertiesSet();
+		this.ttl = ttl;
+	}
+
+	/** 새 세션 발급 - 반환한 토큰을 Authorization: Bearer 헤더로 보냄 */
+	public String issue(Member member) {
+		byte[] bytes = new byte[TOKEN_BYTES];
+		random.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		redis.opsForValue().set(KEY_PREFIX + token, MemberSession.of(member, System.currentTimeMillis()), ttl);
+		return token;
+	}
+
+	public Optional<MemberSession> find(String token) {
+		return Optional.ofNullable(redis.opsForValue().get(KEY_PREFIX + token));
+	}
+
+	public Duration ttl() {
+		return ttl;
+	}
+}
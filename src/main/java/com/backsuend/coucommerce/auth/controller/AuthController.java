@@ -0,0 +1,52 @@
+package com.backsuend.coucommerce.auth.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.auth.dto.LoginRequest;
+import com.backsuend.coucommerce.auth.dto.LoginResponse;
+import com.backsuend.coucommerce.auth.dto.MemberResponse;
+import com.backsuend.coucommerce.auth.dto.SignUpRequest;
+import com.backsuend.coucommerce.auth.service.AuthService;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+
+/**
+ * @author rua
+ */
+@RestController
+public class AuthController {
+
+	private final AuthService authService;
+
+	public AuthController(AuthService authService) {
+		this.authService = authService;
+	}
+
+	/** 비밀번호 해시 동안 요청 스레드를 반납 (Servlet async), 해시 풀 포화 시 429 */
+	@PostMapping("/api/auth/signup")
+	public CompletableFuture<ResponseEntity<ApiResponse<MemberResponse>>> signUp(
+		@Valid @RequestBody SignUpRequest request, HttpServletRequest servletRequest) {
+
+		return authService.signUp(request, servletRequest.getRemoteAddr())
+			.thenApply(response -> ApiResponse.created(response).toResponseEntity());
+	}
+
+	/**
+	 * 비밀번호 검증 + 약한 해시 재해시를 해시 풀에서 처리, 실패는 이메일 존재 여부와 관계없이 401.
+	 * 성공하면 세션 토큰 발급 (판매자/관리자 API 는 이 토큰의 회원으로 동작)
+	 */
+	@PostMapping("/api/auth/login")
+	public CompletableFuture<ResponseEntity<ApiResponse<LoginResponse>>> login(
+		@Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+
+		return authService.login(request.email(), request.password(), servletRequest.getRemoteAddr())
+			.thenApply(response -> ApiResponse.ok(response).toResponseEntity());
+	}
+}
@@ -0,0 +1,14 @@
+package com.backsuend.coucommerce.auth.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @author rua
+ */
+public record LoginRequest(
+	@Email @NotBlank @Size(max = 200) String email,
+	@NotBlank @Size(max = 64) String password
+) {
+}
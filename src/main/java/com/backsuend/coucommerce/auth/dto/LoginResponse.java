@@ -0,0 +1,11 @@
+package com.backsuend.coucommerce.auth.dto;
+
+/**
+ * @author rua
+ */
+public record LoginResponse(
+	String accessToken,
+	long expiresInSeconds,
+	MemberResponse member
+) {
+}
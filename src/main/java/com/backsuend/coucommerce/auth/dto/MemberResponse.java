@@ -0,0 +1,18 @@
+package com.backsuend.coucommerce.auth.dto;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.entity.Role;
+
+/**
+ * @author rua
+ */
+public record MemberResponse(
+	Long memberId,
+	String email,
+	String name,
+	Role role
+) {
+	public static MemberResponse from(Member member) {
+		return new MemberResponse(member.getId(), member.getEmail(), member.getName(), member.getRole());
+	}
+}
@@ -0,0 +1,16 @@
+package com.backsuend.coucommerce.auth.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @author rua
+ */
+public record SignUpRequest(
+	@Email @NotBlank @Size(max = 200) String email,
+	@NotBlank @Size(min = 8, max = 64) String password,  // BCrypt 입력 한도(72바이트) 이내
+	@NotBlank @Size(max = 50) String phone,
+	@NotBlank @Size(max = 50) String name
+) {
+}
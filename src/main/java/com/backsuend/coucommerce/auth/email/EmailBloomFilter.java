@@ -0,0 +1,247 @@
+package com.backsuend.coucommerce.auth.email;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.auth.event.MemberRegisteredEvent;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.common.util.Murmur3;
+import com.backsuend.coucommerce.common.util.ScalableBloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 회원 이메일 존재 여부 블룸 필터.
+ * - false 면 확실히 없는 이메일 → 가입 중복 검사/없는 계정 로그인 시도가 DB 에 닿지 않음
+ * - true 면 "있을 수도 있음" → 호출자가 DB 로 확인하고, 없으면 {@link #recordFalsePositive()} 로 오탐 기록
+ * - 기동 시 member 테이블을 id 순 키셋 페이지로 읽어 빌드 (DB 종류와 무관하게 메모리 사용이 페이지 크기로 제한)
+ * - 가입 이벤트는 커밋 후 반영, 다른 노드에는 Redis 채널로 이메일 대신 128비트 해시만 전파
+ *   (평문 이메일이 채널에 흐르지 않음)
+ * - pub/sub 은 유실될 수 있으므로 catch-up 주기마다 created_at 기준 신규 가입분을 다시 넣음
+ *   → 다른 노드에서 가입한 이메일도 늦어도 catch-up 주기(+시계 오차 여유) 안에 "있을 수도 있음" 이 됨
+ * - 탈퇴/이메일 변경은 지울 수 없으므로 rebuild 주기마다 새로 빌드해 교체
+ * - 빌드가 끝나기 전에는 항상 true (오탐은 허용, 미탐은 허용 안 함)
+ *
+ * <pre>
+ * 지표 (actuator /metrics)
+ *   auth.email_bloom.lookups{result=negative|positive} : 조회 결과별 건수
+ *   auth.email_bloom.false_positives                   : positive 였지만 DB 에 없던 건수
+ *   → 관측 오탐률 = false_positives / (negative + false_positives)
+ *   auth.email_bloom.expected_fpp                      : 비트 채움 비율로 추정한 오탐률
+ *   auth.email_bloom.elements                          : 필터에 넣은 원소 수(근사)
+ * </pre>
+ *
+ * @author rua
+ */
+@Component
+public class EmailBloomFilter implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+	static final String CHANNEL = "auth:email-bloom";
+	private static final long MIN_CAPACITY = 1_024;
+	private static final int PAGE_SIZE = 5_000;
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	/** 커밋 순서와 노드 간 시계 차이로 신규 가입분을 놓치지 않도록 따라잡기 구간을 겹치게 잡는 여유 */
+	private static final long RESYNC_OVERLAP_SECONDS = 5;
+
+	private final MemberRepository memberRepository;
+	private final StringRedisTemplate redis;
+	private final double fpp;
+	private final boolean redisMirror;
+
+	private final Counter negatives;
+	private final Counter positives;
+	private final Counter falsePositives;
+
+	private volatile ScalableBloomFilter filter;
+	/** 재빌드 중인 필터 - 빌드 도중 가입한 이메일도 함께 넣어 교체 시 누락이 없도록 함 */
+	private volatile ScalableBloomFilter rebuilding;
+	/** 마지막 따라잡기 시작 시각 (첫 빌드 전에는 null - 그동안은 항상 true 라 따라잡을 필요 없음) */
+	private volatile LocalDateTime syncedUntil;
+
+	public EmailBloomFilter(MemberRepository memberRepository, StringRedisTemplate redis,
+		RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+		@Value("${auth.email-bloom.fpp:0.001}") double fpp,
+		@Value("${auth.email-bloom.redis-mirror:true}") boolean redisMirror) {
+		this.memberRepository = memberRepository;
+		this.redis = redis;
+		this.fpp = fpp;
+		this.redisMirror = redisMirror;
+
+		this.negatives = Counter.builder("auth.email_bloom.lookups").tag("result", "negative")
+			.description("블룸 필터가 확실히 없다고 판정한 조회 수").register(meterRegistry);
+		this.positives = Counter.builder("auth.email_bloom.lookups").tag("result", "positive")
+			.description("블룸 필터가 있을 수도 있다고 판정한 조회 수").register(meterRegistry);
+		this.falsePositives = Counter.builder("auth.email_bloom.false_positives")
+			.description("positive 판정 후 DB 에 없던 조회 수").register(meterRegistry);
+		Gauge.builder("auth.email_bloom.expected_fpp", this, bloom -> bloom.stat(ScalableBloomFilter::expectedFpp))
+			.description("비트 채움 비율로 추정한 오탐률").register(meterRegistry);
+		Gauge.builder("auth.email_bloom.elements", this, bloom -> bloom.stat(f -> (double)f.approximateCount()))
+			.description("블룸 필터 원소 수(근사)").register(meterRegistry);
+
+		if (redisMirror) {
+			listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+		}
+	}
+
+	/** false 면 확실히 가입되지 않은 이메일 */
+	public boolean mightExist(String email) {
+		ScalableBloomFilter current = filter;
+		if (current == null) {
+			return true;
+		}
+		long[] hash = hash(email);
+		if (current.mightContain(hash[0], hash[1])) {
+			positives.increment();
+			return true;
+		}
+		negatives.increment();
+		return false;
+	}
+
+	/** mightExist=true 였지만 DB 에 없던 경우 호출 (오탐률 지표) */
+	public void recordFalsePositive() {
+		falsePositives.increment();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(MemberRegisteredEvent event) {
+		long[] hash = hash(event.email());
+		put(hash[0], hash[1]);
+		if (!redisMirror) {
+			return;
+		}
+		try {
+			redis.convertAndSend(CHANNEL, Long.toHexString(hash[0]) + ":" + Long.toHexString(hash[1]));
+		} catch (RuntimeException ex) {
+			// 다른 노드는 다음 catch-up 전까지 이 이메일을 "없음" 으로 볼 수 있음 → 가입 시 unique 제약이 최종 방어
+			log.warn("이메일 블룸 필터 전파 실패: memberId={}", event.memberId(), ex);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		try {
+			put(Long.parseUnsignedLong(body.substring(0, separator), 16),
+				Long.parseUnsignedLong(body.substring(separator + 1), 16));
+		} catch (RuntimeException ex) {
+			log.warn("잘못된 이메일 블룸 필터 메시지: {}", body);
+		}
+	}
+
+	/** 빌드 전에는 항상 "있을 수도 있음" 이라 안전하므로 readiness 를 늦추지 않도록 별도 스레드에서 빌드 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Thread.ofVirtual().name("email-bloom-warmup").start(this::rebuild);
+	}
+
+	@Scheduled(fixedDelayString = "${auth.email-bloom.rebuild-interval-ms:21600000}",
+		initialDelayString = "${auth.email-bloom.rebuild-interval-ms:21600000}")
+	public void rebuild() {
+		try {
+			long started = System.nanoTime();
+			LocalDateTime startedAt = LocalDateTime.now(SEOUL);
+			ScalableBloomFilter fresh = new ScalableBloomFilter(
+				Math.max(MIN_CAPACITY, memberRepository.count() * 2), fpp);
+			rebuilding = fresh;
+			long[] hash = new long[2];
+			long afterId = 0;
+			List<MemberEmail> page;
+			do {
+				page = memberRepository.findEmailsAfter(afterId, Limit.of(PAGE_SIZE));
+				for (MemberEmail member : page) {
+					hash(member.email(), hash);
+					fresh.put(hash[0], hash[1]);
+				}
+				if (!page.isEmpty()) {
+					afterId = page.get(page.size() - 1).id();
+				}
+			} while (page.size() == PAGE_SIZE);
+			filter = fresh;
+			// 페이지를 지난 뒤 커밋된 낮은 id 는 가입 이벤트/전파/따라잡기로 들어옴
+			if (syncedUntil == null) {
+				syncedUntil = startedAt;
+			}
+			log.info("이메일 블룸 필터 빌드 완료: {}건, {}KB, {}ms", fresh.approximateCount(), fresh.bitSize() >>> 13,
+				(System.nanoTime() - started) / 1_000_000);
+		} catch (RuntimeException ex) {
+			log.warn("이메일 블룸 필터 빌드 실패 - 기존 필터를 유지합니다.", ex);
+		} finally {
+			rebuilding = null;
+		}
+	}
+
+	/** pub/sub 유실 대비 신규 가입분 따라잡기 - 다른 노드 가입 이메일을 "없음" 으로 보는 구간의 상한 */
+	@Scheduled(fixedDelayString = "${auth.email-bloom.catch-up-interval-ms:5000}",
+		initialDelayString = "${auth.email-bloom.catch-up-interval-ms:5000}")
+	public void catchUp() {
+		LocalDateTime since = syncedUntil;
+		if (since == null) {
+			return;
+		}
+		LocalDateTime startedAt = LocalDateTime.now(SEOUL);
+		try {
+			long[] hash = new long[2];
+			for (String email : memberRepository.findEmailsCreatedSince(since.minusSeconds(RESYNC_OVERLAP_SECONDS))) {
+				hash(email, hash);
+				put(hash[0], hash[1]);
+			}
+			syncedUntil = startedAt;
+		} catch (RuntimeException ex) {
+			log.warn("이메일 블룸 필터 따라잡기 실패", ex);
+		}
+	}
+
+	private void put(long h1, long h2) {
+		ScalableBloomFilter current = filter;
+		if (current != null) {
+			current.put(h1, h2);
+		}
+		ScalableBloomFilter building = rebuilding;
+		if (building != null) {
+			building.put(h1, h2);
+		}
+	}
+
+	private double stat(ToDoubleFunction<ScalableBloomFilter> metric) {
+		ScalableBloomFilter current = filter;
+		return current == null ? 0.0 : metric.applyAsDouble(current);
+	}
+
+	private static long[] hash(String email) {
+		long[] hash = new long[2];
+		hash(email, hash);
+		return hash;
+	}
+
+	/** 대소문자/앞뒤 공백을 정규화한 UTF-8 바이트의 Murmur3 128비트 해시 */
+	private static void hash(String email, long[] out) {
+		byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+		Murmur3.hash128(bytes, 0, bytes.length, 0, out);
+	}
+}
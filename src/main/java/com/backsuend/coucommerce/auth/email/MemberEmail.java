@@ -0,0 +1,12 @@
+package com.backsuend.coucommerce.auth.email;
+
+/**
+ * 이메일 블룸 필터 빌드용 프로젝션 (키셋 페이지 커서인 id + 이메일)
+ *
+ * @author rua
+ */
+public record MemberEmail(
+	long id,
+	String email
+) {
+}
@@ -55,4 +55,43 @@ public class Member extends BaseTimeEntity {
 	@Column(name = "role", nullable = false, length = 20)
 	private Role role;
 
+	protected Member() {
+	}
+
+	public Member(String email, String password, String phone, String name, Role role) {
+		this.email = email;
+		this.password = password;
+		this.phone = phone;
+		this.name = name;
+		this.role = role;
+	}
+
+	/** 해시된 비밀번호로 교체 (해시 강도 상향 시 로그인 과정에서 재해시) */
+	public void changePassword(String encodedPassword) {
+		this.password = encodedPassword;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public String getPhone() {
+		return phone;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Role getRole() {
+		return role;
+	}
 }
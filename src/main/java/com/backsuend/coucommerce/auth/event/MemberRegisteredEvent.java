@@ -0,0 +1,9 @@
+package com.backsuend.coucommerce.auth.event;
+
+/**
+ * 회원 가입 완료 도메인 이벤트 (트랜잭션 안에서 발행, 커밋 후 이메일 블룸 필터에 반영)
+ *
+ * @author rua
+ */
+public record MemberRegisteredEvent(Long memberId, String email) {
+}
@@ -0,0 +1,48 @@
+package com.backsuend.coucommerce.auth.password;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost 측정기.
+ * cost 가 1 오를 때마다 해시 시간이 2배가 되므로 minCost 에서 측정한 시간으로 목표 cost 를 추정하고,
+ * 추정한 cost 를 한 번 더 측정해 목표의 1.5배를 넘으면 한 단계 내림.
+ *
+ * @author rua
+ */
+public final class BCryptCostCalibrator {
+
+	private static final String SAMPLE = "calibration-Passw0rd!";
+	private static final int SAMPLES = 3;
+
+	private BCryptCostCalibrator() {
+	}
+
+	public static int calibrate(Duration targetHashTime, int minCost, int maxCost) {
+		long target = targetHashTime.toNanos();
+		int cost = minCost;
+		long estimated = measure(minCost, SAMPLES);
+		while (cost < maxCost && estimated * 2 <= target) {
+			cost++;
+			estimated *= 2;
+		}
+		if (cost > minCost && measure(cost, 1) > target * 3 / 2) {
+			cost--;
+		}
+		return cost;
+	}
+
+	/** samples 회 중 가장 빠른 시간 (JIT 워밍업 1회 제외) */
+	static long measure(int cost, int samples) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+		encoder.encode(SAMPLE);
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < samples; i++) {
+			long started = System.nanoTime();
+			encoder.encode(SAMPLE);
+			best = Math.min(best, System.nanoTime() - started);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,71 @@
+package com.backsuend.coucommerce.auth.password;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.backsuend.coucommerce.common.trace.TraceTaskDecorator;
+
+/**
+ * @author rua
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(PasswordHashingConfig.class);
+
+	/** cost 미설정 시 기동 시점에 측정. cost 가 바뀌면 기존 해시는 로그인 시 재해시됨 */
+	@Bean
+	public BCryptPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+		int cost;
+		if (properties.cost() != null) {
+			cost = properties.cost();
+		} else {
+			PasswordHashingProperties.Calibration calibration = properties.calibration();
+			cost = BCryptCostCalibrator.calibrate(calibration.targetHashTime(), calibration.minCost(),
+				calibration.maxCost());
+			log.info("BCrypt cost 측정 완료: cost={}, 목표 {}ms", cost, calibration.targetHashTime().toMillis());
+		}
+		return new BCryptPasswordEncoder(cost);
+	}
+
+	/**
+	 * 비밀번호 해시 전용 풀.
+	 * 코어 일부만 쓰도록 스레드 수를 제한해 로그인 폭주가 카탈로그 조회 CPU 를 잠식하지 않게 하고,
+	 * 대기열이 차면 호출 스레드에서 실행하지 않고 거절(→ 429)함.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor passwordHashingExecutor(PasswordHashingProperties properties,
+		TraceTaskDecorator traceTaskDecorator) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.effectivePoolSize());
+		executor.setMaxPoolSize(properties.effectivePoolSize());
+		executor.setQueueCapacity(properties.queueCapacity());
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setTaskDecorator(traceTaskDecorator);
+		return executor;
+	}
+
+	/** 해시 이후 회원 저장/재해시 반영 (DB 작업을 해시 스레드에서 분리) */
+	@Bean
+	public ThreadPoolTaskExecutor authCallbackExecutor(PasswordHashingProperties properties,
+		TraceTaskDecorator traceTaskDecorator) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.callbackPoolSize());
+		executor.setMaxPoolSize(properties.callbackPoolSize());
+		executor.setQueueCapacity(properties.queueCapacity());
+		executor.setThreadNamePrefix("auth-callback-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setTaskDecorator(traceTaskDecorator);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+}
@@ -0,0 +1,34 @@
+package com.backsuend.coucommerce.auth.password;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비밀번호 해시 설정 (auth.password.*)
+ *
+ * @author rua
+ */
+@ConfigurationProperties(prefix = "auth.password")
+public record PasswordHashingProperties(
+	@DefaultValue("0") int poolSize,              // 해시 전용 스레드 수 (0 = 코어 수의 절반)
+	@DefaultValue("64") int queueCapacity,        // 대기열 한도, 넘치면 429
+	@DefaultValue("4") int maxInFlightPerClient,  // 클라이언트(IP)별 동시 해시 요청 상한
+	Integer cost,                                 // BCrypt cost 고정값 (없으면 기동 시 측정)
+	@DefaultValue Calibration calibration,
+	@DefaultValue("4") int callbackPoolSize       // 해시 이후 DB 저장을 수행하는 풀
+) {
+
+	public int effectivePoolSize() {
+		return poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	}
+
+	/** 현재 하드웨어에서 해시 1회가 targetHashTime 에 가장 가깝도록 cost 선택 */
+	public record Calibration(
+		@DefaultValue("250ms") Duration targetHashTime,
+		@DefaultValue("10") int minCost,
+		@DefaultValue("14") int maxCost
+	) {
+	}
+}
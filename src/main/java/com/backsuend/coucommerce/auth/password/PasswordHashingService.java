@@ -0,0 +1,81 @@
+package com.backsuend.coucommerce.auth.password;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+
+/**
+ * 비밀번호 해시/검증을 전용 풀에서 수행.
+ * - 요청 스레드는 CPU 를 쓰지 않고 future 만 받아 반환 (Servlet async)
+ * - 클라이언트(IP)별 동시 요청 상한으로 한 출처가 풀을 독점하지 못하게 함
+ * - 클라이언트 상한 초과 또는 풀 대기열 포화 시 TOO_MANY_REQUESTS(429)
+ * - 검증이 일치하고 저장된 해시의 cost 가 현재 설정보다 낮으면 같은 작업 안에서 재해시
+ *
+ * @author rua
+ */
+@Service
+public class PasswordHashingService {
+
+	private final PasswordEncoder encoder;
+	private final Executor executor;
+	private final int maxInFlightPerClient;
+	private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+
+	public PasswordHashingService(PasswordEncoder encoder,
+		@Qualifier("passwordHashingExecutor") Executor executor, PasswordHashingProperties properties) {
+		this.encoder = encoder;
+		this.executor = executor;
+		this.maxInFlightPerClient = properties.maxInFlightPerClient();
+	}
+
+	public CompletableFuture<String> hash(String rawPassword, String clientKey) {
+		return submit(clientKey, () -> encoder.encode(rawPassword));
+	}
+
+	public CompletableFuture<PasswordVerification> verify(String rawPassword, String encodedPassword,
+		String clientKey) {
+		return submit(clientKey, () -> {
+			if (!encoder.matches(rawPassword, encodedPassword)) {
+				return PasswordVerification.MISMATCH;
+			}
+			String upgraded = encoder.upgradeEncoding(encodedPassword) ? encoder.encode(rawPassword) : null;
+			return new PasswordVerification(true, upgraded);
+		});
+	}
+
+	private <T> CompletableFuture<T> submit(String clientKey, Supplier<T> task) {
+		if (!tryAcquire(clientKey)) {
+			return CompletableFuture.failedFuture(StacklessBusinessException.of(ErrorCode.TOO_MANY_REQUESTS));
+		}
+		try {
+			return CompletableFuture.supplyAsync(task, executor)
+				.whenComplete((result, ex) -> release(clientKey));
+		} catch (RejectedExecutionException ex) {
+			release(clientKey);
+			return CompletableFuture.failedFuture(StacklessBusinessException.of(ErrorCode.TOO_MANY_REQUESTS));
+		}
+	}
+
+	private boolean tryAcquire(String clientKey) {
+		int count = inFlight.merge(clientKey, 1, Integer::sum);
+		if (count > maxInFlightPerClient) {
+			release(clientKey);
+			return false;
+		}
+		return true;
+	}
+
+	private void release(String clientKey) {
+		inFlight.computeIfPresent(clientKey, (key, count) -> count == 1 ? null : count - 1);
+	}
+}
@@ -0,0 +1,12 @@
+package com.backsuend.coucommerce.auth.password;
+
+/**
+ * 비밀번호 검증 결과.
+ * upgradedHash 는 일치했고 저장된 해시의 cost 가 현재 설정보다 낮을 때만 채워짐 (호출자가 저장)
+ *
+ * @author rua
+ */
+public record PasswordVerification(boolean matches, String upgradedHash) {
+
+	static final PasswordVerification MISMATCH = new PasswordVerification(false, null);
+}
@@ -0,0 +1,35 @@
+package com.backsuend.coucommerce.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backsuend.coucommerce.auth.email.MemberEmail;
+import com.backsuend.coucommerce.auth.entity.Member;
+
+/**
+ * @author rua
+ */
+public interface MemberRepository extends JpaRepository<Member, Long> {
+
+	boolean existsByEmail(String email);
+
+	Optional<Member> findByEmail(String email);
+
+	/**
+	 * id 순 키셋 페이지 (블룸 필터 빌드용).
+	 * 드라이버 전용 스트리밍 fetch size 없이도 메모리 사용이 페이지 크기로 제한되고, 긴 읽기 트랜잭션을 잡지 않음
+	 */
+	@Query("select new com.backsuend.coucommerce.auth.email.MemberEmail(m.id, m.email)"
+		+ " from Member m where m.id > :afterId order by m.id")
+	List<MemberEmail> findEmailsAfter(@Param("afterId") long afterId, Limit limit);
+
+	/** since 이후 가입한 이메일 (블룸 필터 따라잡기용 - created_at 인덱스) */
+	@Query("select m.email from Member m where m.createdAt >= :since")
+	List<String> findEmailsCreatedSince(@Param("since") LocalDateTime since);
+}
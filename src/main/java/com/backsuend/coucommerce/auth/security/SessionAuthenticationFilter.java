@@ -0,0 +1,78 @@
+package com.backsuend.coucommerce.auth.security;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.auth.cache.MemberSessionStore;
+
+/**
+ * Authorization: Bearer {세션 토큰} 을 {@link MemberSession} 주체로 인증.
+ * - 권한은 ROLE_{회원 역할} (BUYER / SELLER / ADMIN)
+ * - 토큰이 없거나 모르는 토큰이면 익명으로 통과 → 보호된 경로는 인가 단계에서 401
+ * - 비동기 디스패치에서도 인가가 다시 돌므로 인증 결과를 요청 속성에 저장
+ * - 시큐리티 필터 체인에만 등록 (빈으로 두면 서블릿 필터로 한 번 더 등록됨)
+ *
+ * @author rua
+ */
+public class SessionAuthenticationFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(SessionAuthenticationFilter.class);
+	private static final String BEARER = "Bearer ";
+
+	private final MemberSessionStore sessionStore;
+	private final SecurityContextRepository contextRepository = new RequestAttributeSecurityContextRepository();
+
+	public SessionAuthenticationFilter(MemberSessionStore sessionStore) {
+		this.sessionStore = sessionStore;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+
+		String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (header != null && header.startsWith(BEARER)) {
+			authenticate(header.substring(BEARER.length()).trim(), request, response);
+		}
+		chain.doFilter(request, response);
+	}
+
+	private void authenticate(String token, HttpServletRequest request, HttpServletResponse response) {
+		if (token.isEmpty()) {
+			return;
+		}
+		MemberSession session;
+		try {
+			session = sessionStore.find(token).orElse(null);
+		} catch (RuntimeException ex) {
+			log.warn("세션 조회 실패 - 익명으로 처리합니다.", ex);
+			return;
+		}
+		if (session == null) {
+			return;
+		}
+		UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+			session, null, List.of(new SimpleGrantedAuthority("ROLE_" + session.role().name())));
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(authentication);
+		SecurityContextHolder.setContext(context);
+		contextRepository.saveContext(context, request, response);
+	}
+}
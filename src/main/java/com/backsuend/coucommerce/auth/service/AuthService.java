@@ -0,0 +1,101 @@
+package com.backsuend.coucommerce.auth.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backsuend.coucommerce.auth.cache.MemberSessionStore;
+import com.backsuend.coucommerce.auth.dto.LoginResponse;
+import com.backsuend.coucommerce.auth.dto.MemberResponse;
+import com.backsuend.coucommerce.auth.dto.SignUpRequest;
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.entity.Role;
+import com.backsuend.coucommerce.auth.event.MemberRegisteredEvent;
+import com.backsuend.coucommerce.auth.password.PasswordHashingService;
+import com.backsuend.coucommerce.auth.password.PasswordVerification;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.common.trace.TraceContext;
+
+/**
+ * 가입/인증.
+ * 1) 요청 스레드: 이메일 존재 여부 확인 (블룸 필터 → 필요 시 DB)
+ * 2) 해시 풀: 비밀번호 해시/검증 ({@link PasswordHashingService})
+ * 3) 콜백 풀: 회원 저장, 재해시된 비밀번호 반영, 로그인 세션 발급 (요청 스레드의 추적 ID 를 후속 작업에 묶어 전달)
+ *
+ * @author rua
+ */
+@Service
+public class AuthService {
+
+	private final MemberRepository memberRepository;
+	private final MemberLookupService memberLookupService;
+	private final PasswordHashingService passwordHashingService;
+	private final MemberSessionStore sessionStore;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor callbackExecutor;
+
+	public AuthService(MemberRepository memberRepository, MemberLookupService memberLookupService,
+		PasswordHashingService passwordHashingService, MemberSessionStore sessionStore,
+		ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+		@Qualifier("authCallbackExecutor") Executor callbackExecutor) {
+		this.memberRepository = memberRepository;
+		this.memberLookupService = memberLookupService;
+		this.passwordHashingService = passwordHashingService;
+		this.sessionStore = sessionStore;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	public CompletableFuture<MemberResponse> signUp(SignUpRequest request, String clientKey) {
+		if (memberLookupService.emailExists(request.email())) {
+			throw new BusinessException(ErrorCode.CONFLICT, "이미 가입된 이메일입니다.");
+		}
+		return passwordHashingService.hash(request.password(), clientKey)
+			.thenApplyAsync(TraceContext.wrapFunction((String encoded) -> transactionTemplate.execute(status -> {
+				Member member = memberRepository.save(
+					new Member(request.email(), encoded, request.phone(), request.name(), Role.BUYER));
+				eventPublisher.publishEvent(new MemberRegisteredEvent(member.getId(), member.getEmail()));
+				return MemberResponse.from(member);
+			})), callbackExecutor);
+	}
+
+	/** 인증 후 세션 토큰 발급 - 이후 요청은 Authorization: Bearer {accessToken} */
+	public CompletableFuture<LoginResponse> login(String email, String rawPassword, String clientKey) {
+		return authenticate(email, rawPassword, clientKey)
+			.thenApplyAsync(TraceContext.wrapFunction((Member member) -> new LoginResponse(
+				sessionStore.issue(member), sessionStore.ttl().toSeconds(), MemberResponse.from(member))),
+				callbackExecutor);
+	}
+
+	/** 이메일/비밀번호 확인. 없는 이메일은 해시 풀을 거치지 않고 바로 실패 */
+	public CompletableFuture<Member> authenticate(String email, String rawPassword, String clientKey) {
+		Optional<Member> found = memberLookupService.findByEmail(email);
+		if (found.isEmpty()) {
+			return CompletableFuture.failedFuture(StacklessBusinessException.of(ErrorCode.UNAUTHORIZED));
+		}
+		Member member = found.get();
+		return passwordHashingService.verify(rawPassword, member.getPassword(), clientKey)
+			.thenApplyAsync(TraceContext.wrapFunction((PasswordVerification verification) -> {
+				if (!verification.matches()) {
+					throw StacklessBusinessException.of(ErrorCode.UNAUTHORIZED);
+				}
+				if (verification.upgradedHash() != null) {
+					member.changePassword(verification.upgradedHash());
+					transactionTemplate.executeWithoutResult(status -> memberRepository.findById(member.getId())
+						.ifPresent(managed -> managed.changePassword(verification.upgradedHash())));
+				}
+				return member;
+			}), callbackExecutor);
+	}
+}
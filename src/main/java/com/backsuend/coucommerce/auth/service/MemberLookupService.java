@@ -0,0 +1,51 @@
+package com.backsuend.coucommerce.auth.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backsuend.coucommerce.auth.email.EmailBloomFilter;
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+
+/**
+ * 이메일 기준 회원 조회. 블룸 필터가 "확실히 없음" 이면 DB 를 조회하지 않음
+ * (가입 중복 검사, 존재하지 않는 계정으로의 로그인 시도 폭주 방어).
+ *
+ * @author rua
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberLookupService {
+
+	private final MemberRepository memberRepository;
+	private final EmailBloomFilter emailBloomFilter;
+
+	public MemberLookupService(MemberRepository memberRepository, EmailBloomFilter emailBloomFilter) {
+		this.memberRepository = memberRepository;
+		this.emailBloomFilter = emailBloomFilter;
+	}
+
+	public boolean emailExists(String email) {
+		if (!emailBloomFilter.mightExist(email)) {
+			return false;
+		}
+		boolean exists = memberRepository.existsByEmail(email);
+		if (!exists) {
+			emailBloomFilter.recordFalsePositive();
+		}
+		return exists;
+	}
+
+	public Optional<Member> findByEmail(String email) {
+		if (!emailBloomFilter.mightExist(email)) {
+			return Optional.empty();
+		}
+		Optional<Member> member = memberRepository.findByEmail(email);
+		if (member.isEmpty()) {
+			emailBloomFilter.recordFalsePositive();
+		}
+		return member;
+	}
+}
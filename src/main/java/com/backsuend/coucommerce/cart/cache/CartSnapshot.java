@@ -0,0 +1,19 @@
+package com.backsuend.coucommerce.cart.cache;
+
+import java.util.List;
+
+/**
+ * 회원 장바구니 캐시 (상품 ID + 수량 목록)
+ *
+ * @author rua
+ */
+public record CartSnapshot(
+	long memberId,
+	List<Item> items
+) {
+	public record Item(
+		long productId,
+		int quantity
+	) {
+	}
+}
@@ -0,0 +1,48 @@
+package com.backsuend.coucommerce.cart.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.backsuend.coucommerce.common.redis.serializer.BinaryCodec;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryReader;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryWriter;
+
+/**
+ * v1: memberId, itemCount, (productId, quantity)*
+ *
+ * @author rua
+ */
+public class CartSnapshotCodec implements BinaryCodec<CartSnapshot> {
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public int sizeHint(CartSnapshot value) {
+		return 16 + value.items().size() * 8;
+	}
+
+	@Override
+	public void write(CartSnapshot value, BinaryWriter out) {
+		out.writeLong(value.memberId());
+		out.writeUnsignedVarInt(value.items().size());
+		for (CartSnapshot.Item item : value.items()) {
+			out.writeLong(item.productId())
+				.writeInt(item.quantity());
+		}
+	}
+
+	@Override
+	public CartSnapshot read(BinaryReader in, int version) {
+		long memberId = in.readLong();
+		// 원소당 productId, quantity 각각 최소 1바이트
+		int size = in.readCount(2);
+		List<CartSnapshot.Item> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			items.add(new CartSnapshot.Item(in.readLong(), in.readInt()));
+		}
+		return new CartSnapshot(memberId, List.copyOf(items));
+	}
+}
@@ -0,0 +1,34 @@
+package com.backsuend.coucommerce.cart.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.cart.dto.CartItemRequest;
+import com.backsuend.coucommerce.cart.service.CartService;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+
+/**
+ * @author rua
+ */
+@RestController
+public class CartController {
+
+	private final CartService cartService;
+
+	public CartController(CartService cartService) {
+		this.cartService = cartService;
+	}
+
+	@PostMapping("/api/members/{memberId}/cart/items")
+	public ResponseEntity<ApiResponse<Void>> addItem(
+		@PathVariable Long memberId, @Valid @RequestBody CartItemRequest request) {
+
+		cartService.addItem(memberId, request.productId(), request.quantity());
+		return ApiResponse.<Void>noContent().toResponseEntity();
+	}
+}
@@ -0,0 +1,14 @@
+package com.backsuend.coucommerce.cart.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * @author rua
+ */
+public record CartItemRequest(
+	@NotNull Long productId,
+	@Min(1) @Max(999) int quantity
+) {
+}
@@ -0,0 +1,31 @@
+package com.backsuend.coucommerce.cart.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author rua
+ */
+@Repository
+public class CartJdbcRepository {
+
+	// (member_id, product_id) 유니크 키 기준 upsert - 조회 후 저장하는 두 번의 왕복을 한 문장으로
+	// soft delete 된 행은 수량을 새로 시작 (MySQL 은 SET 절을 왼쪽부터 평가하므로 deleted_at 은 마지막에)
+	private static final String ADD_ITEM = "insert into cart (member_id, product_id, quantity, created_at, updated_at)"
+		+ " values (?, ?, ?, ?, ?)"
+		+ " on duplicate key update"
+		+ " quantity = case when deleted_at is null then quantity + values(quantity) else values(quantity) end,"
+		+ " updated_at = values(updated_at), deleted_at = null";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CartJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public int addItem(long memberId, long productId, int quantity, LocalDateTime now) {
+		return jdbcTemplate.update(ADD_ITEM, memberId, productId, quantity, now, now);
+	}
+}
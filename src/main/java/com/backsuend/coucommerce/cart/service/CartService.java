@@ -0,0 +1,36 @@
+package com.backsuend.coucommerce.cart.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.cart.repository.CartJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * @author rua
+ */
+@Service
+public class CartService {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private final CartJdbcRepository cartJdbcRepository;
+	private final ShardRouter shardRouter;
+
+	public CartService(CartJdbcRepository cartJdbcRepository, ShardRouter shardRouter) {
+		this.cartJdbcRepository = cartJdbcRepository;
+		this.shardRouter = shardRouter;
+	}
+
+	/**
+	 * 장바구니에 담기 (이미 담긴 상품이면 수량 누적).
+	 * 전역 DB 에서는 없는 회원/상품이 FK 위반 → DATA_INTEGRITY_VIOLATION,
+	 * 샤드에는 전역 테이블 FK 가 없어 없는 상품은 주문 시 재고 차감에서 걸러짐
+	 */
+	public void addItem(Long memberId, Long productId, int quantity) {
+		shardRouter.inMemberTransaction(memberId,
+			() -> cartJdbcRepository.addItem(memberId, productId, quantity, LocalDateTime.now(SEOUL)));
+	}
+}
@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+/**
+ * 조건부 GET 검증자 (ETag, Last-Modified). 본문이 같은 버전이면 ApiResponse timestamp 만 달라지므로 약한 ETag.
+ *
+ * @author rua
+ */
+public record CatalogVersion(
+	String etag,
+	long lastModifiedMillis  // 알 수 없으면 -1 (Last-Modified 생략)
+) {
+	static CatalogVersion of(String tag, long lastModifiedMillis) {
+		return new CatalogVersion("W/\"" + tag + "\"", lastModifiedMillis);
+	}
+}
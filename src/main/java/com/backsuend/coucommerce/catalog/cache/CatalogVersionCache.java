@@ -0,0 +1,227 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.event.ProductListingChangedEvent;
+import com.backsuend.coucommerce.catalog.ranking.ProductCategory;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.catalog.repository.ReviewRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.util.ConcurrentLongLongMap;
+
+/**
+ * 카탈로그 응답의 조건부 GET 검증자(ETag, Last-Modified)용 updatedAt 버전 인메모리 캐시.
+ *
+ * <pre>
+ * products : productId → 노출 상품 updatedAt (epoch ms, 0 = 미적재) - 비노출/없는 상품은 캐시하지 않음
+ * reviews  : productId → 상품 리뷰 max(updatedAt) (NONE = 리뷰 없음, 0 = 미적재)
+ * listings : Category.ordinal() → ListingVersion (상품 수 + max(updatedAt), null = 미적재)
+ * </pre>
+ * - 캐시 적중 시 304 판단에 DB 조회/엔티티 로딩/본문 직렬화가 없음. 미적중은 컬럼 하나 또는 집계 한 번
+ * - 없는 ID 는 캐시하지 않고(임의 ID 요청으로 메모리가 늘지 않게) products/reviews 는 MAX_ENTRIES 에서 비움
+ * - 상품 등록/수정/삭제는 ProductListingChangedEvent 로 커밋 후 로컬에서 무효화 + Redis 채널로 다른 노드에 전파
+ * - 리뷰 작성, 상품 서비스를 거치지 않는 변경과 pub/sub 유실은 resync 주기마다 updatedAt 기준으로 무효화
+ *   (바뀐 상품의 현재 카테고리 목록만) → 늦어도 resync 주기(+시계 오차 여유) 안에 새 ETag 로 바뀜
+ * - 채널 유실 중 카테고리 이동은 이전 카테고리를 알 수 없으므로 listing-resync 주기로 목록 버전 전체를 다시 집계
+ * - 재고 차감은 updatedAt 을 올리지 않으므로 재고는 캐시 가능한 응답에 넣지 않음
+ *
+ * @author rua
+ */
+@Component
+public class CatalogVersionCache implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(CatalogVersionCache.class);
+
+	/** 목록 노출 변경 전파 채널 "productId:이전 카테고리:카테고리" (판매 순위도 구독) */
+	public static final String CHANNEL = "catalog:version";
+	private static final long MISSING = 0L;
+	private static final long NONE = -1L;
+	/** products/reviews 항목 상한 - 넘으면 비우고 다시 적재 (노출 상품 수보다 넉넉하게) */
+	static final int MAX_ENTRIES = 100_000;
+	/** 재동기화에서 이보다 많이 바뀌면 카테고리를 조회하지 않고 목록 버전 전체를 무효화 */
+	private static final int MAX_RESOLVED_CHANGES = 1_000;
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final Category[] CATEGORIES = Category.values();
+	/** 커밋 순서, 노드 간 시계 차이, 무효화 직후 이전 버전을 다시 적재하는 경합을 덮도록 재동기화 구간을 겹치게 잡는 여유 */
+	private static final long RESYNC_OVERLAP_SECONDS = 5;
+
+	private final ProductRepository productRepository;
+	private final ReviewRepository reviewRepository;
+	private final StringRedisTemplate redis;
+
+	private final ConcurrentLongLongMap products = new ConcurrentLongLongMap(4096);
+	private final ConcurrentLongLongMap reviews = new ConcurrentLongLongMap(4096);
+	private final AtomicReferenceArray<ListingVersion> listings = new AtomicReferenceArray<>(CATEGORIES.length);
+	private volatile LocalDateTime syncedUntil = LocalDateTime.now(SEOUL);
+
+	public CatalogVersionCache(ProductRepository productRepository, ReviewRepository reviewRepository,
+		StringRedisTemplate redis, RedisMessageListenerContainer listenerContainer) {
+		this.productRepository = productRepository;
+		this.reviewRepository = reviewRepository;
+		this.redis = redis;
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/** 상품 상세 버전 (노출 상품이 아니면 NOT_FOUND) */
+	public CatalogVersion product(long productId) {
+		long updatedAt = productUpdatedAt(productId);
+		return CatalogVersion.of("p" + productId + "-" + updatedAt, updatedAt);
+	}
+
+	/** 카테고리 목록 버전 - 페이지마다 URL 이 다르므로 카테고리 단위 하나로 충분 */
+	public CatalogVersion listing(Category category) {
+		ListingVersion version = listings.get(category.ordinal());
+		if (version == null) {
+			version = productRepository.findListingVersion(category);
+			listings.set(category.ordinal(), version);
+		}
+		long updatedAt = version.updatedAt() == null ? -1L : toMillis(version.updatedAt());
+		return CatalogVersion.of("c" + category.name() + "-" + version.count() + "-" + updatedAt, updatedAt);
+	}
+
+	/** 상품 리뷰 목록 버전 (노출 상품이 아니면 NOT_FOUND) */
+	public CatalogVersion reviews(long productId) {
+		productUpdatedAt(productId);
+		long updatedAt = reviews.get(productId, MISSING);
+		if (updatedAt == MISSING) {
+			updatedAt = reviewRepository.findLastUpdatedAtByProductId(productId)
+				.map(CatalogVersionCache::toMillis)
+				.orElse(NONE);
+			putBounded(reviews, productId, updatedAt);
+		}
+		return CatalogVersion.of("r" + productId + "-" + updatedAt, updatedAt);
+	}
+
+	private long productUpdatedAt(long productId) {
+		long updatedAt = products.get(productId, MISSING);
+		if (updatedAt == MISSING) {
+			Optional<LocalDateTime> listed = productRepository.findListedUpdatedAtById(productId);
+			if (listed.isEmpty()) {
+				// 없는 상품은 캐시하지 않음 - 매번 인덱스 조회 한 번
+				throw new BusinessException(ErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다.");
+			}
+			updatedAt = toMillis(listed.get());
+			putBounded(products, productId, updatedAt);
+		}
+		return updatedAt;
+	}
+
+	private static void putBounded(ConcurrentLongLongMap map, long key, long value) {
+		if (map.size() >= MAX_ENTRIES) {
+			map.clear();
+		}
+		map.put(key, value);
+	}
+
+	/** pub/sub 유실, 이벤트 없는 변경 대비 재동기화 - 오래된 ETag 로 304 를 줄 수 있는 구간의 상한 */
+	@Scheduled(fixedDelayString = "${catalog.version-cache.resync-interval-ms:2000}",
+		initialDelayString = "${catalog.version-cache.resync-interval-ms:2000}")
+	public void resync() {
+		LocalDateTime since = syncedUntil.minusSeconds(RESYNC_OVERLAP_SECONDS);
+		LocalDateTime startedAt = LocalDateTime.now(SEOUL);
+		try {
+			List<Long> changedProducts = productRepository.findIdsUpdatedSince(since);
+			for (Long productId : changedProducts) {
+				products.remove(productId, MISSING);
+			}
+			// 바뀐 상품의 현재 카테고리만 - 이동 전 카테고리는 이벤트가 무효화 (유실 시 resyncListings)
+			if (changedProducts.size() > MAX_RESOLVED_CHANGES) {
+				evictAllListings();
+			} else if (!changedProducts.isEmpty()) {
+				for (ProductCategory product : productRepository.findCategoriesByIdIn(changedProducts)) {
+					listings.set(product.category().ordinal(), null);
+				}
+			}
+			for (Long productId : reviewRepository.findProductIdsUpdatedSince(since)) {
+				reviews.remove(productId, MISSING);
+			}
+			syncedUntil = startedAt;
+		} catch (RuntimeException ex) {
+			log.warn("카탈로그 버전 캐시 재동기화 실패", ex);
+		}
+	}
+
+	/** 채널 유실 중 카테고리 이동 대비 - 이전 카테고리 목록 버전이 오래 남지 않게 전체를 다시 집계 (카테고리당 한 번) */
+	@Scheduled(fixedDelayString = "${catalog.version-cache.listing-resync-interval-ms:60000}",
+		initialDelayString = "${catalog.version-cache.listing-resync-interval-ms:60000}")
+	public void resyncListings() {
+		evictAllListings();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(ProductListingChangedEvent event) {
+		evict(event.productId(), event.previousCategory(), event.category());
+		try {
+			redis.convertAndSend(CHANNEL, event.productId() + ":" + nameOf(event.previousCategory()) + ":"
+				+ nameOf(event.category()));
+		} catch (RuntimeException ex) {
+			// 다른 노드는 resync 주기에 반영
+			log.warn("카탈로그 버전 무효화 전파 실패: productId={}", event.productId(), ex);
+		}
+	}
+
+	/** 다른 노드(자신 포함)에서 전파된 무효화: "productId:이전 카테고리:카테고리" (없으면 -) */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		String[] parts = body.split(":", 3);
+		if (parts.length < 3) {
+			log.warn("잘못된 카탈로그 버전 메시지: {}", body);
+			return;
+		}
+		try {
+			evict(Long.parseLong(parts[0]), categoryOf(parts[1]), categoryOf(parts[2]));
+		} catch (IllegalArgumentException ex) {
+			log.warn("잘못된 카탈로그 버전 메시지: {}", body);
+		}
+	}
+
+	private void evict(Long productId, Category previousCategory, Category category) {
+		if (productId != null) {
+			products.remove(productId, MISSING);
+		}
+		if (previousCategory != null) {
+			listings.set(previousCategory.ordinal(), null);
+		}
+		if (category != null) {
+			listings.set(category.ordinal(), null);
+		}
+	}
+
+	private void evictAllListings() {
+		for (int i = 0; i < CATEGORIES.length; i++) {
+			listings.set(i, null);
+		}
+	}
+
+	private static String nameOf(Category category) {
+		return category == null ? "-" : category.name();
+	}
+
+	private static Category categoryOf(String name) {
+		return "-".equals(name) ? null : Category.valueOf(name);
+	}
+
+	private static long toMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(SEOUL).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 목록 버전: 카테고리 전체 상품 수 + 최근 수정 시각 (비공개/삭제 포함).
+ * 공개 전환·삭제는 updatedAt 을, 카테고리 이동은 양쪽 상품 수를 바꿈.
+ *
+ * @author rua
+ */
+public record ListingVersion(
+	long count,
+	LocalDateTime updatedAt  // 상품이 없으면 null
+) {
+}
@@ -0,0 +1,39 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.entity.Product;
+
+/**
+ * Redis 에 캐시하는 상품 스냅샷 (상세 본문(detail)은 제외)
+ *
+ * @author rua
+ */
+public record ProductSnapshot(
+	long id,
+	long sellerId,
+	String name,
+	int price,
+	int stock,
+	Category category,
+	boolean visible,
+	long updatedAtEpochMillis
+) {
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	public static ProductSnapshot from(Product product) {
+		LocalDateTime updatedAt = product.getUpdatedAt();
+		return new ProductSnapshot(
+			product.getId(),
+			product.getSeller().getId(),
+			product.getName(),
+			product.getPrice(),
+			product.getStock(),
+			product.getCategory(),
+			product.isVisible(),
+			updatedAt != null ? updatedAt.atZone(ZONE).toInstant().toEpochMilli() : 0L
+		);
+	}
+}
@@ -0,0 +1,47 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryCodec;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryReader;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryWriter;
+
+/**
+ * v1: id, sellerId, name, price, stock, category, visible, updatedAt
+ *
+ * @author rua
+ */
+public class ProductSnapshotCodec implements BinaryCodec<ProductSnapshot> {
+
+	private static final Category[] CATEGORIES = Category.values();
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public void write(ProductSnapshot value, BinaryWriter out) {
+		out.writeLong(value.id())
+			.writeLong(value.sellerId())
+			.writeString(value.name())
+			.writeInt(value.price())
+			.writeInt(value.stock())
+			.writeEnum(value.category())
+			.writeBoolean(value.visible())
+			.writeLong(value.updatedAtEpochMillis());
+	}
+
+	@Override
+	public ProductSnapshot read(BinaryReader in, int version) {
+		return new ProductSnapshot(
+			in.readLong(),
+			in.readLong(),
+			in.readString(),
+			in.readInt(),
+			in.readInt(),
+			in.readEnum(CATEGORIES),
+			in.readBoolean(),
+			in.readLong()
+		);
+	}
+}
@@ -0,0 +1,58 @@
+package com.backsuend.coucommerce.catalog.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.catalog.dto.BestSellerResponse;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.facet.CategoryFacetCounter;
+import com.backsuend.coucommerce.catalog.facet.CategoryFacetResponse;
+import com.backsuend.coucommerce.catalog.ranking.BestSellerRanking;
+import com.backsuend.coucommerce.catalog.ranking.RankingWindow;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+
+/**
+ * @author rua
+ */
+@Validated
+@RestController
+public class CategoryController {
+
+	private final CategoryFacetCounter facetCounter;
+	private final BestSellerRanking bestSellerRanking;
+
+	public CategoryController(CategoryFacetCounter facetCounter, BestSellerRanking bestSellerRanking) {
+		this.facetCounter = facetCounter;
+		this.bestSellerRanking = bestSellerRanking;
+	}
+
+	/** 카테고리 메뉴: 카테고리별 노출 상품 수 (DB 조회 없음) */
+	@GetMapping("/api/categories")
+	public ResponseEntity<ApiResponse<List<CategoryFacetResponse>>> categories() {
+		List<CategoryFacetResponse> body = new ArrayList<>(Category.values().length);
+		for (Category category : Category.values()) {
+			body.add(new CategoryFacetResponse(category, facetCounter.count(category)));
+		}
+		return ApiResponse.ok(body).toResponseEntity();
+	}
+
+	/** 카테고리 판매 순위 (window = HOUR | DAY | WEEK, 메모리 스냅샷에서 바로 응답) */
+	@GetMapping("/api/categories/{category}/best-sellers")
+	public ResponseEntity<ApiResponse<BestSellerResponse>> bestSellers(
+		@PathVariable Category category,
+		@RequestParam(defaultValue = "DAY") RankingWindow window,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+
+		return ApiResponse.ok(bestSellerRanking.top(category, window, limit)).toResponseEntity();
+	}
+}
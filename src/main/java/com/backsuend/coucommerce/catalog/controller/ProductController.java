@@ -0,0 +1,92 @@
+package com.backsuend.coucommerce.catalog.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backsuend.coucommerce.catalog.cache.CatalogVersion;
+import com.backsuend.coucommerce.catalog.cache.CatalogVersionCache;
+import com.backsuend.coucommerce.catalog.dto.ProductDetailResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductSliceResponse;
+import com.backsuend.coucommerce.catalog.dto.ReviewSliceResponse;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.service.ProductQueryService;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+
+/**
+ * 조회 API 는 조건부 GET 지원: 캐시된 updatedAt 버전으로 ETag/Last-Modified 를 만들고
+ * If-None-Match/If-Modified-Since 가 맞으면 본문 조회·직렬화 없이 304 (null 반환).
+ *
+ * @author rua
+ */
+@Validated
+@RestController
+public class ProductController {
+
+	/** 클라이언트/CDN 이 저장하되 매번 재검증 (직접 지정하면 Spring Security 기본 no-store 를 덮어쓰지 않음) */
+	private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+	private final ProductQueryService productQueryService;
+	private final CatalogVersionCache catalogVersionCache;
+
+	public ProductController(ProductQueryService productQueryService, CatalogVersionCache catalogVersionCache) {
+		this.productQueryService = productQueryService;
+		this.catalogVersionCache = catalogVersionCache;
+	}
+
+	/** 카테고리별 노출 상품 목록 (최신 등록순) */
+	@GetMapping("/api/products")
+	public ResponseEntity<ApiResponse<ProductSliceResponse>> list(
+		@RequestParam Category category,
+		@RequestParam(defaultValue = "0") @Min(0) int page,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+		ServletWebRequest request) {
+
+		if (notModified(request, catalogVersionCache.listing(category))) {
+			return null;
+		}
+		return ApiResponse.ok(productQueryService.listByCategory(category, page, size)).toResponseEntity();
+	}
+
+	/** 노출 상품 상세 */
+	@GetMapping("/api/products/{productId}")
+	public ResponseEntity<ApiResponse<ProductDetailResponse>> detail(@PathVariable Long productId,
+		ServletWebRequest request) {
+
+		if (notModified(request, catalogVersionCache.product(productId))) {
+			return null;
+		}
+		return ApiResponse.ok(productQueryService.detail(productId)).toResponseEntity();
+	}
+
+	/** 상품 리뷰 목록 (최신순) */
+	@GetMapping("/api/products/{productId}/reviews")
+	public ResponseEntity<ApiResponse<ReviewSliceResponse>> reviews(
+		@PathVariable Long productId,
+		@RequestParam(defaultValue = "0") @Min(0) int page,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+		ServletWebRequest request) {
+
+		if (notModified(request, catalogVersionCache.reviews(productId))) {
+			return null;
+		}
+		return ApiResponse.ok(productQueryService.reviews(productId, page, size)).toResponseEntity();
+	}
+
+	/** 검증자 헤더를 붙이고 요청 조건과 맞으면 304 로 표시 */
+	private static boolean notModified(ServletWebRequest request, CatalogVersion version) {
+		if (request.getResponse() != null) {
+			request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+		}
+		return request.checkNotModified(version.etag(), version.lastModifiedMillis());
+	}
+}
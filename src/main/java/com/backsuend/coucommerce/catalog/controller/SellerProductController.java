@@ -0,0 +1,57 @@
+package com.backsuend.coucommerce.catalog.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.catalog.dto.ProductCreateRequest;
+import com.backsuend.coucommerce.catalog.dto.ProductDetailResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductUpdateRequest;
+import com.backsuend.coucommerce.catalog.service.ProductCommandService;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+
+/**
+ * 로그인한 판매자(세션 주체의 회원 ID)의 상품 등록/수정/삭제.
+ *
+ * @author rua
+ */
+@RestController
+public class SellerProductController {
+
+	private final ProductCommandService productCommandService;
+
+	public SellerProductController(ProductCommandService productCommandService) {
+		this.productCommandService = productCommandService;
+	}
+
+	@PostMapping("/api/sellers/me/products")
+	public ResponseEntity<ApiResponse<ProductDetailResponse>> create(
+		@AuthenticationPrincipal MemberSession seller, @Valid @RequestBody ProductCreateRequest request) {
+
+		return ApiResponse.created(productCommandService.create(seller.memberId(), request)).toResponseEntity();
+	}
+
+	@PutMapping("/api/sellers/me/products/{productId}")
+	public ResponseEntity<ApiResponse<ProductDetailResponse>> update(@AuthenticationPrincipal MemberSession seller,
+		@PathVariable Long productId, @Valid @RequestBody ProductUpdateRequest request) {
+
+		return ApiResponse.ok(productCommandService.update(seller.memberId(), productId, request))
+			.toResponseEntity();
+	}
+
+	@DeleteMapping("/api/sellers/me/products/{productId}")
+	public ResponseEntity<ApiResponse<Void>> delete(
+		@AuthenticationPrincipal MemberSession seller, @PathVariable Long productId) {
+
+		productCommandService.delete(seller.memberId(), productId);
+		return ApiResponse.<Void>noContent().toResponseEntity();
+	}
+}
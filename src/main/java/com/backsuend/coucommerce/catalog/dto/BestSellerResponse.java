@@ -0,0 +1,23 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import java.util.List;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.ranking.RankingWindow;
+
+/**
+ * 카테고리 판매 순위 (수량 = 구간 내 주문 수량, 실시간 반영분은 근사치이고 주기적으로 DB 집계로 보정)
+ *
+ * @author rua
+ */
+public record BestSellerResponse(
+	Category category,
+	RankingWindow window,
+	List<Item> items
+) {
+	public record Item(
+		long productId,
+		long soldQuantity
+	) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * @author rua
+ */
+public record ProductCreateRequest(
+	@NotBlank @Size(max = 50) String name,
+	@NotBlank String detail,
+	@Min(0) int price,
+	@Min(0) @Max(1_000_000) int stock,
+	@NotNull Category category,
+	boolean visible
+) {
+}
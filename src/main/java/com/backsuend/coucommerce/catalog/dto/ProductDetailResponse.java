@@ -0,0 +1,18 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * 상품 상세 (생성자 표현식으로 조회). 재고는 주문마다 바뀌지만 updatedAt 을 올리지 않으므로 제외 -
+ * 포함하면 ETag 가 본문과 어긋남
+ *
+ * @author rua
+ */
+public record ProductDetailResponse(
+	Long productId,
+	String name,
+	String detail,
+	int price,
+	Category category
+) {
+}
@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지 (전체 건수 count 쿼리 없이 다음 페이지 존재 여부만)
+ *
+ * @author rua
+ */
+public record ProductSliceResponse(
+	List<ProductSummaryResponse> items,
+	int page,
+	boolean hasNext
+) {
+}
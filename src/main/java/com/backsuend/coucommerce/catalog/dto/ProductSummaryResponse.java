@@ -0,0 +1,16 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * 상품 목록 한 줄 (목록 쿼리의 생성자 표현식으로 바로 조회)
+ *
+ * @author rua
+ */
+public record ProductSummaryResponse(
+	Long productId,
+	String name,
+	int price,
+	Category category
+) {
+}
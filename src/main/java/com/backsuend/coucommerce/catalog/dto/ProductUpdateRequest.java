@@ -0,0 +1,22 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * 상품 수정 (재고 제외)
+ *
+ * @author rua
+ */
+public record ProductUpdateRequest(
+	@NotBlank @Size(max = 50) String name,
+	@NotBlank String detail,
+	@Min(0) int price,
+	@NotNull Category category,
+	boolean visible
+) {
+}
@@ -0,0 +1,16 @@
+package com.backsuend.coucommerce.catalog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 리뷰 한 건 (생성자 표현식으로 조회)
+ *
+ * @author rua
+ */
+public record ReviewResponse(
+	Long reviewId,
+	Long memberId,
+	String content,
+	LocalDateTime createdAt
+) {
+}
@@ -28,7 +28,8 @@ import com.backsuend.coucommerce.common.entity.BaseTimeEntity;
 	indexes = {
 		@Index(name = "idx_product_member", columnList = "member_id"),
 		@Index(name = "idx_product_category", columnList = "category"),
-		@Index(name = "idx_product_visible", columnList = "is_status")
+		@Index(name = "idx_product_visible", columnList = "is_status"),
+		@Index(name = "idx_product_updated_at", columnList = "updated_at")
 	})
 public class Product extends BaseTimeEntity {
 
@@ -67,4 +68,63 @@ public class Product extends BaseTimeEntity {
 	@Column(name = "is_status", nullable = false)
 	private boolean visible = true;
 
+	protected Product() {
+	}
+
+	public Product(Member seller, String name, String detail, int stock, int price, Category category,
+		boolean visible) {
+		this.seller = seller;
+		this.name = name;
+		this.detail = detail;
+		this.stock = stock;
+		this.price = price;
+		this.category = category;
+		this.visible = visible;
+	}
+
+	/** 판매자 상품 수정 (재고는 주문 예약/반환 경로에서만 변경) */
+	public void update(String name, String detail, int price, Category category, boolean visible) {
+		this.name = name;
+		this.detail = detail;
+		this.price = price;
+		this.category = category;
+		this.visible = visible;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Member getSeller() {
+		return seller;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDetail() {
+		return detail;
+	}
+
+	public int getStock() {
+		return stock;
+	}
+
+	public int getPrice() {
+		return price;
+	}
+
+	public Category getCategory() {
+		return category;
+	}
+
+	public boolean isVisible() {
+		return visible;
+	}
+
+	/** 목록 노출 대상 여부: 공개 상태이면서 삭제되지 않은 상품 */
+	public boolean isListed() {
+		return visible && deletedAt == null;
+	}
 }
@@ -23,7 +23,8 @@ import com.backsuend.coucommerce.common.entity.BaseTimeEntity;
 @Table(name = "review",
 	indexes = {
 		@Index(name = "idx_review_member", columnList = "member_id"),
-		@Index(name = "idx_review_product", columnList = "product_id")
+		@Index(name = "idx_review_product", columnList = "product_id"),
+		@Index(name = "idx_review_updated_at", columnList = "updated_at")
 	})
 public class Review extends BaseTimeEntity {
 
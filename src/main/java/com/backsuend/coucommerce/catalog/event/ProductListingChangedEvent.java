@@ -0,0 +1,35 @@
+package com.backsuend.coucommerce.catalog.event;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.entity.Product;
+
+/**
+ * 상품의 목록 노출 상태(카테고리, 공개 여부, 삭제 여부)가 바뀔 때 발행하는 이벤트.
+ * 상품 등록/공개 전환/카테고리 변경/소프트 삭제를 처리하는 쪽에서 커밋 전에 발행하며,
+ * 구독자는 커밋 이후(AFTER_COMMIT)에 반영.
+ *
+ * @author rua
+ */
+public record ProductListingChangedEvent(
+	Long productId,
+	Category previousCategory,  // 변경 전 카테고리 (신규 등록이면 null)
+	boolean previouslyListed,
+	Category category,
+	boolean listed
+) {
+	public static ProductListingChangedEvent created(Product product) {
+		return new ProductListingChangedEvent(product.getId(), null, false, product.getCategory(), product.isListed());
+	}
+
+	/** softDelete() 호출 전 상태의 상품으로 생성 */
+	public static ProductListingChangedEvent deleted(Product product) {
+		return new ProductListingChangedEvent(product.getId(), product.getCategory(), product.isListed(),
+			product.getCategory(), false);
+	}
+
+	public static ProductListingChangedEvent changed(Long productId, Category previousCategory,
+		boolean previouslyListed, Product product) {
+		return new ProductListingChangedEvent(productId, previousCategory, previouslyListed, product.getCategory(),
+			product.isListed());
+	}
+}
@@ -0,0 +1,265 @@
+package com.backsuend.coucommerce.catalog.facet;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.event.ProductListingChangedEvent;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+
+/**
+ * 카테고리별 노출 상품 수 패싯 카운터.
+ *
+ * <pre>
+ * count(c) = shared[c]      : Redis 기준값(KEY) + 누적 증감분(DELTA_KEY) 에서 마지막으로 받아온 값
+ *          + pending[c]     : 아직 Redis 로 보내지 않은 이 노드의 증감분 (스트라이프 LongAdder)
+ * </pre>
+ * - 조회는 배열 인덱싱 + LongAdder 합산뿐이라 O(1), 객체 할당 없음
+ * - 상품 등록/공개 전환/삭제 이벤트는 커밋 후 pending 에만 반영 (쓰기 경합 최소화)
+ * - flush 주기마다 pending 을 DELTA_KEY 에 HINCRBY 하고 같은 파이프라인으로 기준값 + 증감분을 받아옴
+ * - reconcile 주기마다 한 노드만(Redis 락) DB 집계로 기준값을 교체해 누적 오차를 제거
+ *   0) FLUSH_CHANNEL 로 전 노드에 즉시 flush 요청 → flush-grace 만큼 대기
+ *   1) DELTA_KEY 를 RENAME 으로 떼어냄 (원자적 - 이후 flush 는 새 DELTA_KEY 에 쌓임)
+ *   2) DB 집계 → 기준값을 HSET 한 번으로 교체 3) 떼어낸 증감분 삭제
+ *   → 보정 중 다른 노드가 보낸 증감분은 새 DELTA_KEY 에 남아 유실되지 않음. 떼어낸 증감분은 1) 이전에 보낸 것이라
+ *     2) 의 집계에 이미 포함됨
+ * - 남는 오차: 2) 의 집계 시점에 이미 커밋됐지만 아직 노드 pending 에 있던 증감분은 집계와 새 DELTA_KEY 양쪽에
+ *   들어가 두 번 세어짐 (모든 노드, 매 보정마다 발생). 0) 의 강제 flush 로 그 범위를 "flush 주기 전체"에서
+ *   "각 노드의 강제 flush ~ 2) 집계" 사이(보통 수백 ms) 커밋으로 줄임. 오차는 다음 보정에서 기준값이 다시
+ *   교체될 때 사라지므로 누적되지 않음. 요청을 못 받은 노드(구독 끊김)는 평소 flush 주기만큼 오차를 남김
+ *
+ * @author rua
+ */
+@Component
+public class CategoryFacetCounter implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(CategoryFacetCounter.class);
+
+	static final String KEY = "catalog:facet:category";
+	static final String DELTA_KEY = "catalog:facet:category:delta";
+	static final String DETACHED_DELTA_KEY = "catalog:facet:category:delta:reconciling";
+	static final String LOCK_KEY = "catalog:facet:category:reconcile-lock";
+	static final String FLUSH_CHANNEL = "catalog:facet:category:flush";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+	private static final Category[] CATEGORIES = Category.values();
+
+	private final StringRedisTemplate redis;
+	private final ProductRepository productRepository;
+	private final long flushGraceMillis;
+
+	private final Map<Category, LongAdder> pending = new EnumMap<>(Category.class);
+	private volatile long[] shared = new long[CATEGORIES.length];
+
+	public CategoryFacetCounter(StringRedisTemplate redis, ProductRepository productRepository,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${catalog.facet.reconcile-flush-grace-ms:300}") long flushGraceMillis) {
+		this.redis = redis;
+		this.productRepository = productRepository;
+		this.flushGraceMillis = flushGraceMillis;
+		for (Category category : CATEGORIES) {
+			pending.put(category, new LongAdder());
+		}
+		listenerContainer.addMessageListener(this, new ChannelTopic(FLUSH_CHANNEL));
+	}
+
+	/** 카테고리의 노출 상품 수 (O(1), 무할당) */
+	public long count(Category category) {
+		long value = shared[category.ordinal()] + pending.get(category).sum();
+		return Math.max(value, 0L);
+	}
+
+	/** 전체 카테고리 수치를 호출자 배열(ordinal 인덱스)에 채움 - 메뉴 렌더링 시 배열 재사용 용도 */
+	public void countsInto(long[] target) {
+		long[] snapshot = shared;
+		for (Category category : CATEGORIES) {
+			int i = category.ordinal();
+			target[i] = Math.max(snapshot[i] + pending.get(category).sum(), 0L);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(ProductListingChangedEvent event) {
+		if (event.previouslyListed() && event.previousCategory() != null) {
+			pending.get(event.previousCategory()).decrement();
+		}
+		if (event.listed() && event.category() != null) {
+			pending.get(event.category()).increment();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		try {
+			if (Boolean.TRUE.equals(redis.hasKey(KEY))) {
+				flush();
+			} else {
+				reconcile(true);
+			}
+		} catch (RuntimeException ex) {
+			log.warn("카테고리 패싯 초기화 실패 - DB 집계로 대체합니다.", ex);
+			shared = toArray(productRepository.countListedByCategory());
+		}
+	}
+
+	/** 보정 노드의 flush 요청 - 집계 전에 pending 을 DELTA_KEY 로 보냄 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		flush();
+	}
+
+	/**
+	 * 로컬 증감분을 Redis 에 반영하고 클러스터 합계를 받아옴 (한 번의 파이프라인 왕복).
+	 * 스케줄러와 flush 요청 리스너가 동시에 부르면 shared 갱신이 엇갈리므로 직렬화
+	 */
+	@Scheduled(fixedDelayString = "${catalog.facet.flush-interval-ms:1000}")
+	public synchronized void flush() {
+		long[] deltas = new long[CATEGORIES.length];
+		long[] optimistic = shared.clone();
+		for (Category category : CATEGORIES) {
+			long delta = pending.get(category).sumThenReset();
+			deltas[category.ordinal()] = delta;
+			optimistic[category.ordinal()] += delta;
+		}
+		// 왕복 중에도 조회 값이 흔들리지 않도록 먼저 로컬 합계에 반영
+		shared = optimistic;
+
+		try {
+			List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				for (Category category : CATEGORIES) {
+					long delta = deltas[category.ordinal()];
+					if (delta != 0) {
+						conn.hIncrBy(DELTA_KEY, category.name(), delta);
+					}
+				}
+				conn.hGetAll(KEY);
+				conn.hGetAll(DELTA_KEY);
+				return null;
+			});
+			Object base = results.get(results.size() - 2);
+			Object deltaTotals = results.get(results.size() - 1);
+			if (base instanceof Map<?, ?> baseMap && !baseMap.isEmpty()) {
+				shared = add(toArray(baseMap), deltaTotals instanceof Map<?, ?> deltaMap ? toArray(deltaMap) : null);
+			}
+		} catch (RuntimeException ex) {
+			// Redis 장애 시 증감분을 되돌려 다음 주기에 재전송
+			for (Category category : CATEGORIES) {
+				pending.get(category).add(deltas[category.ordinal()]);
+			}
+			shared = subtract(shared, deltas);
+			log.warn("카테고리 패싯 Redis 동기화 실패", ex);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${catalog.facet.reconcile-interval-ms:600000}",
+		initialDelayString = "${catalog.facet.reconcile-interval-ms:600000}")
+	public void scheduledReconcile() {
+		try {
+			reconcile(false);
+		} catch (RuntimeException ex) {
+			log.warn("카테고리 패싯 보정 실패", ex);
+		}
+	}
+
+	/** DB 집계 값으로 Redis 기준값을 교체. force=false 면 Redis 락을 얻은 노드만 수행 */
+	void reconcile(boolean force) {
+		boolean locked = Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+		if (!locked && !force) {
+			return;
+		}
+		requestFlush();
+		// 집계 전에 떼어냄 → 떼어낸 증감분은 집계에 포함되고, 이후 증감분은 새 DELTA_KEY 에 남음
+		boolean detached = Boolean.TRUE.equals(redis.hasKey(DELTA_KEY));
+		if (detached) {
+			redis.rename(DELTA_KEY, DETACHED_DELTA_KEY);
+		}
+		long[] counts = toArray(productRepository.countListedByCategory());
+		Map<String, String> snapshot = new HashMap<>();
+		for (Category category : CATEGORIES) {
+			snapshot.put(category.name(), Long.toString(counts[category.ordinal()]));
+		}
+		redis.opsForHash().putAll(KEY, snapshot);
+		if (detached) {
+			redis.delete(DETACHED_DELTA_KEY);
+		}
+		shared = add(counts, toArray(redis.opsForHash().entries(DELTA_KEY)));
+		log.info("카테고리 패싯 DB 보정 완료");
+	}
+
+	/** 전 노드의 pending 을 떼어내기 전 DELTA_KEY 로 모음 - 집계와 새 DELTA_KEY 에 이중 반영되는 범위를 줄임 */
+	private void requestFlush() {
+		try {
+			redis.convertAndSend(FLUSH_CHANNEL, "flush");
+		} catch (RuntimeException ex) {
+			log.warn("카테고리 패싯 flush 요청 실패 - 각 노드의 flush 주기만큼 오차가 남습니다.", ex);
+		}
+		flush();
+		if (flushGraceMillis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(flushGraceMillis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static long[] toArray(List<CategoryCount> counts) {
+		long[] array = new long[CATEGORIES.length];
+		for (CategoryCount count : counts) {
+			array[count.category().ordinal()] = count.count();
+		}
+		return array;
+	}
+
+	private static long[] toArray(Map<?, ?> hash) {
+		long[] array = new long[CATEGORIES.length];
+		for (Category category : CATEGORIES) {
+			Object value = hash.get(category.name());
+			if (value != null) {
+				array[category.ordinal()] = Long.parseLong(value.toString());
+			}
+		}
+		return array;
+	}
+
+	private static long[] add(long[] base, long[] deltas) {
+		if (deltas == null) {
+			return base;
+		}
+		long[] result = base.clone();
+		for (int i = 0; i < result.length; i++) {
+			result[i] += deltas[i];
+		}
+		return result;
+	}
+
+	private static long[] subtract(long[] base, long[] deltas) {
+		long[] result = base.clone();
+		for (int i = 0; i < result.length; i++) {
+			result[i] -= deltas[i];
+		}
+		return result;
+	}
+}
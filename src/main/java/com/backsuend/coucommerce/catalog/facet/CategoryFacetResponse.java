@@ -0,0 +1,12 @@
+package com.backsuend.coucommerce.catalog.facet;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * @author rua
+ */
+public record CategoryFacetResponse(
+	Category category,
+	long productCount
+) {
+}
@@ -0,0 +1,476 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.catalog.cache.CatalogVersionCache;
+import com.backsuend.coucommerce.catalog.dto.BestSellerResponse;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.event.ProductListingChangedEvent;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.common.util.ConcurrentLongLongMap;
+import com.backsuend.coucommerce.common.util.LongLongHashMap;
+import com.backsuend.coucommerce.order.event.OrderPlacedEvent;
+import com.backsuend.coucommerce.order.repository.ProductSalesJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.ShardScatterGather;
+
+/**
+ * 카테고리별 실시간 판매 순위 (최근 1시간 / 1일 / 1주).
+ *
+ * <pre>
+ * 주문 이벤트 → 카테고리별 {@link HeavyHitterSketch} (노드 메모리, flush 주기분)
+ *   flush   → 상위 카운터만 Redis 슬롯 정렬 집합에 ZINCRBY (구간마다 현재 슬롯 하나)
+ *   merge   → 한 노드만(Redis 락) 구간의 슬롯들을 ZUNIONSTORE 해 구간 순위 집합 갱신
+ *   refresh → 모든 노드가 구간 순위 상위 top-size 개를 읽어 메모리에 보관 → 조회 O(K), Redis 왕복 없음
+ * 보정    → 한 노드만(Redis 락) 지난 보정 이후 닫힌 슬롯 + 취소 가능 구간(reconcile-horizon) 안의 슬롯만
+ *           DB 집계(샤드 병렬)로 덮어씀 - 취소된 주문과 스케치 근사 오차 제거. 그 이전 슬롯은 이미 확정값
+ * </pre>
+ * - 스케치 덕분에 주문이 몰려도 노드 메모리와 flush 당 Redis 쓰기 수는 카테고리당 capacity 개로 고정
+ * - 실시간 반영분은 주문 시점 수량이라 취소(미결제 만료)는 보정 때 빠짐
+ * - 상품 카테고리는 노드 메모리 캐시, 처음 보는 상품은 flush 때 묶어서 전역 DB 조회
+ * - 노출/카테고리 변경은 카탈로그 변경 채널로 모든 노드의 캐시에서 지우고 다음 갱신 때 다시 읽음.
+ *   조회 시 현재 카테고리의 노출 상품만 반환 → 비노출·카테고리 이동 상품은 이전 순위에서 바로 빠짐.
+ *   채널 유실 대비로 보정 주기마다 캐시를 비움
+ *
+ * @author rua
+ */
+@Component
+public class BestSellerRanking implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(BestSellerRanking.class);
+
+	static final String KEY_PREFIX = "catalog:ranking:";
+	private static final String MERGE_LOCK_KEY = KEY_PREFIX + "merge-lock";
+	private static final String RECONCILE_LOCK_KEY = KEY_PREFIX + "reconcile-lock";
+	private static final String RECONCILED_AT_KEY = KEY_PREFIX + "reconciled-at";
+	private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final Category[] CATEGORIES = Category.values();
+	private static final RankingWindow[] WINDOWS = RankingWindow.values();
+
+	// 캐시 값 = 카테고리 ordinal << 1 | 노출 여부, 상품이 없으면 ABSENT
+	private static final long NOT_LOADED = Long.MIN_VALUE;
+	private static final long ABSENT = -1L;
+
+	private final StringRedisTemplate redis;
+	private final ProductRepository productRepository;
+	private final ProductSalesJdbcRepository productSalesJdbcRepository;
+	private final ShardScatterGather scatterGather;
+	private final int capacity;
+	private final int topSize;
+	private final long flushIntervalMillis;
+	private final long reconcileHorizonMillis;
+
+	private final Map<Category, HeavyHitterSketch> sketches = new EnumMap<>(Category.class);
+	private final LongLongHashMap unresolved = new LongLongHashMap();
+	private final ConcurrentLongLongMap categories = new ConcurrentLongLongMap(4096);
+	private final long[] drainKeys;
+	private final long[] drainCounts;
+	private volatile Ranking[][] rankings = new Ranking[CATEGORIES.length][WINDOWS.length];
+
+	public BestSellerRanking(StringRedisTemplate redis, ProductRepository productRepository,
+		ProductSalesJdbcRepository productSalesJdbcRepository, ShardScatterGather scatterGather,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${catalog.ranking.capacity:256}") int capacity,
+		@Value("${catalog.ranking.sketch-width:2048}") int sketchWidth,
+		@Value("${catalog.ranking.sketch-depth:4}") int sketchDepth,
+		@Value("${catalog.ranking.top-size:100}") int topSize,
+		@Value("${catalog.ranking.flush-interval-ms:1000}") long flushIntervalMillis,
+		@Value("${catalog.ranking.reconcile-horizon:1h}") Duration reconcileHorizon) {
+		this.redis = redis;
+		this.productRepository = productRepository;
+		this.productSalesJdbcRepository = productSalesJdbcRepository;
+		this.scatterGather = scatterGather;
+		this.capacity = capacity;
+		this.topSize = topSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.reconcileHorizonMillis = reconcileHorizon.toMillis();
+		this.drainKeys = new long[capacity];
+		this.drainCounts = new long[capacity];
+		for (Category category : CATEGORIES) {
+			sketches.put(category, new HeavyHitterSketch(capacity, sketchWidth, sketchDepth));
+		}
+		Ranking empty = new Ranking(new long[0], new long[0]);
+		for (Ranking[] row : rankings) {
+			Arrays.fill(row, empty);
+		}
+		listenerContainer.addMessageListener(this, new ChannelTopic(CatalogVersionCache.CHANNEL));
+	}
+
+	/** 구간 판매 순위 상위 limit 개 (메모리 스냅샷, 비노출 상품과 다른 카테고리로 옮긴 상품 제외) */
+	public BestSellerResponse top(Category category, RankingWindow window, int limit) {
+		Ranking ranking = rankings[category.ordinal()][window.ordinal()];
+		List<BestSellerResponse.Item> items = new ArrayList<>(Math.min(limit, ranking.productIds.length));
+		long listedHere = encode(category, true);
+		for (int i = 0; i < ranking.productIds.length && items.size() < limit; i++) {
+			long cached = categories.get(ranking.productIds[i], NOT_LOADED);
+			// 미적재(변경 직후)는 다음 갱신(flush 주기)까지 그대로 노출
+			if (cached == NOT_LOADED || cached == listedHere) {
+				items.add(new BestSellerResponse.Item(ranking.productIds[i], ranking.quantities[i]));
+			}
+		}
+		return new BestSellerResponse(category, window, items);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOrderPlaced(OrderPlacedEvent event) {
+		for (OrderPlacedEvent.Line line : event.lines()) {
+			long cached = categories.get(line.productId(), NOT_LOADED);
+			if (cached == NOT_LOADED) {
+				// 커밋 직후 요청 스레드에서 DB 를 다시 읽지 않도록 flush 때 묶어서 조회
+				synchronized (unresolved) {
+					unresolved.addTo(line.productId(), line.quantity());
+				}
+			} else if (cached >= 0) {
+				record(CATEGORIES[(int)(cached >>> 1)], line.productId(), line.quantity());
+			}
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onListingChanged(ProductListingChangedEvent event) {
+		if (event.category() != null) {
+			categories.put(event.productId(), encode(event.category(), event.listed()));
+		}
+	}
+
+	/** 다른 노드(자신 포함)의 목록 노출 변경 - 캐시에서 지워 다음 갱신 때 DB 값으로 다시 읽음 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int end = body.indexOf(':');
+		try {
+			categories.remove(Long.parseLong(end < 0 ? body : body.substring(0, end)), NOT_LOADED);
+		} catch (NumberFormatException ex) {
+			log.warn("잘못된 카탈로그 변경 메시지: {}", body);
+		}
+	}
+
+	/** 보정 기록이 없으면(첫 기동, Redis 초기화) DB 집계로 슬롯을 채움 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Thread.ofVirtual().name("best-seller-warmup").start(() -> {
+			try {
+				if (!Boolean.TRUE.equals(redis.hasKey(RECONCILED_AT_KEY))) {
+					reconcile(true);
+				}
+				refresh(true);
+			} catch (RuntimeException ex) {
+				log.warn("판매 순위 초기화 실패 - 이후 주문분부터 집계", ex);
+			}
+		});
+	}
+
+	/** 로컬 스케치 → Redis 슬롯, (락을 얻은 노드만) 구간 병합, 구간 순위 읽기 */
+	@Scheduled(fixedDelayString = "${catalog.ranking.flush-interval-ms:1000}")
+	public void flush() {
+		try {
+			resolveUnknownProducts();
+			long now = System.currentTimeMillis();
+			List<Slot> slots = drainSketches(now);
+			boolean merge = Boolean.TRUE.equals(redis.opsForValue()
+				.setIfAbsent(MERGE_LOCK_KEY, "1", Duration.ofMillis(Math.max(flushIntervalMillis - 100, 100))));
+			if (!slots.isEmpty() || merge) {
+				redis.executePipelined((RedisCallback<Object>)connection -> {
+					StringRedisConnection conn = (StringRedisConnection)connection;
+					slots.forEach(slot -> slot.writeTo(conn, capacity));
+					if (merge) {
+						mergeWindows(conn, now);
+					}
+					return null;
+				});
+			}
+			refresh(false);
+		} catch (RuntimeException ex) {
+			// 이번 주기분은 버림 - 보정 주기에 DB 집계로 복구
+			log.warn("판매 순위 Redis 동기화 실패", ex);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${catalog.ranking.reconcile-interval-ms:600000}",
+		initialDelayString = "${catalog.ranking.reconcile-interval-ms:600000}")
+	public void scheduledReconcile() {
+		// 변경 채널 유실 대비 - 노드마다 카테고리 캐시를 비워 순위 상품은 다음 갱신 때 다시 읽음
+		categories.clear();
+		try {
+			reconcile(false);
+		} catch (RuntimeException ex) {
+			log.warn("판매 순위 보정 실패", ex);
+		}
+	}
+
+	/**
+	 * 닫힌 슬롯을 DB 집계 값으로 교체. force=false 면 Redis 락을 얻은 노드만 수행.
+	 * 지난 보정 시각에서 취소 가능 구간(미결제 만료 TTL + 백스톱 여유)을 뺀 시각 이후에 끝난 슬롯만 다시 집계 -
+	 * 그보다 먼저 끝난 슬롯은 지난 보정 때 이미 취소가 모두 반영된 값. 보정 기록이 없거나 force 면 모든 닫힌 슬롯
+	 */
+	void reconcile(boolean force) {
+		boolean locked = Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1",
+			RECONCILE_LOCK_TTL));
+		if (!locked && !force) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long settledBefore = force ? Long.MIN_VALUE : settledBefore();
+		int slotCount = 0;
+		for (RankingWindow window : WINDOWS) {
+			long current = window.slotOf(now);
+			for (long slot = current - window.slots() + 1; slot < current; slot++) {
+				if (window.slotStartMillis(slot + 1) <= settledBefore) {
+					continue;
+				}
+				LongLongHashMap sales = sumSales(window.slotStartMillis(slot), window.slotStartMillis(slot + 1));
+				writeExactSlot(window, slot, sales, now);
+				slotCount++;
+			}
+		}
+		redis.opsForValue().set(RECONCILED_AT_KEY, Long.toString(now));
+		log.info("판매 순위 DB 보정 완료: 슬롯 {}개", slotCount);
+	}
+
+	/** 이 시각 이전에 끝난 슬롯은 확정 (지난 보정 시각 - 취소 가능 구간) */
+	private long settledBefore() {
+		String reconciledAt = redis.opsForValue().get(RECONCILED_AT_KEY);
+		if (reconciledAt == null) {
+			return Long.MIN_VALUE;
+		}
+		try {
+			return Long.parseLong(reconciledAt) - reconcileHorizonMillis;
+		} catch (NumberFormatException ex) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+	private void record(Category category, long productId, long quantity) {
+		HeavyHitterSketch sketch = sketches.get(category);
+		synchronized (sketch) {
+			sketch.add(productId, quantity);
+		}
+	}
+
+	private void resolveUnknownProducts() {
+		LongLongHashMap pending;
+		synchronized (unresolved) {
+			if (unresolved.isEmpty()) {
+				return;
+			}
+			pending = new LongLongHashMap(unresolved.size());
+			unresolved.forEach(pending::put);
+			unresolved.clear();
+		}
+		List<Long> ids = new ArrayList<>(pending.size());
+		pending.forEach((productId, quantity) -> ids.add(productId));
+		loadCategories(ids);
+		pending.forEach((productId, quantity) -> {
+			long cached = categories.get(productId, ABSENT);
+			if (cached >= 0) {
+				record(CATEGORIES[(int)(cached >>> 1)], productId, quantity);
+			}
+		});
+	}
+
+	private void loadCategories(List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		for (Long productId : productIds) {
+			categories.put(productId, ABSENT);
+		}
+		for (ProductCategory product : productRepository.findCategoriesByIdIn(productIds)) {
+			categories.put(product.productId(), encode(product.category(), product.listed()));
+		}
+	}
+
+	private List<Slot> drainSketches(long now) {
+		List<Slot> slots = new ArrayList<>();
+		for (Category category : CATEGORIES) {
+			HeavyHitterSketch sketch = sketches.get(category);
+			long[] keys;
+			long[] counts;
+			synchronized (sketch) {
+				if (sketch.size() == 0) {
+					continue;
+				}
+				int length = sketch.copyTopTo(drainKeys, drainCounts);
+				sketch.clear();
+				keys = Arrays.copyOf(drainKeys, length);
+				counts = Arrays.copyOf(drainCounts, length);
+			}
+			for (RankingWindow window : WINDOWS) {
+				long slot = window.slotOf(now);
+				slots.add(new Slot(slotKey(category, window, slot), window.slotExpiresAtMillis(slot), keys, counts));
+			}
+		}
+		return slots;
+	}
+
+	private void mergeWindows(StringRedisConnection conn, long now) {
+		for (Category category : CATEGORIES) {
+			for (RankingWindow window : WINDOWS) {
+				long current = window.slotOf(now);
+				String[] slotKeys = new String[window.slots()];
+				for (int i = 0; i < slotKeys.length; i++) {
+					slotKeys[i] = slotKey(category, window, current - i);
+				}
+				String key = windowKey(category, window);
+				conn.zUnionStore(key, slotKeys);
+				conn.zRemRange(key, 0, -(capacity + 1));
+			}
+		}
+	}
+
+	/** 구간 순위 상위 top-size 개를 읽어 스냅샷 교체 */
+	private void refresh(boolean force) {
+		List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection conn = (StringRedisConnection)connection;
+			for (Category category : CATEGORIES) {
+				for (RankingWindow window : WINDOWS) {
+					conn.zRevRangeWithScores(windowKey(category, window), 0, topSize - 1);
+				}
+			}
+			return null;
+		});
+		Ranking[][] next = new Ranking[CATEGORIES.length][WINDOWS.length];
+		List<Long> unknown = new ArrayList<>();
+		int index = 0;
+		for (Category category : CATEGORIES) {
+			for (RankingWindow window : WINDOWS) {
+				Ranking ranking = Ranking.of((Set<?>)results.get(index++));
+				for (long productId : ranking.productIds) {
+					if (categories.get(productId, NOT_LOADED) == NOT_LOADED) {
+						unknown.add(productId);
+					}
+				}
+				next[category.ordinal()][window.ordinal()] = ranking;
+			}
+		}
+		loadCategories(unknown);
+		rankings = next;
+		if (force) {
+			log.info("판매 순위 적재 완료");
+		}
+	}
+
+	private LongLongHashMap sumSales(long fromMillis, long toMillis) {
+		LocalDateTime from = LocalDateTime.ofInstant(Instant.ofEpochMilli(fromMillis), SEOUL);
+		LocalDateTime to = LocalDateTime.ofInstant(Instant.ofEpochMilli(toMillis), SEOUL);
+		LongLongHashMap total = new LongLongHashMap();
+		for (LongLongHashMap shard : scatterGather.gather(
+			() -> productSalesJdbcRepository.sumQuantitiesByProduct(from, to))) {
+			shard.forEach(total::addTo);
+		}
+		return total;
+	}
+
+	/** 슬롯을 정확한 값으로 원자적 교체 (임시 키에 쓰고 RENAME) */
+	private void writeExactSlot(RankingWindow window, long slot, LongLongHashMap sales, long now) {
+		List<Long> unknown = new ArrayList<>();
+		sales.forEach((productId, quantity) -> {
+			if (categories.get(productId, NOT_LOADED) == NOT_LOADED) {
+				unknown.add(productId);
+			}
+		});
+		loadCategories(unknown);
+		Map<Category, List<long[]>> byCategory = new EnumMap<>(Category.class);
+		sales.forEach((productId, quantity) -> {
+			long cached = categories.get(productId, ABSENT);
+			if (cached >= 0) {
+				byCategory.computeIfAbsent(CATEGORIES[(int)(cached >>> 1)], c -> new ArrayList<>())
+					.add(new long[] {productId, quantity});
+			}
+		});
+		long ttlMillis = window.slotExpiresAtMillis(slot) - now;
+		redis.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection conn = (StringRedisConnection)connection;
+			for (Category category : CATEGORIES) {
+				String key = slotKey(category, window, slot);
+				List<long[]> entries = byCategory.get(category);
+				if (entries == null) {
+					conn.del(key);
+					continue;
+				}
+				String staging = key + ":reconcile";
+				conn.del(staging);
+				for (long[] entry : entries) {
+					conn.zAdd(staging, entry[1], Long.toString(entry[0]));
+				}
+				conn.zRemRange(staging, 0, -(capacity + 1));
+				conn.pExpire(staging, ttlMillis);
+				conn.rename(staging, key);
+			}
+			return null;
+		});
+	}
+
+	private static long encode(Category category, boolean listed) {
+		return ((long)category.ordinal() << 1) | (listed ? 1 : 0);
+	}
+
+	static String slotKey(Category category, RankingWindow window, long slot) {
+		return KEY_PREFIX + category.name() + ":" + window.name() + ":" + slot;
+	}
+
+	static String windowKey(Category category, RankingWindow window) {
+		return KEY_PREFIX + category.name() + ":" + window.name();
+	}
+
+	/** 한 flush 에서 슬롯 하나에 더할 수량 */
+	private record Slot(String key, long expiresAtMillis, long[] productIds, long[] quantities) {
+
+		void writeTo(StringRedisConnection conn, int capacity) {
+			for (int i = 0; i < productIds.length; i++) {
+				conn.zIncrBy(key, quantities[i], Long.toString(productIds[i]));
+			}
+			// 슬롯에도 상위 capacity 개만 유지 (꼬리 상품이 누적돼 키가 커지지 않게)
+			conn.zRemRange(key, 0, -(capacity + 1));
+			conn.pExpire(key, Math.max(expiresAtMillis - System.currentTimeMillis(), 1));
+		}
+	}
+
+	/** 구간 순위 스냅샷 (수량 내림차순) */
+	private record Ranking(long[] productIds, long[] quantities) {
+
+		static Ranking of(Set<?> tuples) {
+			if (tuples == null) {
+				return new Ranking(new long[0], new long[0]);
+			}
+			long[] productIds = new long[tuples.size()];
+			long[] quantities = new long[tuples.size()];
+			int i = 0;
+			for (Object tuple : tuples) {
+				TypedTuple<?> typed = (TypedTuple<?>)tuple;
+				productIds[i] = Long.parseLong(String.valueOf(typed.getValue()));
+				quantities[i] = Math.round(typed.getScore() == null ? 0 : typed.getScore());
+				i++;
+			}
+			return new Ranking(productIds, quantities);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import java.util.Arrays;
+
+import com.backsuend.coucommerce.common.util.CountMinSketch;
+import com.backsuend.coucommerce.common.util.LongLongHashMap;
+
+/**
+ * 상품별 판매 수량 상위 항목 추적 (Space-Saving + Count-Min). 스레드 안전하지 않음.
+ *
+ * <pre>
+ * 추적 중인 상품   → 카운터 += 수량
+ * 빈 카운터 있음   → 새 카운터 (정확한 값)
+ * 가득 참         → 추정값 = min(최소 카운터 + 수량, CMS 추정값)
+ *                   추정값 > 최소 카운터일 때만 최소 카운터 자리를 넘겨받음
+ * </pre>
+ * - 카운터 값은 실제 수량 이상 (둘 다 상한). CMS 덕분에 꼬리 상품이 최소 카운터를 밀어내며 부풀지 않음
+ * - 최소 카운터보다 많이 팔린 상품은 반드시 추적됨 → capacity 를 K 의 몇 배로 두면 상위 K 가 안정적
+ * - 카운터는 최소 힙(배열) + 상품 → 힙 위치 맵, 갱신 O(log capacity), 할당 없음
+ *
+ * @author rua
+ */
+final class HeavyHitterSketch {
+
+	private final CountMinSketch frequencies;
+	private final LongLongHashMap positions;
+	private final long[] keys;
+	private final long[] counts;
+	private int size;
+
+	HeavyHitterSketch(int capacity, int sketchWidth, int sketchDepth) {
+		this.frequencies = new CountMinSketch(sketchWidth, sketchDepth);
+		this.positions = new LongLongHashMap(capacity);
+		this.keys = new long[capacity];
+		this.counts = new long[capacity];
+	}
+
+	void add(long productId, long quantity) {
+		long estimate = frequencies.add(productId, quantity);
+		long position = positions.get(productId, -1L);
+		if (position >= 0) {
+			counts[(int)position] += quantity;
+			siftDown((int)position);
+			return;
+		}
+		if (size < keys.length) {
+			keys[size] = productId;
+			counts[size] = quantity;
+			positions.put(productId, size);
+			siftUp(size++);
+			return;
+		}
+		long candidate = Math.min(counts[0] + quantity, estimate);
+		if (candidate <= counts[0]) {
+			return;
+		}
+		positions.remove(keys[0], -1L);
+		keys[0] = productId;
+		counts[0] = candidate;
+		positions.put(productId, 0);
+		siftDown(0);
+	}
+
+	/** 추적 중인 상품 수 */
+	int size() {
+		return size;
+	}
+
+	/** 카운터를 수량 내림차순으로 keysOut/countsOut 에 채우고 개수 반환 */
+	int copyTopTo(long[] keysOut, long[] countsOut) {
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+		int length = Math.min(size, keysOut.length);
+		for (int i = 0; i < length; i++) {
+			keysOut[i] = keys[order[i]];
+			countsOut[i] = counts[order[i]];
+		}
+		return length;
+	}
+
+	void clear() {
+		frequencies.clear();
+		positions.clear();
+		size = 0;
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (counts[parent] <= counts[index]) {
+				return;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = (index << 1) + 1;
+			if (left >= size) {
+				return;
+			}
+			int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+			if (counts[index] <= counts[smallest]) {
+				return;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	private void swap(int a, int b) {
+		long key = keys[a];
+		long count = counts[a];
+		keys[a] = keys[b];
+		counts[a] = counts[b];
+		keys[b] = key;
+		counts[b] = count;
+		positions.put(keys[a], a);
+		positions.put(keys[b], b);
+	}
+}
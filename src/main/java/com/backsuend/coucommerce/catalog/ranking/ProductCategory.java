@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+
+/**
+ * 판매 순위 집계용 상품 카테고리 (노출 여부 포함)
+ *
+ * @author rua
+ */
+public record ProductCategory(
+	Long productId,
+	Category category,
+	boolean listed
+) {
+}
@@ -0,0 +1,43 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import java.time.Duration;
+
+/**
+ * 판매 순위 집계 구간. 구간 = 현재 슬롯 + 직전 (slots - 1) 개 슬롯 (Redis 정렬 집합 하나씩)
+ * → 실제 길이는 span - slot ~ span 사이에서 슬롯 경계마다 한 슬롯씩 밀림.
+ * 슬롯 경계는 한국 시각 기준 (일 단위 슬롯이 자정에 바뀜).
+ *
+ * @author rua
+ */
+public enum RankingWindow {
+	HOUR(Duration.ofMinutes(5), 12),
+	DAY(Duration.ofHours(1), 24),
+	WEEK(Duration.ofDays(1), 7);
+
+	private static final long SEOUL_OFFSET_MILLIS = Duration.ofHours(9).toMillis();
+
+	private final long slotMillis;
+	private final int slots;
+
+	RankingWindow(Duration slot, int slots) {
+		this.slotMillis = slot.toMillis();
+		this.slots = slots;
+	}
+
+	public int slots() {
+		return slots;
+	}
+
+	public long slotOf(long epochMillis) {
+		return Math.floorDiv(epochMillis + SEOUL_OFFSET_MILLIS, slotMillis);
+	}
+
+	public long slotStartMillis(long slot) {
+		return slot * slotMillis - SEOUL_OFFSET_MILLIS;
+	}
+
+	/** 슬롯이 구간에서 빠지는 시각 */
+	public long slotExpiresAtMillis(long slot) {
+		return slotStartMillis(slot + slots);
+	}
+}
@@ -0,0 +1,69 @@
+package com.backsuend.coucommerce.catalog.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backsuend.coucommerce.catalog.cache.ListingVersion;
+import com.backsuend.coucommerce.catalog.dto.ProductDetailResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductSummaryResponse;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.entity.Product;
+import com.backsuend.coucommerce.catalog.facet.CategoryCount;
+import com.backsuend.coucommerce.catalog.ranking.ProductCategory;
+
+/**
+ * @author rua
+ */
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+	/** 카테고리별 노출 상품 수 (패싯 카운터 보정용 - 주기적으로만 호출) */
+	@Query("select new com.backsuend.coucommerce.catalog.facet.CategoryCount(p.category, count(p))"
+		+ " from Product p where p.visible = true and p.deletedAt is null group by p.category")
+	List<CategoryCount> countListedByCategory();
+
+	/** 상품 소유 판매자(member) id - 엔티티 로딩 없이 FK 만 조회 */
+	@Query("select p.seller.id from Product p where p.id = :productId")
+	Optional<Long> findSellerIdById(@Param("productId") Long productId);
+
+	/** 판매자의 상품 ID (삭제된 상품 포함 - 지난 주문 조회용) */
+	@Query("select p.id from Product p where p.seller.id = :sellerId")
+	List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId);
+
+	/** 상품 카테고리와 노출 여부 (판매 순위 캐시 적재용 - 처음 보는 상품만 묶어서 조회) */
+	@Query("select new com.backsuend.coucommerce.catalog.ranking.ProductCategory(p.id, p.category,"
+		+ " case when p.visible = true and p.deletedAt is null then true else false end)"
+		+ " from Product p where p.id in :ids")
+	List<ProductCategory> findCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
+	/** 카테고리별 노출 상품 목록 - 엔티티 대신 필요한 컬럼만 조회, Slice 라 count 쿼리 없음 */
+	@Query("select new com.backsuend.coucommerce.catalog.dto.ProductSummaryResponse(p.id, p.name, p.price, p.category)"
+		+ " from Product p where p.category = :category and p.visible = true and p.deletedAt is null"
+		+ " order by p.id desc")
+	Slice<ProductSummaryResponse> findListedByCategory(@Param("category") Category category, Pageable pageable);
+
+	/** 노출 상품 상세 - 엔티티 대신 필요한 컬럼만 조회 */
+	@Query("select new com.backsuend.coucommerce.catalog.dto.ProductDetailResponse(p.id, p.name, p.detail, p.price,"
+		+ " p.category) from Product p where p.id = :productId and p.visible = true and p.deletedAt is null")
+	Optional<ProductDetailResponse> findListedDetailById(@Param("productId") Long productId);
+
+	/** 노출 상품의 수정 시각 (조건부 GET 검증자용 - 컬럼 하나만 조회) */
+	@Query("select p.updatedAt from Product p where p.id = :productId and p.visible = true and p.deletedAt is null")
+	Optional<LocalDateTime> findListedUpdatedAtById(@Param("productId") Long productId);
+
+	/** 카테고리 목록 버전 (비공개/삭제 포함 상품 수 + 최근 수정 시각) */
+	@Query("select new com.backsuend.coucommerce.catalog.cache.ListingVersion(count(p), max(p.updatedAt))"
+		+ " from Product p where p.category = :category")
+	ListingVersion findListingVersion(@Param("category") Category category);
+
+	/** since 이후 변경된 상품 id (삭제 포함) - 버전 캐시 재동기화용 */
+	@Query("select p.id from Product p where p.updatedAt > :since")
+	List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,33 @@
+package com.backsuend.coucommerce.catalog.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backsuend.coucommerce.catalog.dto.ReviewResponse;
+import com.backsuend.coucommerce.catalog.entity.Review;
+
+/**
+ * @author rua
+ */
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+	/** 상품 리뷰 목록 (최신순) - 엔티티 대신 필요한 컬럼만 조회, Slice 라 count 쿼리 없음 */
+	@Query("select new com.backsuend.coucommerce.catalog.dto.ReviewResponse(r.id, r.member.id, r.content, r.createdAt)"
+		+ " from Review r where r.product.id = :productId and r.deletedAt is null order by r.id desc")
+	Slice<ReviewResponse> findByProductId(@Param("productId") Long productId, Pageable pageable);
+
+	/** 상품 리뷰의 최근 수정 시각 (삭제 포함 - 소프트 삭제도 updatedAt 을 올림). 리뷰가 없으면 empty */
+	@Query("select max(r.updatedAt) from Review r where r.product.id = :productId")
+	Optional<LocalDateTime> findLastUpdatedAtByProductId(@Param("productId") Long productId);
+
+	/** since 이후 리뷰가 변경된 상품 id - 버전 캐시 재동기화용 */
+	@Query("select distinct r.product.id from Review r where r.updatedAt > :since")
+	List<Long> findProductIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
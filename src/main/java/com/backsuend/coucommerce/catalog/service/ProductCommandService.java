@@ -0,0 +1,79 @@
+package com.backsuend.coucommerce.catalog.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.catalog.dto.ProductCreateRequest;
+import com.backsuend.coucommerce.catalog.dto.ProductDetailResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductUpdateRequest;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.entity.Product;
+import com.backsuend.coucommerce.catalog.event.ProductListingChangedEvent;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.seller.cache.SellerAuthorizationCache;
+
+/**
+ * 판매자 상품 등록/수정/삭제. 모든 변경은 {@link ProductListingChangedEvent} 를 발행하고
+ * 구독자(패싯 카운터, 판매 순위, 카탈로그 버전 캐시)는 커밋 후에 반영.
+ * 쓰기 권한(승인된 판매자, 상품 소유자)은 {@link SellerAuthorizationCache} 로 DB 왕복 없이 확인.
+ *
+ * @author rua
+ */
+@Service
+@Transactional
+public class ProductCommandService {
+
+	private final ProductRepository productRepository;
+	private final MemberRepository memberRepository;
+	private final SellerAuthorizationCache authorizationCache;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public ProductCommandService(ProductRepository productRepository, MemberRepository memberRepository,
+		SellerAuthorizationCache authorizationCache, ApplicationEventPublisher eventPublisher) {
+		this.productRepository = productRepository;
+		this.memberRepository = memberRepository;
+		this.authorizationCache = authorizationCache;
+		this.eventPublisher = eventPublisher;
+	}
+
+	public ProductDetailResponse create(Long sellerId, ProductCreateRequest request) {
+		authorizationCache.checkApprovedSeller(sellerId);
+		Product product = productRepository.save(new Product(memberRepository.getReferenceById(sellerId),
+			request.name(), request.detail(), request.stock(), request.price(), request.category(),
+			request.visible()));
+		eventPublisher.publishEvent(ProductListingChangedEvent.created(product));
+		return toDetail(product);
+	}
+
+	public ProductDetailResponse update(Long sellerId, Long productId, ProductUpdateRequest request) {
+		Product product = findOwned(sellerId, productId);
+		Category previousCategory = product.getCategory();
+		boolean previouslyListed = product.isListed();
+		product.update(request.name(), request.detail(), request.price(), request.category(), request.visible());
+		eventPublisher.publishEvent(
+			ProductListingChangedEvent.changed(productId, previousCategory, previouslyListed, product));
+		return toDetail(product);
+	}
+
+	public void delete(Long sellerId, Long productId) {
+		Product product = findOwned(sellerId, productId);
+		eventPublisher.publishEvent(ProductListingChangedEvent.deleted(product));
+		product.softDelete();
+	}
+
+	private Product findOwned(Long sellerId, Long productId) {
+		authorizationCache.checkProductWritable(sellerId, productId);
+		return productRepository.findById(productId)
+			.filter(found -> found.getDeletedAt() == null)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다."));
+	}
+
+	private static ProductDetailResponse toDetail(Product product) {
+		return new ProductDetailResponse(product.getId(), product.getName(), product.getDetail(),
+			product.getPrice(), product.getCategory());
+	}
+}
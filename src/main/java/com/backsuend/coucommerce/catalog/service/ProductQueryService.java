@@ -0,0 +1,49 @@
+package com.backsuend.coucommerce.catalog.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backsuend.coucommerce.catalog.dto.ProductDetailResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductSliceResponse;
+import com.backsuend.coucommerce.catalog.dto.ProductSummaryResponse;
+import com.backsuend.coucommerce.catalog.dto.ReviewResponse;
+import com.backsuend.coucommerce.catalog.dto.ReviewSliceResponse;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.catalog.repository.ReviewRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+
+/**
+ * @author rua
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProductQueryService {
+
+	private final ProductRepository productRepository;
+	private final ReviewRepository reviewRepository;
+
+	public ProductQueryService(ProductRepository productRepository, ReviewRepository reviewRepository) {
+		this.productRepository = productRepository;
+		this.reviewRepository = reviewRepository;
+	}
+
+	public ProductSliceResponse listByCategory(Category category, int page, int size) {
+		Slice<ProductSummaryResponse> slice = productRepository.findListedByCategory(category,
+			PageRequest.of(page, size));
+		return new ProductSliceResponse(slice.getContent(), page, slice.hasNext());
+	}
+
+	public ProductDetailResponse detail(Long productId) {
+		return productRepository.findListedDetailById(productId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다."));
+	}
+
+	public ReviewSliceResponse reviews(Long productId, int page, int size) {
+		Slice<ReviewResponse> slice = reviewRepository.findByProductId(productId, PageRequest.of(page, size));
+		return new ReviewSliceResponse(slice.getContent(), page, slice.hasNext());
+	}
+}
@@ -0,0 +1,23 @@
+package com.backsuend.coucommerce.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 컨테이너 (노드 간 캐시 무효화 채널 공용).
+ * 각 캐시는 생성 시점에 자신의 채널 리스너를 등록하고, 컨테이너는 컨텍스트 기동 후 한 연결로 구독.
+ *
+ * @author rua
+ */
+@Configuration
+public class RedisConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+}
@@ -0,0 +1,35 @@
+package com.backsuend.coucommerce.common.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(캐시 동기화/보정 등) 활성화.
+ * - taskScheduler: 기본 풀 (spring.task.scheduling.pool.size). 스케줄러 빈을 직접 등록하면 부트 기본 빈이 빠지므로
+ *   같은 설정을 읽는 빌더로 다시 만듦
+ * - shardTaskScheduler: 샤드 배치 동기화 / ID 노드 번호 임대 연장 전용. 기본 풀이 DB 보정·스냅샷 같은 긴 작업으로
+ *   밀려도 임대(TTL 30s)가 끊겨 ID 발급이 멈추지 않도록 분리
+ *
+ * @author rua
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	public static final String SHARD_SCHEDULER = "shardTaskScheduler";
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+		return builder.build();
+	}
+
+	@Bean(SHARD_SCHEDULER)
+	public ThreadPoolTaskScheduler shardTaskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+		return builder.poolSize(2)
+			.threadNamePrefix("shard-scheduling-")
+			.build();
+	}
+}
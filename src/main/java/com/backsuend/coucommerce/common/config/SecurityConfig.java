@@ -1,18 +1,32 @@
 package com.backsuend.coucommerce.common.config;
 
+import java.io.IOException;
+import java.time.Instant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.backsuend.coucommerce.auth.cache.MemberSessionStore;
+import com.backsuend.coucommerce.auth.security.SessionAuthenticationFilter;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.ErrorResponseTemplates;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
 	@Bean
-	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain filterChain(HttpSecurity http, MemberSessionStore sessionStore) throws Exception {
 		http
 			// httpBasic, csrf, formLogin, sessionManagement 비활성화
 			.httpBasic(httpBasic -> httpBasic.disable())
@@ -21,10 +35,31 @@ public class SecurityConfig {
 			.sessionManagement(sessionManagement ->
 				sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			)
-			// 모든 요청 허용
+			// 필터 단계 인증/인가 실패도 ApiResponse 형식으로 응답 (미리 직렬화한 템플릿 사용)
+			.exceptionHandling(exceptionHandling -> exceptionHandling
+				.authenticationEntryPoint((request, response, ex) ->
+					writeError(ErrorCode.UNAUTHORIZED, request, response))
+				.accessDeniedHandler((request, response, ex) ->
+					writeError(ErrorCode.ACCESS_DENIED, request, response))
+			)
+			// 세션 토큰(Authorization: Bearer) → MemberSession 주체
+			.addFilterBefore(new SessionAuthenticationFilter(sessionStore), UsernamePasswordAuthenticationFilter.class)
+			// 관리자/판매자 API 만 역할 확인, 나머지는 허용
 			.authorizeHttpRequests(authorize -> authorize
+				.requestMatchers("/api/admin/**").hasRole("ADMIN")
+				.requestMatchers("/api/sellers/**").hasRole("SELLER")
 				.anyRequest().permitAll()
 			);
 		return http.build();
 	}
+
+	private static void writeError(ErrorCode code, HttpServletRequest request, HttpServletResponse response)
+		throws IOException {
+		byte[] body = ErrorResponseTemplates.render(code, null, MDC.get("traceId"), request.getRequestURI(),
+			Instant.now());
+		response.setStatus(code.status().value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
 }
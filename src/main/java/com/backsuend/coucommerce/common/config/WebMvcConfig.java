@@ -0,0 +1,29 @@
+package com.backsuend.coucommerce.common.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.backsuend.coucommerce.common.web.ApiResponseHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author rua
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final ObjectMapper objectMapper;
+
+	public WebMvcConfig(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/** ApiResponse 는 Jackson 컨버터보다 먼저 전용 컨버터가 처리 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(0, new ApiResponseHttpMessageConverter(objectMapper));
+	}
+}
@@ -34,6 +34,13 @@ public class BusinessException extends RuntimeException {
 		this.details = details;
 	}
 
+	/** 스택 트레이스 수집 여부를 지정 (StacklessBusinessException 전용) */
+	protected BusinessException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+		this.errorCode = errorCode;
+		this.details = null;
+	}
+
 	public ErrorCode errorCode() {
 		return errorCode;
 	}
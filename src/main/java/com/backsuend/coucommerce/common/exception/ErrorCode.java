@@ -25,6 +25,10 @@ public enum ErrorCode {
 	TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "TOKEN_EXPIRED", "인증 토큰이 만료되었습니다."),
 	TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "TOKEN_INVALID", "인증 토큰이 유효하지 않습니다."),
 	ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다."),
+	SELLER_NOT_APPROVED(HttpStatus.FORBIDDEN, "SELLER_NOT_APPROVED", "승인된 판매자만 이용할 수 있습니다."),
+
+	// 402
+	PAYMENT_DECLINED(HttpStatus.PAYMENT_REQUIRED, "PAYMENT_DECLINED", "카드사에서 결제를 거절했습니다."),
 
 	// 404
 	NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND", "리소스를 찾을 수 없습니다."),
@@ -32,12 +36,25 @@ public enum ErrorCode {
 	// 409
 	CONFLICT(HttpStatus.CONFLICT, "CONFLICT", "요청이 현재 리소스 상태와 충돌합니다."),
 	DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "DATA_INTEGRITY_VIOLATION", "데이터 무결성 제약 위반입니다."),
+	ORDER_NOT_PAYABLE(HttpStatus.CONFLICT, "ORDER_NOT_PAYABLE", "결제할 수 없는 주문 상태입니다."),
+	OUT_OF_STOCK(HttpStatus.CONFLICT, "OUT_OF_STOCK", "재고가 부족한 상품이 있습니다."),
+	ORDER_NOT_COMPLETABLE(HttpStatus.CONFLICT, "ORDER_NOT_COMPLETABLE", "구매 확정할 수 없는 주문 상태입니다."),
 
 	// 415
 	UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "UNSUPPORTED_MEDIA_TYPE", "지원하지 않는 콘텐츠 타입입니다."),
 
+	// 429
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+
 	// 500
-	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "서버 내부 오류가 발생했습니다.");
+	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "서버 내부 오류가 발생했습니다."),
+
+	// 503 / 504
+	PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT_GATEWAY_UNAVAILABLE",
+		"카드사 결제 서비스를 일시적으로 사용할 수 없습니다."),
+	SHARD_MIGRATING(HttpStatus.SERVICE_UNAVAILABLE, "SHARD_MIGRATING", "데이터 이전 중입니다. 잠시 후 다시 시도해 주세요."),
+	SHARD_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SHARD_UNAVAILABLE", "일부 저장소가 응답하지 않습니다."),
+	PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PAYMENT_GATEWAY_TIMEOUT", "카드사 응답 시간이 초과되었습니다.");
 
 	private final HttpStatus status;
 	private final String code;
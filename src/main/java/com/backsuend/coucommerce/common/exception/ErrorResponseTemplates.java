@@ -0,0 +1,99 @@
+package com.backsuend.coucommerce.common.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.backsuend.coucommerce.common.web.IsoInstantEncoder;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * 상세 정보(errors)가 없는 오류 응답을 ErrorCode 별로 미리 직렬화해 둔 바이트 템플릿.
+ * 요청마다 바뀌는 message(기본 메시지가 아닐 때만)/traceId/path/timestamp 만 이어 붙임.
+ *
+ * <pre>
+ * {"success":false,"status":400,"message":"INVALID_INPUT",
+ *  "data":{"code":"INVALID_INPUT","message":"...","traceId":..,"path":..,"errors":null},
+ *  "timestamp":"..."}
+ * </pre>
+ * 출력은 ApiResponse&lt;ApiErrorPayload&gt; 를 Jackson 으로 직렬화한 결과와 동일.
+ *
+ * @author rua
+ */
+public final class ErrorResponseTemplates {
+
+	private static final byte[] TRACE_ID = ascii(",\"traceId\":");
+	private static final byte[] PATH = ascii(",\"path\":");
+	private static final byte[] ERRORS_AND_TIMESTAMP = ascii(",\"errors\":null},\"timestamp\":\"");
+	private static final byte[] TAIL = ascii("\"}");
+	private static final byte[] NULL = ascii("null");
+
+	private static final Map<ErrorCode, Template> TEMPLATES = new EnumMap<>(ErrorCode.class);
+
+	static {
+		for (ErrorCode code : ErrorCode.values()) {
+			byte[] head = utf8("{\"success\":false,\"status\":" + code.status().value()
+				+ ",\"message\":\"" + code.code() + "\",\"data\":{\"code\":\"" + code.code() + "\",\"message\":");
+			TEMPLATES.put(code, new Template(head, quote(code.defaultMessage()), code.defaultMessage()));
+		}
+	}
+
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[512]);
+
+	private ErrorResponseTemplates() {
+	}
+
+	public static byte[] render(ErrorCode code, String message, String traceId, String path, Instant timestamp) {
+		Template template = TEMPLATES.get(code);
+		byte[] messageBytes = message == null || message.equals(template.defaultMessage)
+			? template.defaultMessageJson : quote(message);
+		byte[] traceIdBytes = traceId != null ? quote(traceId) : NULL;
+		byte[] pathBytes = path != null ? quote(path) : NULL;
+
+		int length = template.head.length + messageBytes.length + TRACE_ID.length + traceIdBytes.length
+			+ PATH.length + pathBytes.length + ERRORS_AND_TIMESTAMP.length + IsoInstantEncoder.MAX_LENGTH + TAIL.length;
+		byte[] buffer = SCRATCH.get();
+		if (buffer.length < length) {
+			buffer = new byte[Math.max(length, buffer.length << 1)];
+			SCRATCH.set(buffer);
+		}
+
+		int p = put(buffer, 0, template.head);
+		p = put(buffer, p, messageBytes);
+		p = put(buffer, p, TRACE_ID);
+		p = put(buffer, p, traceIdBytes);
+		p = put(buffer, p, PATH);
+		p = put(buffer, p, pathBytes);
+		p = put(buffer, p, ERRORS_AND_TIMESTAMP);
+		p += IsoInstantEncoder.encode(timestamp, buffer, p);
+		p = put(buffer, p, TAIL);
+		return Arrays.copyOf(buffer, p);
+	}
+
+	private static int put(byte[] buffer, int p, byte[] chunk) {
+		System.arraycopy(chunk, 0, buffer, p, chunk.length);
+		return p + chunk.length;
+	}
+
+	private static byte[] quote(String value) {
+		byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+		byte[] quoted = new byte[escaped.length + 2];
+		quoted[0] = '"';
+		System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+		quoted[quoted.length - 1] = '"';
+		return quoted;
+	}
+
+	private static byte[] utf8(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private record Template(byte[] head, byte[] defaultMessageJson, String defaultMessage) {
+	}
+}
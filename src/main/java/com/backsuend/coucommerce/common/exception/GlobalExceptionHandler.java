@@ -1,5 +1,6 @@
 package com.backsuend.coucommerce.common.exception;
 
+import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -10,6 +11,7 @@ import jakarta.validation.ConstraintViolationException;
 
 import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -35,7 +37,7 @@ public class GlobalExceptionHandler {
 
 	/* ======= BusinessException ======= */
 	@ExceptionHandler(BusinessException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleBusiness(
+	public ResponseEntity<?> handleBusiness(
 		BusinessException ex, HttpServletRequest req) {
 
 		ErrorCode code = ex.errorCode();
@@ -44,7 +46,7 @@ public class GlobalExceptionHandler {
 
 	/* ======= Validation (@Valid/@Validated) ======= */
 	@ExceptionHandler(MethodArgumentNotValidException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleMethodArgumentNotValid(
+	public ResponseEntity<?> handleMethodArgumentNotValid(
 		MethodArgumentNotValidException ex, HttpServletRequest req) {
 
 		Map<String, String> fieldErrors = new LinkedHashMap<>();
@@ -55,7 +57,7 @@ public class GlobalExceptionHandler {
 	}
 
 	@ExceptionHandler(ConstraintViolationException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleConstraintViolation(
+	public ResponseEntity<?> handleConstraintViolation(
 		ConstraintViolationException ex, HttpServletRequest req) {
 
 		Map<String, String> paramErrors = new LinkedHashMap<>();
@@ -67,7 +69,7 @@ public class GlobalExceptionHandler {
 
 	/* ======= HTTP 스펙 관련 ======= */
 	@ExceptionHandler(MissingServletRequestParameterException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleMissingParam(
+	public ResponseEntity<?> handleMissingParam(
 		MissingServletRequestParameterException ex, HttpServletRequest req) {
 
 		Map<String, String> detail = Map.of(ex.getParameterName(), "required");
@@ -75,21 +77,21 @@ public class GlobalExceptionHandler {
 	}
 
 	@ExceptionHandler(HttpMessageNotReadableException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleNotReadable(
+	public ResponseEntity<?> handleNotReadable(
 		HttpMessageNotReadableException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.PAYLOAD_MALFORMED, "유효하지 않은 JSON 본문입니다.", null, req);
 	}
 
 	@ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleMethodNotAllowed(
+	public ResponseEntity<?> handleMethodNotAllowed(
 		HttpRequestMethodNotSupportedException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.METHOD_NOT_ALLOWED, ex.getMessage(), null, req);
 	}
 
 	@ExceptionHandler(HttpMediaTypeNotSupportedException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleUnsupportedMediaType(
+	public ResponseEntity<?> handleUnsupportedMediaType(
 		HttpMediaTypeNotSupportedException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.UNSUPPORTED_MEDIA_TYPE, ex.getMessage(), null, req);
@@ -97,7 +99,7 @@ public class GlobalExceptionHandler {
 
 	/* ======= 보안 관련 ======= */
 	@ExceptionHandler(AccessDeniedException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleAccessDenied(
+	public ResponseEntity<?> handleAccessDenied(
 		AccessDeniedException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.ACCESS_DENIED, ex.getMessage(), null, req);
@@ -105,14 +107,14 @@ public class GlobalExceptionHandler {
 
 	/* ======= 데이터/리소스 ======= */
 	@ExceptionHandler({NoSuchElementException.class})
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleNotFound(
+	public ResponseEntity<?> handleNotFound(
 		RuntimeException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.NOT_FOUND, ex.getMessage(), null, req);
 	}
 
 	@ExceptionHandler(DataIntegrityViolationException.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleDataIntegrity(
+	public ResponseEntity<?> handleDataIntegrity(
 		DataIntegrityViolationException ex, HttpServletRequest req) {
 
 		return build(ErrorCode.DATA_INTEGRITY_VIOLATION, "데이터 제약조건 위반", null, req);
@@ -120,19 +122,27 @@ public class GlobalExceptionHandler {
 
 	/* ======= Fallback ======= */
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<ApiResponse<ApiErrorPayload>> handleUnknown(
+	public ResponseEntity<?> handleUnknown(
 		Exception ex, HttpServletRequest req) {
 
 		return build(ErrorCode.INTERNAL_ERROR, "예상치 못한 오류가 발생했습니다.", null, req);
 	}
 
 	/* ======= 공통 빌더 ======= */
-	private ResponseEntity<ApiResponse<ApiErrorPayload>> build(
+	private ResponseEntity<?> build(
 		ErrorCode code, String message, Object errors, HttpServletRequest req) {
 
 		String traceId = safe(MDC.get("traceId"));         // 로깅 필터에서 넣어두면 추적 가능
 		String path = req != null ? req.getRequestURI() : null;
 
+		// Fast path: 상세 정보가 없는 오류는 ErrorCode 별로 미리 직렬화한 템플릿에 가변 값만 이어 붙여 반환
+		if (errors == null) {
+			byte[] body = ErrorResponseTemplates.render(code, message, traceId, path, Instant.now());
+			return ResponseEntity.status(code.status())
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body);
+		}
+
 		ApiErrorPayload payload = new ApiErrorPayload(
 			code.code(),
 			message != null ? message : code.defaultMessage(),
@@ -0,0 +1,32 @@
+package com.backsuend.coucommerce.common.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 스택 트레이스를 수집하지 않는 BusinessException.
+ * - 인증 실패, 요청 폭주 거절처럼 대량으로 발생하고 호출 위치가 의미 없는 예외에 사용
+ * - fillInStackTrace 비용(스택 워킹)이 없어 오류 폭주 시에도 정상 응답 수준의 비용
+ * - 메시지/상세가 없는 경우 {@link #of(ErrorCode)} 로 ErrorCode 별 공유 인스턴스를 재사용
+ *
+ * @author rua
+ */
+public class StacklessBusinessException extends BusinessException {
+
+	private static final Map<ErrorCode, StacklessBusinessException> SHARED = new EnumMap<>(ErrorCode.class);
+
+	static {
+		for (ErrorCode code : ErrorCode.values()) {
+			SHARED.put(code, new StacklessBusinessException(code, code.defaultMessage()));
+		}
+	}
+
+	public StacklessBusinessException(ErrorCode errorCode, String message) {
+		super(errorCode, message, false);
+	}
+
+	/** 기본 메시지를 쓰는 공유 인스턴스 (불변, 스레드 안전) */
+	public static StacklessBusinessException of(ErrorCode errorCode) {
+		return SHARED.get(errorCode);
+	}
+}
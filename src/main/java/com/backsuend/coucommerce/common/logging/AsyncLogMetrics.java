@@ -0,0 +1,55 @@
+package com.backsuend.coucommerce.common.logging;
+
+import java.util.Iterator;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 비동기 로그 큐 지표 (actuator /metrics)
+ * - logging.async.dropped        : 버려진 로그 이벤트 누적 수
+ * - logging.async.queue.remaining: 큐 잔여 용량 (0 에 가까우면 출력이 유입을 못 따라가는 상태)
+ *
+ * @author rua
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("logging.async.dropped", MeteredAsyncAppender.class,
+			ignored -> MeteredAsyncAppender.droppedCount())
+			.description("비동기 로그 큐 포화로 버려진 이벤트 수")
+			.register(registry);
+
+		MeteredAsyncAppender appender = findAppender();
+		if (appender != null) {
+			Gauge.builder("logging.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+				.description("비동기 로그 큐 잔여 용량")
+				.register(registry);
+		}
+	}
+
+	private static MeteredAsyncAppender findAppender() {
+		if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+			return null;
+		}
+		Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		Iterator<Appender<ILoggingEvent>> appenders = root.iteratorForAppenders();
+		while (appenders.hasNext()) {
+			if (appenders.next() instanceof MeteredAsyncAppender appender) {
+				return appender;
+			}
+		}
+		return null;
+	}
+}
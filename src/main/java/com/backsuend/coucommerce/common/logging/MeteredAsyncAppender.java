@@ -0,0 +1,37 @@
+package com.backsuend.coucommerce.common.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 드롭 건수를 집계하는 비동기 Appender.
+ * 요청 스레드는 로그 이벤트를 고정 크기 큐에 넣기만 하고 실제 출력(콘솔/디스크 I/O)은 워커 스레드가 수행.
+ * neverBlock=true 이면 큐가 가득 찼을 때 대기하지 않고 버리며, 버린 건수는 {@link #droppedCount()} 로 노출.
+ *
+ * @author rua
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+	private static final LongAdder DROPPED = new LongAdder();
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		int remaining = getRemainingCapacity();
+		if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+			// 큐 여유가 임계치 아래면 INFO 이하 이벤트는 버림 (WARN/ERROR 는 유지)
+			DROPPED.increment();
+			return;
+		}
+		if (remaining == 0 && isNeverBlock()) {
+			// 가득 찬 큐에 대한 offer 는 실패하고 버려짐
+			DROPPED.increment();
+		}
+		super.append(event);
+	}
+
+	public static long droppedCount() {
+		return DROPPED.sum();
+	}
+}
@@ -0,0 +1,214 @@
+package com.backsuend.coucommerce.common.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 여러 스레드가 동시에 보내는 작은 Redis 명령을 모아 한 번의 파이프라인 왕복으로 실행.
+ * - 첫 명령이 들어오면 flush-window 뒤에 전송, 그 사이 들어온 명령은 같은 파이프라인에 합류
+ * - max-batch-size 에 도달하면 창을 기다리지 않고 즉시 전송
+ * - 파이프라인은 flush 풀에서 실행되어 여러 배치가 동시에 왕복 중일 수 있음
+ * - 결과 future 는 flush 스레드에서 완료되므로, 무거운 후속 처리는 호출 측 스레드에서 join 후 수행
+ * - 실패는 명령 단위로 격리: 한 명령의 오류(WRONGTYPE 등)나 등록 중 예외는 그 명령의 future 만 실패시키고,
+ *   명령별 결과를 알 수 없는 파이프라인 오류면 남은 명령을 하나씩 다시 실행. 연결 장애만 배치 전체를 실패 처리
+ * - 현재 사용처는 주문 만료 스케줄러. 카탈로그/장바구니 조회는 인메모리 캐시와 DB 로 처리되어
+ *   요청당 Redis 명령이 없으므로 묶을 대상이 없음
+ *
+ * <pre>
+ * 예) 상품 N개 캐시 조회: N번 get(...) 후 모두 join → 요청 수와 무관하게 대부분 1~2회 왕복
+ * </pre>
+ *
+ * @author rua
+ */
+@Component
+public class RedisCommandBatcher implements DisposableBean {
+
+	private final StringRedisTemplate redis;
+	private final long flushWindowMicros;
+	private final int maxBatchSize;
+	private final DistributionSummary batchSizes;
+
+	private final ConcurrentLinkedQueue<Pending<?>> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final ScheduledExecutorService timer;
+	private final ExecutorService flushers;
+
+	public RedisCommandBatcher(StringRedisTemplate redis, MeterRegistry meterRegistry,
+		@Value("${redis.batcher.flush-window-micros:200}") long flushWindowMicros,
+		@Value("${redis.batcher.max-batch-size:128}") int maxBatchSize,
+		@Value("${redis.batcher.flush-threads:4}") int flushThreads) {
+		this.redis = redis;
+		this.flushWindowMicros = flushWindowMicros;
+		this.maxBatchSize = maxBatchSize;
+		this.batchSizes = DistributionSummary.builder("redis.batcher.batch.size")
+			.description("파이프라인 한 번에 묶인 명령 수")
+			.register(meterRegistry);
+		this.timer = Executors.newSingleThreadScheduledExecutor(daemon("redis-batcher-timer"));
+		this.flushers = Executors.newFixedThreadPool(flushThreads, daemon("redis-batcher-flush"));
+	}
+
+	public CompletableFuture<String> get(String key) {
+		return submit(conn -> conn.get(key));
+	}
+
+	public CompletableFuture<String> hGet(String key, String field) {
+		return submit(conn -> conn.hGet(key, field));
+	}
+
+	public CompletableFuture<Map<String, String>> hGetAll(String key) {
+		return submit(conn -> conn.hGetAll(key));
+	}
+
+	/**
+	 * 임의 명령 등록. command 는 정확히 하나의 Redis 명령만 보내야 함 (결과를 순서로 짝지음).
+	 * 결과 타입은 StringRedisConnection 파이프라인 결과 타입 그대로.
+	 */
+	public <T> CompletableFuture<T> submit(Consumer<StringRedisConnection> command) {
+		Pending<T> pending = new Pending<>(command);
+		queue.add(pending);
+		if (queued.incrementAndGet() >= maxBatchSize) {
+			flushers.execute(this::flush);
+		} else if (flushScheduled.compareAndSet(false, true)) {
+			timer.schedule(this::onWindowElapsed, flushWindowMicros, TimeUnit.MICROSECONDS);
+		}
+		return pending.future;
+	}
+
+	private void onWindowElapsed() {
+		flushScheduled.set(false);
+		flushers.execute(this::flush);
+	}
+
+	private void flush() {
+		List<Pending<?>> batch = new ArrayList<>(Math.min(queued.get(), maxBatchSize));
+		Pending<?> next;
+		while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+			batch.add(next);
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		queued.addAndGet(-batch.size());
+		// 꺼내는 동안 들어온 명령이 남아 있으면 다음 창 예약
+		if (queued.get() > 0 && flushScheduled.compareAndSet(false, true)) {
+			timer.schedule(this::onWindowElapsed, flushWindowMicros, TimeUnit.MICROSECONDS);
+		}
+
+		batchSizes.record(batch.size());
+		List<Pending<?>> sent = new ArrayList<>(batch.size());
+		try {
+			List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				for (Pending<?> pending : batch) {
+					try {
+						pending.command.accept(conn);
+						sent.add(pending);
+					} catch (RuntimeException ex) {
+						// 보내지 못한 명령은 결과 슬롯이 없으므로 짝짓기에서 제외
+						pending.future.completeExceptionally(ex);
+					}
+				}
+				return null;
+			});
+			completeInOrder(sent, results);
+		} catch (RedisPipelineException ex) {
+			// 명령 오류: 결과 목록에 명령별 값/예외가 순서대로 담겨 옴
+			if (ex.getResults().size() == sent.size()) {
+				completeInOrder(sent, ex.getResults());
+			} else {
+				for (Pending<?> pending : batch) {
+					if (!pending.future.isDone()) {
+						executeAlone(pending);
+					}
+				}
+			}
+		} catch (RuntimeException ex) {
+			// 연결 장애 - 하나씩 다시 보내도 같은 오류만 늘어나므로 남은 명령을 모두 실패 처리
+			for (Pending<?> pending : batch) {
+				pending.future.completeExceptionally(ex);
+			}
+		}
+	}
+
+	private static void completeInOrder(List<Pending<?>> sent, List<Object> results) {
+		for (int i = 0; i < sent.size(); i++) {
+			Object result = i < results.size() ? results.get(i) : null;
+			if (result instanceof Throwable error) {
+				sent.get(i).future.completeExceptionally(error);
+			} else {
+				sent.get(i).complete(result);
+			}
+		}
+	}
+
+	private void executeAlone(Pending<?> pending) {
+		try {
+			List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+				pending.command.accept((StringRedisConnection)connection);
+				return null;
+			});
+			completeInOrder(List.of(pending), results);
+		} catch (RedisPipelineException ex) {
+			if (ex.getResults().size() == 1) {
+				completeInOrder(List.of(pending), ex.getResults());
+			} else {
+				pending.future.completeExceptionally(ex);
+			}
+		} catch (RuntimeException ex) {
+			pending.future.completeExceptionally(ex);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		timer.shutdownNow();
+		flushers.shutdown();
+	}
+
+	private static ThreadFactory daemon(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return task -> {
+			Thread thread = new Thread(task, prefix + "-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static final class Pending<T> {
+
+		final Consumer<StringRedisConnection> command;
+		final CompletableFuture<T> future = new CompletableFuture<>();
+
+		Pending(Consumer<StringRedisConnection> command) {
+			this.command = command;
+		}
+
+		@SuppressWarnings("unchecked")
+		void complete(Object result) {
+			future.complete((T)result);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.backsuend.coucommerce.common.redis;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * actuator /actuator/health 의 redis 항목.
+ * PING + SET(EX) + GET + TTL 을 한 번의 파이프라인 왕복으로 확인하고 왕복 시간을 함께 보고.
+ * 커넥션은 템플릿이 풀에서 빌려 반납 (직접 getConnection() 하지 않음).
+ * 빈 이름이 redisHealthContributor 라 Spring Boot 기본 Redis 헬스 인디케이터를 대체함.
+ *
+ * @author rua
+ */
+@Component("redisHealthContributor")
+public class RedisRoundTripHealthIndicator extends AbstractHealthIndicator {
+
+	private static final long TTL_SECONDS = 30;
+
+	private final StringRedisTemplate redis;
+	/** 노드별 고정 키 - 헬스 체크마다 키가 쌓이지 않고 TTL 로 정리됨 */
+	private final String key = "health:" + UUID.randomUUID();
+
+	public RedisRoundTripHealthIndicator(StringRedisTemplate redis) {
+		super("Redis health check failed");
+		this.redis = redis;
+	}
+
+	@Override
+	protected void doHealthCheck(Health.Builder builder) {
+		String token = Long.toString(System.nanoTime());
+		long started = System.nanoTime();
+		List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection conn = (StringRedisConnection)connection;
+			conn.ping();
+			conn.set(key, token, Expiration.seconds(TTL_SECONDS), SetOption.upsert());
+			conn.get(key);
+			conn.ttl(key);
+			return null;
+		});
+		long roundTripMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+
+		boolean readBack = token.equals(results.get(2));
+		Object ttl = results.get(3);
+		boolean expiring = ttl instanceof Long seconds && seconds > 0;
+		if ("PONG".equals(results.get(0)) && readBack && expiring) {
+			builder.up();
+		} else {
+			builder.down();
+		}
+		builder.withDetail("roundTripMicros", roundTripMicros)
+			.withDetail("readBack", readBack)
+			.withDetail("ttlSeconds", ttl);
+	}
+}
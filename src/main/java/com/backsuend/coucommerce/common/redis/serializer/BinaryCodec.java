@@ -0,0 +1,23 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+/**
+ * 캐시 DTO 하나의 바이너리 스키마.
+ * - 필드를 추가/변경하면 version() 을 올리고, read 에서 이전 버전 포맷도 계속 해석할 것
+ *   (롤링 배포 중 구버전 노드가 쓴 값이 Redis 에 남아 있기 때문)
+ *
+ * @author rua
+ */
+public interface BinaryCodec<T> {
+
+	/** 현재 쓰기 스키마 버전 (1부터) */
+	int version();
+
+	/** 직렬화 크기 예상치 - 버퍼 재할당을 줄이기 위한 힌트 */
+	default int sizeHint(T value) {
+		return 64;
+	}
+
+	void write(T value, BinaryWriter out);
+
+	T read(BinaryReader in, int version);
+}
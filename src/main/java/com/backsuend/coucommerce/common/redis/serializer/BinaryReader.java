@@ -0,0 +1,103 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * {@link BinaryWriter} 로 기록한 바이트를 같은 순서로 읽음.
+ *
+ * @author rua
+ */
+public final class BinaryReader {
+
+	private final byte[] buffer;
+	private final int limit;
+	private int position;
+
+	public BinaryReader(byte[] buffer, int offset, int length) {
+		this.buffer = buffer;
+		this.position = offset;
+		this.limit = offset + length;
+	}
+
+	public boolean readBoolean() {
+		return readByte() != 0;
+	}
+
+	public int readByte() {
+		require(1);
+		return buffer[position++] & 0xFF;
+	}
+
+	public int readInt() {
+		int raw = (int)readUnsignedVarLong();
+		return (raw >>> 1) ^ -(raw & 1);
+	}
+
+	public long readLong() {
+		long raw = readUnsignedVarLong();
+		return (raw >>> 1) ^ -(raw & 1);
+	}
+
+	public int readUnsignedVarInt() {
+		return (int)readUnsignedVarLong();
+	}
+
+	public long readUnsignedVarLong() {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			result |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new SerializationException("varint 형식이 올바르지 않습니다.");
+	}
+
+	public <E extends Enum<E>> E readEnum(E[] values) {
+		int tag = readUnsignedVarInt();
+		if (tag == 0) {
+			return null;
+		}
+		if (tag < 0 || tag > values.length) {
+			throw new SerializationException("알 수 없는 enum ordinal: " + (tag - 1));
+		}
+		return values[tag - 1];
+	}
+
+	/**
+	 * 컬렉션 원소 수. 원소마다 최소 minElementSize 바이트를 차지하므로 남은 입력으로 담을 수 없는 값은
+	 * 할당 전에 손상된 데이터로 거부
+	 */
+	public int readCount(int minElementSize) {
+		int count = readUnsignedVarInt();
+		if (count < 0 || (long)count * minElementSize > remaining()) {
+			throw new SerializationException("잘못된 원소 수: " + count);
+		}
+		return count;
+	}
+
+	public String readString() {
+		int tag = readUnsignedVarInt();
+		if (tag == 0) {
+			return null;
+		}
+		int length = tag - 1;
+		require(length);
+		String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+		position += length;
+		return value;
+	}
+
+	public int remaining() {
+		return limit - position;
+	}
+
+	private void require(int length) {
+		if (length < 0 || length > limit - position) {
+			throw new SerializationException("직렬화 데이터가 잘렸습니다.");
+		}
+	}
+}
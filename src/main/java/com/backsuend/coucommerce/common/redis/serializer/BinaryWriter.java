@@ -0,0 +1,98 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 캐시 DTO 직렬화용 가변 길이 바이트 버퍼.
+ * - 정수는 ZigZag + varint (작은 값은 1~2바이트)
+ * - enum 은 ordinal varint (enum 상수는 끝에만 추가할 것. 순서 변경 시 codec 버전 올림)
+ * - 문자열은 (길이 + 1) varint + UTF-8, null 은 0
+ *
+ * @author rua
+ */
+public final class BinaryWriter {
+
+	private byte[] buffer;
+	private int position;
+
+	public BinaryWriter(int initialCapacity) {
+		this.buffer = new byte[Math.max(initialCapacity, 16)];
+	}
+
+	public BinaryWriter writeBoolean(boolean value) {
+		ensure(1);
+		buffer[position++] = (byte)(value ? 1 : 0);
+		return this;
+	}
+
+	public BinaryWriter writeByte(int value) {
+		ensure(1);
+		buffer[position++] = (byte)value;
+		return this;
+	}
+
+	/** ZigZag varint (부호 있는 int) */
+	public BinaryWriter writeInt(int value) {
+		return writeUnsignedVarLong(Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+	}
+
+	/** ZigZag varint (부호 있는 long) */
+	public BinaryWriter writeLong(long value) {
+		return writeUnsignedVarLong((value << 1) ^ (value >> 63));
+	}
+
+	public BinaryWriter writeUnsignedVarInt(int value) {
+		return writeUnsignedVarLong(Integer.toUnsignedLong(value));
+	}
+
+	public BinaryWriter writeUnsignedVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte)value;
+		return this;
+	}
+
+	public BinaryWriter writeEnum(Enum<?> value) {
+		// null 은 0, 그 외는 ordinal + 1
+		return writeUnsignedVarInt(value == null ? 0 : value.ordinal() + 1);
+	}
+
+	public BinaryWriter writeString(String value) {
+		if (value == null) {
+			return writeUnsignedVarInt(0);
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeUnsignedVarInt(bytes.length + 1);
+		return writeBytes(bytes, 0, bytes.length);
+	}
+
+	public BinaryWriter writeBytes(byte[] bytes, int offset, int length) {
+		ensure(length);
+		System.arraycopy(bytes, offset, buffer, position, length);
+		position += length;
+		return this;
+	}
+
+	public int size() {
+		return position;
+	}
+
+	/** 내부 버퍼 (유효 길이는 size()) - 복사 없이 압축기에 넘길 때 사용 */
+	byte[] buffer() {
+		return buffer;
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, position);
+	}
+
+	private void ensure(int extra) {
+		if (position + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + extra));
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 스키마 버전이 붙은 컴팩트 바이너리 RedisSerializer.
+ *
+ * <pre>
+ * [header 1B][schema version varint][payload]
+ * header  : 상위 4비트 매직(0xB), 하위 비트 플래그 (0x01 = LZ4 압축)
+ * payload : 비압축이면 codec 출력 그대로,
+ *           압축이면 [원본 길이 varint][LZ4 블록]
+ * </pre>
+ * 직렬화 결과가 compressionThreshold 이상일 때만 압축하며, 압축해도 작아지지 않으면 원본을 저장.
+ * 캐시 경로에서 쓸 때는 해당 DTO 의 codec 으로 RedisTemplate 을 직접 구성 (예: 로그인 세션 저장소).
+ *
+ * @author rua
+ */
+public class CompactBinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+
+	private static final int MAGIC = 0xB0;
+	private static final int MAGIC_MASK = 0xF0;
+	private static final int FLAG_LZ4 = 0x01;
+	/** 압축 해제 크기 상한 - 캐시 값은 이보다 훨씬 작으므로 넘으면 손상/위조된 길이로 봄 */
+	static final int MAX_RAW_LENGTH = 16 * 1024 * 1024;
+	/** LZ4 블록의 최대 압축률 (리터럴 없는 최장 매치 기준 약 255:1) */
+	private static final int LZ4_MAX_RATIO = 255;
+
+	private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+	private final BinaryCodec<T> codec;
+	private final int compressionThreshold;
+	private final LZ4Compressor compressor = LZ4.fastCompressor();
+	private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+	public CompactBinaryRedisSerializer(BinaryCodec<T> codec) {
+		this(codec, DEFAULT_COMPRESSION_THRESHOLD);
+	}
+
+	public CompactBinaryRedisSerializer(BinaryCodec<T> codec, int compressionThreshold) {
+		this.codec = codec;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public byte[] serialize(T value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+		BinaryWriter body = new BinaryWriter(codec.sizeHint(value));
+		codec.write(value, body);
+
+		if (body.size() >= compressionThreshold) {
+			byte[] compressed = compress(body);
+			if (compressed != null) {
+				return compressed;
+			}
+		}
+		BinaryWriter out = new BinaryWriter(body.size() + 6);
+		out.writeByte(MAGIC);
+		out.writeUnsignedVarInt(codec.version());
+		out.writeBytes(body.buffer(), 0, body.size());
+		return out.toByteArray();
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		BinaryReader header = new BinaryReader(bytes, 0, bytes.length);
+		int flags = header.readByte();
+		if ((flags & MAGIC_MASK) != MAGIC) {
+			throw new SerializationException("컴팩트 바이너리 포맷이 아닙니다.");
+		}
+		int version = header.readUnsignedVarInt();
+		if (version > codec.version()) {
+			throw new SerializationException("지원하지 않는 스키마 버전: " + version);
+		}
+
+		if ((flags & FLAG_LZ4) == 0) {
+			int offset = bytes.length - header.remaining();
+			return codec.read(new BinaryReader(bytes, offset, header.remaining()), version);
+		}
+
+		int rawLength = header.readUnsignedVarInt();
+		int compressedLength = header.remaining();
+		// 길이 접두사는 신뢰할 수 없는 입력 → 할당 전에 상한과 남은 압축 바이트로 가능한 최대 크기를 검증
+		if (rawLength <= 0 || rawLength > MAX_RAW_LENGTH || rawLength > (long)compressedLength * LZ4_MAX_RATIO) {
+			throw new SerializationException("잘못된 원본 길이: " + rawLength + " (압축 " + compressedLength + "B)");
+		}
+		int offset = bytes.length - compressedLength;
+		byte[] raw = new byte[rawLength];
+		try {
+			decompressor.decompress(bytes, offset, raw, 0, rawLength);
+		} catch (RuntimeException ex) {
+			throw new SerializationException("LZ4 압축 해제 실패", ex);
+		}
+		return codec.read(new BinaryReader(raw, 0, rawLength), version);
+	}
+
+	private byte[] compress(BinaryWriter body) {
+		int rawLength = body.size();
+		int maxLength = compressor.maxCompressedLength(rawLength);
+		BinaryWriter out = new BinaryWriter(maxLength + 12);
+		out.writeByte(MAGIC | FLAG_LZ4);
+		out.writeUnsignedVarInt(codec.version());
+		out.writeUnsignedVarInt(rawLength);
+		int headerLength = out.size();
+		if (headerLength + maxLength > out.buffer().length) {
+			return null;
+		}
+
+		int compressedLength = compressor.compress(body.buffer(), 0, rawLength, out.buffer(), headerLength, maxLength);
+		if (compressedLength >= rawLength) {
+			return null;
+		}
+		byte[] result = new byte[headerLength + compressedLength];
+		System.arraycopy(out.buffer(), 0, result, 0, result.length);
+		return result;
+	}
+}
@@ -0,0 +1,107 @@
+package com.backsuend.coucommerce.common.trace;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.MDC;
+
+/**
+ * 현재 스레드의 추적 ID(MDC "traceId") 접근 및 다른 스레드로의 전파 도우미.
+ * - Spring 관리 실행기(@Async, 결제 콜백 풀 등)는 {@link TraceTaskDecorator} 로 자동 전파
+ * - 직접 만든 실행기/CompletableFuture 는 wrap(...) 으로 감싸서 전파
+ * - CompletableFuture 후속 작업(thenApplyAsync/handleAsync)은 실행기 데코레이터가 완료 스레드의 MDC 를
+ *   잡으므로 요청 스레드에서 wrapFunction/wrapBiFunction 으로 감싸서 넘김
+ *
+ * @author rua
+ */
+public final class TraceContext {
+
+	public static final String MDC_KEY = "traceId";
+	public static final String HEADER = "X-Trace-Id";
+
+	private TraceContext() {
+	}
+
+	public static String current() {
+		return MDC.get(MDC_KEY);
+	}
+
+	public static Runnable wrap(Runnable task) {
+		String traceId = current();
+		if (traceId == null) {
+			return task;
+		}
+		return () -> {
+			String previous = MDC.get(MDC_KEY);
+			MDC.put(MDC_KEY, traceId);
+			try {
+				task.run();
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+
+	public static <V> Callable<V> wrap(Callable<V> task) {
+		String traceId = current();
+		if (traceId == null) {
+			return task;
+		}
+		return () -> {
+			String previous = MDC.get(MDC_KEY);
+			MDC.put(MDC_KEY, traceId);
+			try {
+				return task.call();
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+
+	public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+		String traceId = current();
+		if (traceId == null) {
+			return function;
+		}
+		return value -> {
+			String previous = MDC.get(MDC_KEY);
+			MDC.put(MDC_KEY, traceId);
+			try {
+				return function.apply(value);
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+
+	public static <T, U, R> BiFunction<T, U, R> wrapBiFunction(BiFunction<T, U, R> function) {
+		String traceId = current();
+		if (traceId == null) {
+			return function;
+		}
+		return (first, second) -> {
+			String previous = MDC.get(MDC_KEY);
+			MDC.put(MDC_KEY, traceId);
+			try {
+				return function.apply(first, second);
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+
+	/** 제출 시점의 추적 ID 를 실행 스레드로 넘기는 Executor 래퍼 */
+	public static Executor wrap(Executor executor) {
+		return task -> executor.execute(wrap(task));
+	}
+
+	private static void restore(String previous) {
+		if (previous == null) {
+			MDC.remove(MDC_KEY);
+		} else {
+			MDC.put(MDC_KEY, previous);
+		}
+	}
+}
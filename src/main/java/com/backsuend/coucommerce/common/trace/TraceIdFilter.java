@@ -0,0 +1,67 @@
+package com.backsuend.coucommerce.common.trace;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 추적 ID 를 MDC 에 넣고 응답 헤더(X-Trace-Id)로 돌려줌.
+ * - 상위(게이트웨이/LB)가 보낸 X-Trace-Id 가 형식에 맞으면 그대로 이어서 사용
+ * - 비동기 디스패치(CompletableFuture 반환 컨트롤러 등)에서도 같은 ID 를 다시 MDC 에 복원
+ *
+ * @author rua
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+
+	private static final String ATTRIBUTE = TraceIdFilter.class.getName() + ".traceId";
+	private static final int MAX_INBOUND_LENGTH = 64;
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+
+		String traceId = (String)request.getAttribute(ATTRIBUTE);
+		if (traceId == null) {
+			traceId = resolve(request.getHeader(TraceContext.HEADER));
+			request.setAttribute(ATTRIBUTE, traceId);
+			response.setHeader(TraceContext.HEADER, traceId);
+		}
+
+		MDC.put(TraceContext.MDC_KEY, traceId);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			MDC.remove(TraceContext.MDC_KEY);
+		}
+	}
+
+	private static String resolve(String inbound) {
+		if (inbound == null || inbound.isEmpty() || inbound.length() > MAX_INBOUND_LENGTH) {
+			return TraceIdGenerator.next();
+		}
+		for (int i = 0; i < inbound.length(); i++) {
+			char c = inbound.charAt(i);
+			boolean allowed = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+			if (!allowed) {
+				return TraceIdGenerator.next();
+			}
+		}
+		return inbound;
+	}
+}
@@ -0,0 +1,30 @@
+package com.backsuend.coucommerce.common.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 추적 ID 생성기 (16자리 소문자 hex, 64비트 난수).
+ * UUID.randomUUID() 는 공유 SecureRandom 을 거쳐 고부하에서 경합이 생기므로
+ * 스레드별 ThreadLocalRandom 으로 생성. 보안 토큰 용도로는 사용 금지.
+ *
+ * @author rua
+ */
+public final class TraceIdGenerator {
+
+	public static final int LENGTH = 16;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private TraceIdGenerator() {
+	}
+
+	public static String next() {
+		long value = ThreadLocalRandom.current().nextLong();
+		char[] chars = new char[LENGTH];
+		for (int i = LENGTH - 1; i >= 0; i--) {
+			chars[i] = HEX[(int)(value & 0xF)];
+			value >>>= 4;
+		}
+		return new String(chars);
+	}
+}
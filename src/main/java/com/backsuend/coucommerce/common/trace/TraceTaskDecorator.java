@@ -0,0 +1,21 @@
+package com.backsuend.coucommerce.common.trace;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring 실행기 작업에 추적 ID 전파.
+ * 빈으로 등록되어 있으면 Spring Boot 가 기본 applicationTaskExecutor(@Async,
+ * spring.threads.virtual.enabled 시 가상 스레드 실행기 포함)에 자동 적용.
+ * MDC 전체 복사 대신 traceId 한 개만 옮겨 작업당 오버헤드를 최소화.
+ *
+ * @author rua
+ */
+@Component
+public class TraceTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		return TraceContext.wrap(runnable);
+	}
+}
@@ -0,0 +1,103 @@
+package com.backsuend.coucommerce.common.util;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link LongLongHashMap} 의 읽기 위주 동시성 래퍼.
+ * - 조회는 StampedLock 낙관적 읽기 → 쓰기 경합이 없으면 락/CAS 없이 끝남
+ * - 낙관적 읽기 중 쓰기가 끼어들면 읽기 락으로 한 번 더 조회
+ * - 쓰기는 단일 쓰기 락 (갱신 빈도가 낮은 캐시 용도)
+ *
+ * @author rua
+ */
+public class ConcurrentLongLongMap {
+
+	private final StampedLock lock = new StampedLock();
+	private final LongLongHashMap map;
+
+	public ConcurrentLongLongMap() {
+		this(16);
+	}
+
+	public ConcurrentLongLongMap(int expectedSize) {
+		this.map = new LongLongHashMap(expectedSize);
+	}
+
+	public long get(long key, long defaultValue) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			long value = map.get(key, defaultValue);
+			if (lock.validate(stamp)) {
+				return value;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return map.get(key, defaultValue);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	public void put(long key, long value) {
+		long stamp = lock.writeLock();
+		try {
+			map.put(key, value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** 키가 없을 때만 기록하고, 기록 후 키에 들어 있는 값을 반환 (이미 있으면 기존 값) */
+	public long putIfAbsent(long key, long value) {
+		long stamp = lock.writeLock();
+		try {
+			if (map.containsKey(key)) {
+				return map.get(key, value);
+			}
+			map.put(key, value);
+			return value;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	public long remove(long key, long defaultValue) {
+		long stamp = lock.writeLock();
+		try {
+			return map.remove(key, defaultValue);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** 여러 건을 한 번의 쓰기 락으로 반영 */
+	public void putAll(long[] keys, long[] values, int length) {
+		long stamp = lock.writeLock();
+		try {
+			for (int i = 0; i < length; i++) {
+				map.put(keys[i], values[i]);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	public int size() {
+		long stamp = lock.readLock();
+		try {
+			return map.size();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			map.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+}
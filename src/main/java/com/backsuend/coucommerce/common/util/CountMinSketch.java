@@ -0,0 +1,75 @@
+package com.backsuend.coucommerce.common.util;
+
+import java.util.Arrays;
+
+/**
+ * long 키 빈도 추정용 Count-Min 스케치 (보수적 갱신). 스레드 안전하지 않음.
+ * - depth 개 행 × width 개 칸, 행마다 Murmur3 이중 해싱으로 칸 선택
+ * - 추정값 = 행별 칸의 최솟값 → 실제 빈도 이상, 초과분은 높은 확률로 전체 합 × e / width 이하
+ * - 보수적 갱신: 새 추정값보다 작은 칸만 올려 과대 추정을 줄임
+ *
+ * @author rua
+ */
+public final class CountMinSketch {
+
+	private final int depth;
+	private final int mask;
+	private final long[] table;
+	private long total;
+
+	/** width 는 2의 거듭제곱으로 올림 */
+	public CountMinSketch(int width, int depth) {
+		if (width <= 0 || depth <= 0) {
+			throw new IllegalArgumentException("width, depth > 0");
+		}
+		int columns = Integer.highestOneBit(width - 1) << 1;
+		this.depth = depth;
+		this.mask = Math.max(columns, 1) - 1;
+		this.table = new long[depth * (mask + 1)];
+	}
+
+	/** count 만큼 더하고 더한 뒤의 추정값 반환 */
+	public long add(long key, long count) {
+		long hash = Murmur3.hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, table[index(row, h1, h2)]);
+		}
+		long updated = estimate + count;
+		for (int row = 0; row < depth; row++) {
+			int i = index(row, h1, h2);
+			if (table[i] < updated) {
+				table[i] = updated;
+			}
+		}
+		total += count;
+		return updated;
+	}
+
+	public long estimate(long key) {
+		long hash = Murmur3.hash64(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, table[index(row, h1, h2)]);
+		}
+		return estimate;
+	}
+
+	/** 지금까지 더한 합 */
+	public long total() {
+		return total;
+	}
+
+	public void clear() {
+		Arrays.fill(table, 0L);
+		total = 0;
+	}
+
+	private int index(int row, int h1, int h2) {
+		return row * (mask + 1) + ((h1 + row * h2) & mask);
+	}
+}
@@ -0,0 +1,212 @@
+package com.backsuend.coucommerce.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (Varghese &amp; Lauck). 등록/취소 O(1), 틱 진행은 만료·이동 대상 수에 비례.
+ *
+ * <pre>
+ * 레벨 l 의 슬롯 하나 = tick × slots^l 구간, 휠 전체 범위 = tick × slots^levels
+ * 마감 틱 d, 현재 틱 c 일 때 d 와 c 가 처음 갈라지는 레벨에 등록
+ *   → 그 레벨 슬롯 구간의 시작 틱에 도달하면 아래 레벨로 내려가고(cascade), 레벨 0 슬롯에서 만료
+ * 범위를 넘는 항목은 overflow 목록에 두고 최상위 레벨이 한 바퀴 돌 때마다 다시 배치
+ * </pre>
+ * - 스레드 안전 (모든 연산이 휠 단위 락). 만료 항목은 {@link #advance(long)} 호출자에게 반환만 하고 실행은 호출자 몫
+ * - 마감은 틱 경계로 올림 → 마감보다 일찍 만료되지 않고, 늦어도 한 틱 안에 만료
+ * - 시간 단위는 호출자가 정함 (보통 epoch millis). 마감이 이미 지난 항목은 다음 advance 에서 바로 반환
+ *
+ * @author rua
+ */
+public final class HierarchicalTimingWheel<T> {
+
+	private final long tickDuration;
+	private final int slotBits;
+	private final int slotMask;
+	private final int levels;
+	private final Bucket<T>[][] wheel;
+	private final Bucket<T> overflow = new Bucket<>();
+	private final Bucket<T> due = new Bucket<>();
+	private long currentTick;
+	private int size;
+
+	/**
+	 * @param tickDuration 틱 길이 (시간 단위는 start/advance 인자와 같음)
+	 * @param slotsPerLevel 레벨당 슬롯 수 (2의 거듭제곱)
+	 * @param levels 레벨 수
+	 * @param start 시작 시각
+	 */
+	@SuppressWarnings("unchecked")
+	public HierarchicalTimingWheel(long tickDuration, int slotsPerLevel, int levels, long start) {
+		if (tickDuration <= 0 || levels <= 0 || Integer.bitCount(slotsPerLevel) != 1 || slotsPerLevel < 2) {
+			throw new IllegalArgumentException("tickDuration > 0, levels > 0, slotsPerLevel 은 2 이상의 2의 거듭제곱");
+		}
+		this.slotBits = Integer.numberOfTrailingZeros(slotsPerLevel);
+		if ((long)slotBits * levels >= Long.SIZE - 1) {
+			throw new IllegalArgumentException("휠 범위가 long 을 넘음");
+		}
+		this.tickDuration = tickDuration;
+		this.slotMask = slotsPerLevel - 1;
+		this.levels = levels;
+		this.wheel = new Bucket[levels][slotsPerLevel];
+		for (int level = 0; level < levels; level++) {
+			for (int slot = 0; slot < slotsPerLevel; slot++) {
+				wheel[level][slot] = new Bucket<>();
+			}
+		}
+		this.currentTick = Math.floorDiv(start, tickDuration);
+	}
+
+	/** 마감 시각에 만료될 항목 등록. 반환된 핸들로 취소 */
+	public synchronized Timeout<T> schedule(T item, long deadline) {
+		Timeout<T> timeout = new Timeout<>(this, item, deadline);
+		place(timeout);
+		size++;
+		return timeout;
+	}
+
+	/**
+	 * now 이전의 마지막 틱 경계까지 진행하며 마감이 지난 항목을 마감 순서(틱 단위)로 반환.
+	 * 오래 멈췄다 호출돼도 지나간 틱을 모두 처리하므로 누락 없음
+	 */
+	public synchronized List<T> advance(long now) {
+		List<T> expired = new ArrayList<>();
+		drainTo(due, expired);
+		long targetTick = Math.floorDiv(now, tickDuration);
+		while (currentTick < targetTick) {
+			currentTick++;
+			cascade();
+			drainTo(wheel[0][(int)(currentTick & slotMask)], expired);
+			drainTo(due, expired);
+		}
+		size -= expired.size();
+		return expired;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/** 이번 틱에 구간이 시작되는 상위 레벨 슬롯을 위에서부터 아래 레벨로 재배치 */
+	private void cascade() {
+		if ((currentTick & ((1L << slotBits * levels) - 1)) == 0) {
+			replace(overflow);
+		}
+		for (int level = levels - 1; level >= 1; level--) {
+			int shift = slotBits * level;
+			if ((currentTick & ((1L << shift) - 1)) == 0) {
+				replace(wheel[level][(int)((currentTick >>> shift) & slotMask)]);
+			}
+		}
+	}
+
+	private void replace(Bucket<T> bucket) {
+		Timeout<T> timeout = bucket.head;
+		bucket.head = null;
+		while (timeout != null) {
+			Timeout<T> next = timeout.next;
+			timeout.prev = null;
+			timeout.next = null;
+			place(timeout);
+			timeout = next;
+		}
+	}
+
+	private void place(Timeout<T> timeout) {
+		long deadlineTick = Math.ceilDiv(timeout.deadline, tickDuration);
+		if (deadlineTick <= currentTick) {
+			due.add(timeout);
+			return;
+		}
+		// d 와 c 가 갈라지는 최상위 비트가 속한 레벨
+		int highestDiff = Long.SIZE - 1 - Long.numberOfLeadingZeros(deadlineTick ^ currentTick);
+		int level = highestDiff / slotBits;
+		if (level >= levels) {
+			overflow.add(timeout);
+			return;
+		}
+		wheel[level][(int)((deadlineTick >>> slotBits * level) & slotMask)].add(timeout);
+	}
+
+	private static <T> void drainTo(Bucket<T> bucket, List<T> expired) {
+		Timeout<T> timeout = bucket.head;
+		bucket.head = null;
+		while (timeout != null) {
+			Timeout<T> next = timeout.next;
+			timeout.bucket = null;
+			timeout.prev = null;
+			timeout.next = null;
+			expired.add(timeout.item);
+			timeout = next;
+		}
+	}
+
+	private synchronized boolean cancel(Timeout<T> timeout) {
+		if (timeout.bucket == null) {
+			return false;
+		}
+		timeout.bucket.remove(timeout);
+		size--;
+		return true;
+	}
+
+	/** 등록된 타이머 핸들 */
+	public static final class Timeout<T> {
+
+		private final HierarchicalTimingWheel<T> owner;
+		private final T item;
+		private final long deadline;
+		private Bucket<T> bucket;
+		private Timeout<T> prev;
+		private Timeout<T> next;
+
+		private Timeout(HierarchicalTimingWheel<T> owner, T item, long deadline) {
+			this.owner = owner;
+			this.item = item;
+			this.deadline = deadline;
+		}
+
+		/** 아직 만료되지 않았으면 제거하고 true */
+		public boolean cancel() {
+			return owner.cancel(this);
+		}
+
+		public T item() {
+			return item;
+		}
+
+		public long deadline() {
+			return deadline;
+		}
+	}
+
+	/** 슬롯 = 이중 연결 리스트 (취소 O(1)) */
+	private static final class Bucket<T> {
+
+		private Timeout<T> head;
+
+		void add(Timeout<T> timeout) {
+			timeout.bucket = this;
+			timeout.prev = null;
+			timeout.next = head;
+			if (head != null) {
+				head.prev = timeout;
+			}
+			head = timeout;
+		}
+
+		void remove(Timeout<T> timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			}
+			timeout.bucket = null;
+			timeout.prev = null;
+			timeout.next = null;
+		}
+	}
+}
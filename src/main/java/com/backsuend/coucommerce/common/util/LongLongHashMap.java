@@ -0,0 +1,217 @@
+package com.backsuend.coucommerce.common.util;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (선형 탐사, 박싱 없음). 스레드 안전하지 않음.
+ * - 키/값을 하나의 배열에 교대로 저장 [k0, v0, k1, v1, ...] → 캐시 지역성 + 배열 참조 하나로 일관된 스냅샷
+ * - 키 0 은 빈 슬롯 표시로 쓰므로 별도 필드로 보관
+ * - 삭제는 backward-shift 방식 (tombstone 없음)
+ *
+ * @author rua
+ */
+public class LongLongHashMap {
+
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private long[] slots;
+	private int size;
+	private int resizeAt;
+
+	private boolean hasZeroKey;
+	private long zeroValue;
+
+	public LongLongHashMap() {
+		this(16);
+	}
+
+	public LongLongHashMap(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	public long get(long key, long defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		long[] table = slots;
+		int mask = (table.length >> 1) - 1;
+		int index = mix(key) & mask;
+		for (int probe = 0; probe <= mask; probe++) {
+			long current = table[index << 1];
+			if (current == key) {
+				return table[(index << 1) + 1];
+			}
+			if (current == 0) {
+				return defaultValue;
+			}
+			index = (index + 1) & mask;
+		}
+		return defaultValue;
+	}
+
+	public boolean containsKey(long key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return indexOf(key) >= 0;
+	}
+
+	public void put(long key, long value) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			zeroValue = value;
+			return;
+		}
+		int mask = (slots.length >> 1) - 1;
+		int index = mix(key) & mask;
+		while (true) {
+			long current = slots[index << 1];
+			if (current == key) {
+				slots[(index << 1) + 1] = value;
+				return;
+			}
+			if (current == 0) {
+				slots[index << 1] = key;
+				slots[(index << 1) + 1] = value;
+				if (++size >= resizeAt) {
+					rehash(slots.length);
+				}
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	/** key 의 값에 delta 를 더하고 결과를 반환 (없으면 0 에서 시작) */
+	public long addTo(long key, long delta) {
+		long updated = get(key, 0L) + delta;
+		put(key, updated);
+		return updated;
+	}
+
+	/** 제거된 값 (없으면 defaultValue) */
+	public long remove(long key, long defaultValue) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				return defaultValue;
+			}
+			hasZeroKey = false;
+			size--;
+			return zeroValue;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return defaultValue;
+		}
+		long removed = slots[(index << 1) + 1];
+		shiftConflictingKeys(index);
+		size--;
+		return removed;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(slots, 0L);
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	public void forEach(EntryConsumer consumer) {
+		if (hasZeroKey) {
+			consumer.accept(0L, zeroValue);
+		}
+		long[] table = slots;
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != 0) {
+				consumer.accept(table[i], table[i + 1]);
+			}
+		}
+	}
+
+	private int indexOf(long key) {
+		int mask = (slots.length >> 1) - 1;
+		int index = mix(key) & mask;
+		for (int probe = 0; probe <= mask; probe++) {
+			long current = slots[index << 1];
+			if (current == key) {
+				return index;
+			}
+			if (current == 0) {
+				return -1;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	/** 삭제된 슬롯 뒤의 탐사 체인을 앞으로 당겨 빈 슬롯이 탐색을 끊지 않도록 함 */
+	private void shiftConflictingKeys(int gap) {
+		int mask = (slots.length >> 1) - 1;
+		int index = gap;
+		while (true) {
+			index = (index + 1) & mask;
+			long key = slots[index << 1];
+			if (key == 0) {
+				break;
+			}
+			int home = mix(key) & mask;
+			// home 이 (gap, index] 구간 밖이면 gap 으로 옮겨도 탐색 가능
+			boolean movable = gap <= index ? (home <= gap || home > index) : (home <= gap && home > index);
+			if (movable) {
+				slots[gap << 1] = key;
+				slots[(gap << 1) + 1] = slots[(index << 1) + 1];
+				gap = index;
+			}
+		}
+		slots[gap << 1] = 0L;
+		slots[(gap << 1) + 1] = 0L;
+	}
+
+	private void rehash(int oldSlotsLength) {
+		long[] old = slots;
+		allocate(oldSlotsLength); // 엔트리 용량 2배 (slots 길이 = 엔트리 수 * 2)
+		int mask = (slots.length >> 1) - 1;
+		for (int i = 0; i < old.length; i += 2) {
+			long key = old[i];
+			if (key != 0) {
+				int index = mix(key) & mask;
+				while (slots[index << 1] != 0) {
+					index = (index + 1) & mask;
+				}
+				slots[index << 1] = key;
+				slots[(index << 1) + 1] = old[i + 1];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		long[] table = new long[capacity << 1];
+		resizeAt = Math.max(1, (int)(capacity * LOAD_FACTOR));
+		slots = table;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int needed = (int)Math.ceil(Math.max(expectedSize, 4) / LOAD_FACTOR);
+		return Integer.highestOneBit(needed - 1) << 1;
+	}
+
+	private static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,160 @@
+package com.backsuend.coucommerce.common.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전 Scalable Bloom Filter (Almeida et al. 2007).
+ *
+ * <pre>
+ * stage i : 용량 = initialCapacity * 2^i, 목표 오탐률 = fpp * (1 - R) * R^i   (R = 0.5)
+ * 전체 오탐률 상한 = Σ stage 오탐률 ≤ fpp
+ * </pre>
+ * - 원소 수를 미리 몰라도 마지막 stage 가 용량에 차면 다음 stage 를 붙여 오탐률 상한을 유지
+ * - 비트 설정은 AtomicLongArray CAS, stage 목록은 copy-on-write 배열이라 조회에 락 없음
+ * - 입력은 128비트 해시(h1, h2) - 인덱스 i 번째 = h1 + i * h2 (Kirsch–Mitzenmacher 이중 해싱)
+ * - 삭제 불가 (필요하면 새로 빌드해 교체)
+ *
+ * @author rua
+ */
+public class ScalableBloomFilter {
+
+	private static final double TIGHTENING_RATIO = 0.5;
+	private static final int GROWTH_FACTOR = 2;
+
+	private final double fpp;
+	private volatile Stage[] stages;
+
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		if (initialCapacity <= 0 || fpp <= 0 || fpp >= 1) {
+			throw new IllegalArgumentException("initialCapacity > 0, 0 < fpp < 1 이어야 합니다.");
+		}
+		this.fpp = fpp;
+		this.stages = new Stage[] {new Stage(initialCapacity, fpp * (1 - TIGHTENING_RATIO))};
+	}
+
+	public boolean mightContain(long h1, long h2) {
+		for (Stage stage : stages) {
+			if (stage.mightContain(h1, h2)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void put(long h1, long h2) {
+		Stage[] current = stages;
+		Stage last = current[current.length - 1];
+		if (last.put(h1, h2) && last.count.incrementAndGet() >= last.capacity) {
+			grow(current);
+		}
+	}
+
+	/** 삽입된 원소 수 근사치 (중복/동시 삽입으로 실제와 조금 다를 수 있음) */
+	public long approximateCount() {
+		long count = 0;
+		for (Stage stage : stages) {
+			count += stage.count.get();
+		}
+		return count;
+	}
+
+	/** 현재 비트 채움 비율로 추정한 오탐률: 1 - Π(1 - fill_i^k_i) */
+	public double expectedFpp() {
+		double pass = 1.0;
+		for (Stage stage : stages) {
+			pass *= 1.0 - Math.pow(stage.fillRatio(), stage.hashes);
+		}
+		return 1.0 - pass;
+	}
+
+	public long bitSize() {
+		long bits = 0;
+		for (Stage stage : stages) {
+			bits += stage.bits;
+		}
+		return bits;
+	}
+
+	public int stageCount() {
+		return stages.length;
+	}
+
+	public double targetFpp() {
+		return fpp;
+	}
+
+	private synchronized void grow(Stage[] observed) {
+		if (stages != observed) {
+			return; // 다른 스레드가 이미 확장
+		}
+		Stage last = observed[observed.length - 1];
+		double nextFpp = last.fpp * TIGHTENING_RATIO;
+		Stage[] next = Arrays.copyOf(observed, observed.length + 1);
+		next[observed.length] = new Stage(last.capacity * GROWTH_FACTOR, nextFpp);
+		stages = next;
+	}
+
+	private static final class Stage {
+
+		final long capacity;
+		final double fpp;
+		final long bits;
+		final int hashes;
+		final AtomicLongArray words;
+		final AtomicLong count = new AtomicLong();
+
+		Stage(long capacity, double fpp) {
+			this.capacity = capacity;
+			this.fpp = fpp;
+			// m = -n ln p / (ln 2)^2, k = m/n ln 2 (64비트 단위로 올림)
+			long optimalBits = (long)Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+			int wordCount = (int)Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) >>> 6);
+			this.words = new AtomicLongArray(Math.max(wordCount, 1));
+			this.bits = (long)words.length() << 6;
+			this.hashes = Math.max(1, (int)Math.round((double)bits / capacity * Math.log(2)));
+		}
+
+		boolean mightContain(long h1, long h2) {
+			long combined = h1;
+			for (int i = 0; i < hashes; i++) {
+				long index = (combined & Long.MAX_VALUE) % bits;
+				if ((words.get((int)(index >>> 6)) & (1L << index)) == 0) {
+					return false;
+				}
+				combined += h2;
+			}
+			return true;
+		}
+
+		/** 새로 켜진 비트가 하나라도 있으면 true (= 새 원소일 가능성) */
+		boolean put(long h1, long h2) {
+			boolean changed = false;
+			long combined = h1;
+			for (int i = 0; i < hashes; i++) {
+				long index = (combined & Long.MAX_VALUE) % bits;
+				int word = (int)(index >>> 6);
+				long mask = 1L << index;
+				long value = words.get(word);
+				while ((value & mask) == 0) {
+					if (words.compareAndSet(word, value, value | mask)) {
+						changed = true;
+						break;
+					}
+					value = words.get(word);
+				}
+				combined += h2;
+			}
+			return changed;
+		}
+
+		double fillRatio() {
+			long set = 0;
+			for (int i = 0; i < words.length(); i++) {
+				set += Long.bitCount(words.get(i));
+			}
+			return (double)set / bits;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.backsuend.coucommerce.common.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ApiResponse 전용 응답 컨버터.
+ * - 봉투(success/status/message/timestamp)는 미리 인코딩한 바이트 조각과 스레드별 버퍼로 직접 기록
+ * - data 만 Jackson(ObjectMapper 설정 그대로)에 위임
+ * - 출력 JSON 은 기존 Jackson 직렬화 결과와 동일 (필드 순서, NON_NULL, ISO-8601 timestamp)
+ *
+ * @author rua
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+	private static final byte[] SUCCESS_TRUE = ascii("{\"success\":true,\"status\":");
+	private static final byte[] SUCCESS_FALSE = ascii("{\"success\":false,\"status\":");
+	private static final byte[] MESSAGE = ascii(",\"message\":");
+	private static final byte[] DATA = ascii(",\"data\":");
+	private static final byte[] TIMESTAMP = ascii(",\"timestamp\":");
+	/** message 뒤에 버퍼로 이어 쓰는 조각의 최대 길이: ,"data": 또는 ,"timestamp":"..."} */
+	private static final int TAIL_RESERVE = Math.max(DATA.length, TIMESTAMP.length + IsoInstantEncoder.MAX_LENGTH + 3);
+
+	/** 자주 쓰는 message 값은 따옴표까지 포함해 미리 인코딩 */
+	private static final Map<String, byte[]> PRE_ENCODED_MESSAGES = new HashMap<>();
+
+	static {
+		for (String message : new String[] {"OK", "CREATED", "NO_CONTENT"}) {
+			PRE_ENCODED_MESSAGES.put(message, quote(message));
+		}
+		for (ErrorCode code : ErrorCode.values()) {
+			PRE_ENCODED_MESSAGES.put(code.code(), quote(code.code()));
+		}
+	}
+
+	/** 봉투 앞/뒤 조각을 모아 한 번에 쓰기 위한 스레드별 버퍼 */
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+	private final ObjectMapper objectMapper;
+	private final boolean isoTimestamps;
+
+	public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_JSON);
+		this.objectMapper = objectMapper;
+		this.isoTimestamps = !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return ApiResponse.class == clazz;
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("ApiResponse 는 응답 전용입니다.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+		write(response, outputMessage.getBody());
+	}
+
+	/** 봉투를 out 에 기록 (벤치마크/테스트에서 직접 호출 가능) */
+	public void write(ApiResponse<?> response, OutputStream out) throws IOException {
+		byte[] scratch = SCRATCH.get();
+
+		// {"success":..,"status":NNN[,"message":".."]
+		int p = put(scratch, 0, response.success() ? SUCCESS_TRUE : SUCCESS_FALSE);
+		p = putInt(scratch, p, response.status());
+		if (response.message() != null) {
+			byte[] message = PRE_ENCODED_MESSAGES.get(response.message());
+			if (message == null) {
+				message = quote(response.message());
+			}
+			if (p + MESSAGE.length + message.length + TAIL_RESERVE > scratch.length) {
+				out.write(scratch, 0, p);
+				p = 0;
+				out.write(MESSAGE);
+				out.write(message);
+			} else {
+				p = put(scratch, p, MESSAGE);
+				p = put(scratch, p, message);
+			}
+		}
+
+		// ,"data":{...}
+		if (response.data() != null) {
+			p = put(scratch, p, DATA);
+			out.write(scratch, 0, p);
+			p = 0;
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+				generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+				objectMapper.writeValue(generator, response.data());
+			}
+		}
+
+		// ,"timestamp":"..."}
+		Instant timestamp = response.timestamp();
+		if (timestamp != null) {
+			p = put(scratch, p, TIMESTAMP);
+			if (isoTimestamps) {
+				scratch[p++] = '"';
+				p += IsoInstantEncoder.encode(timestamp, scratch, p);
+				scratch[p++] = '"';
+			} else {
+				out.write(scratch, 0, p);
+				p = 0;
+				out.write(objectMapper.writeValueAsBytes(timestamp));
+			}
+		}
+		scratch[p++] = '}';
+		out.write(scratch, 0, p);
+	}
+
+	private static int put(byte[] buffer, int p, byte[] chunk) {
+		System.arraycopy(chunk, 0, buffer, p, chunk.length);
+		return p + chunk.length;
+	}
+
+	private static int putInt(byte[] buffer, int p, int value) {
+		if (value < 0) {
+			buffer[p++] = '-';
+			value = -value;
+		}
+		int digits = value < 10 ? 1 : value < 100 ? 2 : value < 1000 ? 3 : Integer.toString(value).length();
+		for (int i = p + digits - 1; i >= p; i--) {
+			buffer[i] = (byte)('0' + value % 10);
+			value /= 10;
+		}
+		return p + digits;
+	}
+
+	private static byte[] quote(String value) {
+		byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+		byte[] quoted = new byte[escaped.length + 2];
+		quoted[0] = '"';
+		System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+		quoted[quoted.length - 1] = '"';
+		return quoted;
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,97 @@
+package com.backsuend.coucommerce.common.web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Instant 를 ISO-8601 (DateTimeFormatter.ISO_INSTANT 와 동일한 형식) ASCII 바이트로 기록.
+ * 예) 2025-09-01T12:34:56Z, 2025-09-01T12:34:56.120Z, 2025-09-01T12:34:56.123456Z
+ * Instant.toString() 과 달리 String 을 만들지 않고 호출자 버퍼에 직접 씀.
+ *
+ * @author rua
+ */
+public final class IsoInstantEncoder {
+
+	/** 가장 긴 출력 길이 (연도 범위 밖 Instant.toString() 대체 출력 포함) */
+	public static final int MAX_LENGTH = 40;
+
+	private static final long SECONDS_PER_DAY = 86_400L;
+
+	private IsoInstantEncoder() {
+	}
+
+	/** buffer[offset..] 에 기록하고 기록한 바이트 수를 반환 */
+	public static int encode(Instant instant, byte[] buffer, int offset) {
+		long epochSecond = instant.getEpochSecond();
+		long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+		int secondOfDay = (int)Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+		// civil-from-days (proleptic Gregorian)
+		long z = epochDay + 719_468L;
+		long era = Math.floorDiv(z, 146_097L);
+		long dayOfEra = z - era * 146_097L;
+		long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long mp = (5 * dayOfYear + 2) / 153;
+		int day = (int)(dayOfYear - (153 * mp + 2) / 5 + 1);
+		int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		if (year < 1000 || year > 9999) {
+			byte[] fallback = instant.toString().getBytes(StandardCharsets.US_ASCII);
+			System.arraycopy(fallback, 0, buffer, offset, fallback.length);
+			return fallback.length;
+		}
+
+		int p = offset;
+		p = digits4((int)year, buffer, p);
+		buffer[p++] = '-';
+		p = digits2(month, buffer, p);
+		buffer[p++] = '-';
+		p = digits2(day, buffer, p);
+		buffer[p++] = 'T';
+		p = digits2(secondOfDay / 3600, buffer, p);
+		buffer[p++] = ':';
+		p = digits2(secondOfDay / 60 % 60, buffer, p);
+		buffer[p++] = ':';
+		p = digits2(secondOfDay % 60, buffer, p);
+
+		int nano = instant.getNano();
+		if (nano > 0) {
+			buffer[p++] = '.';
+			int digits;
+			int value;
+			if (nano % 1_000_000 == 0) {
+				digits = 3;
+				value = nano / 1_000_000;
+			} else if (nano % 1_000 == 0) {
+				digits = 6;
+				value = nano / 1_000;
+			} else {
+				digits = 9;
+				value = nano;
+			}
+			for (int i = p + digits - 1; i >= p; i--) {
+				buffer[i] = (byte)('0' + value % 10);
+				value /= 10;
+			}
+			p += digits;
+		}
+		buffer[p++] = 'Z';
+		return p - offset;
+	}
+
+	private static int digits4(int value, byte[] buffer, int p) {
+		buffer[p] = (byte)('0' + value / 1000);
+		buffer[p + 1] = (byte)('0' + value / 100 % 10);
+		buffer[p + 2] = (byte)('0' + value / 10 % 10);
+		buffer[p + 3] = (byte)('0' + value % 10);
+		return p + 4;
+	}
+
+	private static int digits2(int value, byte[] buffer, int p) {
+		buffer[p] = (byte)('0' + value / 10);
+		buffer[p + 1] = (byte)('0' + value % 10);
+		return p + 2;
+	}
+}
@@ -0,0 +1,35 @@
+package com.backsuend.coucommerce.order.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.order.dto.CheckoutRequest;
+import com.backsuend.coucommerce.order.dto.CheckoutResponse;
+import com.backsuend.coucommerce.order.service.CheckoutService;
+
+/**
+ * @author rua
+ */
+@RestController
+public class CheckoutController {
+
+	private final CheckoutService checkoutService;
+
+	public CheckoutController(CheckoutService checkoutService) {
+		this.checkoutService = checkoutService;
+	}
+
+	/** 회원 장바구니 전체를 READY 주문으로 전환 */
+	@PostMapping("/api/members/{memberId}/checkout")
+	public ResponseEntity<ApiResponse<CheckoutResponse>> checkout(
+		@PathVariable Long memberId, @Valid @RequestBody CheckoutRequest request) {
+
+		return ApiResponse.created(checkoutService.checkout(memberId, request)).toResponseEntity();
+	}
+}
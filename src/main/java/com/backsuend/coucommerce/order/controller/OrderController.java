@@ -0,0 +1,29 @@
+package com.backsuend.coucommerce.order.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.order.service.OrderCompletionService;
+
+/**
+ * @author rua
+ */
+@RestController
+public class OrderController {
+
+	private final OrderCompletionService orderCompletionService;
+
+	public OrderController(OrderCompletionService orderCompletionService) {
+		this.orderCompletionService = orderCompletionService;
+	}
+
+	/** 구매 확정 (START → DONE) */
+	@PostMapping("/api/orders/{orderId}/complete")
+	public ResponseEntity<ApiResponse<Void>> complete(@PathVariable Long orderId) {
+		orderCompletionService.complete(orderId);
+		return ApiResponse.<Void>noContent().toResponseEntity();
+	}
+}
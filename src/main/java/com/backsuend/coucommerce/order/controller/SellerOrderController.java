@@ -0,0 +1,42 @@
+package com.backsuend.coucommerce.order.controller;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.order.dto.SellerOrderLineResponse;
+import com.backsuend.coucommerce.order.service.SellerOrderQueryService;
+
+/**
+ * @author rua
+ */
+@Validated
+@RestController
+public class SellerOrderController {
+
+	private final SellerOrderQueryService sellerOrderQueryService;
+
+	public SellerOrderController(SellerOrderQueryService sellerOrderQueryService) {
+		this.sellerOrderQueryService = sellerOrderQueryService;
+	}
+
+	/** 로그인한 판매자의 상품이 담긴 최근 주문 (모든 샤드 병렬 조회 후 병합) */
+	@GetMapping("/api/sellers/me/orders")
+	public ResponseEntity<ApiResponse<List<SellerOrderLineResponse>>> recentOrders(
+		@AuthenticationPrincipal MemberSession seller,
+		@RequestParam(defaultValue = "30") @Min(1) @Max(365) int days,
+		@RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
+
+		return ApiResponse.ok(sellerOrderQueryService.recentOrders(seller.memberId(), days, limit)).toResponseEntity();
+	}
+}
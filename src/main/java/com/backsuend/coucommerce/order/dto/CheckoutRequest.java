@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.order.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @author rua
+ */
+public record CheckoutRequest(
+	@NotBlank @Size(max = 20) String receiverName,
+	@NotBlank @Size(max = 100) String receiverRoadName,
+	@NotBlank @Size(max = 20) String receiverPhone,
+	@NotBlank @Size(max = 10) String receiverPostalCode
+) {
+}
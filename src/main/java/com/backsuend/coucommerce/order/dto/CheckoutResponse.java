@@ -0,0 +1,14 @@
+package com.backsuend.coucommerce.order.dto;
+
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+
+/**
+ * @author rua
+ */
+public record CheckoutResponse(
+	Long orderId,
+	OrderStatus orderStatus,
+	int itemCount,
+	long totalPrice
+) {
+}
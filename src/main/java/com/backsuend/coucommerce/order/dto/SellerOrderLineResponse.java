@@ -0,0 +1,20 @@
+package com.backsuend.coucommerce.order.dto;
+
+import java.time.LocalDateTime;
+
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+
+/**
+ * 판매자 주문 목록의 한 줄 (판매자 상품이 담긴 주문 상품)
+ *
+ * @author rua
+ */
+public record SellerOrderLineResponse(
+	Long orderId,
+	Long productId,
+	int quantity,
+	int price,
+	OrderStatus orderStatus,
+	LocalDateTime orderedAt
+) {
+}
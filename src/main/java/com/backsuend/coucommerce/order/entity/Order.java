@@ -9,33 +9,43 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
 
 import com.backsuend.coucommerce.auth.entity.Member;
 import com.backsuend.coucommerce.common.entity.BaseTimeEntity;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
 
 /**
+ * ID 는 DB 가 아니라 {@link com.backsuend.coucommerce.shard.routing.ShardRouter#nextId} 로 발급 (회원 버킷 포함).
+ * 직접 발급한 ID 라 save 시 merge(SELECT) 대신 persist 하도록 Persistable 로 신규 여부를 알려줌.
+ *
  * @author rua
  */
 @Entity
 @Table(name = "orders", // 예약어 회피를 위해 orders 권장
 	indexes = {
 		@Index(name = "idx_orders_member", columnList = "member_id"),
-		@Index(name = "idx_orders_status", columnList = "status")
+		@Index(name = "idx_orders_status_created", columnList = "status, created_at")
 	})
-public class Order extends BaseTimeEntity {
+public class Order extends BaseTimeEntity implements Persistable<Long> {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@Transient
+	private boolean persisted;
+
 	@ManyToOne(fetch = FetchType.LAZY) // BUYER
 	@JoinColumn(name = "member_id", nullable = false)
 	private Member buyer;
@@ -69,9 +79,73 @@ public class Order extends BaseTimeEntity {
 	@OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<OrderProduct> items = new ArrayList<>();
 
+	protected Order() {
+	}
+
+	public Order(long id, Member buyer, String receiverName, String receiverRoadName, String receiverPhone,
+		String receiverPostalCode) {
+		this.id = id;
+		this.buyer = buyer;
+		this.consumerName = buyer.getName();
+		this.consumerPhone = buyer.getPhone();
+		this.receiverName = receiverName;
+		this.receiverRoadName = receiverRoadName;
+		this.receiverPhone = receiverPhone;
+		this.receiverPostalCode = receiverPostalCode;
+	}
+
 	// 편의 메서드
 	public void addItem(OrderProduct item) {
 		items.add(item);
 		item.setOrder(this);
 	}
+
+	/** 결제 승인 콜백: 승인 대기(PAYING) 중인 주문만 START 로 전이하고 결제 ID 를 연결 */
+	public void startWithPayment(Long paymentId) {
+		if (status != OrderStatus.PAYING) {
+			throw new BusinessException(ErrorCode.ORDER_NOT_PAYABLE);
+		}
+		this.status = OrderStatus.START;
+		this.paymentId = paymentId;
+	}
+
+	/** 구매 확정: 결제된(START) 주문만 DONE 으로 전이 */
+	public void complete() {
+		if (status != OrderStatus.START) {
+			throw new BusinessException(ErrorCode.ORDER_NOT_COMPLETABLE);
+		}
+		this.status = OrderStatus.DONE;
+	}
+
+	@Override
+	public Long getId() {
+		return id;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+
+	public Member getBuyer() {
+		return buyer;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+
+	public Long getPaymentId() {
+		return paymentId;
+	}
+
+	public List<OrderProduct> getItems() {
+		return items;
+	}
 }
@@ -43,6 +43,11 @@ public class OrderProduct extends BaseTimeEntity {
 	@Column(name = "quantity", nullable = false)
 	private int quantity;
 
+	/** 주문 시점 상품 가격 (이후 상품 가격 변경과 무관하게 결제 금액 고정) */
+	@Min(0)
+	@Column(name = "price", nullable = false)
+	private int price;
+
 	public void setOrder(Order order) {
 		this.order = order;
 	}
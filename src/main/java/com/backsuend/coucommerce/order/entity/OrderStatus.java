@@ -5,7 +5,11 @@ package com.backsuend.coucommerce.order.entity;
  */
 public enum OrderStatus {
 	READY,
+	/** 카드사 승인 대기 중 (결제 요청이 READY 에서 조건부로 전이 - 만료/중복 결제 대상 아님) */
+	PAYING,
 	START,
-	DONE
+	DONE,
+	/** 결제 기한 내 미결제로 만료 (예약 재고 반환됨) */
+	CANCELED
 }
 
@@ -0,0 +1,15 @@
+package com.backsuend.coucommerce.order.event;
+
+import java.util.List;
+
+/**
+ * 구매 확정(START → DONE) 도메인 이벤트 (트랜잭션 안에서 발행)
+ *
+ * @author rua
+ */
+public record OrderCompletedEvent(
+	Long orderId,
+	Long memberId,
+	List<Long> productIds
+) {
+}
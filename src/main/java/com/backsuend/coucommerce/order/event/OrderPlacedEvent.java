@@ -0,0 +1,21 @@
+package com.backsuend.coucommerce.order.event;
+
+import java.util.List;
+
+/**
+ * 장바구니 → 주문 전환 완료 도메인 이벤트 (트랜잭션 안에서 발행)
+ *
+ * @author rua
+ */
+public record OrderPlacedEvent(
+	Long orderId,
+	Long memberId,
+	List<Line> lines,
+	long totalPrice
+) {
+	public record Line(
+		long productId,
+		int quantity
+	) {
+	}
+}
@@ -0,0 +1,293 @@
+package com.backsuend.coucommerce.order.expiry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.common.redis.RedisCommandBatcher;
+import com.backsuend.coucommerce.common.util.HierarchicalTimingWheel;
+import com.backsuend.coucommerce.common.util.HierarchicalTimingWheel.Timeout;
+import com.backsuend.coucommerce.order.event.OrderPlacedEvent;
+import com.backsuend.coucommerce.order.service.OrderExpiryService;
+import com.backsuend.coucommerce.payment.event.PaymentApprovedEvent;
+import com.backsuend.coucommerce.payment.service.PaymentService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 미결제(READY) 주문 만료 타이머. 상태 컬럼 폴링 없이 주문별 마감 시각에 정확히 만료.
+ *
+ * <pre>
+ * Redis ZSET order:expiry : member = orderId, score = 마감 epoch millis  (노드 간 공유·재시작 내구성)
+ * 로컬 타이밍 휠           : 곧 마감될(lookahead 이내) 주문만 보관         (정확한 발화 시각)
+ * </pre>
+ * - 주문 커밋 후 ZADD + 로컬 등록, 결제 승인 커밋 후 ZREM + 로컬 취소
+ * - 모든 노드가 refresh 주기마다 lookahead 구간을 ZSET 에서 읽어 휠에 올림 → 재시작·다른 노드 주문도 제시간에 발화
+ * - 발화 시 ZREM 결과가 1 인 노드만 처리(claim) → 같은 주문을 여러 노드가 동시에 취소하지 않음
+ * - 취소 실패 시 retry-delay 뒤로 다시 ZADD
+ * - claim 후 커밋 전에 노드가 죽거나 Redis 데이터가 유실된 주문은 백스톱이
+ *   (status, created_at) 인덱스 범위 조회로 보정 (전체 스캔 아님, 드물게 실행)
+ * - 승인 대기(PAYING) 주문은 만료하지 않음 (승인 중 취소되면 청구만 남음). 결과를 반영하지 못하고
+ *   PAYING 에 남은 주문은 백스톱이 카드사 주문 기준 취소 후 READY 로 되돌려 같은 백스톱에서 만료
+ *
+ * @author rua
+ */
+@Component
+public class OrderExpiryScheduler implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(OrderExpiryScheduler.class);
+
+	static final String KEY = "order:expiry";
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	/** 100ms 틱 × 64 슬롯 × 4 레벨 ≈ 19일 범위 */
+	private static final long TICK_MILLIS = 100;
+	private static final int SLOTS_PER_LEVEL = 64;
+	private static final int LEVELS = 4;
+	/** refresh 한 번에 휠로 올리는 최대 건수 (넘치면 다음 refresh 에서 이어서) */
+	private static final int REFRESH_LIMIT = 10_000;
+	/** 백스톱은 정상 경로(타이머)가 처리할 시간을 충분히 준 뒤의 주문만 대상 */
+	private static final Duration BACKSTOP_GRACE = Duration.ofMinutes(5);
+
+	private final StringRedisTemplate redis;
+	private final RedisCommandBatcher batcher;
+	private final OrderExpiryService expiryService;
+	private final PaymentService paymentService;
+	private final Duration ttl;
+	private final long lookaheadMillis;
+	private final int batchSize;
+	private final long retryDelayMillis;
+
+	private final HierarchicalTimingWheel<Long> wheel;
+	private final Map<Long, Timeout<Long>> timers = new ConcurrentHashMap<>();
+	private final Counter canceled;
+	private final Counter claimLost;
+	private volatile boolean running = true;
+	private volatile Thread driver;
+
+	public OrderExpiryScheduler(StringRedisTemplate redis, RedisCommandBatcher batcher,
+		OrderExpiryService expiryService, PaymentService paymentService, MeterRegistry meterRegistry,
+		@Value("${order.expiry.ttl:30m}") Duration ttl,
+		@Value("${order.expiry.lookahead:2m}") Duration lookahead,
+		@Value("${order.expiry.batch-size:500}") int batchSize,
+		@Value("${order.expiry.retry-delay:30s}") Duration retryDelay) {
+		this.redis = redis;
+		this.batcher = batcher;
+		this.expiryService = expiryService;
+		this.paymentService = paymentService;
+		this.ttl = ttl;
+		this.lookaheadMillis = lookahead.toMillis();
+		this.batchSize = batchSize;
+		this.retryDelayMillis = retryDelay.toMillis();
+		this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, SLOTS_PER_LEVEL, LEVELS, System.currentTimeMillis());
+		this.canceled = Counter.builder("order.expiry.canceled")
+			.description("결제 기한 만료로 취소된 주문 수").register(meterRegistry);
+		this.claimLost = Counter.builder("order.expiry.claim_lost")
+			.description("다른 노드가 먼저 처리했거나 이미 결제된 만료 타이머 수").register(meterRegistry);
+		Gauge.builder("order.expiry.pending", wheel, HierarchicalTimingWheel::size)
+			.description("로컬 휠에 올라가 있는 만료 타이머 수").register(meterRegistry);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOrderPlaced(OrderPlacedEvent event) {
+		long deadline = System.currentTimeMillis() + ttl.toMillis();
+		Long orderId = event.orderId();
+		schedule(orderId, deadline);
+		batcher.submit(conn -> conn.zAdd(KEY, deadline, orderId.toString()))
+			.exceptionally(ex -> {
+				// 로컬 타이머의 claim 이 실패하므로 이 주문은 백스톱이 처리
+				log.warn("주문 만료 타이머 저장 실패 orderId={}", orderId, ex);
+				return null;
+			});
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPaymentApproved(PaymentApprovedEvent event) {
+		Long orderId = event.orderId();
+		Timeout<Long> timeout = timers.remove(orderId);
+		if (timeout != null) {
+			timeout.cancel();
+		}
+		// 실패해도 발화 시 주문이 READY 가 아니라 취소되지 않음 → 불필요한 발화만 남음
+		batcher.submit(conn -> conn.zRem(KEY, orderId.toString()))
+			.exceptionally(ex -> {
+				log.warn("주문 만료 타이머 제거 실패 orderId={}", orderId, ex);
+				return null;
+			});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		refresh();
+		driver = Thread.ofPlatform().daemon().name("order-expiry").start(this::drive);
+	}
+
+	/** lookahead 이내에 마감되는 주문을 ZSET 에서 읽어 휠에 등록 (이미 있으면 유지) */
+	@Scheduled(fixedDelayString = "${order.expiry.refresh-interval-ms:30000}",
+		initialDelayString = "${order.expiry.refresh-interval-ms:30000}")
+	public void refresh() {
+		try {
+			Set<TypedTuple<String>> upcoming = redis.opsForZSet().rangeByScoreWithScores(KEY,
+				Double.NEGATIVE_INFINITY, System.currentTimeMillis() + lookaheadMillis, 0, REFRESH_LIMIT);
+			if (upcoming == null) {
+				return;
+			}
+			for (TypedTuple<String> tuple : upcoming) {
+				schedule(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+			}
+		} catch (RuntimeException ex) {
+			log.warn("주문 만료 타이머 적재 실패", ex);
+		}
+	}
+
+	/**
+	 * 타이머를 잃은 주문 보정 (claim 후 처리 전 장애, Redis 데이터 유실, ZADD 실패)과
+	 * 승인 결과를 반영하지 못한 PAYING 주문 정리 (콜백 전 노드 장애, 대기 해제 실패)
+	 */
+	@Scheduled(fixedDelayString = "${order.expiry.backstop-interval-ms:600000}",
+		initialDelayString = "${order.expiry.backstop-interval-ms:600000}")
+	public void backstop() {
+		LocalDateTime now = LocalDateTime.now(SEOUL);
+		// 카드사 응답 한도(수 초)보다 충분히 오래 PAYING 인 주문만 - 진행 중인 승인은 건드리지 않음
+		List<Long> stalePaying = expiryService.findStalePaying(now.minus(BACKSTOP_GRACE), batchSize);
+		if (!stalePaying.isEmpty()) {
+			List<Long> released = paymentService.voidStalePayments(stalePaying);
+			log.warn("승인 결과 없이 결제 대기 중인 주문 {}건 중 {}건 카드사 취소 후 대기 해제 (백스톱)",
+				stalePaying.size(), released.size());
+		}
+
+		LocalDateTime createdBefore = now.minus(ttl).minus(BACKSTOP_GRACE);
+		List<Long> overdue = expiryService.findOverdue(createdBefore, batchSize);
+		if (overdue.isEmpty()) {
+			return;
+		}
+		List<Long> expired = expiryService.expire(overdue);
+		canceled.increment(expired.size());
+		log.warn("타이머 없이 기한이 지난 주문 {}건 취소 (백스톱)", expired.size());
+		batcher.submit(conn -> conn.zRem(KEY, toMembers(overdue)));
+	}
+
+	private void schedule(Long orderId, long deadline) {
+		timers.compute(orderId, (id, existing) -> {
+			if (existing != null) {
+				if (existing.deadline() == deadline) {
+					return existing;
+				}
+				existing.cancel();
+			}
+			return wheel.schedule(id, deadline);
+		});
+	}
+
+	private void drive() {
+		while (running) {
+			try {
+				Thread.sleep(TICK_MILLIS);
+				List<Long> expired = wheel.advance(System.currentTimeMillis());
+				for (int from = 0; from < expired.size(); from += batchSize) {
+					fire(expired.subList(from, Math.min(from + batchSize, expired.size())));
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException ex) {
+				log.warn("주문 만료 처리 실패", ex);
+			}
+		}
+	}
+
+	private void fire(List<Long> orderIds) {
+		orderIds.forEach(timers::remove);
+		List<Long> claimed;
+		try {
+			claimed = claim(orderIds);
+		} catch (RuntimeException ex) {
+			// Redis 장애 - 누가 처리할지 정할 수 없으므로 로컬에서만 미뤄서 재시도
+			log.warn("주문 만료 claim 실패 {}건, {}ms 뒤 재시도", orderIds.size(), retryDelayMillis, ex);
+			long retryAt = System.currentTimeMillis() + retryDelayMillis;
+			orderIds.forEach(orderId -> schedule(orderId, retryAt));
+			return;
+		}
+		claimLost.increment(orderIds.size() - claimed.size());
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<Long> expired = expiryService.expire(claimed);
+			canceled.increment(expired.size());
+			log.info("미결제 주문 만료 {}건 (대상 {}건)", expired.size(), claimed.size());
+		} catch (RuntimeException ex) {
+			log.warn("주문 만료 취소 실패 {}건, {}ms 뒤 재시도", claimed.size(), retryDelayMillis, ex);
+			requeue(claimed);
+		}
+	}
+
+	/** 주문별 ZREM 을 한 파이프라인으로 - 1 을 받은 주문만 이 노드가 처리 */
+	private List<Long> claim(List<Long> orderIds) {
+		List<Object> results = redis.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection conn = (StringRedisConnection)connection;
+			for (Long orderId : orderIds) {
+				conn.zRem(KEY, orderId.toString());
+			}
+			return null;
+		});
+		List<Long> claimed = new ArrayList<>(orderIds.size());
+		for (int i = 0; i < orderIds.size(); i++) {
+			if (results.get(i) instanceof Long removed && removed > 0) {
+				claimed.add(orderIds.get(i));
+			}
+		}
+		return claimed;
+	}
+
+	private void requeue(List<Long> orderIds) {
+		long retryAt = System.currentTimeMillis() + retryDelayMillis;
+		Set<TypedTuple<String>> tuples = new HashSet<>();
+		for (Long orderId : orderIds) {
+			tuples.add(new DefaultTypedTuple<>(orderId.toString(), (double)retryAt));
+			schedule(orderId, retryAt);
+		}
+		try {
+			redis.opsForZSet().add(KEY, tuples);
+		} catch (RuntimeException ex) {
+			// 로컬 재시도는 claim 에 실패하므로 백스톱이 처리
+			log.warn("주문 만료 재시도 등록 실패 {}건", orderIds.size(), ex);
+		}
+	}
+
+	private static String[] toMembers(List<Long> orderIds) {
+		return orderIds.stream().map(String::valueOf).toArray(String[]::new);
+	}
+
+	@Override
+	public void destroy() {
+		running = false;
+		if (driver != null) {
+			driver.interrupt();
+		}
+	}
+}
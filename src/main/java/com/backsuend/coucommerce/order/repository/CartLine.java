@@ -0,0 +1,13 @@
+package com.backsuend.coucommerce.order.repository;
+
+/**
+ * 주문 상품으로 저장할 장바구니 행 - 재고 차감 시 읽은 가격 포함 (상품 ID 오름차순)
+ *
+ * @author rua
+ */
+public record CartLine(
+	long productId,
+	int quantity,
+	int price
+) {
+}
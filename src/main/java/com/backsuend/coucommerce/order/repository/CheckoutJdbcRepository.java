@@ -0,0 +1,62 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 장바구니 → 주문 전환용 집합 단위 SQL (회원 샤드).
+ * 장바구니 크기와 무관하게 문장 수(DB 왕복)가 일정하도록 행 단위 엔티티 로딩 없이 처리.
+ * 호출자 트랜잭션(JPA) 의 커넥션을 그대로 사용.
+ *
+ * @author rua
+ */
+@Repository
+public class CheckoutJdbcRepository {
+
+	// 잠금은 cart 행에만 - 단일 테이블 FOR UPDATE 라 H2(MySQL 모드)에서도 동작
+	private static final String LOCK_CART_LINES = "select c.product_id, c.quantity"
+		+ " from cart c"
+		+ " where c.member_id = ? and c.deleted_at is null"
+		+ " order by c.product_id"
+		+ " for update";
+
+	private static final String INSERT_ORDER_LINE = "insert into order_product"
+		+ " (order_id, product_id, quantity, price, created_at, updated_at)"
+		+ " values (?, ?, ?, ?, ?, ?)";
+
+	private static final String CLEAR_CART = "delete from cart where member_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CheckoutJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** 회원의 장바구니 행을 잠그고 상품 ID 오름차순으로 조회 (같은 회원의 동시 주문 직렬화) */
+	public List<ProductQuantity> lockCartLines(long memberId) {
+		return jdbcTemplate.query(LOCK_CART_LINES,
+			(rs, rowNum) -> new ProductQuantity(rs.getLong(1), rs.getInt(2)), memberId);
+	}
+
+	/**
+	 * 주문 상품을 한 번의 배치로 INSERT (rewriteBatchedStatements=true 면 다중 VALUES 한 문장).
+	 * 가격은 재고 차감 시 전역 DB 에서 읽은 값 - 상품 테이블이 없는 샤드에서도 INSERT ... SELECT 없이 처리
+	 */
+	public void insertOrderLines(long orderId, List<CartLine> lines, LocalDateTime now) {
+		jdbcTemplate.batchUpdate(INSERT_ORDER_LINE, lines, lines.size(), (ps, line) -> {
+			ps.setLong(1, orderId);
+			ps.setLong(2, line.productId());
+			ps.setInt(3, line.quantity());
+			ps.setInt(4, line.price());
+			ps.setObject(5, now);
+			ps.setObject(6, now);
+		});
+	}
+
+	public int clearCart(long memberId) {
+		return jdbcTemplate.update(CLEAR_CART, memberId);
+	}
+}
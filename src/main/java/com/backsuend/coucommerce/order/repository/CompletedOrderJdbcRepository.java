@@ -0,0 +1,76 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 구매 확정 주문 이력 스트리밍 (추천 등 집계의 초기 적재용)
+ *
+ * @author rua
+ */
+@Repository
+public class CompletedOrderJdbcRepository {
+
+	// (status, created_at) 인덱스 범위 + 주문 ID 순 → 같은 주문의 상품이 연속으로 옴
+	// 확정 후에는 주문을 고치지 않으므로 updated_at = 확정 시각
+	private static final String COMPLETED_ORDER_LINES = "select op.order_id, op.product_id"
+		+ " from orders o join order_product op on op.order_id = o.id"
+		+ " where o.status = 'DONE' and o.created_at >= ? and o.updated_at < ?"
+		+ " order by op.order_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CompletedOrderJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * since 이후 생성되어 completedBefore 전에 확정된 DONE 주문 중 orderFilter 를 통과한 주문마다 상품 ID 배열을 넘김.
+	 * (completedBefore 이후 확정분은 이벤트로 받는 쪽과 겹치지 않게 제외)
+	 * MySQL 은 fetch size = Integer.MIN_VALUE 일 때만 결과를 한꺼번에 메모리에 올리지 않고 행 단위로 읽음
+	 */
+	public void forEachCompletedOrder(LocalDateTime since, LocalDateTime completedBefore, LongPredicate orderFilter,
+		Consumer<long[]> consumer) {
+		long[] current = {-1L};
+		long[][] buffer = {new long[16]};
+		int[] size = {0};
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(COMPLETED_ORDER_LINES);
+			ps.setFetchSize(streamingFetchSize(connection));
+			ps.setTimestamp(1, Timestamp.valueOf(since));
+			ps.setTimestamp(2, Timestamp.valueOf(completedBefore));
+			return ps;
+		}, rs -> {
+			long orderId = rs.getLong(1);
+			if (!orderFilter.test(orderId)) {
+				return;
+			}
+			if (orderId != current[0] && size[0] > 0) {
+				consumer.accept(Arrays.copyOf(buffer[0], size[0]));
+				size[0] = 0;
+			}
+			current[0] = orderId;
+			if (size[0] == buffer[0].length) {
+				buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+			}
+			buffer[0][size[0]++] = rs.getLong(2);
+		});
+		if (size[0] > 0) {
+			consumer.accept(Arrays.copyOf(buffer[0], size[0]));
+		}
+	}
+
+	/** MySQL 외 드라이버(H2 등)는 음수 fetch size 를 거부하므로 일반 배치 크기로 읽음 */
+	private static int streamingFetchSize(Connection connection) throws SQLException {
+		return "MySQL".equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : 1_000;
+	}
+}
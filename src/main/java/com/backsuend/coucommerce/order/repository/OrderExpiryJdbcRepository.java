@@ -0,0 +1,75 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 미결제 주문 만료용 집합 단위 쿼리 (회원 샤드). 주문 수와 무관하게 일정한 수의 문장으로 처리.
+ * 재고 반환은 전역 DB 라 {@link StockJdbcRepository}.
+ *
+ * @author rua
+ */
+@Repository
+public class OrderExpiryJdbcRepository {
+
+	private static final String FIND_OVERDUE = "select id from orders"
+		+ " where status = 'READY' and created_at < ?"
+		+ " order by created_at"
+		+ " limit ?";
+
+	private static final String FIND_STALE_PAYING = "select id from orders"
+		+ " where status = 'PAYING' and updated_at < ?"
+		+ " order by updated_at"
+		+ " limit ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public OrderExpiryJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** 아직 READY 인 주문만 잠그고 ID 반환 (결제 승인과 같은 주문 행 잠금으로 직렬화) */
+	public List<Long> lockReadyOrders(List<Long> orderIds) {
+		String sql = "select id from orders where id in (" + placeholders(orderIds.size()) + ")"
+			+ " and status = 'READY' order by id for update";
+		return jdbcTemplate.queryForList(sql, Long.class, orderIds.toArray());
+	}
+
+	/** 주문들의 상품별 수량 합계 (상품 ID 오름차순 → 주문 시 재고 차감과 같은 잠금 순서) */
+	public List<ProductQuantity> sumQuantitiesByProduct(List<Long> orderIds) {
+		String sql = "select product_id, sum(quantity) from order_product"
+			+ " where order_id in (" + placeholders(orderIds.size()) + ")"
+			+ " group by product_id order by product_id";
+		return jdbcTemplate.query(sql, (rs, rowNum) -> new ProductQuantity(rs.getLong(1), rs.getInt(2)),
+			orderIds.toArray());
+	}
+
+	public int markCanceled(List<Long> orderIds, LocalDateTime now) {
+		String sql = "update orders set status = 'CANCELED', updated_at = ?"
+			+ " where id in (" + placeholders(orderIds.size()) + ")";
+		Object[] args = new Object[orderIds.size() + 1];
+		args[0] = now;
+		for (int i = 0; i < orderIds.size(); i++) {
+			args[i + 1] = orderIds.get(i);
+		}
+		return jdbcTemplate.update(sql, args);
+	}
+
+	/** 기한이 지난 READY 주문 (status, created_at 인덱스 범위 조회) */
+	public List<Long> findOverdueReadyOrderIds(LocalDateTime createdBefore, int limit) {
+		return jdbcTemplate.queryForList(FIND_OVERDUE, Long.class, createdBefore, limit);
+	}
+
+	/** 승인 대기(PAYING)에 오래 머문 주문 (status 인덱스 범위 - PAYING 은 대기 중인 결제 수만큼만 있음) */
+	public List<Long> findStalePayingOrderIds(LocalDateTime updatedBefore, int limit) {
+		return jdbcTemplate.queryForList(FIND_STALE_PAYING, Long.class, updatedBefore, limit);
+	}
+
+	private static String placeholders(int count) {
+		return String.join(",", Collections.nCopies(count, "?"));
+	}
+}
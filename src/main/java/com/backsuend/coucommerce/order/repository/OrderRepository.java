@@ -0,0 +1,41 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+
+/**
+ * @author rua
+ */
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+	/** 상태 전이(결제 승인 등) 직전에 주문 행을 잠그고 조회 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select o from Order o where o.id = :id")
+	Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+	/** 현재 상태가 from 일 때만 to 로 전이 (동시 요청 중 하나만 1 을 받음) */
+	@Modifying
+	@Query("update Order o set o.status = :to, o.updatedAt = :now where o.id = :id and o.status = :from")
+	int updateStatus(@Param("id") Long id, @Param("from") OrderStatus from, @Param("to") OrderStatus to,
+		@Param("now") LocalDateTime now);
+
+	/** 주문 시점 가격 × 수량 합계 (결제 금액) - 상품 테이블과 조인하지 않으므로 샤드에서도 동작 */
+	@Query("select coalesce(sum(op.price * op.quantity), 0) from OrderProduct op where op.order.id = :orderId")
+	long sumTotalPrice(@Param("orderId") Long orderId);
+
+	/** 주문에 담긴 상품 ID (엔티티 로딩 없이 FK 만) */
+	@Query("select op.product.id from OrderProduct op where op.order.id = :orderId")
+	List<Long> findProductIds(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,12 @@
+package com.backsuend.coucommerce.order.repository;
+
+/**
+ * 상품별 수량 (주문할 장바구니 행 / 재고 반환 대상, 상품 ID 오름차순으로 조회됨)
+ *
+ * @author rua
+ */
+public record ProductQuantity(
+	long productId,
+	int quantity
+) {
+}
@@ -0,0 +1,36 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.backsuend.coucommerce.common.util.LongLongHashMap;
+
+/**
+ * 기간별 상품 판매 수량 집계 (판매 순위 보정용 - 주기적으로만 호출, 샤드마다 실행)
+ *
+ * @author rua
+ */
+@Repository
+public class ProductSalesJdbcRepository {
+
+	// 취소 제외 상태를 나열해 (status, created_at) 인덱스의 상태별 범위로 읽음
+	private static final String SUM_QUANTITIES = "select op.product_id, sum(op.quantity)"
+		+ " from orders o join order_product op on op.order_id = o.id"
+		+ " where o.status in ('READY', 'PAYING', 'START', 'DONE') and o.created_at >= ? and o.created_at < ?"
+		+ " group by op.product_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ProductSalesJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** [from, to) 에 생성된 주문(취소 제외)의 상품별 수량 */
+	public LongLongHashMap sumQuantitiesByProduct(LocalDateTime from, LocalDateTime to) {
+		LongLongHashMap quantities = new LongLongHashMap();
+		jdbcTemplate.query(SUM_QUANTITIES, rs -> quantities.put(rs.getLong(1), rs.getLong(2)), from, to);
+		return quantities;
+	}
+}
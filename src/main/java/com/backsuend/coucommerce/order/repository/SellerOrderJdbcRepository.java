@@ -0,0 +1,48 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.backsuend.coucommerce.order.dto.SellerOrderLineResponse;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+
+/**
+ * 판매자 상품이 담긴 주문 조회. 주문은 구매 회원 기준으로 샤딩되어 있으므로 샤드마다 실행 후 병합.
+ *
+ * @author rua
+ */
+@Repository
+public class SellerOrderJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SellerOrderJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** since 이후 주문 중 최근 순 limit 줄 (idx_order_product_product 로 상품별 주문 상품부터 찾음) */
+	public List<SellerOrderLineResponse> findRecentLines(List<Long> productIds, LocalDateTime since, int limit) {
+		String sql = "select o.id, op.product_id, op.quantity, op.price, o.status, o.created_at"
+			+ " from order_product op join orders o on o.id = op.order_id"
+			+ " where op.product_id in (" + String.join(",", Collections.nCopies(productIds.size(), "?")) + ")"
+			+ " and o.created_at >= ?"
+			+ " order by o.created_at desc, o.id desc"
+			+ " limit ?";
+		List<Object> args = new ArrayList<>(productIds.size() + 2);
+		args.addAll(productIds);
+		args.add(since);
+		args.add(limit);
+		return jdbcTemplate.query(sql, (rs, rowNum) -> new SellerOrderLineResponse(
+			rs.getLong(1),
+			rs.getLong(2),
+			rs.getInt(3),
+			rs.getInt(4),
+			OrderStatus.valueOf(rs.getString(5)),
+			rs.getObject(6, LocalDateTime.class)), args.toArray());
+	}
+}
@@ -0,0 +1,69 @@
+package com.backsuend.coucommerce.order.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문/만료 시 상품 재고 변경 (전역 DB 의 product). 입력은 상품 ID 오름차순 → 모든 트랜잭션이 같은 잠금 순서.
+ * 재고 변경은 상품 정보 변경이 아니므로 updated_at 을 건드리지 않음 (상품 캐시/버전 무효화 방지)
+ *
+ * @author rua
+ */
+@Repository
+public class StockJdbcRepository {
+
+	private static final String DECREMENT_STOCK = "update product set stock = stock - ?"
+		+ " where id = ? and stock >= ? and is_status = true and deleted_at is null";
+
+	private static final String RELEASE_STOCK = "update product set stock = stock + ? where id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public StockJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 조건부 재고 차감을 한 번의 배치로 실행하고, 차감하지 못한 상품 ID 를 반환.
+	 * (rewriteBatchedStatements=true 에서도 UPDATE 배치는 문장별 변경 행 수를 돌려줌)
+	 */
+	public List<Long> decrementStock(List<ProductQuantity> lines) {
+		int[][] counts = jdbcTemplate.batchUpdate(DECREMENT_STOCK, lines, lines.size(), (ps, line) -> {
+			ps.setInt(1, line.quantity());
+			ps.setLong(2, line.productId());
+			ps.setInt(3, line.quantity());
+		});
+		List<Long> rejected = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			if (counts[0][i] == 0) {
+				rejected.add(lines.get(i).productId());
+			}
+		}
+		return rejected;
+	}
+
+	/** 상품별 재고 반환을 한 번의 배치로 */
+	public void releaseStock(List<ProductQuantity> quantities) {
+		jdbcTemplate.batchUpdate(RELEASE_STOCK, quantities, quantities.size(), (ps, quantity) -> {
+			ps.setInt(1, quantity.quantity());
+			ps.setLong(2, quantity.productId());
+		});
+	}
+
+	/** 상품 ID → 현재 가격 (차감 직후 같은 트랜잭션에서 읽으면 잠긴 행의 가격) */
+	public Map<Long, Integer> findPrices(List<ProductQuantity> lines) {
+		String sql = "select id, price from product where id in ("
+			+ String.join(",", Collections.nCopies(lines.size(), "?")) + ")";
+		Map<Long, Integer> prices = new HashMap<>(lines.size() * 2);
+		jdbcTemplate.query(sql, rs -> {
+			prices.put(rs.getLong(1), rs.getInt(2));
+		}, lines.stream().map(ProductQuantity::productId).toArray());
+		return prices;
+	}
+}
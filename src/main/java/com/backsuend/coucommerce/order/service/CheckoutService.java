@@ -0,0 +1,92 @@
+package com.backsuend.coucommerce.order.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.order.dto.CheckoutRequest;
+import com.backsuend.coucommerce.order.dto.CheckoutResponse;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.event.OrderPlacedEvent;
+import com.backsuend.coucommerce.order.repository.CartLine;
+import com.backsuend.coucommerce.order.repository.CheckoutJdbcRepository;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.order.repository.ProductQuantity;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * 장바구니 → 주문 전환. 장바구니 크기와 무관하게 일정한 수의 문장으로 처리.
+ *
+ * <pre>
+ * 1) 회원 조회                                          (전역 DB)
+ * 2) 장바구니 행 잠금 + 조회 (상품 ID 오름차순)            (회원 샤드 트랜잭션 시작)
+ * 3) 조건부 재고 차감 배치 + 가격 조회                    (전역 DB, {@link StockReservationService})
+ *    - 상품 ID 오름차순 → 잠금 순서 고정, 하나라도 실패하면 전체 롤백
+ * 4) 주문 INSERT (회원 버킷을 담은 ID)
+ * 5) 주문 상품 배치 INSERT (주문 시점 가격)
+ * 6) 장바구니 일괄 삭제                                  (회원 샤드 트랜잭션 커밋)
+ * </pre>
+ *
+ * @author rua
+ */
+@Service
+public class CheckoutService {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private final MemberRepository memberRepository;
+	private final OrderRepository orderRepository;
+	private final CheckoutJdbcRepository checkoutJdbcRepository;
+	private final StockReservationService stockReservationService;
+	private final ShardRouter shardRouter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public CheckoutService(MemberRepository memberRepository, OrderRepository orderRepository,
+		CheckoutJdbcRepository checkoutJdbcRepository, StockReservationService stockReservationService,
+		ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+		this.memberRepository = memberRepository;
+		this.orderRepository = orderRepository;
+		this.checkoutJdbcRepository = checkoutJdbcRepository;
+		this.stockReservationService = stockReservationService;
+		this.shardRouter = shardRouter;
+		this.eventPublisher = eventPublisher;
+	}
+
+	public CheckoutResponse checkout(Long memberId, CheckoutRequest request) {
+		Member buyer = memberRepository.findById(memberId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "회원을 찾을 수 없습니다."));
+		return shardRouter.inMemberTransaction(memberId, () -> placeOrder(buyer, request));
+	}
+
+	private CheckoutResponse placeOrder(Member buyer, CheckoutRequest request) {
+		long memberId = buyer.getId();
+		List<ProductQuantity> cart = checkoutJdbcRepository.lockCartLines(memberId);
+		if (cart.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT, "장바구니가 비어 있습니다.");
+		}
+		List<CartLine> lines = stockReservationService.reserve(cart);
+
+		// ID 를 직접 발급해 persist 가 INSERT 를 미루므로 주문 상품(FK) INSERT 전에 flush
+		Order order = orderRepository.saveAndFlush(new Order(shardRouter.nextId(memberId), buyer,
+			request.receiverName(), request.receiverRoadName(), request.receiverPhone(), request.receiverPostalCode()));
+		checkoutJdbcRepository.insertOrderLines(order.getId(), lines, LocalDateTime.now(SEOUL));
+		checkoutJdbcRepository.clearCart(memberId);
+
+		long totalPrice = 0;
+		List<OrderPlacedEvent.Line> placed = new ArrayList<>(lines.size());
+		for (CartLine line : lines) {
+			totalPrice += (long)line.price() * line.quantity();
+			placed.add(new OrderPlacedEvent.Line(line.productId(), line.quantity()));
+		}
+		eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), memberId, placed, totalPrice));
+		return new CheckoutResponse(order.getId(), order.getStatus(), lines.size(), totalPrice);
+	}
+}
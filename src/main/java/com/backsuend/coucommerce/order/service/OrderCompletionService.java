@@ -0,0 +1,41 @@
+package com.backsuend.coucommerce.order.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.event.OrderCompletedEvent;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * @author rua
+ */
+@Service
+public class OrderCompletionService {
+
+	private final OrderRepository orderRepository;
+	private final ShardRouter shardRouter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public OrderCompletionService(OrderRepository orderRepository, ShardRouter shardRouter,
+		ApplicationEventPublisher eventPublisher) {
+		this.orderRepository = orderRepository;
+		this.shardRouter = shardRouter;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/** 구매 확정 (주문 샤드 트랜잭션). 주문 행을 잠가 결제 승인·만료와 직렬화 */
+	public void complete(Long orderId) {
+		shardRouter.inIdTransaction(orderId, () -> {
+			Order order = orderRepository.findByIdForUpdate(orderId)
+				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "주문을 찾을 수 없습니다."));
+			order.complete();
+			eventPublisher.publishEvent(new OrderCompletedEvent(orderId, order.getBuyer().getId(),
+				orderRepository.findProductIds(orderId)));
+			return order;
+		});
+	}
+}
@@ -0,0 +1,87 @@
+package com.backsuend.coucommerce.order.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.order.repository.OrderExpiryJdbcRepository;
+import com.backsuend.coucommerce.order.repository.ProductQuantity;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+import com.backsuend.coucommerce.shard.routing.ShardScatterGather;
+
+/**
+ * 미결제 주문 만료: READY 주문을 CANCELED 로 전이하고 예약 재고를 반환.
+ *
+ * <pre>
+ * 주문 ID 의 샤드별로:
+ * 1) 대상 주문 중 아직 READY 인 행만 잠금 (결제 승인이 먼저 잡았으면 START 라 제외됨)
+ * 2) 주문 상품을 상품별로 합산 (상품 ID 오름차순)
+ * 3) 주문 상태 일괄 변경
+ * 4) 재고 반환 배치 (전역 DB - 샤딩 중이면 샤드 커밋 후, {@link StockReservationService})
+ * </pre>
+ * 같은 주문을 여러 번(여러 노드, 백스톱 재시도) 넣어도 1) 에서 걸러지므로 재고가 두 번 반환되지 않음.
+ *
+ * @author rua
+ */
+@Service
+public class OrderExpiryService {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private final OrderExpiryJdbcRepository expiryJdbcRepository;
+	private final StockReservationService stockReservationService;
+	private final ShardRouter shardRouter;
+	private final ShardScatterGather scatterGather;
+
+	public OrderExpiryService(OrderExpiryJdbcRepository expiryJdbcRepository,
+		StockReservationService stockReservationService, ShardRouter shardRouter, ShardScatterGather scatterGather) {
+		this.expiryJdbcRepository = expiryJdbcRepository;
+		this.stockReservationService = stockReservationService;
+		this.shardRouter = shardRouter;
+		this.scatterGather = scatterGather;
+	}
+
+	/** 실제로 취소한 주문 ID 반환 */
+	public List<Long> expire(List<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return List.of();
+		}
+		Map<Integer, List<Long>> byShard = new TreeMap<>();
+		for (Long orderId : orderIds) {
+			byShard.computeIfAbsent(shardRouter.shardOfId(orderId), shard -> new ArrayList<>()).add(orderId);
+		}
+		List<Long> canceled = new ArrayList<>(orderIds.size());
+		byShard.forEach((shard, ids) -> canceled.addAll(shardRouter.inShardTransaction(shard, () -> cancel(ids))));
+		return canceled;
+	}
+
+	private List<Long> cancel(List<Long> orderIds) {
+		List<Long> ready = expiryJdbcRepository.lockReadyOrders(orderIds);
+		if (ready.isEmpty()) {
+			return ready;
+		}
+		List<ProductQuantity> quantities = expiryJdbcRepository.sumQuantitiesByProduct(ready);
+		expiryJdbcRepository.markCanceled(ready, LocalDateTime.now(SEOUL));
+		if (!quantities.isEmpty()) {
+			stockReservationService.releaseAfterCommit(quantities);
+		}
+		return ready;
+	}
+
+	/** 기한(createdBefore) 지난 READY 주문 ID - 타이머를 잃은 주문 보정용. 모든 샤드에서 오래된 순 limit 개씩 */
+	public List<Long> findOverdue(LocalDateTime createdBefore, int limit) {
+		return scatterGather.gatherOwned(() -> expiryJdbcRepository.findOverdueReadyOrderIds(createdBefore, limit),
+			Long::longValue);
+	}
+
+	/** 승인 대기(PAYING)로 updatedBefore 이전부터 남아 있는 주문 ID - 승인 결과를 반영하지 못한 결제 정리용 */
+	public List<Long> findStalePaying(LocalDateTime updatedBefore, int limit) {
+		return scatterGather.gatherOwned(() -> expiryJdbcRepository.findStalePayingOrderIds(updatedBefore, limit),
+			Long::longValue);
+	}
+}
@@ -0,0 +1,62 @@
+package com.backsuend.coucommerce.order.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.order.dto.SellerOrderLineResponse;
+import com.backsuend.coucommerce.order.repository.SellerOrderJdbcRepository;
+import com.backsuend.coucommerce.seller.cache.SellerAuthorizationCache;
+import com.backsuend.coucommerce.shard.routing.ShardScatterGather;
+
+/**
+ * 판매자 주문 목록 (scatter-gather).
+ * 1) 판매자 상품 ID                      (전역 DB)
+ * 2) 샤드마다 최근 순 limit 줄            (병렬)
+ * 3) 샤드별 결과를 합쳐 다시 최근 순 limit 줄 → 각 샤드 상위 limit 의 합집합에 전체 상위 limit 이 반드시 포함
+ *    (재배치로 원본에 남은 사본은 주문 ID 의 정본 샤드 기준으로 빼서 같은 줄이 두 번 나오지 않음)
+ *
+ * @author rua
+ */
+@Service
+public class SellerOrderQueryService {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final Comparator<SellerOrderLineResponse> RECENT_FIRST =
+		Comparator.comparing(SellerOrderLineResponse::orderedAt)
+			.thenComparing(SellerOrderLineResponse::orderId)
+			.reversed();
+
+	private final SellerAuthorizationCache sellerAuthorizationCache;
+	private final ProductRepository productRepository;
+	private final SellerOrderJdbcRepository sellerOrderJdbcRepository;
+	private final ShardScatterGather scatterGather;
+
+	public SellerOrderQueryService(SellerAuthorizationCache sellerAuthorizationCache,
+		ProductRepository productRepository, SellerOrderJdbcRepository sellerOrderJdbcRepository,
+		ShardScatterGather scatterGather) {
+		this.sellerAuthorizationCache = sellerAuthorizationCache;
+		this.productRepository = productRepository;
+		this.sellerOrderJdbcRepository = sellerOrderJdbcRepository;
+		this.scatterGather = scatterGather;
+	}
+
+	public List<SellerOrderLineResponse> recentOrders(Long sellerId, int days, int limit) {
+		sellerAuthorizationCache.checkApprovedSeller(sellerId);
+		List<Long> productIds = productRepository.findIdsBySellerId(sellerId);
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		LocalDateTime since = LocalDateTime.now(SEOUL).minusDays(days);
+		return scatterGather.gatherOwned(() -> sellerOrderJdbcRepository.findRecentLines(productIds, since, limit),
+				SellerOrderLineResponse::orderId)
+			.stream()
+			.sorted(RECENT_FIRST)
+			.limit(limit)
+			.toList();
+	}
+}
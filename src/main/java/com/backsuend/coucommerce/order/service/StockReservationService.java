@@ -0,0 +1,95 @@
+package com.backsuend.coucommerce.order.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.order.repository.CartLine;
+import com.backsuend.coucommerce.order.repository.ProductQuantity;
+import com.backsuend.coucommerce.order.repository.StockJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * 주문 재고 차감/반환 (전역 DB). 주문을 저장하는 회원 샤드 트랜잭션 안에서 호출.
+ * - 샤딩이 꺼져 있으면 호출자 트랜잭션에 참여 → 기존처럼 주문과 함께 커밋/롤백
+ * - 샤딩 중이면 DB 가 달라 한 트랜잭션으로 묶을 수 없음 → 결과가 초과 판매 쪽으로 틀어지지 않게 순서와 보상을 둠
+ *   · 주문: 재고 차감을 먼저 커밋, 샤드 트랜잭션이 롤백되면 차감분 반환
+ *   · 만료: 샤드에서 취소를 커밋한 뒤 반환. 반환이 실패하면 재고가 덜 남을 뿐 (로그로 보정)
+ *
+ * @author rua
+ */
+@Service
+public class StockReservationService {
+
+	private static final Logger log = LoggerFactory.getLogger(StockReservationService.class);
+
+	private final ShardRouter shardRouter;
+	private final StockJdbcRepository stockJdbcRepository;
+
+	public StockReservationService(ShardRouter shardRouter, StockJdbcRepository stockJdbcRepository) {
+		this.shardRouter = shardRouter;
+		this.stockJdbcRepository = stockJdbcRepository;
+	}
+
+	/** 재고 차감 후 주문 시점 가격을 붙여 반환. 하나라도 부족하면 OUT_OF_STOCK (차감 없음) */
+	public List<CartLine> reserve(List<ProductQuantity> lines) {
+		List<CartLine> priced = shardRouter.inGlobalTransaction(() -> {
+			List<Long> rejected = stockJdbcRepository.decrementStock(lines);
+			if (!rejected.isEmpty()) {
+				throw new BusinessException(ErrorCode.OUT_OF_STOCK, "재고가 부족하거나 판매 중이 아닌 상품: " + rejected);
+			}
+			Map<Long, Integer> prices = stockJdbcRepository.findPrices(lines);
+			List<CartLine> result = new ArrayList<>(lines.size());
+			for (ProductQuantity line : lines) {
+				result.add(new CartLine(line.productId(), line.quantity(), prices.get(line.productId())));
+			}
+			return result;
+		});
+		if (shardRouter.isEnabled()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_ROLLED_BACK) {
+						release(lines, "주문 롤백");
+					} else if (status == STATUS_UNKNOWN) {
+						log.error("주문 커밋 결과 불명 - 재고 차감분 확인 필요: {}", lines);
+					}
+				}
+			});
+		}
+		return priced;
+	}
+
+	/** 호출자(샤드) 트랜잭션이 커밋되면 재고 반환 */
+	public void releaseAfterCommit(List<ProductQuantity> quantities) {
+		if (!shardRouter.isEnabled()) {
+			stockJdbcRepository.releaseStock(quantities);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				release(quantities, "주문 취소");
+			}
+		});
+	}
+
+	private void release(List<ProductQuantity> quantities, String reason) {
+		try {
+			shardRouter.inGlobalTransaction(() -> {
+				stockJdbcRepository.releaseStock(quantities);
+				return null;
+			});
+		} catch (RuntimeException ex) {
+			log.error("{} 재고 반환 실패 - 수동 보정 필요: {}", reason, quantities, ex);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.backsuend.coucommerce.payment.cache;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+import com.backsuend.coucommerce.payment.entity.Payment;
+
+/**
+ * 결제 결과 캐시 (주문 상세/결제 조회에서 결제 행을 다시 읽지 않도록 필요한 값만 보관)
+ *
+ * @author rua
+ */
+public record PaymentSnapshot(
+	long paymentId,
+	long orderId,
+	CardBrand cardBrand,
+	int totalPrice,
+	long approvedAtEpochMillis
+) {
+	public static PaymentSnapshot of(Payment payment, long orderId, long approvedAtEpochMillis) {
+		return new PaymentSnapshot(payment.getId(), orderId, payment.getCardId(), payment.getTotalPrice(),
+			approvedAtEpochMillis);
+	}
+}
@@ -0,0 +1,41 @@
+package com.backsuend.coucommerce.payment.cache;
+
+import com.backsuend.coucommerce.common.redis.serializer.BinaryCodec;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryReader;
+import com.backsuend.coucommerce.common.redis.serializer.BinaryWriter;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * v1: paymentId, orderId, cardBrand, totalPrice, approvedAt
+ *
+ * @author rua
+ */
+public class PaymentSnapshotCodec implements BinaryCodec<PaymentSnapshot> {
+
+	private static final CardBrand[] CARD_BRANDS = CardBrand.values();
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public void write(PaymentSnapshot value, BinaryWriter out) {
+		out.writeLong(value.paymentId())
+			.writeLong(value.orderId())
+			.writeEnum(value.cardBrand())
+			.writeInt(value.totalPrice())
+			.writeLong(value.approvedAtEpochMillis());
+	}
+
+	@Override
+	public PaymentSnapshot read(BinaryReader in, int version) {
+		return new PaymentSnapshot(
+			in.readLong(),
+			in.readLong(),
+			in.readEnum(CARD_BRANDS),
+			in.readInt(),
+			in.readLong()
+		);
+	}
+}
@@ -0,0 +1,38 @@
+package com.backsuend.coucommerce.payment.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.backsuend.coucommerce.common.trace.TraceTaskDecorator;
+
+/**
+ * @author rua
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentGatewayProperties.class)
+public class PaymentGatewayConfig {
+
+	/**
+	 * 카드사 승인 이후 주문/결제 저장(DB 작업)을 수행하는 전용 풀.
+	 * 카드사 응답 스레드에서 DB 트랜잭션을 열지 않도록 분리하고, 큐까지 차면 거절(AbortPolicy)해
+	 * 카드사 완료 스레드(공용 풀, 시간 초과 스케줄러)가 DB 작업에 묶이지 않게 함.
+	 * 거절된 결제는 PaymentService 가 바로 실패 응답 + 승인 취소.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor paymentCallbackExecutor(PaymentGatewayProperties properties,
+		TraceTaskDecorator traceTaskDecorator) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.callback().poolSize());
+		executor.setMaxPoolSize(properties.callback().poolSize());
+		executor.setQueueCapacity(properties.callback().queueCapacity());
+		executor.setThreadNamePrefix("payment-callback-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setTaskDecorator(traceTaskDecorator);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+}
@@ -0,0 +1,62 @@
+package com.backsuend.coucommerce.payment.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * 카드사 연동 설정 (payment.gateway.*)
+ *
+ * @author rua
+ */
+@ConfigurationProperties(prefix = "payment.gateway")
+public record PaymentGatewayProperties(
+	@DefaultValue("3s") Duration timeout,          // 카드사 응답 대기 한도
+	@DefaultValue("32") int maxConcurrentPerBrand,  // 카드사별 동시 승인 요청 상한 (벌크헤드)
+	@DefaultValue Breaker breaker,
+	@DefaultValue Callback callback,
+	@DefaultValue Simulator simulator
+) {
+
+	public record Breaker(
+		@DefaultValue("5") int failureThreshold,  // 연속 실패 N회 시 OPEN
+		@DefaultValue("30s") Duration openDuration
+	) {
+	}
+
+	/** 승인 후 주문/결제 저장을 수행하는 콜백 풀 */
+	public record Callback(
+		@DefaultValue("8") int poolSize,
+		@DefaultValue("1000") int queueCapacity
+	) {
+	}
+
+	/**
+	 * 실 카드사 구현체가 없는 브랜드를 대신하는 시뮬레이터 (테스트/부하 측정용 - dev/test/loadtest 프로필에서만 켬).
+	 * brands 로 카드사별 지연/실패율을 덮어쓸 수 있음.
+	 */
+	public record Simulator(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue Profile defaults,
+		Map<CardBrand, Profile> brands
+	) {
+		public Profile profileOf(CardBrand brand) {
+			if (brands != null && brands.containsKey(brand)) {
+				return brands.get(brand);
+			}
+			return defaults;
+		}
+	}
+
+	public record Profile(
+		@DefaultValue("300ms") Duration latency,  // 기본 응답 지연
+		@DefaultValue("200ms") Duration jitter,   // 0 ~ jitter 추가 지연
+		@DefaultValue("0.0") double failureRate,  // 통신 장애 비율 (서킷 브레이커 실패로 집계)
+		@DefaultValue("0.0") double declineRate   // 카드사 거절 비율
+	) {
+	}
+}
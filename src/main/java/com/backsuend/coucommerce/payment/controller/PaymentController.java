@@ -0,0 +1,38 @@
+package com.backsuend.coucommerce.payment.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.payment.dto.PaymentRequest;
+import com.backsuend.coucommerce.payment.dto.PaymentResponse;
+import com.backsuend.coucommerce.payment.service.PaymentService;
+
+/**
+ * @author rua
+ */
+@RestController
+public class PaymentController {
+
+	private final PaymentService paymentService;
+
+	public PaymentController(PaymentService paymentService) {
+		this.paymentService = paymentService;
+	}
+
+	/** 카드사 응답을 기다리는 동안 요청 스레드를 반납 (Servlet async) */
+	@PostMapping("/api/orders/{orderId}/payments")
+	public CompletableFuture<ResponseEntity<ApiResponse<PaymentResponse>>> pay(
+		@PathVariable Long orderId, @Valid @RequestBody PaymentRequest request) {
+
+		return paymentService.pay(orderId, request.cardBrand())
+			.thenApply(response -> ApiResponse.created(response).toResponseEntity());
+	}
+}
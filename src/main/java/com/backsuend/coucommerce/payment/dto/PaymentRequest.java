@@ -0,0 +1,13 @@
+package com.backsuend.coucommerce.payment.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * @author rua
+ */
+public record PaymentRequest(
+	@NotNull CardBrand cardBrand
+) {
+}
@@ -0,0 +1,17 @@
+package com.backsuend.coucommerce.payment.dto;
+
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * @author rua
+ */
+public record PaymentResponse(
+	Long paymentId,
+	Long orderId,
+	OrderStatus orderStatus,
+	CardBrand cardBrand,
+	int totalPrice,
+	String approvalNo
+) {
+}
@@ -5,30 +5,37 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Min;
 
+import org.springframework.data.domain.Persistable;
+
 import com.backsuend.coucommerce.common.entity.BaseTimeEntity;
 import com.backsuend.coucommerce.order.entity.Order;
 
 /**
+ * ID 는 주문과 같은 버킷으로 직접 발급 → 주문과 같은 샤드에 저장되고 함께 이동 (발급 방식은 {@link Order} 참고)
+ *
  * @author rua
  */
 @Entity
 @Table(name = "payment",
 	indexes = @Index(name = "idx_payment_order", columnList = "order_id"))
-public class Payment extends BaseTimeEntity {
+public class Payment extends BaseTimeEntity implements Persistable<Long> {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@Transient
+	private boolean persisted;
+
 	// 주문과 1:1 (스키마에 맞춰 order_id FK 보유)
 	@OneToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "order_id", nullable = false, unique = true)
@@ -41,4 +48,47 @@ public class Payment extends BaseTimeEntity {
 	@Min(0)
 	@Column(name = "total_price", nullable = false)
 	private int totalPrice;
+
+	protected Payment() {
+	}
+
+	private Payment(long id, Order order, CardBrand cardId, int totalPrice) {
+		this.id = id;
+		this.order = order;
+		this.cardId = cardId;
+		this.totalPrice = totalPrice;
+	}
+
+	/** 카드사 승인이 끝난 결제 기록 생성 */
+	public static Payment approved(long id, Order order, CardBrand cardId, int totalPrice) {
+		return new Payment(id, order, cardId, totalPrice);
+	}
+
+	@Override
+	public Long getId() {
+		return id;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+
+	public Order getOrder() {
+		return order;
+	}
+
+	public CardBrand getCardId() {
+		return cardId;
+	}
+
+	public int getTotalPrice() {
+		return totalPrice;
+	}
 }
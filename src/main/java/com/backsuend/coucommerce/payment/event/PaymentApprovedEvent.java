@@ -0,0 +1,16 @@
+package com.backsuend.coucommerce.payment.event;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * 결제 승인 및 주문 READY → START 전이가 커밋될 때 발행되는 이벤트
+ *
+ * @author rua
+ */
+public record PaymentApprovedEvent(
+	Long orderId,
+	Long paymentId,
+	CardBrand cardBrand,
+	int totalPrice
+) {
+}
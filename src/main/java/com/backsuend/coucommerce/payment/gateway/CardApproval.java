@@ -0,0 +1,21 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+/**
+ * 카드사 승인 결과.
+ * - approved=false 는 카드사의 업무적 거절(한도 초과 등)로, 장애가 아니므로 서킷 브레이커 실패로 집계하지 않음
+ *
+ * @author rua
+ */
+public record CardApproval(
+	boolean approved,
+	String approvalNo,    // 승인 번호 (승인 시)
+	String declineReason  // 거절 사유 (거절 시)
+) {
+	public static CardApproval approved(String approvalNo) {
+		return new CardApproval(true, approvalNo, null);
+	}
+
+	public static CardApproval declined(String reason) {
+		return new CardApproval(false, null, reason);
+	}
+}
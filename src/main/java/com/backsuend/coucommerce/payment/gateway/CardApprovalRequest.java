@@ -0,0 +1,13 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * @author rua
+ */
+public record CardApprovalRequest(
+	Long orderId,
+	CardBrand brand,
+	int amount
+) {
+}
@@ -0,0 +1,24 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * 카드사별 승인 연동 SPI.
+ * - 구현체는 카드사(CardBrand) 하나를 담당하며 빈으로 등록하면 {@link PaymentGatewayClient} 가 자동으로 수집
+ * - approve 는 호출 스레드를 막지 않고 즉시 future 를 반환해야 함 (네트워크 대기 중 스레드 점유 금지)
+ * - 거절은 {@link CardApproval#declined(String)} 로 정상 완료, 통신 오류/장애는 예외로 완료
+ * - cancel 은 같은 주문에 여러 번 호출해도 한 번만 취소되어야 함 (재시도, 응답 없는 승인 취소에 사용)
+ *
+ * @author rua
+ */
+public interface CardGateway {
+
+	CardBrand brand();
+
+	CompletableFuture<CardApproval> approve(CardApprovalRequest request);
+
+	/** 승인 취소. approvalNo 가 null 이면 주문 기준 (응답을 받지 못한 승인) */
+	CompletableFuture<Void> cancel(CardApprovalRequest request, String approvalNo);
+}
@@ -0,0 +1,110 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카드사 단위 서킷 브레이커 (연속 실패 횟수 기반).
+ * - CLOSED    : 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN      : openDuration 동안 호출을 즉시 거부
+ * - HALF_OPEN : openDuration 경과 후 한 건만 시험 호출, 성공 시 CLOSED / 실패 시 다시 OPEN
+ *
+ * 호출마다 허용 시점의 세대(상태가 바뀔 때마다 증가)와 시험 호출 여부를 담은 티켓을 받아 결과와 함께 돌려줌.
+ * 세대가 지난 결과(OPEN 전에 시작해 늦게 끝난 호출 등)는 무시 → 시험 호출 없이 OPEN 이 닫히지 않음
+ *
+ * @author rua
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED,
+		OPEN,
+		HALF_OPEN
+	}
+
+	/** 거부된 호출의 티켓 */
+	public static final long REJECTED = -1L;
+	private static final long TRIAL = 1L;
+
+	private final int failureThreshold;
+	private final long openNanos;
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private boolean trialInFlight;
+	private volatile long generation;
+	private volatile long openedAt = -1L;
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration) {
+		this.failureThreshold = failureThreshold;
+		this.openNanos = openDuration.toNanos();
+	}
+
+	/** 호출 허용 시 티켓, 거부 시 {@link #REJECTED}. HALF_OPEN 에서는 시험 호출 한 건만 허용 */
+	public long tryAcquire() {
+		if (openedAt < 0) {
+			return generation << 1;
+		}
+		synchronized (this) {
+			long opened = openedAt;
+			if (opened < 0) {
+				return generation << 1;
+			}
+			if (System.nanoTime() - opened < openNanos || trialInFlight) {
+				return REJECTED;
+			}
+			trialInFlight = true;
+			return generation << 1 | TRIAL;
+		}
+	}
+
+	public void onSuccess(long ticket) {
+		if (isTrial(ticket)) {
+			synchronized (this) {
+				if (isCurrent(ticket)) {
+					consecutiveFailures.set(0);
+					openedAt = -1L;
+					trialInFlight = false;
+					generation++;
+				}
+			}
+		} else if (isCurrent(ticket)) {
+			consecutiveFailures.set(0);
+		}
+	}
+
+	public void onFailure(long ticket) {
+		if (!isCurrent(ticket)) {
+			return;
+		}
+		synchronized (this) {
+			if (!isCurrent(ticket)) {
+				return;
+			}
+			if (isTrial(ticket)) {
+				// 시험 호출 실패 → OPEN 구간 재시작
+				openedAt = System.nanoTime();
+				trialInFlight = false;
+				generation++;
+			} else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+				openedAt = System.nanoTime();
+				generation++;
+			}
+		}
+	}
+
+	public State state() {
+		long opened = openedAt;
+		if (opened < 0) {
+			return State.CLOSED;
+		}
+		return System.nanoTime() - opened < openNanos ? State.OPEN : State.HALF_OPEN;
+	}
+
+	private boolean isCurrent(long ticket) {
+		return ticket >>> 1 == generation;
+	}
+
+	private static boolean isTrial(long ticket) {
+		return (ticket & TRIAL) != 0;
+	}
+}
@@ -0,0 +1,187 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * 카드사 승인 논블로킹 클라이언트.
+ * - 카드사마다 독립된 벌크헤드(동시 요청 세마포어)와 서킷 브레이커를 가지므로
+ *   특정 카드사가 느려지거나 장애가 나도 다른 카드사/공용 스레드 풀에 영향이 없음
+ * - 벌크헤드 초과, 서킷 OPEN 은 대기하지 않고 즉시 실패 (fail-fast)
+ * - 응답 대기는 timeout 으로 제한. 벌크헤드 허가는 시간 초과가 아니라 실제 호출이 끝날 때 반납
+ *   (시간 초과 후에도 카드사 호출은 진행 중이므로 그만큼 동시 요청 수에 포함)
+ * - 승인 취소는 벌크헤드/서킷을 거치지 않고 실패 시 재시도 (취소 누락 = 고객 이중 청구)
+ *
+ * @author rua
+ */
+@Component
+public class PaymentGatewayClient {
+
+	private static final Logger log = LoggerFactory.getLogger(PaymentGatewayClient.class);
+
+	private static final int CANCEL_ATTEMPTS = 5;
+	private static final long CANCEL_BACKOFF_MILLIS = 500;
+
+	private final Map<CardBrand, Lane> lanes = new EnumMap<>(CardBrand.class);
+	private final long timeoutMillis;
+
+	public PaymentGatewayClient(ObjectProvider<CardGateway> gateways, PaymentGatewayProperties properties) {
+		this.timeoutMillis = properties.timeout().toMillis();
+
+		Map<CardBrand, CardGateway> byBrand = new EnumMap<>(CardBrand.class);
+		for (CardGateway gateway : gateways.orderedStream().toList()) {
+			if (byBrand.putIfAbsent(gateway.brand(), gateway) != null) {
+				throw new IllegalStateException("카드사 게이트웨이 중복 등록: " + gateway.brand());
+			}
+		}
+		for (CardBrand brand : CardBrand.values()) {
+			CardGateway gateway = byBrand.get(brand);
+			if (gateway == null && properties.simulator().enabled()) {
+				gateway = new SimulatorCardGateway(brand, properties.simulator().profileOf(brand));
+				log.info("카드사 {} 실 연동 구현체가 없어 시뮬레이터로 대체합니다.", brand);
+			}
+			if (gateway != null) {
+				lanes.put(brand, new Lane(gateway,
+					new Semaphore(properties.maxConcurrentPerBrand()),
+					new CircuitBreaker(properties.breaker().failureThreshold(), properties.breaker().openDuration())));
+			}
+		}
+	}
+
+	/** 연동된 카드사 */
+	public Set<CardBrand> brands() {
+		return lanes.keySet();
+	}
+
+	/**
+	 * 승인 요청. 반환된 future 는 다음 중 하나로 완료됨
+	 * - 승인: CardApproval(approved=true)
+	 * - 거절: BusinessException(PAYMENT_DECLINED)
+	 * - 벌크헤드 포화/서킷 OPEN/장애: BusinessException(PAYMENT_GATEWAY_UNAVAILABLE)
+	 * - 응답 지연: BusinessException(PAYMENT_GATEWAY_TIMEOUT)
+	 */
+	public CompletableFuture<CardApproval> approve(CardApprovalRequest request) {
+		Lane lane = lanes.get(request.brand());
+		if (lane == null) {
+			return CompletableFuture.failedFuture(
+				new BusinessException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE, "지원하지 않는 카드사입니다."));
+		}
+		// 포화/차단 거절은 폭주 시 대량으로 발생하므로 스택 트레이스 없이 생성
+		if (!lane.bulkhead.tryAcquire()) {
+			return CompletableFuture.failedFuture(new StacklessBusinessException(
+				ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE, request.brand() + " 카드사 요청이 몰려 있습니다."));
+		}
+		long ticket = lane.breaker.tryAcquire();
+		if (ticket == CircuitBreaker.REJECTED) {
+			lane.bulkhead.release();
+			return CompletableFuture.failedFuture(new StacklessBusinessException(
+				ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE, request.brand() + " 카드사 장애로 차단 중입니다."));
+		}
+
+		CompletableFuture<CardApproval> call;
+		try {
+			call = lane.gateway.approve(request);
+		} catch (RuntimeException ex) {
+			call = CompletableFuture.failedFuture(ex);
+		}
+
+		call.whenComplete((approval, error) -> lane.bulkhead.release());
+		// orTimeout 은 대상 future 를 직접 완료시키므로 사본에 걸어 원래 호출의 완료 시점을 보존
+		return call.copy()
+			.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+			.handle((approval, error) -> {
+				if (error != null) {
+					lane.breaker.onFailure(ticket);
+					throw translate(request, unwrap(error));
+				}
+				lane.breaker.onSuccess(ticket);
+				if (!approval.approved()) {
+					throw new BusinessException(ErrorCode.PAYMENT_DECLINED,
+						ErrorCode.PAYMENT_DECLINED.defaultMessage() + " (" + approval.declineReason() + ")");
+				}
+				return approval;
+			});
+	}
+
+	/**
+	 * 승인 취소 (approvalNo 가 null 이면 주문 기준 - 응답을 받지 못한 승인).
+	 * 실패하면 간격을 늘려 재시도하고, 끝내 실패하면 수동 취소 대상으로 로그. 반환값은 취소 성공 여부
+	 */
+	public CompletableFuture<Boolean> cancel(CardApprovalRequest request, String approvalNo) {
+		Lane lane = lanes.get(request.brand());
+		if (lane == null) {
+			log.error("카드사 {} 연동이 없어 승인 취소 불가 - 수동 취소 필요 orderId={} approvalNo={}",
+				request.brand(), request.orderId(), approvalNo);
+			return CompletableFuture.completedFuture(false);
+		}
+		return cancel(lane, request, approvalNo, 1);
+	}
+
+	private CompletableFuture<Boolean> cancel(Lane lane, CardApprovalRequest request, String approvalNo,
+		int attempt) {
+		CompletableFuture<Void> call;
+		try {
+			call = lane.gateway.cancel(request, approvalNo);
+		} catch (RuntimeException ex) {
+			call = CompletableFuture.failedFuture(ex);
+		}
+		return call.copy()
+			.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+			.handle((ignored, error) -> error)
+			.thenCompose(error -> {
+				if (error == null) {
+					log.info("카드사 {} 승인 취소 orderId={} approvalNo={}", request.brand(), request.orderId(),
+						approvalNo);
+					return CompletableFuture.completedFuture(true);
+				}
+				if (attempt >= CANCEL_ATTEMPTS) {
+					log.error("카드사 {} 승인 취소 실패 - 수동 취소 필요 orderId={} approvalNo={}",
+						request.brand(), request.orderId(), approvalNo, unwrap(error));
+					return CompletableFuture.completedFuture(false);
+				}
+				Executor backoff = CompletableFuture.delayedExecutor(CANCEL_BACKOFF_MILLIS * attempt,
+					TimeUnit.MILLISECONDS);
+				return CompletableFuture.supplyAsync(() -> attempt + 1, backoff)
+					.thenCompose(next -> cancel(lane, request, approvalNo, next));
+			});
+	}
+
+	public CircuitBreaker.State circuitState(CardBrand brand) {
+		Lane lane = lanes.get(brand);
+		return lane != null ? lane.breaker.state() : CircuitBreaker.State.OPEN;
+	}
+
+	private BusinessException translate(CardApprovalRequest request, Throwable error) {
+		if (error instanceof TimeoutException) {
+			log.warn("카드사 {} 승인 응답 시간 초과 orderId={}", request.brand(), request.orderId());
+			return new BusinessException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+		}
+		log.warn("카드사 {} 승인 요청 실패 orderId={}", request.brand(), request.orderId(), error);
+		return new BusinessException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	private record Lane(CardGateway gateway, Semaphore bulkhead, CircuitBreaker breaker) {
+	}
+}
@@ -0,0 +1,60 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties.Profile;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+/**
+ * 실제 카드사 대신 응답하는 시뮬레이터.
+ * - 지연은 delayedExecutor 로 예약하므로 대기 중에는 어떤 스레드도 점유하지 않음
+ * - failureRate 비율로 통신 장애(예외), declineRate 비율로 거절 응답
+ *
+ * @author rua
+ */
+public class SimulatorCardGateway implements CardGateway {
+
+	private final CardBrand brand;
+	private final Profile profile;
+	private final AtomicLong approvalSeq = new AtomicLong();
+
+	public SimulatorCardGateway(CardBrand brand, Profile profile) {
+		this.brand = brand;
+		this.profile = profile;
+	}
+
+	@Override
+	public CardBrand brand() {
+		return brand;
+	}
+
+	@Override
+	public CompletableFuture<CardApproval> approve(CardApprovalRequest request) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long delayMillis = profile.latency().toMillis();
+		long jitterMillis = profile.jitter().toMillis();
+		if (jitterMillis > 0) {
+			delayMillis += random.nextLong(jitterMillis + 1);
+		}
+		double roll = random.nextDouble();
+
+		return CompletableFuture.supplyAsync(() -> {
+			if (roll < profile.failureRate()) {
+				throw new IllegalStateException("simulated " + brand + " gateway failure");
+			}
+			if (roll < profile.failureRate() + profile.declineRate()) {
+				return CardApproval.declined("LIMIT_EXCEEDED");
+			}
+			return CardApproval.approved(brand + "-" + approvalSeq.incrementAndGet());
+		}, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+	}
+
+	@Override
+	public CompletableFuture<Void> cancel(CardApprovalRequest request, String approvalNo) {
+		return CompletableFuture.runAsync(() -> {
+		}, CompletableFuture.delayedExecutor(profile.latency().toMillis(), TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,11 @@
+package com.backsuend.coucommerce.payment.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.backsuend.coucommerce.payment.entity.Payment;
+
+/**
+ * @author rua
+ */
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+}
@@ -0,0 +1,67 @@
+package com.backsuend.coucommerce.payment.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.payment.dto.PaymentResponse;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+import com.backsuend.coucommerce.payment.entity.Payment;
+import com.backsuend.coucommerce.payment.event.PaymentApprovedEvent;
+import com.backsuend.coucommerce.payment.gateway.CardApproval;
+import com.backsuend.coucommerce.payment.repository.PaymentRepository;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * 카드사 승인 콜백. 주문 행을 잠근 뒤 결제를 기록하고 주문을 PAYING → START 로 전이.
+ * 예외를 던지면 호출자({@link PaymentService})가 승인을 취소하고 승인 대기를 해제
+ * 호출자가 주문 샤드를 정한 뒤 호출 ({@link PaymentService}) - 결제 ID 는 주문과 같은 버킷으로 발급
+ *
+ * @author rua
+ */
+@Component
+public class PaymentApprovalHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(PaymentApprovalHandler.class);
+
+	private final OrderRepository orderRepository;
+	private final PaymentRepository paymentRepository;
+	private final ShardRouter shardRouter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public PaymentApprovalHandler(OrderRepository orderRepository, PaymentRepository paymentRepository,
+		ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+		this.orderRepository = orderRepository;
+		this.paymentRepository = paymentRepository;
+		this.shardRouter = shardRouter;
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Transactional
+	public PaymentResponse onApproved(Long orderId, CardBrand cardBrand, int amount, CardApproval approval) {
+		Order order = orderRepository.findByIdForUpdate(orderId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "주문을 찾을 수 없습니다."));
+
+		if (order.getStatus() != OrderStatus.PAYING) {
+			// 승인 대기 중 주문 상태가 바뀐 경우 (백스톱 정리 등) → 호출자가 승인 취소
+			log.warn("결제 승인 후 주문 상태 불일치 orderId={} status={} approvalNo={}",
+				orderId, order.getStatus(), approval.approvalNo());
+			throw new BusinessException(ErrorCode.ORDER_NOT_PAYABLE);
+		}
+
+		Payment payment = paymentRepository.save(
+			Payment.approved(shardRouter.nextIdBeside(orderId), order, cardBrand, amount));
+		order.startWithPayment(payment.getId());
+
+		eventPublisher.publishEvent(new PaymentApprovedEvent(orderId, payment.getId(), cardBrand, amount));
+		return new PaymentResponse(payment.getId(), orderId, order.getStatus(), cardBrand, amount,
+			approval.approvalNo());
+	}
+}
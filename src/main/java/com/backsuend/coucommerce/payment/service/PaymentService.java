@@ -0,0 +1,250 @@
+package com.backsuend.coucommerce.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.common.trace.TraceContext;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.payment.dto.PaymentResponse;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+import com.backsuend.coucommerce.payment.gateway.CardApproval;
+import com.backsuend.coucommerce.payment.gateway.CardApprovalRequest;
+import com.backsuend.coucommerce.payment.gateway.PaymentGatewayClient;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * 비동기 결제 처리.
+ * 1) 요청 스레드: 주문 금액 확인 후 READY → PAYING 조건부 전이, 카드사 승인 요청만 걸고 즉시 반환
+ *    → 같은 주문의 동시 결제 요청은 하나만 카드사로 가고, 승인 대기 중에는 만료되지 않음
+ * 2) 카드사 응답: 콜백 풀에서 {@link PaymentApprovalHandler} 가 결제 저장 + 주문 PAYING → START
+ * 3) 실패 보상
+ *    - 승인 후 기록 실패: 승인 취소 + PAYING → READY (결제되지 않은 주문에 청구가 남지 않음)
+ *    - 거절/장애: PAYING → READY, 응답 시간 초과는 승인 여부를 모르므로 주문 기준 취소도 요청
+ *    - 콜백 전에 노드가 죽는 등으로 PAYING 에 남은 주문: 만료 백스톱이 {@link #voidStalePayments} 로 정리
+ *    - 승인 후 주문 버킷이 재배치 동결 중(SHARD_MIGRATING)이면 취소하지 않고 전환될 때까지 기록을 다시 시도
+ *      (shard-migration-wait 까지, 콜백 스레드를 잡지 않도록 지연 실행)
+ *    - 콜백 풀 포화: 카드사 완료 스레드에서 DB 작업을 하지 않고 바로 실패. 승인/시간 초과 건은 취소 요청만 보내고
+ *      (DB 없음) PAYING 해제는 만료 백스톱이 맡음
+ * 주문·결제는 주문 ID 에 담긴 버킷의 샤드에 있음 → 모든 단계에서 주문 ID 로 샤드를 정함 (콜백 스레드 포함)
+ *
+ * @author rua
+ */
+@Service
+public class PaymentService {
+
+	private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final long MIGRATION_RETRY_DELAY_MILLIS = 500;
+
+	private final OrderRepository orderRepository;
+	private final PaymentGatewayClient gatewayClient;
+	private final PaymentApprovalHandler approvalHandler;
+	private final ShardRouter shardRouter;
+	private final Executor callbackExecutor;
+	private final Executor migrationRetryDelay;
+	private final long migrationWaitNanos;
+
+	public PaymentService(OrderRepository orderRepository, PaymentGatewayClient gatewayClient,
+		PaymentApprovalHandler approvalHandler, ShardRouter shardRouter,
+		@Qualifier("paymentCallbackExecutor") Executor callbackExecutor,
+		@Value("${payment.shard-migration-wait:30s}") Duration migrationWait) {
+		this.orderRepository = orderRepository;
+		this.gatewayClient = gatewayClient;
+		this.approvalHandler = approvalHandler;
+		this.shardRouter = shardRouter;
+		this.callbackExecutor = callbackExecutor;
+		// 지연만 공용 풀 타이머로 - 실제 기록은 다시 콜백 풀에 제출 (거절 처리를 한 곳에서)
+		this.migrationRetryDelay = CompletableFuture.delayedExecutor(MIGRATION_RETRY_DELAY_MILLIS,
+			TimeUnit.MILLISECONDS);
+		this.migrationWaitNanos = migrationWait.toNanos();
+	}
+
+	public CompletableFuture<PaymentResponse> pay(Long orderId, CardBrand cardBrand) {
+		int amount = shardRouter.inIdTransaction(orderId, () -> beginPayment(orderId));
+		CardApprovalRequest request = new CardApprovalRequest(orderId, cardBrand, amount);
+		// 콜백 풀 데코레이터는 카드사 완료 스레드의 MDC 를 잡으므로 요청 스레드의 추적 ID 를 여기서 묶음
+		BiFunction<CardApproval, Throwable, CompletableFuture<PaymentResponse>> callback =
+			TraceContext.wrapBiFunction((CardApproval approval, Throwable error) -> {
+				if (error != null) {
+					onApprovalFailed(request, error);
+					return CompletableFuture.failedFuture(error);
+				}
+				return onApproved(request, approval, System.nanoTime() + migrationWaitNanos);
+			});
+		return gatewayClient.approve(request)
+			.handle((approval, error) ->
+				onCallbackPool(() -> callback.apply(approval, error), request, approval, error))
+			.thenCompose(Function.identity());
+	}
+
+	/**
+	 * 콜백 풀에서 work 실행 (호출 스레드는 제출만 함).
+	 * handleAsync 와 달리 풀이 거절해도 결과 future 가 매달리지 않고 바로 실패
+	 */
+	private CompletableFuture<PaymentResponse> onCallbackPool(Supplier<CompletableFuture<PaymentResponse>> work,
+		CardApprovalRequest request, CardApproval approval, Throwable error) {
+		CompletableFuture<PaymentResponse> result = new CompletableFuture<>();
+		try {
+			callbackExecutor.execute(() -> {
+				try {
+					work.get().whenComplete((response, failure) -> {
+						if (failure != null) {
+							result.completeExceptionally(failure);
+						} else {
+							result.complete(response);
+						}
+					});
+				} catch (RuntimeException ex) {
+					result.completeExceptionally(ex);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			result.completeExceptionally(onCallbackRejected(request, approval, error));
+		}
+		return result;
+	}
+
+	/** 콜백 풀 포화 - 결과를 기록할 수 없으므로 청구가 남지 않게 취소만 요청 (카드사 연동 스레드, DB 없음) */
+	private RuntimeException onCallbackRejected(CardApprovalRequest request, CardApproval approval, Throwable error) {
+		log.error("결제 콜백 풀 포화로 결과 처리 거절 - 승인 취소, 결제 대기는 만료 백스톱이 해제 orderId={} approvalNo={}",
+			request.orderId(), approval == null ? null : approval.approvalNo());
+		if (approval != null) {
+			gatewayClient.cancel(request, approval.approvalNo());
+		} else if (isTimeout(error)) {
+			gatewayClient.cancel(request, null);
+		}
+		return new StacklessBusinessException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE,
+			"결제 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+	}
+
+	/** 결제 금액 확인 후 READY → PAYING. 이미 결제 중/완료/만료된 주문은 ORDER_NOT_PAYABLE */
+	private int beginPayment(Long orderId) {
+		Order order = orderRepository.findById(orderId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "주문을 찾을 수 없습니다."));
+		if (order.getStatus() != OrderStatus.READY) {
+			throw new BusinessException(ErrorCode.ORDER_NOT_PAYABLE);
+		}
+
+		long total = orderRepository.sumTotalPrice(orderId);
+		if (total <= 0 || total > Integer.MAX_VALUE) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT, "결제 금액이 올바르지 않습니다.");
+		}
+		// 상태 확인과 전이 사이에 끼어든 동시 결제 요청/만료는 조건부 갱신에서 걸러짐
+		if (orderRepository.updateStatus(orderId, OrderStatus.READY, OrderStatus.PAYING, now()) == 0) {
+			throw new BusinessException(ErrorCode.ORDER_NOT_PAYABLE);
+		}
+		return (int)total;
+	}
+
+	private CompletableFuture<PaymentResponse> onApproved(CardApprovalRequest request, CardApproval approval,
+		long deadlineNanos) {
+		Long orderId = request.orderId();
+		try {
+			return CompletableFuture.completedFuture(shardRouter.onId(orderId,
+				() -> approvalHandler.onApproved(orderId, request.brand(), request.amount(), approval)));
+		} catch (BusinessException ex) {
+			if (ex.errorCode() != ErrorCode.SHARD_MIGRATING || System.nanoTime() - deadlineNanos > 0) {
+				throw voidApproval(request, approval, ex);
+			}
+			// 재배치 마지막 단계 - 전환되면 대상 샤드에 기록. 이미 청구된 승인이므로 취소보다 기다림
+			return CompletableFuture.runAsync(() -> { }, migrationRetryDelay)
+				.thenCompose(TraceContext.wrapFunction((Void ignored) ->
+					onCallbackPool(() -> onApproved(request, approval, deadlineNanos), request, approval, null)));
+		} catch (RuntimeException ex) {
+			throw voidApproval(request, approval, ex);
+		}
+	}
+
+	private RuntimeException voidApproval(CardApprovalRequest request, CardApproval approval, RuntimeException ex) {
+		log.warn("결제 승인 후 기록 실패 - 승인 취소 orderId={} approvalNo={}", request.orderId(), approval.approvalNo(),
+			ex);
+		gatewayClient.cancel(request, approval.approvalNo());
+		releasePayment(request.orderId());
+		return ex;
+	}
+
+	private void onApprovalFailed(CardApprovalRequest request, Throwable error) {
+		if (isTimeout(error)) {
+			// 카드사에서는 승인됐을 수 있음
+			gatewayClient.cancel(request, null);
+		}
+		releasePayment(request.orderId());
+	}
+
+	private static boolean isTimeout(Throwable error) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		return cause instanceof BusinessException business && business.errorCode() == ErrorCode.PAYMENT_GATEWAY_TIMEOUT;
+	}
+
+	/**
+	 * 승인 결과를 반영하지 못하고 PAYING 에 남은 주문 정리 (만료 백스톱에서 호출).
+	 * 어느 카드사로 요청했는지 주문에 남지 않으므로 연동된 모든 카드사에 주문 기준 취소를 보내고,
+	 * 모두 확인된 주문만 PAYING → READY 로 되돌려 이후 일반 만료(취소 + 재고 반환) 대상이 되게 함.
+	 * 취소를 확인하지 못한 주문은 PAYING 으로 남겨 다음 백스톱에서 다시 시도. 되돌린 주문 ID 반환
+	 */
+	public List<Long> voidStalePayments(List<Long> orderIds) {
+		List<Long> released = new ArrayList<>(orderIds.size());
+		for (Long orderId : orderIds) {
+			try {
+				if (voidByOrder(orderId) && shardRouter.inIdTransaction(orderId,
+					() -> orderRepository.updateStatus(orderId, OrderStatus.PAYING, OrderStatus.READY, now())) == 1) {
+					released.add(orderId);
+				}
+			} catch (RuntimeException ex) {
+				log.warn("승인 대기 주문 정리 실패 orderId={}", orderId, ex);
+			}
+		}
+		return released;
+	}
+
+	private boolean voidByOrder(Long orderId) {
+		long total = shardRouter.inIdTransaction(orderId, () -> orderRepository.sumTotalPrice(orderId));
+		List<CompletableFuture<Boolean>> cancels = new ArrayList<>();
+		for (CardBrand brand : gatewayClient.brands()) {
+			cancels.add(gatewayClient.cancel(new CardApprovalRequest(orderId, brand, (int)total), null)
+				.exceptionally(ex -> false));
+		}
+		boolean voided = true;
+		for (CompletableFuture<Boolean> cancel : cancels) {
+			voided &= cancel.join();
+		}
+		return voided;
+	}
+
+	/** 승인 대기를 풀어 다시 결제하거나 만료될 수 있게 함. 실패하면 만료 백스톱이 오래된 PAYING 을 정리 */
+	private void releasePayment(Long orderId) {
+		try {
+			shardRouter.inIdTransaction(orderId,
+				() -> orderRepository.updateStatus(orderId, OrderStatus.PAYING, OrderStatus.READY, now()));
+		} catch (RuntimeException ex) {
+			log.warn("결제 대기 해제 실패 orderId={}", orderId, ex);
+		}
+	}
+
+	private static LocalDateTime now() {
+		return LocalDateTime.now(SEOUL);
+	}
+}
@@ -0,0 +1,38 @@
+package com.backsuend.coucommerce.recommend.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.recommend.copurchase.CoPurchaseRecommender;
+import com.backsuend.coucommerce.recommend.dto.CoPurchaseResponse;
+
+/**
+ * @author rua
+ */
+@Validated
+@RestController
+public class RecommendationController {
+
+	private final CoPurchaseRecommender coPurchaseRecommender;
+
+	public RecommendationController(CoPurchaseRecommender coPurchaseRecommender) {
+		this.coPurchaseRecommender = coPurchaseRecommender;
+	}
+
+	/** 이 상품과 함께 구매한 상품 (메모리에서 바로 응답, DB 조회 없음) */
+	@GetMapping("/api/products/{productId}/bought-together")
+	public ResponseEntity<ApiResponse<CoPurchaseResponse>> boughtTogether(
+		@PathVariable Long productId,
+		@RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+		return ApiResponse.ok(coPurchaseRecommender.recommend(productId, limit)).toResponseEntity();
+	}
+}
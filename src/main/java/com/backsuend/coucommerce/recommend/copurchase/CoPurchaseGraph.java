@@ -0,0 +1,379 @@
+package com.backsuend.coucommerce.recommend.copurchase;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.backsuend.coucommerce.common.util.LongLongHashMap;
+
+/**
+ * 증분 동시 구매(co-occurrence) 그래프.
+ *
+ * <pre>
+ * partners : productId → (함께 산 productId → 점수)   점수 = 동시 구매 횟수 × SCALE (감쇠용 고정소수점)
+ * top      : productId → 점수 상위 N 개 (불변 배열, 조회는 락 없이)
+ * </pre>
+ * - 주문 하나가 상품 k 개면 k(k-1) 개 쌍을 갱신하고, 갱신된 k 개 상품의 상위 N 만 다시 계산
+ * - 상품당 파트너가 maxPartners × 2 를 넘으면 상위 maxPartners 만 남김 → 상품당 메모리는 카탈로그 크기와 무관
+ *   (Space-Saving 과 같은 원리: 빈번한 쌍은 잘려도 곧 다시 상위로 올라옴)
+ * - 감쇠: 전체 점수에 factor 를 곱하고 minScore 미만은 제거 → 오래된 구매 경향이 자연히 빠짐
+ * - 스냅샷: 상품·파트너 ID 오름차순 delta varint + CRC32
+ * - record 는 요청 스레드에서도 불리므로 감쇠·스냅샷 저장은 상품 CHUNK 개씩만 락 안에서 처리하고,
+ *   정렬·인코딩·I/O 와 스냅샷 읽기는 락 밖에서 → record 가 기다리는 시간은 그래프 크기와 무관
+ *   (청크 사이에 들어온 구매가 섞이므로 스냅샷·감쇠는 한 시점의 정확한 사본이 아님 - 근사 점수라 허용)
+ *
+ * @author rua
+ */
+public final class CoPurchaseGraph {
+
+	/** 동시 구매 1회의 점수 */
+	public static final long SCALE = 1 << 10;
+
+	private static final int SNAPSHOT_MAGIC = 0x43504731; // "CPG1"
+	/** 감쇠·스냅샷 저장 시 락을 한 번 잡고 처리할 상품 수 */
+	private static final int CHUNK = 1024;
+
+	private final int topN;
+	private final int maxPartners;
+	private final int maxItemsPerOrder;
+	private final Map<Long, LongLongHashMap> partners = new HashMap<>();
+	private final Map<Long, Recommendations> top = new ConcurrentHashMap<>();
+	private long edges;
+
+	/**
+	 * @param topN 상품당 제공할 추천 수
+	 * @param maxPartners 상품당 유지할 파트너 수 (topN 이상)
+	 * @param maxItemsPerOrder 주문 하나에서 쌍을 만들 최대 상품 수 (대량 주문의 k² 비용 상한)
+	 */
+	public CoPurchaseGraph(int topN, int maxPartners, int maxItemsPerOrder) {
+		if (topN <= 0 || maxPartners < topN || maxItemsPerOrder < 2) {
+			throw new IllegalArgumentException("0 < topN <= maxPartners, maxItemsPerOrder >= 2");
+		}
+		this.topN = topN;
+		this.maxPartners = maxPartners;
+		this.maxItemsPerOrder = maxItemsPerOrder;
+	}
+
+	/** 주문 하나의 상품들 반영 (중복 상품은 한 번으로) */
+	public synchronized void record(long[] productIds) {
+		long[] distinct = Arrays.stream(productIds).distinct().limit(maxItemsPerOrder).toArray();
+		if (distinct.length < 2) {
+			return;
+		}
+		for (long productId : distinct) {
+			LongLongHashMap counts = partners.computeIfAbsent(productId, id -> new LongLongHashMap(16));
+			for (long partnerId : distinct) {
+				if (partnerId != productId) {
+					int before = counts.size();
+					counts.addTo(partnerId, SCALE);
+					edges += counts.size() - before;
+				}
+			}
+			if (counts.size() > maxPartners * 2) {
+				counts = compact(productId, counts);
+			}
+			top.put(productId, selectTop(counts, topN));
+		}
+	}
+
+	/** 상위 N 추천 (없으면 빈 결과). 락 없이 마지막으로 계산된 결과를 반환 */
+	public Recommendations recommend(long productId) {
+		return top.getOrDefault(productId, Recommendations.EMPTY);
+	}
+
+	/** 모든 점수에 factor 를 곱하고 minScore 미만은 제거 (CHUNK 단위로 락을 나눠 잡음) */
+	public void decay(double factor, long minScore) {
+		long[] productIds = productIds();
+		for (int from = 0; from < productIds.length; from += CHUNK) {
+			int to = Math.min(from + CHUNK, productIds.length);
+			synchronized (this) {
+				for (int i = from; i < to; i++) {
+					decay(productIds[i], factor, minScore);
+				}
+			}
+		}
+	}
+
+	private void decay(long productId, double factor, long minScore) {
+		LongLongHashMap counts = partners.get(productId);
+		if (counts == null) {
+			return;
+		}
+		LongLongHashMap decayed = new LongLongHashMap(counts.size());
+		counts.forEach((partnerId, score) -> {
+			long next = (long)(score * factor);
+			if (next >= minScore) {
+				decayed.put(partnerId, next);
+			}
+		});
+		edges -= counts.size() - decayed.size();
+		if (decayed.isEmpty()) {
+			partners.remove(productId);
+			top.remove(productId);
+			return;
+		}
+		partners.put(productId, decayed);
+		top.put(productId, selectTop(decayed, topN));
+	}
+
+	public synchronized int productCount() {
+		return partners.size();
+	}
+
+	public synchronized long edgeCount() {
+		return edges;
+	}
+
+	/** 스냅샷 저장. 상품 CHUNK 개씩 락 안에서 파트너를 배열로 복사하고, 정렬·인코딩·쓰기는 락 밖에서 */
+	public void writeTo(OutputStream out) throws IOException {
+		CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+		DataOutputStream data = new DataOutputStream(checked);
+		data.writeInt(SNAPSHOT_MAGIC);
+		long[] productIds = productIds();
+		Arrays.sort(productIds);
+		writeVarLong(data, productIds.length);
+		long previousProduct = 0;
+		long[][] partnerIds = new long[CHUNK][];
+		long[][] scores = new long[CHUNK][];
+		for (int from = 0; from < productIds.length; from += CHUNK) {
+			int to = Math.min(from + CHUNK, productIds.length);
+			synchronized (this) {
+				for (int i = from; i < to; i++) {
+					copy(partners.get(productIds[i]), partnerIds, scores, i - from);
+				}
+			}
+			for (int i = from; i < to; i++) {
+				writeVarLong(data, productIds[i] - previousProduct);
+				previousProduct = productIds[i];
+				// 복사 사이에 감쇠로 빠진 상품은 파트너 0 개로 기록 (읽을 때 건너뜀)
+				writePartners(data, partnerIds[i - from], scores[i - from]);
+			}
+		}
+		data.flush();
+		data.writeLong(checked.getChecksum().getValue());
+		data.flush();
+	}
+
+	/**
+	 * 스냅샷으로 현재 내용을 교체. 형식·체크섬이 맞지 않으면 IOException 이고 내용은 그대로.
+	 * 읽기·검증은 락 밖에서, 교체만 락 안에서. 파트너 수는 체크섬 확인 전이라 믿지 않고 할당 크기를 제한
+	 */
+	public void readFrom(InputStream in) throws IOException {
+		CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+		DataInputStream data = new DataInputStream(checked);
+		if (data.readInt() != SNAPSHOT_MAGIC) {
+			throw new IOException("동시 구매 스냅샷 형식이 아님");
+		}
+		Map<Long, LongLongHashMap> loaded = new HashMap<>();
+		long loadedEdges = 0;
+		long productCount = readVarLong(data);
+		long productId = 0;
+		for (long i = 0; i < productCount; i++) {
+			productId += readVarLong(data);
+			long partnerCount = readVarLong(data);
+			if (partnerCount < 0 || partnerCount > Integer.MAX_VALUE) {
+				throw new IOException("동시 구매 스냅샷 파트너 수가 올바르지 않음: " + partnerCount);
+			}
+			LongLongHashMap counts = new LongLongHashMap((int)Math.min(partnerCount, maxPartners * 2L));
+			long partnerId = 0;
+			for (long j = 0; j < partnerCount; j++) {
+				partnerId += readVarLong(data);
+				counts.put(partnerId, readVarLong(data));
+			}
+			if (counts.isEmpty()) {
+				continue;
+			}
+			if (counts.size() > maxPartners * 2) {
+				// maxPartners 를 줄여 재기동한 경우
+				counts = keepTop(counts, maxPartners);
+			}
+			loaded.put(productId, counts);
+			loadedEdges += counts.size();
+		}
+		long expected = checked.getChecksum().getValue();
+		if (data.readLong() != expected) {
+			throw new IOException("동시 구매 스냅샷 체크섬 불일치");
+		}
+
+		Map<Long, Recommendations> loadedTop = new HashMap<>(loaded.size() * 2);
+		loaded.forEach((id, counts) -> loadedTop.put(id, selectTop(counts, topN)));
+		synchronized (this) {
+			partners.clear();
+			partners.putAll(loaded);
+			edges = loadedEdges;
+			top.clear();
+			top.putAll(loadedTop);
+		}
+	}
+
+	/** 상위 maxPartners 만 남긴 맵으로 교체 */
+	private LongLongHashMap compact(long productId, LongLongHashMap counts) {
+		LongLongHashMap compacted = keepTop(counts, maxPartners);
+		edges -= counts.size() - compacted.size();
+		partners.put(productId, compacted);
+		return compacted;
+	}
+
+	private LongLongHashMap keepTop(LongLongHashMap counts, int k) {
+		Recommendations kept = selectTop(counts, k);
+		LongLongHashMap compacted = new LongLongHashMap(maxPartners * 2);
+		for (int i = 0; i < kept.size(); i++) {
+			compacted.put(kept.productIds()[i], kept.scores()[i]);
+		}
+		return compacted;
+	}
+
+	private synchronized long[] productIds() {
+		return partners.keySet().stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/** 파트너 맵을 (ID, 점수) 배열로 복사 - 없으면 빈 배열 */
+	private static void copy(LongLongHashMap counts, long[][] partnerIds, long[][] scores, int slot) {
+		int size = counts == null ? 0 : counts.size();
+		long[] ids = new long[size];
+		long[] values = new long[size];
+		if (counts != null) {
+			int[] index = {0};
+			counts.forEach((partnerId, score) -> {
+				ids[index[0]] = partnerId;
+				values[index[0]++] = score;
+			});
+		}
+		partnerIds[slot] = ids;
+		scores[slot] = values;
+	}
+
+	/** 파트너 ID 오름차순 delta varint + 점수 (한 상품의 파트너 ID 는 서로 다름 → 이진 탐색으로 점수 정렬) */
+	private static void writePartners(DataOutputStream out, long[] partnerIds, long[] scores) throws IOException {
+		long[] sortedIds = partnerIds.clone();
+		Arrays.sort(sortedIds);
+		long[] sortedScores = new long[scores.length];
+		for (int i = 0; i < partnerIds.length; i++) {
+			sortedScores[Arrays.binarySearch(sortedIds, partnerIds[i])] = scores[i];
+		}
+		writeVarLong(out, sortedIds.length);
+		long previousPartner = 0;
+		for (int i = 0; i < sortedIds.length; i++) {
+			writeVarLong(out, sortedIds[i] - previousPartner);
+			writeVarLong(out, sortedScores[i]);
+			previousPartner = sortedIds[i];
+		}
+	}
+
+	/** 점수 내림차순(동점은 ID 오름차순) 상위 k - 크기 k 최소 힙 */
+	static Recommendations selectTop(LongLongHashMap counts, int k) {
+		int capacity = Math.min(k, counts.size());
+		long[] heapIds = new long[capacity];
+		long[] heapScores = new long[capacity];
+		int[] size = {0};
+		counts.forEach((partnerId, score) -> {
+			if (size[0] < capacity) {
+				heapIds[size[0]] = partnerId;
+				heapScores[size[0]] = score;
+				siftUp(heapIds, heapScores, size[0]++);
+			} else if (capacity > 0 && better(partnerId, score, heapIds[0], heapScores[0])) {
+				heapIds[0] = partnerId;
+				heapScores[0] = score;
+				siftDown(heapIds, heapScores, capacity);
+			}
+		});
+		// 힙에서 가장 나쁜 것부터 꺼내 뒤에서부터 채움
+		long[] ids = new long[capacity];
+		long[] scores = new long[capacity];
+		for (int n = capacity; n > 0; n--) {
+			ids[n - 1] = heapIds[0];
+			scores[n - 1] = heapScores[0];
+			heapIds[0] = heapIds[n - 1];
+			heapScores[0] = heapScores[n - 1];
+			siftDown(heapIds, heapScores, n - 1);
+		}
+		return new Recommendations(ids, scores);
+	}
+
+	private static boolean better(long id, long score, long otherId, long otherScore) {
+		return score > otherScore || (score == otherScore && id < otherId);
+	}
+
+	private static void siftUp(long[] ids, long[] scores, int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!better(ids[parent], scores[parent], ids[index], scores[index])) {
+				return;
+			}
+			swap(ids, scores, parent, index);
+			index = parent;
+		}
+	}
+
+	private static void siftDown(long[] ids, long[] scores, int size) {
+		int index = 0;
+		while (true) {
+			int worst = index;
+			int left = index * 2 + 1;
+			int right = left + 1;
+			if (left < size && better(ids[worst], scores[worst], ids[left], scores[left])) {
+				worst = left;
+			}
+			if (right < size && better(ids[worst], scores[worst], ids[right], scores[right])) {
+				worst = right;
+			}
+			if (worst == index) {
+				return;
+			}
+			swap(ids, scores, worst, index);
+			index = worst;
+		}
+	}
+
+	private static void swap(long[] ids, long[] scores, int a, int b) {
+		long id = ids[a];
+		ids[a] = ids[b];
+		ids[b] = id;
+		long score = scores[a];
+		scores[a] = scores[b];
+		scores[b] = score;
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int)value);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("varint 가 너무 김");
+	}
+
+	/** 상위 N 추천 (점수 내림차순). 배열은 읽기 전용으로만 사용 */
+	public record Recommendations(long[] productIds, long[] scores) {
+
+		public static final Recommendations EMPTY = new Recommendations(new long[0], new long[0]);
+
+		public int size() {
+			return productIds.length;
+		}
+	}
+}
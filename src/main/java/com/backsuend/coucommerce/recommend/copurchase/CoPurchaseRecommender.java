@@ -0,0 +1,213 @@
+package com.backsuend.coucommerce.recommend.copurchase;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.order.event.OrderCompletedEvent;
+import com.backsuend.coucommerce.order.repository.CompletedOrderJdbcRepository;
+import com.backsuend.coucommerce.recommend.dto.CoPurchaseResponse;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * "함께 구매한 상품" 추천. 구매 확정 이벤트로 {@link CoPurchaseGraph} 를 증분 갱신하고 메모리에서 바로 응답.
+ * - 기동 시 디스크 스냅샷을 읽고, 없으면 최근 bootstrap-days 일의 확정 주문을 한 번 스트리밍해 구성 (샤드 순서대로,
+ *   재배치로 원본에 남은 사본은 주문 ID 의 정본 샤드가 아니면 건너뜀 → 같은 주문을 두 번 세지 않음)
+ * - 적재가 끝날 때까지 구매 확정 이벤트는 버퍼에 모았다가 적재 후 반영 (스냅샷 교체로 지워지지 않게).
+ *   초기 구성은 이 빈이 이벤트를 받기 시작한 시각 이전에 확정된 주문만 읽음 → 이벤트로 받은 주문과 겹치지 않음
+ * - snapshot 주기와 종료 시 스냅샷 저장 (임시 파일 → 원자적 교체)
+ *   → 비정상 종료 시 마지막 스냅샷 이후 증분은 잃지만 감쇠되는 근사 점수라 허용
+ * - 노드마다 자기 노드에서 확정된 주문만 반영 → 트래픽이 고르게 분산되면 노드 간 순위는 거의 같음
+ *
+ * @author rua
+ */
+@Component
+public class CoPurchaseRecommender implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(CoPurchaseRecommender.class);
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	/** 적재 중 버퍼에 모을 최대 주문 수 - 넘는 주문은 버림 (근사 점수) */
+	private static final int MAX_PENDING_ORDERS = 100_000;
+
+	private final CompletedOrderJdbcRepository completedOrderJdbcRepository;
+	private final ShardRouter shardRouter;
+	private final CoPurchaseGraph graph;
+	private final Path snapshotPath;
+	private final double decayFactor;
+	private final long minScore;
+	private final int bootstrapDays;
+	/** 이 시각 이후 확정된 주문은 이벤트로 받음 (초기 구성 범위의 끝) */
+	private final LocalDateTime listeningSince = LocalDateTime.now(SEOUL);
+	private final ArrayDeque<long[]> pendingOrders = new ArrayDeque<>();
+	private long droppedOrders;
+	private volatile boolean loaded;
+
+	public CoPurchaseRecommender(CompletedOrderJdbcRepository completedOrderJdbcRepository, ShardRouter shardRouter,
+		MeterRegistry meterRegistry,
+		@Value("${recommend.co-purchase.top-n:10}") int topN,
+		@Value("${recommend.co-purchase.max-partners:100}") int maxPartners,
+		@Value("${recommend.co-purchase.max-items-per-order:50}") int maxItemsPerOrder,
+		@Value("${recommend.co-purchase.decay-factor:0.9}") double decayFactor,
+		@Value("${recommend.co-purchase.prune-below:0.25}") double pruneBelow,
+		@Value("${recommend.co-purchase.snapshot-path:data/co-purchase.snapshot}") Path snapshotPath,
+		@Value("${recommend.co-purchase.bootstrap-days:90}") int bootstrapDays) {
+		this.completedOrderJdbcRepository = completedOrderJdbcRepository;
+		this.shardRouter = shardRouter;
+		this.graph = new CoPurchaseGraph(topN, maxPartners, maxItemsPerOrder);
+		this.snapshotPath = snapshotPath;
+		this.decayFactor = decayFactor;
+		this.minScore = (long)(pruneBelow * CoPurchaseGraph.SCALE);
+		this.bootstrapDays = bootstrapDays;
+		Gauge.builder("recommend.co_purchase.products", graph, CoPurchaseGraph::productCount)
+			.description("동시 구매 이력이 있는 상품 수").register(meterRegistry);
+		Gauge.builder("recommend.co_purchase.edges", graph, g -> (double)g.edgeCount())
+			.description("유지 중인 상품 쌍 수").register(meterRegistry);
+	}
+
+	public CoPurchaseResponse recommend(long productId, int limit) {
+		CoPurchaseGraph.Recommendations top = graph.recommend(productId);
+		int size = Math.min(limit, top.size());
+		List<CoPurchaseResponse.Item> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			items.add(new CoPurchaseResponse.Item(top.productIds()[i],
+				(double)top.scores()[i] / CoPurchaseGraph.SCALE));
+		}
+		return new CoPurchaseResponse(productId, items);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOrderCompleted(OrderCompletedEvent event) {
+		long[] productIds = event.productIds().stream().mapToLong(Long::longValue).toArray();
+		if (!loaded) {
+			synchronized (pendingOrders) {
+				if (!loaded) {
+					if (pendingOrders.size() < MAX_PENDING_ORDERS) {
+						pendingOrders.add(productIds);
+					} else {
+						droppedOrders++;
+					}
+					return;
+				}
+			}
+		}
+		graph.record(productIds);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		Thread.ofVirtual().name("co-purchase-load").start(() -> {
+			try {
+				if (Files.exists(snapshotPath)) {
+					try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+						graph.readFrom(in);
+					}
+					log.info("동시 구매 스냅샷 적재: 상품 {}개, 쌍 {}개", graph.productCount(), graph.edgeCount());
+				} else {
+					bootstrap();
+				}
+			} catch (IOException | RuntimeException ex) {
+				// 적재 실패해도 이후 구매 확정분으로 채워짐
+				log.warn("동시 구매 그래프 적재 실패", ex);
+			}
+			applyPendingOrders();
+		});
+	}
+
+	/** 적재 중 모은 이벤트 반영 후 직접 반영으로 전환 (전환 중 들어온 이벤트는 버퍼 락에서 대기) */
+	private void applyPendingOrders() {
+		synchronized (pendingOrders) {
+			int applied = pendingOrders.size();
+			for (long[] productIds = pendingOrders.poll(); productIds != null; productIds = pendingOrders.poll()) {
+				graph.record(productIds);
+			}
+			loaded = true;
+			if (applied > 0 || droppedOrders > 0) {
+				log.info("적재 중 받은 구매 확정 반영: {}건, 버퍼 초과로 버림 {}건", applied, droppedOrders);
+			}
+		}
+	}
+
+	private void bootstrap() {
+		LocalDateTime since = LocalDateTime.now(SEOUL).minusDays(bootstrapDays);
+		long[] orders = {0};
+		LongToIntFunction home = shardRouter.homeShards();
+		for (int shard : shardRouter.targets()) {
+			shardRouter.onShard(shard, () -> {
+				completedOrderJdbcRepository.forEachCompletedOrder(since, listeningSince,
+					orderId -> home.applyAsInt(orderId) == shard, productIds -> {
+						graph.record(productIds);
+						orders[0]++;
+					});
+				return null;
+			});
+		}
+		log.info("동시 구매 그래프 초기 구성: 주문 {}건 → 상품 {}개, 쌍 {}개",
+			orders[0], graph.productCount(), graph.edgeCount());
+	}
+
+	/** 오래된 동시 구매 경향을 줄이고 약한 쌍 제거 */
+	@Scheduled(fixedDelayString = "${recommend.co-purchase.decay-interval-ms:86400000}",
+		initialDelayString = "${recommend.co-purchase.decay-interval-ms:86400000}")
+	public void decay() {
+		if (!loaded) {
+			return;
+		}
+		graph.decay(decayFactor, minScore);
+		log.info("동시 구매 감쇠: 상품 {}개, 쌍 {}개", graph.productCount(), graph.edgeCount());
+	}
+
+	@Scheduled(fixedDelayString = "${recommend.co-purchase.snapshot-interval-ms:600000}",
+		initialDelayString = "${recommend.co-purchase.snapshot-interval-ms:600000}")
+	public void snapshot() {
+		if (!loaded) {
+			// 적재 전 빈 그래프로 기존 스냅샷을 덮어쓰지 않음
+			return;
+		}
+		try {
+			Path parent = snapshotPath.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+					graph.writeTo(out);
+				}
+				Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException ex) {
+			log.warn("동시 구매 스냅샷 저장 실패 path={}", snapshotPath, ex);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		snapshot();
+	}
+}
@@ -0,0 +1,19 @@
+package com.backsuend.coucommerce.recommend.dto;
+
+import java.util.List;
+
+/**
+ * 함께 구매한 상품 추천 (점수 = 감쇠가 반영된 동시 구매 횟수)
+ *
+ * @author rua
+ */
+public record CoPurchaseResponse(
+	Long productId,
+	List<Item> items
+) {
+	public record Item(
+		long productId,
+		double score
+	) {
+	}
+}
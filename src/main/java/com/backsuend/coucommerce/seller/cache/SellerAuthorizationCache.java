@@ -0,0 +1,212 @@
+package com.backsuend.coucommerce.seller.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.common.trace.TraceContext;
+import com.backsuend.coucommerce.common.util.ConcurrentLongLongMap;
+import com.backsuend.coucommerce.seller.entity.SellerStatus;
+import com.backsuend.coucommerce.seller.event.SellerStatusChangedEvent;
+import com.backsuend.coucommerce.seller.repository.SellerRepository;
+
+/**
+ * 상품 쓰기 권한 검사용 판매자 상태 / 상품 소유자 인메모리 캐시.
+ *
+ * <pre>
+ * sellerStates  : memberId  → SellerStatus.ordinal() + 1 (NOT_SELLER = 판매자 아님, 0 = 미적재)
+ * productOwners : productId → 소유 판매자 memberId (상품 소유자는 바뀌지 않으므로 무효화 불필요)
+ * </pre>
+ * - 미적중 적재는 putIfAbsent 로 기록 → DB 를 읽는 사이 도착한 상태 변경 이벤트를 이전 값으로 덮지 않음
+ * - productOwners 는 상품 수만큼 자라므로 상한에 닿으면 비우고 다시 적재 (소유자는 불변이라 비워도 안전)
+ * - 조회는 박싱 없는 long 키 맵 + 낙관적 읽기라 상품 쓰기마다 DB 왕복이 생기지 않음
+ * - 기동 시 전체 판매자 상태를 적재하고, 승인/정지 이벤트는 커밋 후 로컬 반영 + Redis 채널로 다른 노드에 전파
+ * - pub/sub 은 유실될 수 있으므로 resync 주기마다 updatedAt 기준 변경분을 다시 읽음
+ *   → 정지는 늦어도 resync 주기(+시계 오차 여유) 안에 모든 노드에 반영됨
+ *
+ * @author rua
+ */
+@Component
+public class SellerAuthorizationCache implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(SellerAuthorizationCache.class);
+
+	static final String CHANNEL = "seller:status";
+	private static final long MISSING = 0L;
+	private static final long NOT_SELLER = -1L;
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final SellerStatus[] STATUSES = SellerStatus.values();
+	/** 커밋 순서와 노드 간 시계 차이로 변경분을 놓치지 않도록 재동기화 구간을 겹치게 잡는 여유 */
+	private static final long RESYNC_OVERLAP_SECONDS = 5;
+	static final int MAX_PRODUCT_OWNERS = 100_000;
+
+	private final SellerRepository sellerRepository;
+	private final ProductRepository productRepository;
+	private final StringRedisTemplate redis;
+
+	private final ConcurrentLongLongMap sellerStates = new ConcurrentLongLongMap(1024);
+	private final ConcurrentLongLongMap productOwners = new ConcurrentLongLongMap(4096);
+	private volatile LocalDateTime syncedUntil;
+
+	public SellerAuthorizationCache(SellerRepository sellerRepository, ProductRepository productRepository,
+		StringRedisTemplate redis, RedisMessageListenerContainer listenerContainer) {
+		this.sellerRepository = sellerRepository;
+		this.productRepository = productRepository;
+		this.redis = redis;
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/** 승인된(APPROVED) 판매자가 아니면 SELLER_NOT_APPROVED */
+	public void checkApprovedSeller(long memberId) {
+		if (status(memberId) != SellerStatus.APPROVED) {
+			throw StacklessBusinessException.of(ErrorCode.SELLER_NOT_APPROVED);
+		}
+	}
+
+	/** 상품 수정/삭제 전 검사: 승인된 판매자이면서 상품 소유자여야 함 */
+	public void checkProductWritable(long memberId, long productId) {
+		checkApprovedSeller(memberId);
+		if (ownerOf(productId) != memberId) {
+			throw StacklessBusinessException.of(ErrorCode.ACCESS_DENIED);
+		}
+	}
+
+	/** 판매자 상태 (판매자가 아니면 null) */
+	public SellerStatus status(long memberId) {
+		long state = sellerStates.get(memberId, MISSING);
+		if (state == MISSING) {
+			state = load(memberId);
+		}
+		return state == NOT_SELLER ? null : STATUSES[(int)state - 1];
+	}
+
+	private long ownerOf(long productId) {
+		long owner = productOwners.get(productId, MISSING);
+		if (owner != MISSING) {
+			return owner;
+		}
+		Long sellerId = productRepository.findSellerIdById(productId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다."));
+		if (productOwners.size() >= MAX_PRODUCT_OWNERS) {
+			productOwners.clear();
+		}
+		productOwners.put(productId, sellerId);
+		return sellerId;
+	}
+
+	private long load(long memberId) {
+		long state = sellerRepository.findStatusViewByMemberId(memberId)
+			.map(SellerAuthorizationCache::encode)
+			.orElse(NOT_SELLER);
+		// 조회 중 이벤트/resync 가 먼저 기록했다면 그 값이 더 새로움
+		return sellerStates.putIfAbsent(memberId, state);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		LocalDateTime startedAt = LocalDateTime.now(SEOUL);
+		try {
+			List<SellerStatusView> views = sellerRepository.findAllStatusViews();
+			apply(views);
+			syncedUntil = startedAt;
+			log.info("판매자 권한 캐시 적재 완료: {}건", views.size());
+		} catch (RuntimeException ex) {
+			// 적재 전까지는 조회 시점에 회원 단위로 적재, 다음 resync 에서 전체 적재 재시도
+			log.warn("판매자 권한 캐시 적재 실패", ex);
+		}
+	}
+
+	/** pub/sub 유실 대비 변경분 재동기화 - 정지 반영 지연의 상한 */
+	@Scheduled(fixedDelayString = "${seller.auth-cache.resync-interval-ms:10000}",
+		initialDelayString = "${seller.auth-cache.resync-interval-ms:10000}")
+	public void resync() {
+		LocalDateTime since = syncedUntil;
+		if (since == null) {
+			warmUp();
+			return;
+		}
+		LocalDateTime startedAt = LocalDateTime.now(SEOUL);
+		try {
+			apply(sellerRepository.findStatusViewsUpdatedSince(since.minusSeconds(RESYNC_OVERLAP_SECONDS)));
+			syncedUntil = startedAt;
+		} catch (RuntimeException ex) {
+			log.warn("판매자 권한 캐시 재동기화 실패", ex);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(SellerStatusChangedEvent event) {
+		sellerStates.put(event.memberId(), event.status().ordinal() + 1L);
+		String traceId = TraceContext.current();
+		try {
+			redis.convertAndSend(CHANNEL,
+				event.memberId() + ":" + event.status().name() + ":" + (traceId == null ? "-" : traceId));
+		} catch (RuntimeException ex) {
+			// 다른 노드는 resync 주기에 반영
+			log.warn("판매자 상태 변경 전파 실패: memberId={}", event.memberId(), ex);
+		}
+	}
+
+	/** 다른 노드(자신 포함)에서 전파된 상태 변경: "memberId:STATUS:traceId" */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		String[] parts = body.split(":", 3);
+		if (parts.length < 2) {
+			log.warn("잘못된 판매자 상태 메시지: {}", body);
+			return;
+		}
+		boolean traced = parts.length == 3 && !"-".equals(parts[2]);
+		if (traced) {
+			MDC.put(TraceContext.MDC_KEY, parts[2]);
+		}
+		try {
+			long memberId = Long.parseLong(parts[0]);
+			SellerStatus status = SellerStatus.valueOf(parts[1]);
+			sellerStates.put(memberId, status.ordinal() + 1L);
+			log.debug("판매자 상태 변경 수신: memberId={}, status={}", memberId, status);
+		} catch (IllegalArgumentException ex) {
+			log.warn("잘못된 판매자 상태 메시지: {}", body);
+		} finally {
+			if (traced) {
+				MDC.remove(TraceContext.MDC_KEY);
+			}
+		}
+	}
+
+	private void apply(List<SellerStatusView> views) {
+		int size = views.size();
+		long[] keys = new long[size];
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			SellerStatusView view = views.get(i);
+			keys[i] = view.memberId();
+			values[i] = encode(view);
+		}
+		sellerStates.putAll(keys, values, size);
+	}
+
+	private static long encode(SellerStatusView view) {
+		return view.deletedAt() != null ? NOT_SELLER : view.status().ordinal() + 1L;
+	}
+}
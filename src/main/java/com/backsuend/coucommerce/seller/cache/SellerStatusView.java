@@ -0,0 +1,18 @@
+package com.backsuend.coucommerce.seller.cache;
+
+import java.time.LocalDateTime;
+
+import com.backsuend.coucommerce.seller.entity.SellerStatus;
+
+/**
+ * 판매자 권한 캐시 적재용 프로젝션 (엔티티/연관관계 로딩 없이 필요한 컬럼만)
+ *
+ * @author rua
+ */
+public record SellerStatusView(
+	Long memberId,
+	SellerStatus status,
+	LocalDateTime updatedAt,
+	LocalDateTime deletedAt     // 삭제된 판매자는 판매자가 아닌 것으로 취급
+) {
+}
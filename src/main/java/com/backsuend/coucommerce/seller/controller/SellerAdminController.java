@@ -0,0 +1,50 @@
+package com.backsuend.coucommerce.seller.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.seller.dto.SellerSuspendRequest;
+import com.backsuend.coucommerce.seller.service.SellerStatusService;
+
+/**
+ * 판매자 승인/정지 (ADMIN 역할만). 판매자는 다른 판매자 API 와 같이 회원 ID 로 지정.
+ *
+ * @author rua
+ */
+@RestController
+@RequestMapping("/api/admin/sellers")
+public class SellerAdminController {
+
+	private final SellerStatusService sellerStatusService;
+
+	public SellerAdminController(SellerStatusService sellerStatusService) {
+		this.sellerStatusService = sellerStatusService;
+	}
+
+	/** 판매자 승인 (승인자 = 로그인한 관리자) - 커밋 후 모든 노드의 권한 캐시에 반영 */
+	@PostMapping("/{sellerMemberId}/approve")
+	public ResponseEntity<ApiResponse<Void>> approve(
+		@PathVariable Long sellerMemberId, @AuthenticationPrincipal MemberSession admin) {
+
+		sellerStatusService.approve(sellerMemberId, admin.memberId());
+		return ApiResponse.<Void>noContent().toResponseEntity();
+	}
+
+	/** 판매자 정지 - 이후 상품 등록/수정/삭제는 SELLER_NOT_APPROVED */
+	@PostMapping("/{sellerMemberId}/suspend")
+	public ResponseEntity<ApiResponse<Void>> suspend(
+		@PathVariable Long sellerMemberId, @Valid @RequestBody SellerSuspendRequest request) {
+
+		sellerStatusService.suspend(sellerMemberId, request.reason());
+		return ApiResponse.<Void>noContent().toResponseEntity();
+	}
+}
@@ -0,0 +1,12 @@
+package com.backsuend.coucommerce.seller.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @author rua
+ */
+public record SellerSuspendRequest(
+	@NotBlank @Size(max = 255) String reason
+) {
+}
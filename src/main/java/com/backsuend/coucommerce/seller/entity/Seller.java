@@ -52,4 +52,42 @@ public class Seller extends BaseTimeEntity {
 	@Lob
 	@Column(name = "reason")
 	private String reason;
+
+	protected Seller() {
+	}
+
+	public Seller(Member member) {
+		this.member = member;
+	}
+
+	public void approve(Member admin) {
+		this.status = SellerStatus.APPROVED;
+		this.approvedBy = admin;
+		this.reason = null;
+	}
+
+	public void suspend(String reason) {
+		this.status = SellerStatus.SUSPENDED;
+		this.reason = reason;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Member getMember() {
+		return member;
+	}
+
+	public SellerStatus getStatus() {
+		return status;
+	}
+
+	public Member getApprovedBy() {
+		return approvedBy;
+	}
+
+	public String getReason() {
+		return reason;
+	}
 }
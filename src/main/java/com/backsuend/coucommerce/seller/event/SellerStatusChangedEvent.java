@@ -0,0 +1,11 @@
+package com.backsuend.coucommerce.seller.event;
+
+import com.backsuend.coucommerce.seller.entity.SellerStatus;
+
+/**
+ * 판매자 승인/정지 등 상태 변경 도메인 이벤트 (트랜잭션 안에서 발행, 커밋 후 권한 캐시에 반영)
+ *
+ * @author rua
+ */
+public record SellerStatusChangedEvent(Long sellerId, Long memberId, SellerStatus status) {
+}
@@ -0,0 +1,35 @@
+package com.backsuend.coucommerce.seller.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backsuend.coucommerce.seller.cache.SellerStatusView;
+import com.backsuend.coucommerce.seller.entity.Seller;
+
+/**
+ * @author rua
+ */
+public interface SellerRepository extends JpaRepository<Seller, Long> {
+
+	/** 판매자 API 는 모두 회원 ID 로 판매자를 지정 (seller.id 는 외부로 노출하지 않음) */
+	Optional<Seller> findByMemberId(Long memberId);
+
+	/** 권한 캐시 워밍용 전체 판매자 상태 (삭제된 판매자 제외) */
+	@Query("select new com.backsuend.coucommerce.seller.cache.SellerStatusView("
+		+ "s.member.id, s.status, s.updatedAt, s.deletedAt) from Seller s where s.deletedAt is null")
+	List<SellerStatusView> findAllStatusViews();
+
+	/** since 이후 변경된 판매자 상태 (삭제 포함) - 주기적 재동기화용 */
+	@Query("select new com.backsuend.coucommerce.seller.cache.SellerStatusView("
+		+ "s.member.id, s.status, s.updatedAt, s.deletedAt) from Seller s where s.updatedAt > :since")
+	List<SellerStatusView> findStatusViewsUpdatedSince(@Param("since") LocalDateTime since);
+
+	@Query("select new com.backsuend.coucommerce.seller.cache.SellerStatusView("
+		+ "s.member.id, s.status, s.updatedAt, s.deletedAt) from Seller s where s.member.id = :memberId")
+	Optional<SellerStatusView> findStatusViewByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,57 @@
+package com.backsuend.coucommerce.seller.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.seller.entity.Seller;
+import com.backsuend.coucommerce.seller.event.SellerStatusChangedEvent;
+import com.backsuend.coucommerce.seller.repository.SellerRepository;
+
+/**
+ * 판매자 승인/정지. 판매자는 회원 ID(상품/주문 API 의 판매자 ID 와 같은 값)로 지정.
+ * 상태가 바뀌면 {@link SellerStatusChangedEvent} 를 발행해 권한 캐시를 갱신.
+ *
+ * @author rua
+ */
+@Service
+public class SellerStatusService {
+
+	private final SellerRepository sellerRepository;
+	private final MemberRepository memberRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public SellerStatusService(SellerRepository sellerRepository, MemberRepository memberRepository,
+		ApplicationEventPublisher eventPublisher) {
+		this.sellerRepository = sellerRepository;
+		this.memberRepository = memberRepository;
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Transactional
+	public void approve(Long sellerMemberId, Long adminMemberId) {
+		Seller seller = find(sellerMemberId);
+		seller.approve(memberRepository.getReferenceById(adminMemberId));
+		publish(seller);
+	}
+
+	@Transactional
+	public void suspend(Long sellerMemberId, String reason) {
+		Seller seller = find(sellerMemberId);
+		seller.suspend(reason);
+		publish(seller);
+	}
+
+	private Seller find(Long sellerMemberId) {
+		return sellerRepository.findByMemberId(sellerMemberId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "판매자를 찾을 수 없습니다."));
+	}
+
+	private void publish(Seller seller) {
+		eventPublisher.publishEvent(
+			new SellerStatusChangedEvent(seller.getId(), seller.getMember().getId(), seller.getStatus()));
+	}
+}
@@ -0,0 +1,72 @@
+package com.backsuend.coucommerce.shard.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.backsuend.coucommerce.shard.routing.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * @author rua
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardDataSourceConfig {
+
+	/**
+	 * 기본 DataSource 를 전역 DB(spring.datasource) + 샤드들로 라우팅하는 DataSource 로 교체.
+	 * JPA·JdbcTemplate·Flyway(db/migration) 는 이 DataSource 를 그대로 쓰고, 컨텍스트가 없으면 전역 DB 로 감.
+	 * 샤드에는 회원 단위 테이블만 있는 스키마(db/shard)를 따로 적용.
+	 * shard.enabled=false 면 샤드 없이 전역 DB 만 가진 라우팅 DataSource (모든 커넥션이 전역 DB).
+	 * 빈 등록 자체는 shard.enabled 로 가르지 않음 - AOT 처리(processAot, prod 프로필)가 빌드 시점 설정으로
+	 * 조건을 평가해 고정하므로, 조건부 빈이면 실행 시 shard.enabled 가 무시됨. 샤딩 여부는 여기서 실행 시점에 판단.
+	 */
+	@Bean
+	@Primary
+	public ShardRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, ShardProperties properties) {
+		if (properties.enabled() && properties.nodes().isEmpty()) {
+			throw new IllegalStateException("shard.enabled=true 이면 shard.nodes 가 1개 이상 필요");
+		}
+		HikariDataSource global = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		global.setPoolName("global");
+
+		Map<Integer, DataSource> shards = new LinkedHashMap<>();
+		if (!properties.enabled()) {
+			return new ShardRoutingDataSource(global, shards);
+		}
+		for (ShardProperties.Node node : properties.nodes()) {
+			if (node.id() < 0 || shards.containsKey(node.id())) {
+				throw new IllegalStateException("샤드 번호는 0 이상이고 중복되지 않아야 함: " + node.id());
+			}
+			HikariDataSource shard = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(node.url())
+				.username(node.username())
+				.password(node.password())
+				.build();
+			shard.setPoolName("shard-" + node.id());
+			shard.setMaximumPoolSize(node.maximumPoolSize());
+			if (properties.migrate()) {
+				Flyway.configure()
+					.dataSource(shard)
+					.locations("classpath:db/shard")
+					.load()
+					.migrate();
+			}
+			shards.put(node.id(), shard);
+		}
+		return new ShardRoutingDataSource(global, shards);
+	}
+}
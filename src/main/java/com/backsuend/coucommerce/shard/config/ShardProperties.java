@@ -0,0 +1,44 @@
+package com.backsuend.coucommerce.shard.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 회원 단위 샤딩 설정 (shard.*)
+ *
+ * @author rua
+ */
+@ConfigurationProperties(prefix = "shard")
+public record ShardProperties(
+	@DefaultValue("false") boolean enabled,  // 끄면 spring.datasource 하나만 사용 (기존 동작)
+	@DefaultValue("160") int virtualNodes,   // 샤드당 해시 링 지점 수
+	@DefaultValue("-1") int nodeId,          // ID 생성기 노드 번호 0~31 (음수면 Redis 임대로 할당)
+	@DefaultValue("true") boolean migrate,   // 기동 시 샤드마다 db/shard 마이그레이션 실행
+	@DefaultValue("5s") Duration scatterTimeout,
+	@DefaultValue Rebalance rebalance,
+	List<Node> nodes
+) {
+
+	public ShardProperties {
+		nodes = nodes == null ? List.of() : List.copyOf(nodes);
+	}
+
+	public record Node(
+		int id,
+		String url,
+		String username,
+		String password,
+		@DefaultValue("10") int maximumPoolSize
+	) {
+	}
+
+	public record Rebalance(
+		@DefaultValue("10s") Duration freezeGrace,  // 동결 후 모든 노드 반영 + 진행 중 트랜잭션 종료 대기 (> 동기화 주기)
+		@DefaultValue("64") int bucketsPerMove,     // 한 번에 동결·이동하는 버킷 수
+		@DefaultValue("500") int chunkSize          // 복사/삭제 한 문장에 넣는 회원 수
+	) {
+	}
+}
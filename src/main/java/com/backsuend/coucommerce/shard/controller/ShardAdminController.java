@@ -0,0 +1,40 @@
+package com.backsuend.coucommerce.shard.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.backsuend.coucommerce.shard.dto.ShardStatusResponse;
+import com.backsuend.coucommerce.shard.rebalance.ShardRebalancer;
+
+/**
+ * 샤드 상태 조회 / 재배치. /api/admin/** 이므로 ADMIN 세션만 접근 (SecurityConfig)
+ *
+ * @author rua
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+public class ShardAdminController {
+
+	private final ShardRebalancer shardRebalancer;
+
+	public ShardAdminController(ShardRebalancer shardRebalancer) {
+		this.shardRebalancer = shardRebalancer;
+	}
+
+	/** 샤드별 버킷 수, 재배치 대기/진행 상태 */
+	@GetMapping
+	public ResponseEntity<ApiResponse<ShardStatusResponse>> status() {
+		return ApiResponse.ok(shardRebalancer.status()).toResponseEntity();
+	}
+
+	/** 재배치 시작 (백그라운드) - 이동할 버킷 수 반환, 진행은 GET 으로 확인 */
+	@PostMapping("/rebalance")
+	public ResponseEntity<ApiResponse<Integer>> rebalance() {
+		return ApiResponse.of(true, HttpStatus.ACCEPTED, "ACCEPTED", shardRebalancer.start()).toResponseEntity();
+	}
+}
@@ -0,0 +1,29 @@
+package com.backsuend.coucommerce.shard.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 샤드 배치 현황
+ *
+ * @param shards          전역 DB(-1) 와 샤드별 버킷 수
+ * @param pendingBuckets  일관 해시 링 위치와 배치가 다른(재배치가 필요한) 버킷 수
+ * @author rua
+ */
+public record ShardStatusResponse(
+	boolean enabled,
+	boolean rebalancing,
+	List<ShardBuckets> shards,
+	int frozenBuckets,
+	int pendingBuckets,
+	LocalDateTime lastRebalanceAt,
+	String lastRebalanceError
+) {
+
+	/**
+	 * @param buckets      현재 배치된 버킷 수
+	 * @param ringBuckets  재배치가 끝나면 갖게 될 버킷 수
+	 */
+	public record ShardBuckets(int shardId, int buckets, int ringBuckets) {
+	}
+}
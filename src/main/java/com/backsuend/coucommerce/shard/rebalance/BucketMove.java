@@ -0,0 +1,11 @@
+package com.backsuend.coucommerce.shard.rebalance;
+
+import java.util.List;
+
+/**
+ * 재배치 한 단계: source 샤드의 buckets 를 target 샤드로 (함께 동결·복사·전환)
+ *
+ * @author rua
+ */
+public record BucketMove(int source, int target, List<Integer> buckets) {
+}
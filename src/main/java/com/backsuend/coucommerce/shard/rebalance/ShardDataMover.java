@@ -0,0 +1,203 @@
+package com.backsuend.coucommerce.shard.rebalance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backsuend.coucommerce.shard.routing.ShardIdGenerator;
+
+/**
+ * 두 DB 사이에서 회원 단위 데이터(주문, 주문 상품, 결제, 장바구니)를 회원 묶음 단위로 복사/삭제.
+ * - 여러 번 실행해도 결과가 같도록 작성 (주문·결제는 upsert, 주문 상품·장바구니는 지우고 다시 넣음)
+ * - 샤딩 이전 ID 의 주문은 전역 DB 에 남으므로 복사/삭제 대상에서 제외
+ * - 주문 상품·장바구니 ID 는 DB 내부용이라 대상 DB 에서 새로 발급
+ * 트랜잭션은 호출자가 정함 (JdbcTemplate 이 가리키는 DataSource 를 직접 사용).
+ *
+ * @author rua
+ */
+public class ShardDataMover {
+
+	private static final String FIND_MEMBERS =
+		"select distinct member_id from orders union select distinct member_id from cart";
+
+	private static final String ORDER_COLUMNS = "id, member_id, consumer_name, consumer_phone, receiver_name,"
+		+ " receiver_road_name, receiver_phone, receiver_postal_code, status, payment_id,"
+		+ " created_at, updated_at, deleted_at";
+
+	private static final String UPSERT_ORDER = "insert into orders (" + ORDER_COLUMNS + ")"
+		+ " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+		+ " on duplicate key update status = values(status), payment_id = values(payment_id),"
+		+ " updated_at = values(updated_at), deleted_at = values(deleted_at)";
+
+	private static final String ORDER_LINE_COLUMNS =
+		"order_id, product_id, quantity, price, created_at, updated_at, deleted_at";
+
+	private static final String INSERT_ORDER_LINE = "insert into order_product (" + ORDER_LINE_COLUMNS + ")"
+		+ " values (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String PAYMENT_COLUMNS =
+		"id, order_id, card_id, total_price, created_at, updated_at, deleted_at";
+
+	private static final String UPSERT_PAYMENT = "insert into payment (" + PAYMENT_COLUMNS + ")"
+		+ " values (?, ?, ?, ?, ?, ?, ?)"
+		+ " on duplicate key update updated_at = values(updated_at), deleted_at = values(deleted_at)";
+
+	private static final String CART_COLUMNS = "member_id, product_id, quantity, created_at, updated_at, deleted_at";
+
+	private static final String INSERT_CART = "insert into cart (" + CART_COLUMNS + ")"
+		+ " values (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate source;
+	private final JdbcTemplate target;
+	private final int chunkSize;
+
+	public ShardDataMover(JdbcTemplate source, JdbcTemplate target, int chunkSize) {
+		this.source = source;
+		this.target = target;
+		this.chunkSize = chunkSize;
+	}
+
+	/** 원본 DB 에 데이터가 있는 회원 중 버킷이 조건에 맞는 회원 */
+	public List<Long> findMembers(IntPredicate bucketFilter) {
+		TreeSet<Long> members = new TreeSet<>();
+		source.query(FIND_MEMBERS, rs -> {
+			long memberId = rs.getLong(1);
+			if (bucketFilter.test(ShardIdGenerator.bucketOfMember(memberId))) {
+				members.add(memberId);
+			}
+		});
+		return new ArrayList<>(members);
+	}
+
+	/**
+	 * 회원들의 주문(+ 주문 상품, 결제)을 대상 DB 로 복사. updatedSince 가 있으면 그 이후 변경된 주문만.
+	 * 결제는 주문 상태 변경과 함께 생기므로(결제 완료 → START) 주문 updated_at 으로 함께 잡힘.
+	 *
+	 * @return 복사한 주문 수
+	 */
+	public int copyOrders(List<Long> memberIds, LocalDateTime updatedSince) {
+		int copied = 0;
+		for (List<Long> chunk : chunks(memberIds)) {
+			List<Long> orderIds = copyOrderRows(chunk, updatedSince);
+			if (orderIds.isEmpty()) {
+				continue;
+			}
+			copyOrderLines(orderIds);
+			copyPayments(orderIds);
+			copied += orderIds.size();
+		}
+		return copied;
+	}
+
+	/** 회원들의 장바구니를 대상 DB 로 복사 (대상 DB 의 기존 행은 교체) */
+	public int copyCarts(List<Long> memberIds) {
+		int copied = 0;
+		for (List<Long> chunk : chunks(memberIds)) {
+			String in = in(chunk.size());
+			List<Object[]> rows = source.query(
+				"select " + CART_COLUMNS + " from cart where member_id in (" + in + ")",
+				(rs, rowNum) -> new Object[] {
+					rs.getLong(1), rs.getLong(2), rs.getInt(3),
+					rs.getObject(4, LocalDateTime.class),
+					rs.getObject(5, LocalDateTime.class),
+					rs.getObject(6, LocalDateTime.class)},
+				chunk.toArray());
+			target.update("delete from cart where member_id in (" + in + ")", chunk.toArray());
+			if (!rows.isEmpty()) {
+				target.batchUpdate(INSERT_CART, rows);
+			}
+			copied += rows.size();
+		}
+		return copied;
+	}
+
+	/** 원본 DB 에서 회원들의 데이터 삭제 (FK 순서: 주문 상품·결제 → 주문, 장바구니) */
+	public void deleteSource(List<Long> memberIds) {
+		for (List<Long> chunk : chunks(memberIds)) {
+			String in = in(chunk.size());
+			List<Object> args = new ArrayList<>(chunk.size() + 1);
+			args.addAll(chunk);
+			args.add(ShardIdGenerator.LEGACY_ID_LIMIT);
+			String orders = "select id from orders where member_id in (" + in + ") and id >= ?";
+			source.update("delete from order_product where order_id in (" + orders + ")", args.toArray());
+			source.update("delete from payment where order_id in (" + orders + ")", args.toArray());
+			source.update("delete from orders where member_id in (" + in + ") and id >= ?", args.toArray());
+			source.update("delete from cart where member_id in (" + in + ")", chunk.toArray());
+		}
+	}
+
+	private List<Long> copyOrderRows(List<Long> memberIds, LocalDateTime updatedSince) {
+		List<Object> args = new ArrayList<>(memberIds.size() + 2);
+		args.addAll(memberIds);
+		args.add(ShardIdGenerator.LEGACY_ID_LIMIT);
+		String sql = "select " + ORDER_COLUMNS + " from orders"
+			+ " where member_id in (" + in(memberIds.size()) + ") and id >= ?";
+		if (updatedSince != null) {
+			sql += " and updated_at >= ?";
+			args.add(updatedSince);
+		}
+		List<Object[]> rows = source.query(sql, (rs, rowNum) -> {
+			Object[] row = new Object[13];
+			for (int i = 0; i < row.length; i++) {
+				row[i] = rs.getObject(i + 1);
+			}
+			return row;
+		}, args.toArray());
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+		target.batchUpdate(UPSERT_ORDER, rows);
+		List<Long> orderIds = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			orderIds.add(((Number)row[0]).longValue());
+		}
+		return orderIds;
+	}
+
+	private void copyOrderLines(List<Long> orderIds) {
+		String in = in(orderIds.size());
+		List<Object[]> rows = source.query(
+			"select " + ORDER_LINE_COLUMNS + " from order_product where order_id in (" + in + ")",
+			(rs, rowNum) -> new Object[] {
+				rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4),
+				rs.getObject(5, LocalDateTime.class),
+				rs.getObject(6, LocalDateTime.class),
+				rs.getObject(7, LocalDateTime.class)},
+			orderIds.toArray());
+		target.update("delete from order_product where order_id in (" + in + ")", orderIds.toArray());
+		if (!rows.isEmpty()) {
+			target.batchUpdate(INSERT_ORDER_LINE, rows);
+		}
+	}
+
+	private void copyPayments(List<Long> orderIds) {
+		List<Object[]> rows = source.query(
+			"select " + PAYMENT_COLUMNS + " from payment where order_id in (" + in(orderIds.size()) + ")",
+			(rs, rowNum) -> new Object[] {
+				rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4),
+				rs.getObject(5, LocalDateTime.class),
+				rs.getObject(6, LocalDateTime.class),
+				rs.getObject(7, LocalDateTime.class)},
+			orderIds.toArray());
+		if (!rows.isEmpty()) {
+			target.batchUpdate(UPSERT_PAYMENT, rows);
+		}
+	}
+
+	private List<List<Long>> chunks(List<Long> ids) {
+		List<List<Long>> chunks = new ArrayList<>((ids.size() + chunkSize - 1) / chunkSize);
+		for (int from = 0; from < ids.size(); from += chunkSize) {
+			chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+		}
+		return chunks;
+	}
+
+	private static String in(int count) {
+		return String.join(",", Collections.nCopies(count, "?"));
+	}
+}
@@ -0,0 +1,216 @@
+package com.backsuend.coucommerce.shard.rebalance;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.shard.config.ShardProperties;
+import com.backsuend.coucommerce.shard.dto.ShardStatusResponse;
+import com.backsuend.coucommerce.shard.dto.ShardStatusResponse.ShardBuckets;
+import com.backsuend.coucommerce.shard.repository.ShardAssignmentJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.BucketAssignment;
+import com.backsuend.coucommerce.shard.routing.ShardIdGenerator;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+import com.backsuend.coucommerce.shard.routing.ShardRoutingDataSource;
+
+/**
+ * 온라인 재배치: 배치(shard_bucket)가 일관 해시 링 위치와 다른 버킷을 링 위치 샤드로 옮김.
+ * 샤드를 추가하면 링에서 새 샤드 몫의 버킷만 달라지므로 그만큼만 이동.
+ *
+ * <pre>
+ * 버킷 묶음(buckets-per-move)마다
+ * 1) 복사     원본 → 대상 (서비스 중, 원본이 계속 기준)
+ * 2) 동결     frozen=true 전파 후 freeze-grace 대기 → 모든 노드가 해당 버킷 요청을 SHARD_MIGRATING 으로 거절,
+ *             동결 전에 시작된 트랜잭션도 종료
+ * 3) 차분 복사 1) 이후 변경된 주문 + 장바구니 전체
+ * 4) 전환     shard_id=대상, frozen=false 전파 → 대상이 기준. 실패하면 동결만 풀어 원본으로 계속 서비스
+ * 5) 정리     원본 삭제
+ * </pre>
+ * 요청이 거절되는 구간은 2)~4) 뿐이고 버킷 1024개 중 한 묶음에만 해당.
+ * 여러 노드 중 하나만 실행하도록 로컬 플래그 + Redis 락.
+ *
+ * @author rua
+ */
+@Component
+public class ShardRebalancer {
+
+	private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+	private static final String LOCK_KEY = "shard:rebalance-lock";
+	private static final Duration LOCK_TTL = Duration.ofHours(6);
+	// 차분 복사 기준 시각을 앞당겨 노드 간 시계 차이와 커밋 지연을 흡수
+	private static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private final ShardRouter router;
+	private final ObjectProvider<ShardRoutingDataSource> routingDataSource;
+	private final ShardAssignmentJdbcRepository assignmentRepository;
+	private final StringRedisTemplate redis;
+	private final ShardProperties.Rebalance properties;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile LocalDateTime lastRebalanceAt;
+	private volatile String lastRebalanceError;
+
+	public ShardRebalancer(ShardRouter router, ObjectProvider<ShardRoutingDataSource> routingDataSource,
+		ShardAssignmentJdbcRepository assignmentRepository, StringRedisTemplate redis, ShardProperties properties) {
+		this.router = router;
+		this.routingDataSource = routingDataSource;
+		this.assignmentRepository = assignmentRepository;
+		this.redis = redis;
+		this.properties = properties.rebalance();
+	}
+
+	/** 재배치를 백그라운드로 시작하고 이동할 버킷 수 반환 */
+	public int start() {
+		if (!router.isEnabled()) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT, "샤딩이 꺼져 있습니다.");
+		}
+		if (!running.compareAndSet(false, true)) {
+			throw new BusinessException(ErrorCode.CONFLICT, "재배치가 이미 진행 중입니다.");
+		}
+		if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+			running.set(false);
+			throw new BusinessException(ErrorCode.CONFLICT, "다른 노드에서 재배치가 진행 중입니다.");
+		}
+		try {
+			List<BucketMove> moves = plan(router.assignment());
+			Thread.ofVirtual().name("shard-rebalance").start(() -> run(moves));
+			return moves.stream().mapToInt(move -> move.buckets().size()).sum();
+		} catch (RuntimeException ex) {
+			redis.delete(LOCK_KEY);
+			running.set(false);
+			throw ex;
+		}
+	}
+
+	public ShardStatusResponse status() {
+		boolean enabled = router.isEnabled();
+		if (!enabled) {
+			return new ShardStatusResponse(false, false, List.of(), 0, 0, lastRebalanceAt, lastRebalanceError);
+		}
+		BucketAssignment current = router.assignment();
+		List<ShardBuckets> shards = new ArrayList<>();
+		for (int shard : router.targets()) {
+			int ring = 0;
+			for (int bucket = 0; bucket < ShardIdGenerator.BUCKETS; bucket++) {
+				if (router.ringOwnerOf(bucket) == shard) {
+					ring++;
+				}
+			}
+			shards.add(new ShardBuckets(shard, current.bucketCount(shard), ring));
+		}
+		int pending = plan(current).stream().mapToInt(move -> move.buckets().size()).sum();
+		return new ShardStatusResponse(true, running.get(), shards, current.frozenCount(), pending,
+			lastRebalanceAt, lastRebalanceError);
+	}
+
+	/** 링 위치와 다른 버킷을 (원본, 대상) 별로 buckets-per-move 개씩 묶음 */
+	List<BucketMove> plan(BucketAssignment current) {
+		Map<Long, List<Integer>> grouped = new LinkedHashMap<>();
+		for (int bucket = 0; bucket < ShardIdGenerator.BUCKETS; bucket++) {
+			int source = current.shardOf(bucket);
+			int target = router.ringOwnerOf(bucket);
+			if (source != target) {
+				long key = ((long)source << 32) | (target & 0xffffffffL);
+				grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(bucket);
+			}
+		}
+		List<BucketMove> moves = new ArrayList<>();
+		grouped.forEach((key, buckets) -> {
+			int source = (int)(key >> 32);
+			int target = (int)(long)key;
+			for (int from = 0; from < buckets.size(); from += properties.bucketsPerMove()) {
+				int to = Math.min(from + properties.bucketsPerMove(), buckets.size());
+				moves.add(new BucketMove(source, target, List.copyOf(buckets.subList(from, to))));
+			}
+		});
+		return moves;
+	}
+
+	private void run(List<BucketMove> moves) {
+		String error = null;
+		try {
+			log.info("샤드 재배치 시작: {}단계", moves.size());
+			for (BucketMove move : moves) {
+				move(move);
+			}
+			log.info("샤드 재배치 완료");
+		} catch (RuntimeException ex) {
+			error = ex.getMessage();
+			log.error("샤드 재배치 중단", ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			error = "중단됨";
+		} finally {
+			lastRebalanceAt = now();
+			lastRebalanceError = error;
+			redis.delete(LOCK_KEY);
+			running.set(false);
+		}
+	}
+
+	private void move(BucketMove move) throws InterruptedException {
+		ShardDataMover mover = new ShardDataMover(jdbcOf(move.source()), jdbcOf(move.target()),
+			properties.chunkSize());
+		Set<Integer> buckets = new HashSet<>(move.buckets());
+
+		LocalDateTime copyStart = now();
+		List<Long> members = mover.findMembers(buckets::contains);
+		int orders = mover.copyOrders(members, null);
+		mover.copyCarts(members);
+		log.info("버킷 {}개 복사 {} → {}: 회원 {}명, 주문 {}건",
+			buckets.size(), move.source(), move.target(), members.size(), orders);
+
+		updateAssignment(() -> assignmentRepository.setFrozen(move.buckets(), true, now()));
+		try {
+			Thread.sleep(properties.freezeGrace().toMillis());
+			members = mover.findMembers(buckets::contains);
+			orders = mover.copyOrders(members, copyStart.minus(DELTA_OVERLAP));
+			mover.copyCarts(members);
+			updateAssignment(() -> assignmentRepository.assign(move.buckets(), move.target(), now()));
+		} catch (RuntimeException | InterruptedException ex) {
+			updateAssignment(() -> assignmentRepository.setFrozen(move.buckets(), false, now()));
+			throw ex;
+		}
+		log.info("버킷 {}개 전환 {} → {}: 차분 주문 {}건", buckets.size(), move.source(), move.target(), orders);
+
+		try {
+			mover.deleteSource(members);
+		} catch (RuntimeException ex) {
+			// 라우팅은 이미 대상 기준 - 원본 잔여 행은 회원 가로지르는 조회에 중복으로 보일 수 있어 정리 필요
+			log.error("원본 정리 실패 (샤드 {}, 버킷 {})", move.source(), move.buckets(), ex);
+		}
+	}
+
+	private void updateAssignment(Runnable update) {
+		router.inGlobalTransaction(() -> {
+			update.run();
+			return null;
+		});
+		router.publishChange();
+	}
+
+	private JdbcTemplate jdbcOf(int shard) {
+		return new JdbcTemplate(routingDataSource.getObject().dataSourceOf(shard));
+	}
+
+	private static LocalDateTime now() {
+		return LocalDateTime.now(SEOUL);
+	}
+}
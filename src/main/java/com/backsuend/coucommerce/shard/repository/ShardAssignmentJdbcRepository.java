@@ -0,0 +1,89 @@
+package com.backsuend.coucommerce.shard.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.backsuend.coucommerce.shard.routing.BucketAssignment;
+import com.backsuend.coucommerce.shard.routing.ShardContext;
+import com.backsuend.coucommerce.shard.routing.ShardIdGenerator;
+
+/**
+ * 버킷 → 샤드 배치 테이블 (전역 DB 의 shard_bucket). 모든 노드가 이 테이블을 기준으로 라우팅.
+ * 호출자가 전역 DB 컨텍스트에서 호출해야 함.
+ *
+ * @author rua
+ */
+@Repository
+public class ShardAssignmentJdbcRepository {
+
+	private static final String FIND_ALL = "select bucket, shard_id, frozen from shard_bucket";
+
+	// 여러 노드가 동시에 첫 기동해도 먼저 넣은 행이 유지됨
+	private static final String INSERT_IF_ABSENT = "insert ignore into shard_bucket"
+		+ " (bucket, shard_id, frozen, updated_at) values (?, ?, false, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ShardAssignmentJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** 현재 배치. 행이 없는 버킷은 전역 DB(샤딩 이전 상태)로 채워 넣음 */
+	public BucketAssignment load(LocalDateTime now) {
+		int[] shards = new int[ShardIdGenerator.BUCKETS];
+		boolean[] frozen = new boolean[ShardIdGenerator.BUCKETS];
+		boolean[] present = new boolean[ShardIdGenerator.BUCKETS];
+		jdbcTemplate.query(FIND_ALL, rs -> {
+			int bucket = rs.getInt(1);
+			shards[bucket] = rs.getInt(2);
+			frozen[bucket] = rs.getBoolean(3);
+			present[bucket] = true;
+		});
+		List<Integer> missing = new ArrayList<>();
+		for (int bucket = 0; bucket < ShardIdGenerator.BUCKETS; bucket++) {
+			if (!present[bucket]) {
+				missing.add(bucket);
+			}
+		}
+		if (missing.isEmpty()) {
+			return new BucketAssignment(shards, frozen);
+		}
+		jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, missing, missing.size(), (ps, bucket) -> {
+			ps.setInt(1, bucket);
+			ps.setInt(2, ShardContext.GLOBAL);
+			ps.setObject(3, now);
+		});
+		return load(now);
+	}
+
+	public void setFrozen(Collection<Integer> buckets, boolean frozen, LocalDateTime now) {
+		String sql = "update shard_bucket set frozen = ?, updated_at = ?"
+			+ " where bucket in (" + placeholders(buckets.size()) + ")";
+		List<Object> args = new ArrayList<>(buckets.size() + 2);
+		args.add(frozen);
+		args.add(now);
+		args.addAll(buckets);
+		jdbcTemplate.update(sql, args.toArray());
+	}
+
+	/** 버킷을 shardId 로 옮기고 동결 해제 */
+	public void assign(Collection<Integer> buckets, int shardId, LocalDateTime now) {
+		String sql = "update shard_bucket set shard_id = ?, frozen = false, updated_at = ?"
+			+ " where bucket in (" + placeholders(buckets.size()) + ")";
+		List<Object> args = new ArrayList<>(buckets.size() + 2);
+		args.add(shardId);
+		args.add(now);
+		args.addAll(buckets);
+		jdbcTemplate.update(sql, args.toArray());
+	}
+
+	private static String placeholders(int count) {
+		return String.join(",", Collections.nCopies(count, "?"));
+	}
+}
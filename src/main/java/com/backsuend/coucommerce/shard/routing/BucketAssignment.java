@@ -0,0 +1,45 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.util.Arrays;
+
+/**
+ * 버킷 → 샤드 배치 (불변). 샤드 번호 GLOBAL = 아직 전역 DB 에 있는 버킷.
+ * frozen 버킷은 재배치 중이라 요청을 받지 않음.
+ *
+ * @author rua
+ */
+public final class BucketAssignment {
+
+	private final int[] shards;
+	private final boolean[] frozen;
+
+	public BucketAssignment(int[] shards, boolean[] frozen) {
+		if (shards.length != ShardIdGenerator.BUCKETS || frozen.length != ShardIdGenerator.BUCKETS) {
+			throw new IllegalArgumentException("버킷 수 불일치");
+		}
+		this.shards = shards.clone();
+		this.frozen = frozen.clone();
+	}
+
+	public int shardOf(int bucket) {
+		return shards[bucket];
+	}
+
+	public boolean isFrozen(int bucket) {
+		return frozen[bucket];
+	}
+
+	public int bucketCount(int shard) {
+		return (int)Arrays.stream(shards).filter(s -> s == shard).count();
+	}
+
+	public int frozenCount() {
+		int count = 0;
+		for (boolean f : frozen) {
+			if (f) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
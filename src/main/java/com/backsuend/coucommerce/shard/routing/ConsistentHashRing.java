@@ -0,0 +1,54 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.backsuend.coucommerce.common.util.Murmur3;
+
+/**
+ * 가상 노드 일관 해시 링 (버킷 → 샤드 배치 계산용).
+ * - 샤드마다 virtualNodes 개 지점을 링에 두고, 키 해시 이상인 첫 지점의 샤드를 선택 (끝을 넘으면 처음으로)
+ * - 샤드를 하나 추가하면 약 1/(N+1) 의 키만 새 샤드로 옮겨가고 나머지는 제자리
+ * - 불변 객체: 정렬된 long[] 이분 탐색이라 조회에 락·박싱 없음
+ *
+ * @author rua
+ */
+public final class ConsistentHashRing {
+
+	// 지점 입력(샤드, 가상 노드 번호)과 키(버킷 번호)가 같은 작은 정수 범위라 그대로 해시하면 해시값이 겹침
+	// → 버킷 k 가 샤드 0 의 k 번 지점에 정확히 걸려 샤드 0 으로 몰림. 지점 쪽 입력을 섞어 분리
+	private static final long POINT_SALT = 0x9e3779b97f4a7c15L;
+
+	private final long[] points;
+	private final int[] owners;
+
+	public ConsistentHashRing(Collection<Integer> shardIds, int virtualNodes) {
+		if (shardIds.isEmpty() || virtualNodes <= 0) {
+			throw new IllegalArgumentException("샤드 1개 이상, virtualNodes > 0");
+		}
+		int size = shardIds.size() * virtualNodes;
+		long[][] entries = new long[size][];
+		int index = 0;
+		for (int shardId : shardIds) {
+			for (int vnode = 0; vnode < virtualNodes; vnode++) {
+				entries[index++] = new long[] {Murmur3.hash64(POINT_SALT ^ (((long)shardId << 32) | vnode)), shardId};
+			}
+		}
+		// 해시가 같은 지점은 샤드 ID 순 → 샤드 목록 순서와 무관하게 같은 링
+		Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+		this.points = new long[size];
+		this.owners = new int[size];
+		for (int i = 0; i < size; i++) {
+			points[i] = entries[i][0];
+			owners[i] = (int)entries[i][1];
+		}
+	}
+
+	public int shardOf(long key) {
+		int index = Arrays.binarySearch(points, Murmur3.hash64(key));
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return owners[index == points.length ? 0 : index];
+	}
+}
@@ -0,0 +1,50 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드. {@link ShardRoutingDataSource} 가 커넥션을 얻는 시점(트랜잭션 시작)에 읽음.
+ * 값이 없으면 전역 DB (회원, 상품 등 샤딩하지 않는 테이블 + 샤딩 이전 데이터).
+ * 직접 쓰지 말고 {@link ShardRouter} 를 통해 설정.
+ *
+ * @author rua
+ */
+public final class ShardContext {
+
+	/** 전역 DB */
+	public static final int GLOBAL = -1;
+
+	private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+	private ShardContext() {
+	}
+
+	/** 현재 샤드 (전역 DB 면 null) */
+	public static Integer current() {
+		return CURRENT.get();
+	}
+
+	public static int currentOrGlobal() {
+		Integer shard = CURRENT.get();
+		return shard == null ? GLOBAL : shard;
+	}
+
+	/** shard 로 전환해 실행하고 이전 값으로 복원 (중첩 가능) */
+	static <T> T call(int shard, Supplier<T> action) {
+		Integer previous = CURRENT.get();
+		if (shard == GLOBAL) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(shard);
+		}
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.util.function.LongSupplier;
+
+import com.backsuend.coucommerce.common.util.Murmur3;
+
+/**
+ * 샤드 위치를 담은 64비트 ID 생성기 (Snowflake 변형).
+ *
+ * <pre>
+ * | 0 | 41: 2025-01-01 이후 ms | 10: 버킷 | 5: 노드 | 7: 같은 ms 안 순번 |
+ * </pre>
+ * - 버킷 = 회원 ID 해시의 상위 10비트 → ID 만으로 어느 버킷(샤드)의 행인지 알 수 있음 (주문 ID 로 라우팅)
+ * - 버킷은 샤드 수와 무관하게 고정이고, 버킷 → 샤드 배치만 바뀜 → 재배치 후에도 기존 ID 의 라우팅이 유효
+ * - 노드 번호가 노드마다 다르면 DB 왕복 없이 샤드 간 충돌 없는 ID (IDENTITY 는 샤드마다 따로 증가해 충돌)
+ * - 한 ms 에 순번(128개)을 다 쓰면 다음 ms 를 당겨 씀. 작은 시계 역행도 마지막 시각을 이어 써서 흡수
+ *
+ * @author rua
+ */
+public final class ShardIdGenerator {
+
+	public static final int BUCKET_BITS = 10;
+	public static final int BUCKETS = 1 << BUCKET_BITS;
+	public static final int NODE_BITS = 5;
+	public static final int MAX_NODES = 1 << NODE_BITS;
+	private static final int SEQUENCE_BITS = 7;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final int BUCKET_SHIFT = NODE_BITS + SEQUENCE_BITS;
+	private static final int TIMESTAMP_SHIFT = BUCKET_SHIFT + BUCKET_BITS;
+
+	/** 2025-01-01T00:00:00Z */
+	public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+	/** 이보다 작은 ID 는 샤딩 이전 auto_increment 로 발급된 ID (버킷 정보 없음) */
+	public static final long LEGACY_ID_LIMIT = 1L << 40;
+	/** 시계가 이보다 많이 뒤처지면(역행 또는 순번 과다 소진) 발급 중단 */
+	private static final long MAX_DRIFT_MILLIS = 10_000;
+
+	private final int nodeId;
+	private final LongSupplier clock;
+	private long lastMillis = -1;
+	private long sequence;
+
+	public ShardIdGenerator(int nodeId, LongSupplier clock) {
+		if (nodeId < 0 || nodeId >= MAX_NODES) {
+			throw new IllegalArgumentException("nodeId 는 0 ~ " + (MAX_NODES - 1));
+		}
+		this.nodeId = nodeId;
+		this.clock = clock;
+	}
+
+	public synchronized long next(int bucket) {
+		if (bucket < 0 || bucket >= BUCKETS) {
+			throw new IllegalArgumentException("bucket 범위 밖: " + bucket);
+		}
+		long now = clock.getAsLong();
+		if (now < EPOCH_MILLIS) {
+			throw new IllegalStateException("시계가 기준 시각 이전");
+		}
+		if (now <= lastMillis) {
+			if (lastMillis - now > MAX_DRIFT_MILLIS) {
+				throw new IllegalStateException("시계가 " + (lastMillis - now) + "ms 뒤처져 ID 를 발급할 수 없음");
+			}
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			now = sequence == 0 ? lastMillis + 1 : lastMillis;
+		} else {
+			sequence = 0;
+		}
+		lastMillis = now;
+		return ((now - EPOCH_MILLIS) << TIMESTAMP_SHIFT)
+			| ((long)bucket << BUCKET_SHIFT)
+			| ((long)nodeId << SEQUENCE_BITS)
+			| sequence;
+	}
+
+	/** 회원이 속한 버킷 (해시 상위 비트) */
+	public static int bucketOfMember(long memberId) {
+		return (int)(Murmur3.hash64(memberId) >>> (Long.SIZE - BUCKET_BITS));
+	}
+
+	/** ID 에 담긴 버킷. 샤딩 이전 ID 는 -1 */
+	public static int bucketOf(long id) {
+		if (id < LEGACY_ID_LIMIT) {
+			return -1;
+		}
+		return (int)((id >>> BUCKET_SHIFT) & (BUCKETS - 1));
+	}
+}
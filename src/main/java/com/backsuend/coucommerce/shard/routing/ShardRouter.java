@@ -0,0 +1,370 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongToIntFunction;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backsuend.coucommerce.common.config.SchedulingConfig;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.shard.config.ShardProperties;
+import com.backsuend.coucommerce.shard.repository.ShardAssignmentJdbcRepository;
+
+/**
+ * 회원 단위 데이터(장바구니, 주문, 주문 상품, 결제)의 샤드 라우팅.
+ *
+ * <pre>
+ * 회원 ID ─hash→ 버킷(1024, 고정) ─shard_bucket 배치→ 샤드
+ * 주문/결제 ID ─상위 비트→ 버킷 ─→ 샤드          (ID 생성 시 회원 버킷을 담음)
+ * </pre>
+ * - 배치는 전역 DB 의 shard_bucket 이 기준. 재배치 시 Redis 채널로 즉시, 놓쳐도 동기화 주기 안에 반영
+ * - 처음에는 모든 버킷이 전역 DB(GLOBAL) → 재배치 도구가 일관 해시 링 위치로 버킷을 옮기며 샤드로 분산
+ * - 샤딩 이전 ID(auto_increment)의 주문은 전역 DB 에 남고 그대로 전역 DB 로 라우팅
+ * - shard.enabled=false 면 모든 요청이 전역 DB, 트랜잭션도 기존과 같이 하나 (ID 형식만 샤드 ID)
+ *
+ * ID 생성기 노드 번호는 설정(shard.node-id)이 없으면 Redis 임대(SET NX + TTL)로 빈 번호를 잡고 주기적으로 연장.
+ * 임대를 잃으면(연장 실패가 TTL 동안 이어짐) 같은 번호를 다른 노드가 잡을 수 있으므로 그 번호로는 더 발급하지 않고 새로 잡음.
+ *
+ * 샤드는 트랜잭션 시작 전에 정해야 함 → in*Transaction 으로 샤드 전환과 트랜잭션 시작을 함께 처리.
+ * 샤드와 전역 DB 에 걸친 작업(주문 시 재고 차감)은 {@link #inGlobalTransaction} 으로 분리하고 보상으로 맞춤.
+ *
+ * @author rua
+ */
+@Component
+public class ShardRouter implements MessageListener, DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+
+	public static final int GLOBAL = ShardContext.GLOBAL;
+	static final String CHANNEL = "shard:assignment";
+	private static final String NODE_LEASE_KEY_PREFIX = "shard:node:";
+	/** 연장 주기(shard.node-lease-renew-interval-ms)의 몇 배로 잡아 한두 번 실패해도 유지 */
+	private static final Duration NODE_LEASE_TTL = Duration.ofSeconds(30);
+	/** 임대가 남아 있어도 만료 직전에는 발급을 멈춤 - Redis 와 노드의 시간 차이 여유 */
+	private static final long NODE_LEASE_MARGIN_NANOS = Duration.ofSeconds(5).toNanos();
+	/** 값이 내 토큰일 때만 TTL 연장 / 삭제 (다른 노드가 이어받은 번호는 건드리지 않음) */
+	private static final DefaultRedisScript<Long> RENEW_LEASE = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+		Long.class);
+	private static final DefaultRedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+		Long.class);
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private final boolean enabled;
+	private final List<Integer> shardIds;
+	private final ConsistentHashRing ring;
+	private final int configuredNodeId;
+	private final ShardAssignmentJdbcRepository assignmentRepository;
+	private final StringRedisTemplate redis;
+	private final TransactionTemplate required;
+	private final TransactionTemplate requiresNew;
+	private volatile BucketAssignment assignment;
+	private final String leaseToken = UUID.randomUUID().toString();
+	private volatile ShardIdGenerator idGenerator;
+	private volatile int leasedNodeId = -1;
+	private volatile long leaseValidUntilNanos;
+
+	public ShardRouter(ShardProperties properties, ObjectProvider<ShardRoutingDataSource> routingDataSource,
+		ShardAssignmentJdbcRepository assignmentRepository, StringRedisTemplate redis,
+		RedisMessageListenerContainer listenerContainer, PlatformTransactionManager transactionManager) {
+		this.enabled = properties.enabled();
+		this.configuredNodeId = properties.nodeId();
+		this.assignmentRepository = assignmentRepository;
+		this.redis = redis;
+		this.required = new TransactionTemplate(transactionManager);
+		this.requiresNew = new TransactionTemplate(transactionManager);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		if (enabled) {
+			this.shardIds = List.copyOf(routingDataSource.getObject().shardIds());
+			this.ring = new ConsistentHashRing(shardIds, properties.virtualNodes());
+			listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+		} else {
+			this.shardIds = List.of();
+			this.ring = null;
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/** 샤드 번호들 (전역 DB 제외) */
+	public List<Integer> shardIds() {
+		return shardIds;
+	}
+
+	/** 회원 단위 데이터가 있을 수 있는 모든 곳: 전역 DB(이전 데이터) + 샤드 - 회원을 가로지르는 조회용 */
+	public List<Integer> targets() {
+		List<Integer> targets = new ArrayList<>(shardIds.size() + 1);
+		targets.add(GLOBAL);
+		targets.addAll(shardIds);
+		return targets;
+	}
+
+	/** 버킷이 최종적으로 있어야 할 샤드 (일관 해시 링 위치) */
+	public int ringOwnerOf(int bucket) {
+		if (!enabled) {
+			return GLOBAL;
+		}
+		return ring.shardOf(bucket);
+	}
+
+	public int shardOfMember(long memberId) {
+		return shardOfBucket(ShardIdGenerator.bucketOfMember(memberId));
+	}
+
+	/** 주문/결제 ID 의 샤드 (샤딩 이전 ID 는 전역 DB) */
+	public int shardOfId(long id) {
+		int bucket = ShardIdGenerator.bucketOf(id);
+		return bucket < 0 ? GLOBAL : shardOfBucket(bucket);
+	}
+
+	private int shardOfBucket(int bucket) {
+		if (!enabled) {
+			return GLOBAL;
+		}
+		BucketAssignment current = assignment();
+		if (current.isFrozen(bucket)) {
+			// 재배치 마지막 단계 - 클라이언트 재시도
+			throw StacklessBusinessException.of(ErrorCode.SHARD_MIGRATING);
+		}
+		return current.shardOf(bucket);
+	}
+
+	/**
+	 * 지금 배치 기준으로 ID 행의 정본이 있는 곳 (동결 중에도 예외 없음, 샤딩 이전 ID 는 전역 DB).
+	 * 재배치 전환 후 원본 삭제 전이나 원본 삭제 실패로 두 곳에 있는 행을 회원 가로지르는 조회에서 한 번만 세는 데 사용.
+	 * 배치 하나를 잡아 두므로 한 조회 결과 전체를 같은 기준으로 거름
+	 */
+	public LongToIntFunction homeShards() {
+		if (!enabled) {
+			return id -> GLOBAL;
+		}
+		BucketAssignment current = assignment();
+		return id -> {
+			int bucket = ShardIdGenerator.bucketOf(id);
+			return bucket < 0 ? GLOBAL : current.shardOf(bucket);
+		};
+	}
+
+	public <T> T onMember(long memberId, Supplier<T> action) {
+		return onShard(shardOfMember(memberId), action);
+	}
+
+	public <T> T onId(long id, Supplier<T> action) {
+		return onShard(shardOfId(id), action);
+	}
+
+	/** shard 로 전환해 실행. 다른 샤드의 트랜잭션 안에서는 커넥션이 바뀌지 않으므로 거부 */
+	public <T> T onShard(int shard, Supplier<T> action) {
+		if (shard != ShardContext.currentOrGlobal() && TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException("트랜잭션 안에서 샤드 전환: " + ShardContext.currentOrGlobal() + " → " + shard);
+		}
+		return ShardContext.call(shard, action);
+	}
+
+	public <T> T inMemberTransaction(long memberId, Supplier<T> action) {
+		return inShardTransaction(shardOfMember(memberId), action);
+	}
+
+	public <T> T inIdTransaction(long id, Supplier<T> action) {
+		return inShardTransaction(shardOfId(id), action);
+	}
+
+	public <T> T inShardTransaction(int shard, Supplier<T> action) {
+		return onShard(shard, () -> required.execute(status -> action.get()));
+	}
+
+	/**
+	 * 전역 DB(상품 재고 등) 작업.
+	 * 샤딩 중이면 호출자의 샤드 트랜잭션과 분리된 새 트랜잭션으로 먼저 커밋되고,
+	 * 아니면 호출자 트랜잭션에 그대로 참여 (같은 DB 라 기존처럼 한 번에 커밋/롤백)
+	 */
+	public <T> T inGlobalTransaction(Supplier<T> action) {
+		if (!enabled) {
+			return required.execute(status -> action.get());
+		}
+		return ShardContext.call(GLOBAL, () -> requiresNew.execute(status -> action.get()));
+	}
+
+	/** 회원 버킷을 담은 새 ID */
+	public long nextId(long memberId) {
+		return idGenerator().next(ShardIdGenerator.bucketOfMember(memberId));
+	}
+
+	/** 기존 ID 와 같은 버킷의 새 ID (주문에 딸린 결제 등). 샤딩 이전 ID 면 버킷 0 */
+	public long nextIdBeside(long id) {
+		return idGenerator().next(Math.max(ShardIdGenerator.bucketOf(id), 0));
+	}
+
+	public BucketAssignment assignment() {
+		BucketAssignment current = assignment;
+		if (current == null) {
+			synchronized (this) {
+				current = assignment;
+				if (current == null) {
+					refresh();
+					current = assignment;
+				}
+			}
+		}
+		return current;
+	}
+
+	/** shard_bucket 다시 읽기 */
+	public void refresh() {
+		if (!enabled) {
+			return;
+		}
+		assignment = ShardContext.call(GLOBAL, () -> assignmentRepository.load(LocalDateTime.now(SEOUL)));
+	}
+
+	/** 배치 변경을 다른 노드(자신 포함)에 알림 */
+	public void publishChange() {
+		refresh();
+		try {
+			redis.convertAndSend(CHANNEL, "refresh");
+		} catch (RuntimeException ex) {
+			// 다른 노드는 동기화 주기에 반영
+			log.warn("샤드 배치 변경 전파 실패", ex);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			refresh();
+		} catch (RuntimeException ex) {
+			log.warn("샤드 배치 갱신 실패", ex);
+		}
+	}
+
+	/** 첫 요청이 트랜잭션 안에서 배치를 읽지 않도록 미리 적재 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		BucketAssignment current = assignment();
+		log.info("샤드 배치 적재: 샤드 {}개, 전역 DB 버킷 {}개, 동결 {}개",
+			shardIds.size(), current.bucketCount(GLOBAL), current.frozenCount());
+	}
+
+	/** pub/sub 유실 대비 - 재배치 동결 대기(shard.rebalance.freeze-grace)보다 짧아야 함 */
+	@Scheduled(fixedDelayString = "${shard.sync-interval-ms:5000}",
+		initialDelayString = "${shard.sync-interval-ms:5000}", scheduler = SchedulingConfig.SHARD_SCHEDULER)
+	public void sync() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			refresh();
+		} catch (RuntimeException ex) {
+			log.warn("샤드 배치 동기화 실패", ex);
+		}
+	}
+
+	/** 노드 번호 임대 연장 - 실패가 이어져 임대가 끝나면 다음 발급 때 새 번호를 잡음 */
+	@Scheduled(fixedDelayString = "${shard.node-lease-renew-interval-ms:10000}",
+		initialDelayString = "${shard.node-lease-renew-interval-ms:10000}",
+		scheduler = SchedulingConfig.SHARD_SCHEDULER)
+	public void renewNodeLease() {
+		int nodeId = leasedNodeId;
+		if (nodeId < 0) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		try {
+			Long renewed = redis.execute(RENEW_LEASE, List.of(NODE_LEASE_KEY_PREFIX + nodeId), leaseToken,
+				String.valueOf(NODE_LEASE_TTL.toMillis()));
+			if (renewed != null && renewed == 1) {
+				leaseValidUntilNanos = startedAt + NODE_LEASE_TTL.toNanos() - NODE_LEASE_MARGIN_NANOS;
+			} else {
+				// 만료 후 다른 노드가 잡았을 수 있음 → 즉시 이 번호로 발급 중단
+				log.error("ID 생성기 노드 번호 {} 임대를 잃음 - 새 번호를 할당", nodeId);
+				leaseValidUntilNanos = startedAt;
+			}
+		} catch (RuntimeException ex) {
+			log.warn("ID 생성기 노드 번호 {} 임대 연장 실패", nodeId, ex);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		int nodeId = leasedNodeId;
+		if (nodeId < 0) {
+			return;
+		}
+		try {
+			redis.execute(RELEASE_LEASE, List.of(NODE_LEASE_KEY_PREFIX + nodeId), leaseToken);
+		} catch (RuntimeException ex) {
+			// TTL 뒤 자연히 풀림
+			log.warn("ID 생성기 노드 번호 {} 반납 실패", nodeId, ex);
+		}
+	}
+
+	private ShardIdGenerator idGenerator() {
+		ShardIdGenerator generator = idGenerator;
+		if (generator == null || leaseExpired()) {
+			synchronized (this) {
+				generator = idGenerator;
+				if (generator == null || leaseExpired()) {
+					generator = new ShardIdGenerator(allocateNodeId(), System::currentTimeMillis);
+					idGenerator = generator;
+				}
+			}
+		}
+		return generator;
+	}
+
+	private boolean leaseExpired() {
+		return leasedNodeId >= 0 && System.nanoTime() - leaseValidUntilNanos > 0;
+	}
+
+	/**
+	 * 설정값이 없으면 Redis 에서 빈 노드 번호를 임대 (0~31 중 SET NX 가 성공하는 첫 번호).
+	 * 32개가 모두 살아 있는 노드에 임대돼 있으면 기동/발급 실패 - 번호를 재사용해 ID 가 겹치는 것보다 나음
+	 */
+	private int allocateNodeId() {
+		if (configuredNodeId >= 0) {
+			return configuredNodeId;
+		}
+		for (int nodeId = 0; nodeId < ShardIdGenerator.MAX_NODES; nodeId++) {
+			long startedAt = System.nanoTime();
+			if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(NODE_LEASE_KEY_PREFIX + nodeId, leaseToken,
+				NODE_LEASE_TTL))) {
+				leaseValidUntilNanos = startedAt + NODE_LEASE_TTL.toNanos() - NODE_LEASE_MARGIN_NANOS;
+				leasedNodeId = nodeId;
+				log.info("ID 생성기 노드 번호 임대: {}", nodeId);
+				return nodeId;
+			}
+		}
+		throw new IllegalStateException("임대 가능한 ID 생성기 노드 번호가 없음 (최대 " + ShardIdGenerator.MAX_NODES
+			+ "개) - shard.node-id 로 지정하거나 노드 수를 줄여야 함");
+	}
+}
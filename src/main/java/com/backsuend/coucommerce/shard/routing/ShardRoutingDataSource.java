@@ -0,0 +1,77 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link ShardContext} 에 따라 전역 DB 또는 샤드 DataSource 로 커넥션을 위임.
+ * JPA / JdbcTemplate 은 이 DataSource 하나만 보므로 기존 저장소 코드는 그대로 두고 호출 위치에서 샤드만 정함.
+ * - 트랜잭션은 시작 시점의 샤드 커넥션에 묶임 → 샤드 전환은 트랜잭션 밖에서 ({@link ShardRouter} 가 검사)
+ * - 등록되지 않은 샤드 번호는 전역 DB 로 대체하지 않고 실패 (lenientFallback = false)
+ *
+ * @author rua
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(ShardRoutingDataSource.class);
+
+	private final DataSource global;
+	private final Map<Integer, DataSource> shards;
+
+	public ShardRoutingDataSource(DataSource global, Map<Integer, DataSource> shards) {
+		this.global = global;
+		this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+		setTargetDataSources(new HashMap<>(shards));
+		setDefaultTargetDataSource(global);
+		setLenientFallback(false);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return ShardContext.current();
+	}
+
+	/** 샤드 번호의 DataSource (GLOBAL 이면 전역 DB) - 재배치 도구처럼 두 샤드를 동시에 다룰 때 사용 */
+	public DataSource dataSourceOf(int shardId) {
+		if (shardId == ShardContext.GLOBAL) {
+			return global;
+		}
+		DataSource shard = shards.get(shardId);
+		if (shard == null) {
+			throw new IllegalArgumentException("등록되지 않은 샤드: " + shardId);
+		}
+		return shard;
+	}
+
+	public Set<Integer> shardIds() {
+		return shards.keySet();
+	}
+
+	@Override
+	public void close() {
+		for (DataSource dataSource : shards.values()) {
+			closeQuietly(dataSource);
+		}
+		closeQuietly(global);
+	}
+
+	private static void closeQuietly(DataSource dataSource) {
+		if (dataSource instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception ex) {
+				log.warn("DataSource 종료 실패", ex);
+			}
+		}
+	}
+}
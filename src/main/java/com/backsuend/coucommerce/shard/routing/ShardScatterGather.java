@@ -0,0 +1,112 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongToIntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.trace.TraceTaskDecorator;
+import com.backsuend.coucommerce.shard.config.ShardProperties;
+
+/**
+ * 회원을 가로지르는 조회(판매자 주문 목록, 만료 보정, 추천 초기 적재 등)를 모든 샤드에 병렬로 보내고 모음.
+ * - 샤드마다 가상 스레드 하나 → 전체 지연 ≈ 가장 느린 샤드
+ * - 하나라도 실패하거나 scatter-timeout 을 넘으면 부분 결과 대신 SHARD_UNAVAILABLE
+ * - 샤딩이 꺼져 있으면 호출 스레드에서 전역 DB 한 번
+ * - 행 단위 결과는 {@link #gatherOwned} 로 재배치 중 두 샤드에 있는 행을 한 번만 반환
+ *
+ * @author rua
+ */
+@Component
+public class ShardScatterGather implements DisposableBean {
+
+	private final ShardRouter router;
+	private final TraceTaskDecorator traceTaskDecorator;
+	private final Duration timeout;
+	private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("shard-scatter-", 0).factory());
+
+	public ShardScatterGather(ShardRouter router, TraceTaskDecorator traceTaskDecorator, ShardProperties properties) {
+		this.router = router;
+		this.traceTaskDecorator = traceTaskDecorator;
+		this.timeout = properties.scatterTimeout();
+	}
+
+	/** query 를 대상(전역 DB + 샤드)마다 실행해 {@link ShardRouter#targets()} 순서로 반환 */
+	public <T> List<T> gather(Supplier<T> query) {
+		List<Integer> targets = router.targets();
+		if (targets.size() == 1) {
+			return Collections.singletonList(router.onShard(targets.get(0), query));
+		}
+		List<CompletableFuture<T>> futures = new ArrayList<>(targets.size());
+		for (int shard : targets) {
+			CompletableFuture<T> future = new CompletableFuture<>();
+			executor.execute(traceTaskDecorator.decorate(() -> {
+				try {
+					future.complete(router.onShard(shard, query));
+				} catch (Throwable ex) {
+					future.completeExceptionally(ex);
+				}
+			}));
+			futures.add(future);
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException ex) {
+			futures.forEach(future -> future.cancel(true));
+			throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE, "샤드 응답 시간 초과");
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof BusinessException business) {
+				throw business;
+			}
+			throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE, "샤드 조회 실패: " + ex.getCause().getMessage());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE, "샤드 조회 중단");
+		}
+		List<T> results = new ArrayList<>(targets.size());
+		futures.forEach(future -> results.add(future.join()));
+		return results;
+	}
+
+	/**
+	 * 행 목록을 모은 뒤 대상마다 그 대상이 정본이 아닌 행(재배치로 남은 사본)을 빼고 합침 ({@link ShardRouter#homeShards()}).
+	 * 배치는 조회가 끝난 뒤 읽음 - 원본 삭제는 전환 뒤에만 일어나므로 전환 전 배치면 원본 결과에,
+	 * 전환 후 배치면 대상 결과에 행이 있어 빠지지도 두 번 나오지도 않음
+	 */
+	public <T> List<T> gatherOwned(Supplier<List<T>> query, ToLongFunction<T> idOf) {
+		List<List<T>> results = gather(query);
+		List<Integer> targets = router.targets();
+		LongToIntFunction home = router.homeShards();
+		List<T> owned = new ArrayList<>();
+		for (int i = 0; i < targets.size(); i++) {
+			int shard = targets.get(i);
+			for (T row : results.get(i)) {
+				if (home.applyAsInt(idOf.applyAsLong(row)) == shard) {
+					owned.add(row);
+				}
+			}
+		}
+		return owned;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,145 @@
+-- 초기 스키마 (기존 ddl-auto: update 로 생성되던 스키마와 동일)
+-- 기존 개발 DB 는 spring.flyway.baseline-on-migrate 로 V1 기준선만 기록되고 이 스크립트는 실행되지 않음
+
+create table member (
+    id         bigint       not null auto_increment,
+    email      varchar(200) not null,
+    password   varchar(100) not null,
+    phone      varchar(50)  not null,
+    name       varchar(50)  not null,
+    role       enum ('BUYER','SELLER','ADMIN') not null,
+    created_at datetime(6)  not null,
+    updated_at datetime(6)  not null,
+    deleted_at datetime(6),
+    primary key (id),
+    unique index idx_member_email (email),
+    index idx_member_phone (phone)
+) engine = InnoDB;
+
+create table address (
+    id          bigint       not null auto_increment,
+    member_id   bigint       not null,
+    postal_code varchar(10)  not null,
+    road_name   varchar(100) not null,
+    detail      varchar(50)  not null,
+    created_at  datetime(6)  not null,
+    updated_at  datetime(6)  not null,
+    deleted_at  datetime(6),
+    primary key (id),
+    unique index idx_address_member (member_id),
+    constraint fk_address_member foreign key (member_id) references member (id)
+) engine = InnoDB;
+
+create table seller (
+    id                 bigint   not null auto_increment,
+    member_id          bigint   not null,
+    status             enum ('APPLIED','APPROVED','SUSPENDED') not null,
+    approved_member_id bigint,
+    reason             longtext,
+    created_at         datetime(6) not null,
+    updated_at         datetime(6) not null,
+    deleted_at         datetime(6),
+    primary key (id),
+    constraint uk_seller_member unique (member_id),
+    index idx_seller_status (status),
+    constraint fk_seller_member foreign key (member_id) references member (id),
+    constraint fk_seller_approved_member foreign key (approved_member_id) references member (id)
+) engine = InnoDB;
+
+create table product (
+    id         bigint      not null auto_increment,
+    member_id  bigint      not null,
+    name       varchar(50) not null,
+    detail     longtext    not null,
+    stock      integer     not null,
+    price      integer     not null,
+    category   enum ('FASHION','BEAUTY','FOOD','DIGITAL','HOME','BOOKS','ETC') not null,
+    is_status  bit         not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    index idx_product_member (member_id),
+    index idx_product_category (category),
+    index idx_product_visible (is_status),
+    constraint fk_product_member foreign key (member_id) references member (id)
+) engine = InnoDB;
+
+create table review (
+    id         bigint      not null auto_increment,
+    member_id  bigint      not null,
+    product_id bigint      not null,
+    content    longtext,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    index idx_review_member (member_id),
+    index idx_review_product (product_id),
+    constraint fk_review_member foreign key (member_id) references member (id),
+    constraint fk_review_product foreign key (product_id) references product (id)
+) engine = InnoDB;
+
+create table cart (
+    id         bigint      not null auto_increment,
+    member_id  bigint      not null,
+    product_id bigint      not null,
+    quantity   integer     not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    constraint uk_cart_member_product unique (member_id, product_id),
+    index idx_cart_member (member_id),
+    index idx_cart_product (product_id),
+    constraint fk_cart_member foreign key (member_id) references member (id),
+    constraint fk_cart_product foreign key (product_id) references product (id)
+) engine = InnoDB;
+
+create table orders (
+    id                   bigint       not null auto_increment,
+    member_id            bigint       not null,
+    consumer_name        varchar(20)  not null,
+    consumer_phone       varchar(20)  not null,
+    receiver_name        varchar(20)  not null,
+    receiver_road_name   varchar(100) not null,
+    receiver_phone       varchar(20)  not null,
+    receiver_postal_code varchar(10)  not null,
+    status               enum ('READY','START','DONE') not null,
+    payment_id           bigint,
+    created_at           datetime(6)  not null,
+    updated_at           datetime(6)  not null,
+    deleted_at           datetime(6),
+    primary key (id),
+    index idx_orders_member (member_id),
+    index idx_orders_status (status),
+    constraint fk_orders_member foreign key (member_id) references member (id)
+) engine = InnoDB;
+
+create table order_product (
+    id         bigint      not null auto_increment,
+    order_id   bigint      not null,
+    product_id bigint      not null,
+    quantity   integer     not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    index idx_order_product_order (order_id),
+    index idx_order_product_product (product_id),
+    constraint fk_order_product_order foreign key (order_id) references orders (id),
+    constraint fk_order_product_product foreign key (product_id) references product (id)
+) engine = InnoDB;
+
+create table payment (
+    id          bigint      not null auto_increment,
+    order_id    bigint      not null,
+    card_id     enum ('KB','SH','KAKAO') not null,
+    total_price integer     not null,
+    created_at  datetime(6) not null,
+    updated_at  datetime(6) not null,
+    deleted_at  datetime(6),
+    primary key (id),
+    unique index idx_payment_order (order_id),
+    constraint fk_payment_order foreign key (order_id) references orders (id)
+) engine = InnoDB;
@@ -0,0 +1,8 @@
+-- 미결제 주문 만료: CANCELED 상태 추가
+alter table orders
+    modify column status enum ('READY','START','DONE','CANCELED') not null;
+
+-- 만료 백스톱 조회(status = 'READY' and created_at < ?)가 오래된 READY 주문 구간만 읽도록 복합 인덱스로 교체
+-- (status 단독 인덱스는 이 인덱스의 접두사라 중복)
+create index idx_orders_status_created on orders (status, created_at);
+drop index idx_orders_status on orders;
@@ -0,0 +1,17 @@
+-- 주문 상품에 주문 시점 가격 저장: 결제 금액이 상품 가격 변경에 영향받지 않고,
+-- 샤드로 옮긴 주문이 전역 DB 의 product 와 조인하지 않아도 금액을 계산할 수 있게 함
+alter table order_product
+    add column price integer not null default 0 after quantity;
+
+update order_product op
+    join product p on p.id = op.product_id
+set op.price = p.price;
+
+-- 버킷(회원 해시 1024 구간) → 샤드 배치. shard_id = -1 은 전역 DB (샤딩 이전 상태)
+create table shard_bucket (
+    bucket     smallint    not null,
+    shard_id   smallint    not null,
+    frozen     boolean     not null,
+    updated_at datetime(6) not null,
+    primary key (bucket)
+) engine = InnoDB;
@@ -0,0 +1,3 @@
+-- 카탈로그 버전 캐시 재동기화(updated_at > ?) 가 주기마다 전체 스캔하지 않도록
+create index idx_product_updated_at on product (updated_at);
+create index idx_review_updated_at on review (updated_at);
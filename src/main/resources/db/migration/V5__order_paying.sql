@@ -0,0 +1,4 @@
+-- 결제 승인 대기 상태: 카드사 호출 전에 READY → PAYING 으로 조건부 전이해
+-- 중복 결제 요청과 승인 대기 중 만료를 막음
+alter table orders
+    modify column status enum ('READY','PAYING','START','DONE','CANCELED') not null;
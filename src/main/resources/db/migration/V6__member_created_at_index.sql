@@ -0,0 +1,2 @@
+-- 이메일 블룸 필터 따라잡기(created_at >= ?) 가 주기마다 전체 스캔하지 않도록
+create index idx_member_created_at on member (created_at);
@@ -0,0 +1,64 @@
+-- 샤드 스키마: 회원 단위 테이블만 (회원·상품 등은 전역 DB)
+-- 전역 DB 행을 가리키는 FK 는 둘 수 없으므로 제외하고 샤드 안의 주문 ↔ 주문 상품/결제 FK 만 유지
+-- 주문·결제 ID 는 애플리케이션이 버킷을 담아 발급 (샤드 간 충돌 없음), 주문 상품·장바구니 ID 는 샤드 내부용
+-- H2(MySQL 모드) 로도 적용되도록 enum 대신 varchar, 인덱스는 별도 문장
+
+create table cart (
+    id         bigint      not null auto_increment,
+    member_id  bigint      not null,
+    product_id bigint      not null,
+    quantity   integer     not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    constraint uk_cart_member_product unique (member_id, product_id)
+);
+create index idx_cart_member on cart (member_id);
+
+create table orders (
+    id                   bigint       not null,
+    member_id            bigint       not null,
+    consumer_name        varchar(20)  not null,
+    consumer_phone       varchar(20)  not null,
+    receiver_name        varchar(20)  not null,
+    receiver_road_name   varchar(100) not null,
+    receiver_phone       varchar(20)  not null,
+    receiver_postal_code varchar(10)  not null,
+    status               varchar(10)  not null,
+    payment_id           bigint,
+    created_at           datetime(6)  not null,
+    updated_at           datetime(6)  not null,
+    deleted_at           datetime(6),
+    primary key (id)
+);
+create index idx_orders_member on orders (member_id);
+create index idx_orders_status_created on orders (status, created_at);
+
+create table order_product (
+    id         bigint      not null auto_increment,
+    order_id   bigint      not null,
+    product_id bigint      not null,
+    quantity   integer     not null,
+    price      integer     not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    primary key (id),
+    constraint fk_order_product_order foreign key (order_id) references orders (id)
+);
+create index idx_order_product_order on order_product (order_id);
+create index idx_order_product_product on order_product (product_id);
+
+create table payment (
+    id          bigint      not null,
+    order_id    bigint      not null,
+    card_id     varchar(50) not null,
+    total_price integer     not null,
+    created_at  datetime(6) not null,
+    updated_at  datetime(6) not null,
+    deleted_at  datetime(6),
+    primary key (id),
+    constraint idx_payment_order unique (order_id),
+    constraint fk_payment_order foreign key (order_id) references orders (id)
+);
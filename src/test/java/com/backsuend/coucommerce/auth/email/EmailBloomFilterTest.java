@@ -0,0 +1,59 @@
+package com.backsuend.coucommerce.auth.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailBloomFilterTest {
+
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private EmailBloomFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new EmailBloomFilter(memberRepository, mock(StringRedisTemplate.class),
+			mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 0.001, true);
+	}
+
+	@Test
+	void rebuildPagesThroughAllMembersByIdKeyset() {
+		when(memberRepository.count()).thenReturn(3L);
+		when(memberRepository.findEmailsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+			new MemberEmail(1L, "a@coucommerce.com"), new MemberEmail(2L, "B@coucommerce.com ")));
+
+		assertThat(filter.mightExist("nobody@coucommerce.com")).isTrue();
+		filter.rebuild();
+
+		assertThat(filter.mightExist("a@coucommerce.com")).isTrue();
+		assertThat(filter.mightExist("b@coucommerce.com")).isTrue();
+		assertThat(filter.mightExist("nobody@coucommerce.com")).isFalse();
+	}
+
+	@Test
+	void catchUpAddsMembersWhosePropagationWasLost() {
+		when(memberRepository.findEmailsAfter(anyLong(), any(Limit.class))).thenReturn(List.of());
+		filter.rebuild();
+		assertThat(filter.mightExist("peer@coucommerce.com")).isFalse();
+
+		// 다른 노드에서 가입했지만 pub/sub 메시지는 도착하지 않은 경우
+		when(memberRepository.findEmailsCreatedSince(any())).thenReturn(List.of("peer@coucommerce.com"));
+		filter.catchUp();
+
+		assertThat(filter.mightExist("peer@coucommerce.com")).isTrue();
+	}
+}
@@ -0,0 +1,81 @@
+package com.backsuend.coucommerce.auth.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+
+class PasswordHashingServiceTest {
+
+	private final Executor direct = Runnable::run;
+
+	@Test
+	void rehashesWhenStoredCostIsLowerThanConfigured() {
+		String legacy = new BCryptPasswordEncoder(4).encode("password1234");
+		PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), direct,
+			properties(4));
+
+		PasswordVerification verification = service.verify("password1234", legacy, "10.0.0.1").join();
+
+		assertThat(verification.matches()).isTrue();
+		assertThat(verification.upgradedHash()).startsWith("$2a$05$");
+		assertThat(service.verify("wrong-password", legacy, "10.0.0.1").join().matches()).isFalse();
+	}
+
+	@Test
+	void rejectsClientOverInFlightLimitWith429() {
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		Executor blocking = task -> pool.execute(() -> {
+			awaitQuietly(release);
+			task.run();
+		});
+		PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), blocking,
+			properties(1));
+		try {
+			CompletableFuture<String> first = service.hash("password1234", "10.0.0.2");
+			CompletableFuture<String> second = service.hash("password1234", "10.0.0.2");
+			CompletableFuture<String> otherClient = service.hash("password1234", "10.0.0.3");
+
+			assertThatThrownBy(second::join)
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(BusinessException.class)
+				.extracting(ex -> ((BusinessException)ex).errorCode())
+				.isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+
+			release.countDown();
+			assertThat(first.join()).startsWith("$2a$04$");
+			assertThat(otherClient.join()).startsWith("$2a$04$");
+			// 완료 후에는 같은 클라이언트도 다시 허용
+			assertThat(service.hash("password1234", "10.0.0.2").join()).startsWith("$2a$04$");
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static PasswordHashingProperties properties(int maxInFlightPerClient) {
+		return new PasswordHashingProperties(1, 8, maxInFlightPerClient, null,
+			new PasswordHashingProperties.Calibration(Duration.ofMillis(250), 10, 14), 1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
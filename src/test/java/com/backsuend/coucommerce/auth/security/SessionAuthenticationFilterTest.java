@@ -0,0 +1,71 @@
+package com.backsuend.coucommerce.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.auth.cache.MemberSessionStore;
+import com.backsuend.coucommerce.auth.entity.Role;
+
+class SessionAuthenticationFilterTest {
+
+	private final MemberSessionStore sessionStore = mock(MemberSessionStore.class);
+	private final SessionAuthenticationFilter filter = new SessionAuthenticationFilter(sessionStore);
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void bearerTokenAuthenticatesSessionMemberWithRole() throws Exception {
+		MemberSession admin = new MemberSession(1L, "admin@coucommerce.com", "관리자", Role.ADMIN, 0L);
+		when(sessionStore.find("token-1")).thenReturn(Optional.of(admin));
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/sellers/7/approve");
+		request.addHeader("Authorization", "Bearer token-1");
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication.getPrincipal()).isEqualTo(admin);
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+			.containsExactly("ROLE_ADMIN");
+		assertThat(chain.getRequest()).isSameAs(request);
+	}
+
+	@Test
+	void unknownTokenStaysAnonymous() throws Exception {
+		when(sessionStore.find(anyString())).thenReturn(Optional.empty());
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/sellers/7/approve");
+		request.addHeader("Authorization", "Bearer forged");
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void requestWithoutBearerHeaderSkipsSessionLookup() throws Exception {
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), new MockHttpServletResponse(),
+			new MockFilterChain());
+
+		verify(sessionStore, never()).find(anyString());
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+}
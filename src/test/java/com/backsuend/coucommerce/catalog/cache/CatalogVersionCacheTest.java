@@ -0,0 +1,65 @@
+package com.backsuend.coucommerce.catalog.cache;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.ranking.ProductCategory;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.catalog.repository.ReviewRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+
+class CatalogVersionCacheTest {
+
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	private final ProductRepository productRepository = mock(ProductRepository.class);
+	private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+	private CatalogVersionCache cache;
+
+	@BeforeEach
+	void setUp() {
+		when(productRepository.findListingVersion(any())).thenReturn(new ListingVersion(3, UPDATED_AT));
+		when(productRepository.findListedUpdatedAtById(any())).thenReturn(Optional.empty());
+		when(reviewRepository.findProductIdsUpdatedSince(any())).thenReturn(List.of());
+		cache = new CatalogVersionCache(productRepository, reviewRepository, mock(StringRedisTemplate.class),
+			mock(RedisMessageListenerContainer.class));
+	}
+
+	@Test
+	void unknownProductIdsAreNotCached() {
+		assertThatThrownBy(() -> cache.product(404L)).isInstanceOf(BusinessException.class);
+		assertThatThrownBy(() -> cache.product(404L)).isInstanceOf(BusinessException.class);
+
+		verify(productRepository, times(2)).findListedUpdatedAtById(404L);
+	}
+
+	@Test
+	void resyncEvictsOnlyCategoriesOfChangedProducts() {
+		cache.listing(Category.FOOD);
+		cache.listing(Category.BOOKS);
+		when(productRepository.findIdsUpdatedSince(any())).thenReturn(List.of(1L));
+		when(productRepository.findCategoriesByIdIn(List.of(1L)))
+			.thenReturn(List.of(new ProductCategory(1L, Category.FOOD, true)));
+
+		cache.resync();
+		cache.listing(Category.FOOD);
+		cache.listing(Category.BOOKS);
+
+		verify(productRepository, times(2)).findListingVersion(Category.FOOD);
+		verify(productRepository, times(1)).findListingVersion(Category.BOOKS);
+	}
+}
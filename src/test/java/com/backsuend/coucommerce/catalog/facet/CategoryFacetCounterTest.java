@@ -0,0 +1,110 @@
+package com.backsuend.coucommerce.catalog.facet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.catalog.dto.ProductCreateRequest;
+import com.backsuend.coucommerce.catalog.dto.ProductUpdateRequest;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.catalog.entity.Product;
+import com.backsuend.coucommerce.catalog.event.ProductListingChangedEvent;
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.catalog.service.ProductCommandService;
+import com.backsuend.coucommerce.seller.cache.SellerAuthorizationCache;
+
+class CategoryFacetCounterTest {
+
+	private static final long SELLER_ID = 7L;
+
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> values = mock(ValueOperations.class);
+	@SuppressWarnings("unchecked")
+	private final HashOperations<String, Object, Object> hashes = mock(HashOperations.class);
+	private final ProductRepository productRepository = mock(ProductRepository.class);
+	private CategoryFacetCounter counter;
+
+	@BeforeEach
+	void setUp() {
+		when(redis.opsForValue()).thenReturn(values);
+		when(redis.opsForHash()).thenReturn(hashes);
+		when(values.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+		when(hashes.entries(CategoryFacetCounter.DELTA_KEY)).thenReturn(Map.of());
+		when(redis.executePipelined(any(RedisCallback.class))).thenReturn(List.of(Map.of(), Map.of()));
+		counter = new CategoryFacetCounter(redis, productRepository, mock(RedisMessageListenerContainer.class), 0);
+	}
+
+	@Test
+	void productWritesPublishEventsThatMoveCounts() {
+		Member seller = mock(Member.class);
+		when(seller.getId()).thenReturn(SELLER_ID);
+		MemberRepository memberRepository = mock(MemberRepository.class);
+		when(memberRepository.getReferenceById(SELLER_ID)).thenReturn(seller);
+		when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		// 커밋 후 리스너 호출을 대신해 발행된 이벤트를 바로 카운터에 전달
+		ProductCommandService service = new ProductCommandService(productRepository, memberRepository,
+			mock(SellerAuthorizationCache.class), event -> counter.on((ProductListingChangedEvent)event));
+
+		service.create(SELLER_ID, new ProductCreateRequest("텀블러", "스테인리스", 15_000, 10, Category.HOME, true));
+		service.create(SELLER_ID, new ProductCreateRequest("머그", "도자기", 9_000, 10, Category.HOME, true));
+		assertThat(counter.count(Category.HOME)).isEqualTo(2);
+
+		Product mug = new Product(seller, "머그", "도자기", 10, 9_000, Category.HOME, true);
+		when(productRepository.findById(2L)).thenReturn(Optional.of(mug));
+		service.update(SELLER_ID, 2L, new ProductUpdateRequest("머그", "도자기", 9_000, Category.ETC, true));
+		assertThat(counter.count(Category.HOME)).isEqualTo(1);
+		assertThat(counter.count(Category.ETC)).isEqualTo(1);
+
+		service.delete(SELLER_ID, 2L);
+		assertThat(counter.count(Category.ETC)).isZero();
+	}
+
+	@Test
+	void reconcileDetachesDeltasBeforeSnapshotAndKeepsLaterOnes() {
+		when(redis.hasKey(CategoryFacetCounter.DELTA_KEY)).thenReturn(true);
+		when(productRepository.countListedByCategory()).thenReturn(List.of(new CategoryCount(Category.FOOD, 3)));
+		// 보정 중 다른 노드가 새 DELTA_KEY 로 보낸 증감분
+		when(hashes.entries(CategoryFacetCounter.DELTA_KEY)).thenReturn(Map.of("FOOD", "2"));
+
+		counter.reconcile(false);
+
+		InOrder order = inOrder(redis, productRepository, hashes);
+		// 떼어내기 전에 전 노드의 pending 을 DELTA_KEY 로 모음
+		order.verify(redis).convertAndSend(CategoryFacetCounter.FLUSH_CHANNEL, "flush");
+		order.verify(redis).executePipelined(any(RedisCallback.class));
+		order.verify(redis).rename(CategoryFacetCounter.DELTA_KEY, CategoryFacetCounter.DETACHED_DELTA_KEY);
+		order.verify(productRepository).countListedByCategory();
+		order.verify(hashes).putAll(eq(CategoryFacetCounter.KEY), eq(snapshotWithFood(3)));
+		order.verify(redis).delete(CategoryFacetCounter.DETACHED_DELTA_KEY);
+		assertThat(counter.count(Category.FOOD)).isEqualTo(5);
+	}
+
+	private static Map<String, String> snapshotWithFood(long food) {
+		Map<String, String> snapshot = new HashMap<>();
+		for (Category category : Category.values()) {
+			snapshot.put(category.name(), category == Category.FOOD ? Long.toString(food) : "0");
+		}
+		return snapshot;
+	}
+}
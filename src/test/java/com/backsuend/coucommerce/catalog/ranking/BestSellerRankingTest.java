@@ -0,0 +1,84 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.common.util.LongLongHashMap;
+import com.backsuend.coucommerce.order.repository.ProductSalesJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.ShardScatterGather;
+
+class BestSellerRankingTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final Duration HORIZON = Duration.ofHours(1);
+	private static final String RECONCILED_AT_KEY = BestSellerRanking.KEY_PREFIX + "reconciled-at";
+
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> values = mock(ValueOperations.class);
+	private final ProductSalesJdbcRepository salesRepository = mock(ProductSalesJdbcRepository.class);
+	private final ShardScatterGather scatterGather = mock(ShardScatterGather.class);
+	private final List<LocalDateTime> aggregatedSlotEnds = new ArrayList<>();
+	private BestSellerRanking ranking;
+
+	@BeforeEach
+	void setUp() {
+		when(redis.opsForValue()).thenReturn(values);
+		when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(salesRepository.sumQuantitiesByProduct(any(), any())).thenAnswer(invocation -> {
+			aggregatedSlotEnds.add(invocation.getArgument(1));
+			return new LongLongHashMap();
+		});
+		when(scatterGather.gather(any())).thenAnswer(
+			invocation -> List.of(((Supplier<?>)invocation.getArgument(0)).get()));
+		ranking = new BestSellerRanking(redis, mock(ProductRepository.class), salesRepository, scatterGather,
+			mock(RedisMessageListenerContainer.class), 16, 64, 2, 10, 1000, HORIZON);
+	}
+
+	@Test
+	void reconcilesOnlySlotsWithinCancellationHorizonOfLastRun() {
+		long lastRun = System.currentTimeMillis() - Duration.ofMinutes(10).toMillis();
+		when(values.get(RECONCILED_AT_KEY)).thenReturn(Long.toString(lastRun));
+
+		ranking.reconcile(false);
+
+		LocalDateTime settled = LocalDateTime.now(SEOUL).minusMinutes(11).minus(HORIZON);
+		assertThat(aggregatedSlotEnds).isNotEmpty().allSatisfy(end -> assertThat(end).isAfter(settled));
+		assertThat(aggregatedSlotEnds).hasSizeLessThan(closedSlotCount());
+	}
+
+	@Test
+	void reconcilesEveryClosedSlotWithoutPreviousRun() {
+		when(values.get(eq(RECONCILED_AT_KEY))).thenReturn(null);
+
+		ranking.reconcile(false);
+
+		assertThat(aggregatedSlotEnds).hasSize(closedSlotCount());
+	}
+
+	private static int closedSlotCount() {
+		int count = 0;
+		for (RankingWindow window : RankingWindow.values()) {
+			count += window.slots() - 1;
+		}
+		return count;
+	}
+}
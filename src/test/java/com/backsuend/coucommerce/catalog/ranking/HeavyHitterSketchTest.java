@@ -0,0 +1,67 @@
+package com.backsuend.coucommerce.catalog.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterSketchTest {
+
+	@Test
+	void findsTopSellersOfSkewedStreamWithUpperBoundCounts() {
+		Random random = new Random(7);
+		HeavyHitterSketch sketch = new HeavyHitterSketch(64, 1024, 4);
+		Map<Long, Long> exact = new HashMap<>();
+
+		// 상품 1 ~ 20,000 중 번호가 작을수록 많이 팔리는 분포 (Zipf 근사) + 주문당 수량 1~3
+		for (int i = 0; i < 200_000; i++) {
+			long productId = (long)Math.floor(Math.pow(20_000, random.nextDouble()));
+			int quantity = 1 + random.nextInt(3);
+			sketch.add(productId, quantity);
+			exact.merge(productId, (long)quantity, Long::sum);
+		}
+
+		long[] keys = new long[10];
+		long[] counts = new long[10];
+		assertThat(sketch.copyTopTo(keys, counts)).isEqualTo(10);
+
+		Long[] expected = exact.keySet().stream()
+			.sorted(Comparator.comparing(exact::get).reversed())
+			.limit(10)
+			.toArray(Long[]::new);
+		assertThat(Arrays.stream(keys).boxed()).containsExactlyInAnyOrder(expected);
+		for (int i = 0; i < keys.length; i++) {
+			long actual = exact.get(keys[i]);
+			assertThat(counts[i]).isGreaterThanOrEqualTo(actual).isLessThanOrEqualTo(actual + actual / 20);
+			if (i > 0) {
+				assertThat(counts[i]).isLessThanOrEqualTo(counts[i - 1]);
+			}
+		}
+	}
+
+	@Test
+	void tracksExactCountsUntilFullAndStartsOverAfterClear() {
+		HeavyHitterSketch sketch = new HeavyHitterSketch(4, 64, 2);
+		sketch.add(1, 5);
+		sketch.add(2, 1);
+		sketch.add(1, 2);
+
+		long[] keys = new long[4];
+		long[] counts = new long[4];
+		assertThat(sketch.copyTopTo(keys, counts)).isEqualTo(2);
+		assertThat(keys).startsWith(1L, 2L);
+		assertThat(counts).startsWith(7L, 1L);
+
+		sketch.clear();
+		sketch.add(3, 1);
+		assertThat(sketch.size()).isEqualTo(1);
+		assertThat(sketch.copyTopTo(keys, counts)).isEqualTo(1);
+		assertThat(keys[0]).isEqualTo(3L);
+		assertThat(counts[0]).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,49 @@
+package com.backsuend.coucommerce.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+class ErrorResponseTemplatesTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	@Test
+	void everyErrorCodeMatchesJacksonOutput() throws JsonProcessingException {
+		Instant now = Instant.parse("2025-09-01T12:34:56.789Z");
+		for (ErrorCode code : ErrorCode.values()) {
+			assertSame(code, null, "a1b2c3d4e5f60718", "/api/products/1", now);
+			assertSame(code, code.defaultMessage(), null, null, now);
+		}
+	}
+
+	@Test
+	void customMessageAndPathAreEscaped() throws JsonProcessingException {
+		assertSame(ErrorCode.METHOD_NOT_ALLOWED, "Request method 'TRACE' is not \"supported\"", null,
+			"/api/\"odd\"\\path", Instant.parse("2025-09-01T00:00:00Z"));
+	}
+
+	private void assertSame(ErrorCode code, String message, String traceId, String path, Instant timestamp)
+		throws JsonProcessingException {
+		ApiErrorPayload payload = new ApiErrorPayload(code.code(),
+			message != null ? message : code.defaultMessage(), traceId, path, null);
+		ApiResponse<ApiErrorPayload> response =
+			new ApiResponse<>(false, code.status().value(), code.code(), payload, timestamp);
+
+		byte[] rendered = ErrorResponseTemplates.render(code, message, traceId, path, timestamp);
+
+		assertThat(new String(rendered, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(response));
+	}
+}
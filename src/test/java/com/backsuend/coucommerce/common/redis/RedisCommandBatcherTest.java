@@ -0,0 +1,108 @@
+package com.backsuend.coucommerce.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RedisCommandBatcherTest {
+
+	@Test
+	void coalescesConcurrentCommandsAndPairsResultsInOrder() {
+		StringRedisTemplate redis = mock(StringRedisTemplate.class);
+		AtomicInteger roundTrips = new AtomicInteger();
+		when(redis.executePipelined(any(RedisCallback.class))).thenAnswer(answer -> {
+			roundTrips.incrementAndGet();
+			StringRedisConnection connection = mock(StringRedisConnection.class);
+			((RedisCallback<?>)answer.getArgument(0)).doInRedis(connection);
+			List<Object> results = new ArrayList<>();
+			for (Invocation invocation : mockingDetails(connection).getInvocations()) {
+				results.add("value-of-" + invocation.getArgument(0));
+			}
+			return results;
+		});
+		RedisCommandBatcher batcher = new RedisCommandBatcher(redis, new SimpleMeterRegistry(), 50_000, 1_000, 2);
+
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			futures.add(batcher.get("product:" + i));
+		}
+
+		for (int i = 0; i < futures.size(); i++) {
+			assertThat(futures.get(i).join()).isEqualTo("value-of-product:" + i);
+		}
+		// 50ms 창 안에 등록된 명령은 한두 번의 파이프라인으로 합쳐짐
+		assertThat(roundTrips.get()).isLessThanOrEqualTo(3);
+		batcher.destroy();
+	}
+
+	@Test
+	void failingCommandFailsOnlyItsOwnFuture() {
+		StringRedisTemplate redis = mock(StringRedisTemplate.class);
+		when(redis.executePipelined(any(RedisCallback.class))).thenAnswer(answer -> {
+			StringRedisConnection connection = mock(StringRedisConnection.class);
+			((RedisCallback<?>)answer.getArgument(0)).doInRedis(connection);
+			List<Object> results = new ArrayList<>();
+			for (Invocation invocation : mockingDetails(connection).getInvocations()) {
+				String key = invocation.getArgument(0);
+				results.add(key.startsWith("hash:") ? new RedisSystemException("WRONGTYPE", null) : "value-of-" + key);
+			}
+			throw new RedisPipelineException(new RedisSystemException("WRONGTYPE", null), results);
+		});
+		RedisCommandBatcher batcher = new RedisCommandBatcher(redis, new SimpleMeterRegistry(), 50_000, 3, 1);
+
+		CompletableFuture<String> before = batcher.get("product:1");
+		CompletableFuture<String> wrongType = batcher.get("hash:1");
+		CompletableFuture<String> after = batcher.get("product:2");
+
+		assertThat(before.join()).isEqualTo("value-of-product:1");
+		assertThat(after.join()).isEqualTo("value-of-product:2");
+		assertThatThrownBy(wrongType::join).isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(RedisSystemException.class);
+		batcher.destroy();
+	}
+
+	@Test
+	void commandThatThrowsWhileQueuingDoesNotShiftOtherResults() {
+		StringRedisTemplate redis = mock(StringRedisTemplate.class);
+		when(redis.executePipelined(any(RedisCallback.class))).thenAnswer(answer -> {
+			StringRedisConnection connection = mock(StringRedisConnection.class);
+			((RedisCallback<?>)answer.getArgument(0)).doInRedis(connection);
+			List<Object> results = new ArrayList<>();
+			for (Invocation invocation : mockingDetails(connection).getInvocations()) {
+				results.add("value-of-" + invocation.getArgument(0));
+			}
+			return results;
+		});
+		RedisCommandBatcher batcher = new RedisCommandBatcher(redis, new SimpleMeterRegistry(), 50_000, 3, 1);
+
+		CompletableFuture<String> first = batcher.get("product:1");
+		CompletableFuture<String> broken = batcher.submit(conn -> {
+			throw new IllegalArgumentException("잘못된 인자");
+		});
+		CompletableFuture<String> last = batcher.get("product:2");
+
+		assertThat(first.join()).isEqualTo("value-of-product:1");
+		assertThat(last.join()).isEqualTo("value-of-product:2");
+		assertThatThrownBy(broken::join).hasCauseInstanceOf(IllegalArgumentException.class);
+		batcher.destroy();
+	}
+}
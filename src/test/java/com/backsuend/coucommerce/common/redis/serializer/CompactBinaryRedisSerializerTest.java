@@ -0,0 +1,131 @@
+package com.backsuend.coucommerce.common.redis.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.backsuend.coucommerce.auth.cache.MemberSession;
+import com.backsuend.coucommerce.auth.cache.MemberSessionCodec;
+import com.backsuend.coucommerce.auth.entity.Role;
+import com.backsuend.coucommerce.cart.cache.CartSnapshot;
+import com.backsuend.coucommerce.cart.cache.CartSnapshotCodec;
+import com.backsuend.coucommerce.catalog.cache.ProductSnapshot;
+import com.backsuend.coucommerce.catalog.cache.ProductSnapshotCodec;
+import com.backsuend.coucommerce.catalog.entity.Category;
+import com.backsuend.coucommerce.payment.cache.PaymentSnapshot;
+import com.backsuend.coucommerce.payment.cache.PaymentSnapshotCodec;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+class CompactBinaryRedisSerializerTest {
+
+	@Test
+	void productSnapshotRoundTrip() {
+		CompactBinaryRedisSerializer<ProductSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new ProductSnapshotCodec());
+		ProductSnapshot product = new ProductSnapshot(123_456L, 42L, "무선 이어폰 프로", 159_000, 7,
+			Category.DIGITAL, true, 1_760_000_000_000L);
+
+		byte[] bytes = serializer.serialize(product);
+
+		assertThat(serializer.deserialize(bytes)).isEqualTo(product);
+		assertThat(bytes.length).isLessThan(50);
+	}
+
+	@Test
+	void nullFieldsAndExtremeValuesRoundTrip() {
+		CompactBinaryRedisSerializer<ProductSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new ProductSnapshotCodec());
+		ProductSnapshot product = new ProductSnapshot(Long.MAX_VALUE, Long.MIN_VALUE, null, Integer.MAX_VALUE,
+			Integer.MIN_VALUE, null, false, -1L);
+
+		assertThat(serializer.deserialize(serializer.serialize(product))).isEqualTo(product);
+	}
+
+	@Test
+	void largeCartIsCompressedAndRoundTrips() {
+		CompactBinaryRedisSerializer<CartSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new CartSnapshotCodec(), 64);
+		List<CartSnapshot.Item> items = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			items.add(new CartSnapshot.Item(1_000L + (i % 10), 1));
+		}
+		CartSnapshot cart = new CartSnapshot(9L, items);
+
+		byte[] bytes = serializer.serialize(cart);
+
+		assertThat(bytes[0] & 0x01).isEqualTo(1);
+		assertThat(serializer.deserialize(bytes)).isEqualTo(cart);
+	}
+
+	@Test
+	void memberSessionRoundTrip() {
+		CompactBinaryRedisSerializer<MemberSession> serializer =
+			new CompactBinaryRedisSerializer<>(new MemberSessionCodec());
+		MemberSession session = new MemberSession(1L, "buyer@coucommerce.com", "홍길동", Role.SELLER, 1L);
+
+		assertThat(serializer.deserialize(serializer.serialize(session))).isEqualTo(session);
+	}
+
+	@Test
+	void nullAndEmptyValues() {
+		CompactBinaryRedisSerializer<MemberSession> serializer =
+			new CompactBinaryRedisSerializer<>(new MemberSessionCodec());
+
+		assertThat(serializer.serialize(null)).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	void rejectsNewerSchemaVersionAndForeignFormat() {
+		CompactBinaryRedisSerializer<MemberSession> serializer =
+			new CompactBinaryRedisSerializer<>(new MemberSessionCodec());
+		byte[] newer = {(byte)0xB0, 2, 0};
+		byte[] json = "{\"memberId\":1}".getBytes();
+
+		assertThatThrownBy(() -> serializer.deserialize(newer)).isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.deserialize(json)).isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	void paymentSnapshotRoundTripsCardBrandOrdinal() {
+		CompactBinaryRedisSerializer<PaymentSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new PaymentSnapshotCodec());
+		PaymentSnapshot payment = new PaymentSnapshot(77L, 76L, CardBrand.KAKAO, 48_900, 1_760_000_000_000L);
+
+		byte[] bytes = serializer.serialize(payment);
+
+		assertThat(serializer.deserialize(bytes)).isEqualTo(payment);
+		assertThat(bytes.length).isLessThan(20);
+	}
+
+	@Test
+	void rejectsCompressedLengthPrefixBeyondInputBeforeAllocating() {
+		CompactBinaryRedisSerializer<CartSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new CartSnapshotCodec());
+		// 원본 길이 varint 0x7FFFFFFF, 압축 블록 1바이트
+		byte[] huge = {(byte)0xB1, 1, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x07, 0};
+		// 원본 길이 1000, 압축 블록 1바이트 → LZ4 최대 압축률로도 불가능
+		byte[] inflated = {(byte)0xB1, 1, (byte)0xE8, 0x07, 0};
+		byte[] negative = {(byte)0xB1, 1, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x0F, 0};
+
+		assertThatThrownBy(() -> serializer.deserialize(huge)).isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.deserialize(inflated)).isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.deserialize(negative)).isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	void rejectsCollectionCountBeyondInput() {
+		CompactBinaryRedisSerializer<CartSnapshot> serializer =
+			new CompactBinaryRedisSerializer<>(new CartSnapshotCodec());
+		// memberId 1, 원소 수 2^28 인데 뒤따르는 바이트 없음
+		byte[] bytes = {(byte)0xB0, 1, 2, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, 0x01};
+
+		assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+	}
+}
@@ -0,0 +1,58 @@
+package com.backsuend.coucommerce.common.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TraceIdFilterTest {
+
+	private final TraceIdFilter filter = new TraceIdFilter();
+
+	@Test
+	void generatesTraceIdVisibleInMdcAndResponseHeader() throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		String seen = filter(new MockHttpServletRequest(), response);
+
+		assertThat(seen).hasSize(TraceIdGenerator.LENGTH).matches("[0-9a-f]+");
+		assertThat(response.getHeader(TraceContext.HEADER)).isEqualTo(seen);
+		assertThat(MDC.get(TraceContext.MDC_KEY)).isNull();
+	}
+
+	@Test
+	void continuesWellFormedInboundTraceId() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(TraceContext.HEADER, "edge-7f3a-01");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(filter(request, response)).isEqualTo("edge-7f3a-01");
+		assertThat(response.getHeader(TraceContext.HEADER)).isEqualTo("edge-7f3a-01");
+	}
+
+	@Test
+	void replacesMalformedOrOversizedInboundTraceId() throws ServletException, IOException {
+		for (String inbound : new String[] {"", "a b", "id\r\nSet-Cookie:x", "x".repeat(65)}) {
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.addHeader(TraceContext.HEADER, inbound);
+
+			String seen = filter(request, new MockHttpServletResponse());
+
+			assertThat(seen).isNotEqualTo(inbound).hasSize(TraceIdGenerator.LENGTH);
+		}
+	}
+
+	private String filter(MockHttpServletRequest request, MockHttpServletResponse response)
+		throws ServletException, IOException {
+		AtomicReference<String> seen = new AtomicReference<>();
+		filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(TraceContext.MDC_KEY)));
+		return seen.get();
+	}
+}
@@ -0,0 +1,64 @@
+package com.backsuend.coucommerce.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+	@Test
+	void expiresItemsAtFirstTickBoundaryAfterDeadlineAcrossLevelsAndOverflow() {
+		Random random = new Random(42);
+		// tick 10, 레벨당 8 슬롯 × 3 레벨 → 범위 5,120 (그 이상은 overflow)
+		HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 8, 3, 1_000);
+		Map<Integer, Long> deadlines = new HashMap<>();
+		Map<Integer, HierarchicalTimingWheel.Timeout<Integer>> timeouts = new HashMap<>();
+		long now = 1_000;
+		int nextId = 0;
+
+		for (int step = 0; step < 20_000; step++) {
+			int adds = random.nextInt(4);
+			for (int i = 0; i < adds; i++) {
+				long deadline = now - 50 + random.nextInt(random.nextBoolean() ? 300 : 20_000);
+				deadlines.put(nextId, deadline);
+				timeouts.put(nextId, wheel.schedule(nextId, deadline));
+				nextId++;
+			}
+			if (!timeouts.isEmpty() && random.nextInt(5) == 0) {
+				Integer victim = timeouts.keySet().iterator().next();
+				assertThat(timeouts.remove(victim).cancel()).isTrue();
+				deadlines.remove(victim);
+			}
+
+			now += random.nextInt(30);
+			List<Integer> expired = wheel.advance(now);
+			long nowTick = Math.floorDiv(now, 10L);
+			for (Integer id : expired) {
+				assertThat(Math.ceilDiv(deadlines.remove(id), 10L)).isLessThanOrEqualTo(nowTick);
+				assertThat(timeouts.remove(id).cancel()).isFalse();
+			}
+			for (long deadline : deadlines.values()) {
+				assertThat(Math.ceilDiv(deadline, 10L)).isGreaterThan(nowTick);
+			}
+			assertThat(wheel.size()).isEqualTo(deadlines.size());
+		}
+	}
+
+	@Test
+	void catchesUpAfterLongPauseInDeadlineOrder() {
+		HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 64, 4, 0);
+		List<Long> deadlines = new ArrayList<>(List.of(30 * 60_000L, 250L, 7_000L, 3_600_000L));
+		deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+		assertThat(wheel.advance(200)).isEmpty();
+		assertThat(wheel.advance(300)).containsExactly(250L);
+		assertThat(wheel.advance(4_000_000L)).containsExactly(7_000L, 30 * 60_000L, 3_600_000L);
+		assertThat(wheel.size()).isZero();
+	}
+}
@@ -0,0 +1,55 @@
+package com.backsuend.coucommerce.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+	@Test
+	void behavesLikeHashMapUnderRandomOperations() {
+		Random random = new Random(42);
+		LongLongHashMap map = new LongLongHashMap(4);
+		Map<Long, Long> expected = new HashMap<>();
+
+		for (int i = 0; i < 200_000; i++) {
+			long key = random.nextInt(2_000) - 50; // 0, 음수 키 포함
+			switch (random.nextInt(3)) {
+				case 0 -> {
+					long value = random.nextLong();
+					map.put(key, value);
+					expected.put(key, value);
+				}
+				case 1 -> {
+					Long removed = expected.remove(key);
+					assertThat(map.remove(key, -1L)).isEqualTo(removed == null ? -1L : removed);
+				}
+				default -> assertThat(map.get(key, -1L)).isEqualTo(expected.getOrDefault(key, -1L));
+			}
+			assertThat(map.size()).isEqualTo(expected.size());
+		}
+
+		long[] visited = new long[1];
+		map.forEach((key, value) -> {
+			assertThat(value).isEqualTo(expected.get(key));
+			visited[0]++;
+		});
+		assertThat(visited[0]).isEqualTo(expected.size());
+	}
+
+	@Test
+	void addToAccumulates() {
+		LongLongHashMap map = new LongLongHashMap();
+		map.addTo(7L, 3L);
+		map.addTo(7L, -1L);
+		map.addTo(0L, 5L);
+
+		assertThat(map.get(7L, 0L)).isEqualTo(2L);
+		assertThat(map.get(0L, 0L)).isEqualTo(5L);
+		assertThat(map.size()).isEqualTo(2);
+	}
+}
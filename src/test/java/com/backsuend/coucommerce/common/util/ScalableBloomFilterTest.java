@@ -0,0 +1,50 @@
+package com.backsuend.coucommerce.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+	private final long[] hash = new long[2];
+
+	@Test
+	void neverReturnsFalseNegativeAndKeepsFppBoundWhileGrowing() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+		int inserted = 50_000;
+		for (int i = 0; i < inserted; i++) {
+			hash("member" + i + "@coucommerce.com");
+			filter.put(hash[0], hash[1]);
+		}
+
+		for (int i = 0; i < inserted; i++) {
+			hash("member" + i + "@coucommerce.com");
+			assertThat(filter.mightContain(hash[0], hash[1])).isTrue();
+		}
+
+		int falsePositives = 0;
+		int probes = 50_000;
+		for (int i = 0; i < probes; i++) {
+			hash("stranger" + i + "@example.com");
+			if (filter.mightContain(hash[0], hash[1])) {
+				falsePositives++;
+			}
+		}
+		assertThat(filter.stageCount()).isGreaterThan(1);
+		assertThat((double)falsePositives / probes).isLessThan(0.015);
+	}
+
+	@Test
+	void murmur3MatchesReferenceVector() {
+		hash("hello");
+		assertThat(hash[0]).isEqualTo(0xcbd8a7b341bd9b02L);
+		assertThat(hash[1]).isEqualTo(0x5b1e906a48ae1d19L);
+	}
+
+	private void hash(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		Murmur3.hash128(bytes, 0, bytes.length, 0, hash);
+	}
+}
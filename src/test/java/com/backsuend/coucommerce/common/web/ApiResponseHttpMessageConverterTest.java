@@ -0,0 +1,69 @@
+package com.backsuend.coucommerce.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.backsuend.coucommerce.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+class ApiResponseHttpMessageConverterTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+	private final ApiResponseHttpMessageConverter converter = new ApiResponseHttpMessageConverter(objectMapper);
+
+	@Test
+	void sameBytesAsJacksonForSuccessResponses() throws IOException {
+		assertSameAsJackson(ApiResponse.ok(Map.of("id", 1L, "name", "상품 \"A\"")));
+		assertSameAsJackson(ApiResponse.created(List.of(1, 2, 3)));
+		assertSameAsJackson(ApiResponse.noContent());
+	}
+
+	@Test
+	void sameBytesAsJacksonForCustomMessagesAndNulls() throws IOException {
+		assertSameAsJackson(ApiResponse.error(HttpStatus.BAD_REQUEST, "줄바꿈\n과 \\ 포함 메시지"));
+		assertSameAsJackson(new ApiResponse<>(false, 500, null, null, null));
+	}
+
+	@Test
+	void timestampPrecisionMatchesIsoInstant() throws IOException {
+		for (Instant instant : List.of(
+			Instant.parse("2025-09-01T00:00:00Z"),
+			Instant.parse("2025-09-01T12:34:56.120Z"),
+			Instant.parse("2025-09-01T12:34:56.123456Z"),
+			Instant.parse("2025-09-01T12:34:56.123456789Z"))) {
+			assertSameAsJackson(new ApiResponse<>(true, 200, "OK", "x", instant));
+		}
+	}
+
+	@Test
+	void longMessagesDoNotOverflowScratchBuffer() throws IOException {
+		// 한글 1자 = 3바이트 → 메시지만으로 봉투 버퍼(256B)를 넘기거나 꼬리 조각 자리를 남기지 않는 길이들
+		for (int length : new int[] {60, 65, 70, 80, 200}) {
+			String message = "가".repeat(length);
+			assertSameAsJackson(ApiResponse.error(HttpStatus.CONFLICT, message));
+			assertSameAsJackson(new ApiResponse<>(false, 409, message, Map.of("id", 1L), Instant.now()));
+		}
+	}
+
+	private void assertSameAsJackson(ApiResponse<?> response) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		converter.write(response, out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.isEqualTo(objectMapper.writeValueAsString(response));
+	}
+}
@@ -0,0 +1,239 @@
+package com.backsuend.coucommerce.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backsuend.coucommerce.auth.entity.Member;
+import com.backsuend.coucommerce.auth.repository.MemberRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.order.dto.CheckoutRequest;
+import com.backsuend.coucommerce.order.dto.CheckoutResponse;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+import com.backsuend.coucommerce.order.repository.CheckoutJdbcRepository;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.order.repository.ProductQuantity;
+import com.backsuend.coucommerce.order.repository.StockJdbcRepository;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+/**
+ * 로컬 H2(MySQL 모드)에서 장바구니 → 주문 전환의 재고/주문 상품/장바구니 상태 검증.
+ * 회원 샤드는 db/shard 스키마, 전역 DB 는 product 테이블만 둠 (샤딩이 꺼져 있으면 한 DB 에 둘 다)
+ */
+class CheckoutServiceTest {
+
+	private static final long MEMBER = 42L;
+	private static final long SELLER = 7L;
+	private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+	private static final CheckoutRequest REQUEST = new CheckoutRequest("홍길동", "서울시 중구", "010-0000-0000", "04524");
+
+	private final ShardRouter shardRouter = mock(ShardRouter.class);
+	private final OrderRepository orderRepository = mock(OrderRepository.class);
+	private final AtomicLong orderIds = new AtomicLong(1_000L);
+	private MemberRepository memberRepository;
+	private JdbcTemplate shard;
+	private JdbcTemplate global;
+	private CheckoutService service;
+
+	@BeforeEach
+	void setUp() {
+		Member buyer = mock(Member.class);
+		when(buyer.getId()).thenReturn(MEMBER);
+		when(buyer.getName()).thenReturn("홍길동");
+		when(buyer.getPhone()).thenReturn("010-0000-0000");
+		memberRepository = mock(MemberRepository.class);
+		when(memberRepository.findById(MEMBER)).thenReturn(Optional.of(buyer));
+		shard = new JdbcTemplate(database("checkout-shard"));
+		when(shardRouter.nextId(anyLong())).thenAnswer(invocation -> orderIds.incrementAndGet());
+		when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+			Order order = invocation.getArgument(0);
+			shard.update("insert into orders (id, member_id, consumer_name, consumer_phone, receiver_name,"
+					+ " receiver_road_name, receiver_phone, receiver_postal_code, status, created_at, updated_at)"
+					+ " values (?, ?, '홍길동', '010-0000-0000', '홍길동', '서울시 중구', '010-0000-0000', '04524',"
+					+ " 'READY', ?, ?)",
+				order.getId(), MEMBER, T0, T0);
+			return order;
+		});
+	}
+
+	@Test
+	void checkoutDecrementsStockWritesPricedLinesAndEmptiesCart() {
+		useSingleDatabase();
+		insertProduct(1L, 10, 1_500, true);
+		insertProduct(2L, 3, 9_000, true);
+		addToCart(2L, 1);
+		addToCart(1L, 2);
+
+		CheckoutResponse response = service.checkout(MEMBER, REQUEST);
+
+		assertThat(response.orderStatus()).isEqualTo(OrderStatus.READY);
+		assertThat(response.itemCount()).isEqualTo(2);
+		assertThat(response.totalPrice()).isEqualTo(12_000L);
+		assertThat(stockOf(1L)).isEqualTo(8);
+		assertThat(stockOf(2L)).isEqualTo(2);
+		assertThat(shard.queryForList("select product_id, quantity, price from order_product where order_id = ?"
+			+ " order by product_id", response.orderId())).containsExactly(
+			Map.of("product_id", 1L, "quantity", 2, "price", 1_500),
+			Map.of("product_id", 2L, "quantity", 1, "price", 9_000));
+		assertThat(count(shard, "cart")).isZero();
+	}
+
+	@Test
+	void partialStockCartRollsBackEveryDecrementAndKeepsCart() {
+		useSingleDatabase();
+		insertProduct(1L, 10, 1_500, true);
+		insertProduct(2L, 1, 9_000, true);
+		insertProduct(3L, 10, 500, true);
+		addToCart(1L, 2);
+		addToCart(2L, 5);
+		addToCart(3L, 1);
+
+		assertThatThrownBy(() -> service.checkout(MEMBER, REQUEST))
+			.isInstanceOfSatisfying(BusinessException.class,
+				ex -> assertThat(ex.errorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK))
+			.hasMessageContaining("[2]");
+
+		// 2 번 앞뒤로 차감된 1, 3 번도 함께 롤백
+		assertThat(stockOf(1L)).isEqualTo(10);
+		assertThat(stockOf(2L)).isEqualTo(1);
+		assertThat(stockOf(3L)).isEqualTo(10);
+		assertThat(count(shard, "orders")).isZero();
+		assertThat(count(shard, "order_product")).isZero();
+		assertThat(count(shard, "cart")).isEqualTo(3);
+	}
+
+	@Test
+	void decrementStockReportsRejectedRowsFromBatchResults() {
+		useSingleDatabase();
+		insertProduct(1L, 10, 1_500, true);
+		insertProduct(2L, 0, 9_000, true);
+		insertProduct(3L, 10, 500, false);
+		StockJdbcRepository stock = new StockJdbcRepository(global);
+
+		List<Long> rejected = stock.decrementStock(List.of(
+			new ProductQuantity(1L, 4), new ProductQuantity(2L, 1), new ProductQuantity(3L, 1)));
+
+		// 재고 없음(2), 비공개(3) 만 변경 행 0 - 배치 안의 나머지 행은 그대로 차감
+		assertThat(rejected).containsExactly(2L, 3L);
+		assertThat(stockOf(1L)).isEqualTo(6);
+		assertThat(stockOf(2L)).isZero();
+		assertThat(stockOf(3L)).isEqualTo(10);
+	}
+
+	@Test
+	void shardRollbackAfterReserveReleasesCommittedStock() {
+		useSeparateGlobalDatabase();
+		insertProduct(1L, 10, 1_500, true);
+		insertProduct(2L, 3, 9_000, true);
+		addToCart(1L, 2);
+		addToCart(2L, 1);
+		when(orderRepository.saveAndFlush(any(Order.class))).thenThrow(new IllegalStateException("샤드 장애"));
+
+		assertThatThrownBy(() -> service.checkout(MEMBER, REQUEST)).isInstanceOf(IllegalStateException.class);
+
+		// 재고 차감은 전역 DB 에 먼저 커밋됐다가 샤드 롤백 후 보상으로 반환
+		assertThat(stockOf(1L)).isEqualTo(10);
+		assertThat(stockOf(2L)).isEqualTo(3);
+		assertThat(count(shard, "order_product")).isZero();
+		assertThat(count(shard, "cart")).isEqualTo(2);
+	}
+
+	/** 샤딩 꺼짐: 재고 차감이 주문 트랜잭션에 참여 */
+	private void useSingleDatabase() {
+		global = shard;
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(shard.getDataSource()));
+		when(shardRouter.isEnabled()).thenReturn(false);
+		when(shardRouter.inMemberTransaction(anyLong(), any())).thenAnswer(
+			invocation -> tx.execute(status -> ((Supplier<?>)invocation.getArgument(1)).get()));
+		when(shardRouter.inGlobalTransaction(any())).thenAnswer(
+			invocation -> tx.execute(status -> ((Supplier<?>)invocation.getArgument(0)).get()));
+		createService();
+	}
+
+	/** 샤딩 켜짐: 재고 차감은 전역 DB 의 별도 트랜잭션으로 먼저 커밋 */
+	private void useSeparateGlobalDatabase() {
+		global = new JdbcTemplate(database("checkout-global"));
+		TransactionTemplate shardTx = new TransactionTemplate(
+			new DataSourceTransactionManager(shard.getDataSource()));
+		TransactionTemplate globalTx = new TransactionTemplate(
+			new DataSourceTransactionManager(global.getDataSource()));
+		globalTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		when(shardRouter.isEnabled()).thenReturn(true);
+		when(shardRouter.inMemberTransaction(anyLong(), any())).thenAnswer(
+			invocation -> shardTx.execute(status -> ((Supplier<?>)invocation.getArgument(1)).get()));
+		when(shardRouter.inGlobalTransaction(any())).thenAnswer(
+			invocation -> globalTx.execute(status -> ((Supplier<?>)invocation.getArgument(0)).get()));
+		createService();
+	}
+
+	private void createService() {
+		createProductTable(global);
+		service = new CheckoutService(memberRepository, orderRepository, new CheckoutJdbcRepository(shard),
+			new StockReservationService(shardRouter, new StockJdbcRepository(global)), shardRouter,
+			mock(ApplicationEventPublisher.class));
+	}
+
+	/** db/shard 스키마를 새로 적용한 H2 (전역 DB 역할일 때는 product 만 추가로 사용) */
+	private static DataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		Flyway flyway = Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/shard")
+			.cleanDisabled(false)
+			.load();
+		flyway.clean();
+		flyway.migrate();
+		return dataSource;
+	}
+
+	private static void createProductTable(JdbcTemplate jdbc) {
+		jdbc.execute("create table product (id bigint not null, member_id bigint not null,"
+			+ " name varchar(50) not null, detail longtext not null, stock integer not null, price integer not null,"
+			+ " category varchar(20) not null, is_status boolean not null, created_at datetime(6) not null,"
+			+ " updated_at datetime(6) not null, deleted_at datetime(6), primary key (id))");
+	}
+
+	private void insertProduct(long id, int stock, int price, boolean listed) {
+		global.update("insert into product (id, member_id, name, detail, stock, price, category, is_status,"
+			+ " created_at, updated_at) values (?, ?, '상품', '설명', ?, ?, 'ETC', ?, ?, ?)",
+			id, SELLER, stock, price, listed, T0, T0);
+	}
+
+	private void addToCart(long productId, int quantity) {
+		shard.update("insert into cart (member_id, product_id, quantity, created_at, updated_at)"
+			+ " values (?, ?, ?, ?, ?)", MEMBER, productId, quantity, T0, T0);
+	}
+
+	private int stockOf(long productId) {
+		return global.queryForObject("select stock from product where id = ?", Integer.class, productId);
+	}
+
+	private static int count(JdbcTemplate jdbc, String table) {
+		return jdbc.queryForObject("select count(*) from " + table, Integer.class);
+	}
+}
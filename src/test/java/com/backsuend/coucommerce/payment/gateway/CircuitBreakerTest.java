@@ -0,0 +1,52 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	@Test
+	void lateSuccessFromBeforeOpeningDoesNotCloseBreaker() {
+		CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+		long slowCall = breaker.tryAcquire();
+		breaker.onFailure(breaker.tryAcquire());
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		breaker.onSuccess(slowCall);
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void onlyTrialCallClosesHalfOpenBreaker() {
+		CircuitBreaker breaker = new CircuitBreaker(1, Duration.ZERO);
+		long stale = breaker.tryAcquire();
+		breaker.onFailure(breaker.tryAcquire());
+		long trial = breaker.tryAcquire();
+		assertThat(trial).isNotEqualTo(CircuitBreaker.REJECTED);
+		assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.REJECTED);
+
+		breaker.onSuccess(stale);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		breaker.onSuccess(trial);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void failedTrialReopens() {
+		CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMillis(0));
+		breaker.onFailure(breaker.tryAcquire());
+		long trial = breaker.tryAcquire();
+
+		breaker.onFailure(trial);
+
+		// 새 OPEN 구간의 시험 호출 한 건은 다시 허용 (openDuration 0)
+		assertThat(breaker.tryAcquire()).isNotEqualTo(CircuitBreaker.REJECTED);
+		assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.REJECTED);
+	}
+}
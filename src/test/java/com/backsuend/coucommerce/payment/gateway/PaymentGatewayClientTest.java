@@ -0,0 +1,92 @@
+package com.backsuend.coucommerce.payment.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties.Breaker;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties.Callback;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties.Profile;
+import com.backsuend.coucommerce.payment.config.PaymentGatewayProperties.Simulator;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+
+class PaymentGatewayClientTest {
+
+	private static final CardApprovalRequest REQUEST = new CardApprovalRequest(1L, CardBrand.KB, 1000);
+
+	@Test
+	void timedOutCallKeepsBulkheadPermitUntilGatewayCallFinishes() {
+		CompletableFuture<CardApproval> slowCall = new CompletableFuture<>();
+		PaymentGatewayClient client = client(new StubGateway(slowCall));
+
+		CompletableFuture<CardApproval> first = client.approve(REQUEST);
+		assertThat(errorCodeOf(first)).isEqualTo(ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+
+		// 시간 초과 후에도 카드사 호출은 진행 중 → 동시 요청 상한(1)에 포함
+		assertThat(errorCodeOf(client.approve(REQUEST))).isEqualTo(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+		slowCall.complete(CardApproval.approved("KB-1"));
+		assertThat(errorCodeOf(client.approve(REQUEST))).isEqualTo(ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+	}
+
+	private static PaymentGatewayClient client(CardGateway gateway) {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<CardGateway> gateways = mock(ObjectProvider.class);
+		when(gateways.orderedStream()).thenAnswer(invocation -> Stream.of(gateway));
+		PaymentGatewayProperties properties = new PaymentGatewayProperties(Duration.ofMillis(50), 1,
+			new Breaker(100, Duration.ofSeconds(30)), new Callback(1, 1),
+			new Simulator(false, new Profile(Duration.ZERO, Duration.ZERO, 0, 0), Map.of()));
+		return new PaymentGatewayClient(gateways, properties);
+	}
+
+	private static ErrorCode errorCodeOf(CompletableFuture<CardApproval> future) {
+		try {
+			future.join();
+		} catch (CompletionException ex) {
+			return ((BusinessException)ex.getCause()).errorCode();
+		}
+		throw new AssertionError("실패해야 함");
+	}
+
+	/** KB 요청마다 주어진 future 를 반환 (한 번 완료된 뒤에는 응답하지 않는 새 호출) */
+	private static final class StubGateway implements CardGateway {
+
+		private final CompletableFuture<CardApproval> firstCall;
+		private boolean called;
+
+		StubGateway(CompletableFuture<CardApproval> firstCall) {
+			this.firstCall = firstCall;
+		}
+
+		@Override
+		public CardBrand brand() {
+			return CardBrand.KB;
+		}
+
+		@Override
+		public synchronized CompletableFuture<CardApproval> approve(CardApprovalRequest request) {
+			if (!called) {
+				called = true;
+				return firstCall;
+			}
+			return new CompletableFuture<>();
+		}
+
+		@Override
+		public CompletableFuture<Void> cancel(CardApprovalRequest request, String approvalNo) {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package com.backsuend.coucommerce.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.slf4j.MDC;
+
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.common.exception.StacklessBusinessException;
+import com.backsuend.coucommerce.common.trace.TraceContext;
+import com.backsuend.coucommerce.common.trace.TraceTaskDecorator;
+import com.backsuend.coucommerce.order.entity.Order;
+import com.backsuend.coucommerce.order.entity.OrderStatus;
+import com.backsuend.coucommerce.order.repository.OrderRepository;
+import com.backsuend.coucommerce.payment.dto.PaymentResponse;
+import com.backsuend.coucommerce.payment.entity.CardBrand;
+import com.backsuend.coucommerce.payment.gateway.CardApproval;
+import com.backsuend.coucommerce.payment.gateway.CardApprovalRequest;
+import com.backsuend.coucommerce.payment.gateway.PaymentGatewayClient;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+class PaymentServiceTest {
+
+	private static final long ORDER_ID = 1L;
+	private static final int AMOUNT = 12_000;
+	private static final CardApprovalRequest REQUEST = new CardApprovalRequest(ORDER_ID, CardBrand.KB, AMOUNT);
+
+	private final OrderRepository orderRepository = mock(OrderRepository.class);
+	private final PaymentGatewayClient gatewayClient = mock(PaymentGatewayClient.class);
+	private final PaymentApprovalHandler approvalHandler = mock(PaymentApprovalHandler.class);
+	private final ShardRouter shardRouter = mock(ShardRouter.class);
+	private PaymentService paymentService;
+
+	@BeforeEach
+	void setUp() {
+		when(shardRouter.inIdTransaction(anyLong(), any())).thenAnswer(PaymentServiceTest::supply);
+		when(shardRouter.onId(anyLong(), any())).thenAnswer(PaymentServiceTest::supply);
+		Order order = mock(Order.class);
+		when(order.getStatus()).thenReturn(OrderStatus.READY);
+		when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+		when(orderRepository.sumTotalPrice(ORDER_ID)).thenReturn((long)AMOUNT);
+		when(gatewayClient.cancel(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+		// 콜백을 완료 스레드에서 바로 실행
+		paymentService = new PaymentService(orderRepository, gatewayClient, approvalHandler, shardRouter,
+			Runnable::run, Duration.ofSeconds(30));
+	}
+
+	@Test
+	void duplicatePayForSameOrderReachesGatewayOnce() {
+		when(orderRepository.updateStatus(eq(ORDER_ID), eq(OrderStatus.READY), eq(OrderStatus.PAYING), any()))
+			.thenReturn(1, 0);
+		when(gatewayClient.approve(any())).thenReturn(new CompletableFuture<>());
+
+		paymentService.pay(ORDER_ID, CardBrand.KB);
+
+		assertThatThrownBy(() -> paymentService.pay(ORDER_ID, CardBrand.KB))
+			.isInstanceOfSatisfying(BusinessException.class,
+				ex -> assertThat(ex.errorCode()).isEqualTo(ErrorCode.ORDER_NOT_PAYABLE));
+		verify(gatewayClient, times(1)).approve(REQUEST);
+	}
+
+	@Test
+	void lateApprovalForOrderNoLongerPayingIsCanceled() {
+		markPayingSucceeds();
+		CompletableFuture<CardApproval> approval = new CompletableFuture<>();
+		when(gatewayClient.approve(REQUEST)).thenReturn(approval);
+		when(approvalHandler.onApproved(eq(ORDER_ID), eq(CardBrand.KB), eq(AMOUNT), any()))
+			.thenThrow(new BusinessException(ErrorCode.ORDER_NOT_PAYABLE));
+
+		CompletableFuture<PaymentResponse> result = paymentService.pay(ORDER_ID, CardBrand.KB);
+		approval.complete(CardApproval.approved("KB-1"));
+
+		assertThat(result).isCompletedExceptionally();
+		verify(gatewayClient).cancel(REQUEST, "KB-1");
+		verify(orderRepository).updateStatus(eq(ORDER_ID), eq(OrderStatus.PAYING), eq(OrderStatus.READY), any());
+	}
+
+	@Test
+	void timedOutApprovalIsCanceledByOrderAndReleased() {
+		markPayingSucceeds();
+		when(gatewayClient.approve(REQUEST)).thenReturn(
+			CompletableFuture.failedFuture(new BusinessException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT)));
+
+		CompletableFuture<PaymentResponse> result = paymentService.pay(ORDER_ID, CardBrand.KB);
+
+		assertThat(result).isCompletedExceptionally();
+		verify(gatewayClient).cancel(eq(REQUEST), isNull());
+		verify(orderRepository).updateStatus(eq(ORDER_ID), eq(OrderStatus.PAYING), eq(OrderStatus.READY), any());
+	}
+
+	@Test
+	void declinedApprovalOnlyReleasesOrder() {
+		markPayingSucceeds();
+		when(gatewayClient.approve(REQUEST)).thenReturn(
+			CompletableFuture.failedFuture(new BusinessException(ErrorCode.PAYMENT_DECLINED)));
+
+		assertThat(paymentService.pay(ORDER_ID, CardBrand.KB)).isCompletedExceptionally();
+		verify(gatewayClient, never()).cancel(any(), any());
+		verify(orderRepository).updateStatus(eq(ORDER_ID), eq(OrderStatus.PAYING), eq(OrderStatus.READY), any());
+	}
+
+	@Test
+	void approvalCallbackRunsUnderRequestTraceId() throws InterruptedException {
+		markPayingSucceeds();
+		CompletableFuture<CardApproval> approval = new CompletableFuture<>();
+		when(gatewayClient.approve(REQUEST)).thenReturn(approval);
+		AtomicReference<String> callbackTraceId = new AtomicReference<>();
+		when(approvalHandler.onApproved(eq(ORDER_ID), eq(CardBrand.KB), eq(AMOUNT), any())).thenAnswer(invocation -> {
+			callbackTraceId.set(MDC.get(TraceContext.MDC_KEY));
+			return null;
+		});
+		// 운영과 같은 데코레이터: 작업을 넘겨받는 시점(= 카드사 완료 스레드)의 MDC 를 잡음
+		TraceTaskDecorator decorator = new TraceTaskDecorator();
+		PaymentService decorated = new PaymentService(orderRepository, gatewayClient, approvalHandler, shardRouter,
+			task -> decorator.decorate(task).run(), Duration.ofSeconds(30));
+
+		MDC.put(TraceContext.MDC_KEY, "request-trace");
+		try {
+			decorated.pay(ORDER_ID, CardBrand.KB);
+		} finally {
+			MDC.remove(TraceContext.MDC_KEY);
+		}
+		Thread gatewayThread = new Thread(() -> {
+			MDC.put(TraceContext.MDC_KEY, "gateway-thread");
+			approval.complete(CardApproval.approved("KB-1"));
+		});
+		gatewayThread.start();
+		gatewayThread.join();
+
+		assertThat(callbackTraceId.get()).isEqualTo("request-trace");
+	}
+
+	@Test
+	void approvalOnMigratingBucketIsRecordedAfterSwitchInsteadOfCanceled() throws Exception {
+		markPayingSucceeds();
+		when(gatewayClient.approve(REQUEST))
+			.thenReturn(CompletableFuture.completedFuture(CardApproval.approved("KB-1")));
+		PaymentResponse recorded = mock(PaymentResponse.class);
+		when(approvalHandler.onApproved(eq(ORDER_ID), eq(CardBrand.KB), eq(AMOUNT), any()))
+			.thenThrow(StacklessBusinessException.of(ErrorCode.SHARD_MIGRATING))
+			.thenReturn(recorded);
+
+		CompletableFuture<PaymentResponse> result = paymentService.pay(ORDER_ID, CardBrand.KB);
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(recorded);
+		verify(gatewayClient, never()).cancel(any(), any());
+	}
+
+	@Test
+	void approvalStillMigratingAfterWaitIsCanceled() {
+		PaymentService noWait = new PaymentService(orderRepository, gatewayClient, approvalHandler, shardRouter,
+			Runnable::run, Duration.ZERO);
+		markPayingSucceeds();
+		when(gatewayClient.approve(REQUEST))
+			.thenReturn(CompletableFuture.completedFuture(CardApproval.approved("KB-1")));
+		when(approvalHandler.onApproved(eq(ORDER_ID), eq(CardBrand.KB), eq(AMOUNT), any()))
+			.thenThrow(StacklessBusinessException.of(ErrorCode.SHARD_MIGRATING));
+
+		assertThat(noWait.pay(ORDER_ID, CardBrand.KB)).isCompletedExceptionally();
+		verify(gatewayClient).cancel(REQUEST, "KB-1");
+	}
+
+	@Test
+	void saturatedCallbackPoolFailsFastAndCancelsApproval() {
+		PaymentService saturated = new PaymentService(orderRepository, gatewayClient, approvalHandler, shardRouter,
+			task -> {
+				throw new RejectedExecutionException("full");
+			}, Duration.ofSeconds(30));
+		markPayingSucceeds();
+		when(gatewayClient.approve(REQUEST))
+			.thenReturn(CompletableFuture.completedFuture(CardApproval.approved("KB-1")));
+
+		CompletableFuture<PaymentResponse> result = saturated.pay(ORDER_ID, CardBrand.KB);
+
+		assertThat(result).isCompletedExceptionally();
+		verify(gatewayClient).cancel(REQUEST, "KB-1");
+		verify(approvalHandler, never()).onApproved(anyLong(), any(), anyInt(), any());
+	}
+
+	@Test
+	void stalePayingOrderIsVoidedOnEveryBrandBeforeRelease() {
+		when(gatewayClient.brands()).thenReturn(EnumSet.of(CardBrand.KB, CardBrand.SH));
+		when(orderRepository.updateStatus(eq(ORDER_ID), eq(OrderStatus.PAYING), eq(OrderStatus.READY), any()))
+			.thenReturn(1);
+
+		assertThat(paymentService.voidStalePayments(List.of(ORDER_ID))).containsExactly(ORDER_ID);
+		verify(gatewayClient).cancel(eq(REQUEST), isNull());
+		verify(gatewayClient).cancel(eq(new CardApprovalRequest(ORDER_ID, CardBrand.SH, AMOUNT)), isNull());
+	}
+
+	@Test
+	void stalePayingOrderStaysPayingWhenVoidIsUnconfirmed() {
+		when(gatewayClient.brands()).thenReturn(EnumSet.of(CardBrand.KB, CardBrand.SH));
+		when(gatewayClient.cancel(eq(REQUEST), isNull())).thenReturn(CompletableFuture.completedFuture(false));
+
+		assertThat(paymentService.voidStalePayments(List.of(ORDER_ID))).isEmpty();
+		verify(orderRepository, never())
+			.updateStatus(eq(ORDER_ID), eq(OrderStatus.PAYING), eq(OrderStatus.READY), any());
+	}
+
+	private void markPayingSucceeds() {
+		when(orderRepository.updateStatus(eq(ORDER_ID), eq(OrderStatus.READY), eq(OrderStatus.PAYING), any()))
+			.thenReturn(1);
+	}
+
+	private static Object supply(InvocationOnMock invocation) {
+		return ((Supplier<?>)invocation.getArgument(1)).get();
+	}
+}
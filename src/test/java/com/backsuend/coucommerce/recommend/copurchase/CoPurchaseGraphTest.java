@@ -0,0 +1,132 @@
+package com.backsuend.coucommerce.recommend.copurchase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class CoPurchaseGraphTest {
+
+	@Test
+	void ranksPartnersByCoPurchaseCount() {
+		CoPurchaseGraph graph = new CoPurchaseGraph(2, 4, 10);
+		graph.record(new long[] {1, 2, 3});
+		graph.record(new long[] {1, 3});
+		graph.record(new long[] {1, 3, 4, 4});
+		graph.record(new long[] {1, 4});
+
+		CoPurchaseGraph.Recommendations top = graph.recommend(1);
+		assertThat(top.productIds()).containsExactly(3, 4);
+		assertThat(top.scores()).containsExactly(3 * CoPurchaseGraph.SCALE, 2 * CoPurchaseGraph.SCALE);
+		assertThat(graph.recommend(99).size()).isZero();
+	}
+
+	@Test
+	void keepsPartnersPerProductBoundedAndHeavyPartnersOnTop() {
+		CoPurchaseGraph graph = new CoPurchaseGraph(3, 20, 10);
+		Random random = new Random(42);
+		for (int i = 0; i < 20_000; i++) {
+			// 상품 1 은 10, 11, 12 와 자주, 나머지 수천 개 상품과는 가끔 함께 팔림
+			long partner = i % 4 == 0 ? 10 + random.nextInt(3) : 1_000 + random.nextInt(5_000);
+			graph.record(new long[] {1, partner});
+		}
+
+		assertThat(graph.recommend(1).productIds()).containsExactlyInAnyOrder(10, 11, 12);
+		// 상품 1 의 파트너는 최대 maxPartners × 2, 나머지 상품은 파트너 1 개
+		assertThat(graph.edgeCount()).isLessThanOrEqualTo(40 + graph.productCount() - 1);
+	}
+
+	@Test
+	void decayScalesScoresAndPrunesWeakPairs() {
+		CoPurchaseGraph graph = new CoPurchaseGraph(5, 10, 10);
+		graph.record(new long[] {1, 2});
+		graph.record(new long[] {1, 2});
+		graph.record(new long[] {3, 4});
+
+		graph.decay(0.5, CoPurchaseGraph.SCALE);
+
+		assertThat(graph.recommend(1).scores()).containsExactly(CoPurchaseGraph.SCALE);
+		assertThat(graph.recommend(3).size()).isZero();
+		assertThat(graph.productCount()).isEqualTo(2);
+	}
+
+	@Test
+	void snapshotRoundTripsAndRejectsCorruption() throws IOException {
+		CoPurchaseGraph graph = new CoPurchaseGraph(5, 10, 10);
+		graph.record(new long[] {100, 2_000_000_000_000L, 7});
+		graph.record(new long[] {100, 7});
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		graph.writeTo(out);
+
+		CoPurchaseGraph restored = new CoPurchaseGraph(5, 10, 10);
+		restored.readFrom(new ByteArrayInputStream(out.toByteArray()));
+		assertThat(restored.recommend(100).productIds()).containsExactly(7, 2_000_000_000_000L);
+		assertThat(restored.edgeCount()).isEqualTo(graph.edgeCount());
+
+		byte[] corrupted = out.toByteArray();
+		corrupted[6] ^= 0x01;
+		assertThatThrownBy(() -> restored.readFrom(new ByteArrayInputStream(corrupted)))
+			.isInstanceOf(IOException.class);
+		assertThat(restored.recommend(100).size()).isEqualTo(2);
+	}
+
+	@Test
+	void recordProceedsWhileSnapshotIsBeingWritten() throws Exception {
+		CoPurchaseGraph graph = new CoPurchaseGraph(5, 10, 10);
+		graph.record(new long[] {1, 2});
+		CountDownLatch recorded = new CountDownLatch(1);
+		boolean[] recordedDuringWrite = {false};
+		OutputStream slowDisk = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				write(new byte[] {(byte)b}, 0, 1);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				if (!recordedDuringWrite[0]) {
+					// 쓰기 도중 다른 스레드(요청 스레드)의 구매 확정 반영이 막히지 않아야 함
+					Thread.ofPlatform().start(() -> {
+						graph.record(new long[] {1, 3});
+						recorded.countDown();
+					});
+					try {
+						recordedDuringWrite[0] = recorded.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException ex) {
+						throw new IOException(ex);
+					}
+				}
+			}
+		};
+
+		graph.writeTo(slowDisk);
+
+		assertThat(recordedDuringWrite[0]).isTrue();
+		assertThat(graph.recommend(1).size()).isEqualTo(2);
+	}
+
+	@Test
+	void snapshotWithHugePartnerCountFailsWithoutAllocatingIt() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(bytes);
+		data.writeInt(0x43504731);
+		data.write(new byte[] {1, 1}); // 상품 1 개, ID 1
+		data.write(new byte[] {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x07}); // 파트너 Integer.MAX_VALUE 개
+		CoPurchaseGraph graph = new CoPurchaseGraph(5, 10, 10);
+		graph.record(new long[] {1, 2});
+
+		// 체크섬 확인 전의 길이로 거대한 맵을 만들지 않고 스트림 끝에서 실패, 기존 내용 유지
+		assertThatThrownBy(() -> graph.readFrom(new ByteArrayInputStream(bytes.toByteArray())))
+			.isInstanceOf(IOException.class);
+		assertThat(graph.recommend(1).size()).isEqualTo(1);
+	}
+}
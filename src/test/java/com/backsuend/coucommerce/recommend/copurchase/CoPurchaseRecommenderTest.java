@@ -0,0 +1,94 @@
+package com.backsuend.coucommerce.recommend.copurchase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.backsuend.coucommerce.order.event.OrderCompletedEvent;
+import com.backsuend.coucommerce.order.repository.CompletedOrderJdbcRepository;
+import com.backsuend.coucommerce.recommend.dto.CoPurchaseResponse;
+import com.backsuend.coucommerce.shard.routing.ShardRouter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoPurchaseRecommenderTest {
+
+	@TempDir
+	Path dir;
+
+	private final ShardRouter shardRouter = mock(ShardRouter.class);
+	private final CompletedOrderJdbcRepository repository = mock(CompletedOrderJdbcRepository.class);
+
+	@Test
+	void eventsBeforeSnapshotLoadSurviveTheSnapshotSwap() throws Exception {
+		CoPurchaseGraph saved = new CoPurchaseGraph(10, 100, 50);
+		saved.record(new long[] {1, 2});
+		try (OutputStream out = Files.newOutputStream(dir.resolve("co-purchase.snapshot"))) {
+			saved.writeTo(out);
+		}
+		CoPurchaseRecommender recommender = recommender();
+
+		// 기동 직후 적재 전에 확정된 주문 → 스냅샷 교체로 지워지지 않고 적재 후 반영
+		recommender.onOrderCompleted(new OrderCompletedEvent(900L, 1L, List.of(1L, 3L)));
+		recommender.load();
+
+		CoPurchaseResponse response = awaitItems(recommender, 2);
+		assertThat(response.items()).extracting(CoPurchaseResponse.Item::productId).containsExactly(2L, 3L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void eventsDuringBootstrapAreAppliedOnceAfterLoad() throws Exception {
+		when(shardRouter.targets()).thenReturn(List.of(ShardRouter.GLOBAL));
+		when(shardRouter.homeShards()).thenReturn(orderId -> ShardRouter.GLOBAL);
+		when(shardRouter.onShard(anyInt(), any())).thenAnswer(
+			invocation -> ((Supplier<?>)invocation.getArgument(1)).get());
+		CoPurchaseRecommender recommender = recommender();
+		LocalDateTime[] completedBefore = new LocalDateTime[1];
+		doAnswer(invocation -> {
+			completedBefore[0] = invocation.getArgument(1);
+			// 초기 구성 도중 확정된 주문 → 버퍼에 있다가 적재 후 반영 (초기 구성 범위 밖)
+			recommender.onOrderCompleted(new OrderCompletedEvent(900L, 1L, List.of(1L, 3L)));
+			((Consumer<long[]>)invocation.getArgument(3)).accept(new long[] {1, 2});
+			return null;
+		}).when(repository).forEachCompletedOrder(any(), any(), any(), any());
+
+		recommender.load();
+
+		CoPurchaseResponse response = awaitItems(recommender, 2);
+		assertThat(response.items()).extracting(CoPurchaseResponse.Item::score).containsExactly(1.0, 1.0);
+		// 초기 구성은 이벤트를 받기 시작한 시각 이전에 확정된 주문만 읽음
+		assertThat(completedBefore[0]).isNotNull();
+	}
+
+	private CoPurchaseRecommender recommender() {
+		return new CoPurchaseRecommender(repository, shardRouter, new SimpleMeterRegistry(), 10, 100, 50, 0.9, 0.25,
+			dir.resolve("co-purchase.snapshot"), 90);
+	}
+
+	private static CoPurchaseResponse awaitItems(CoPurchaseRecommender recommender, int size)
+		throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		CoPurchaseResponse response = recommender.recommend(1L, 10);
+		while (response.items().size() < size && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+			response = recommender.recommend(1L, 10);
+		}
+		return response;
+	}
+}
@@ -0,0 +1,116 @@
+package com.backsuend.coucommerce.seller.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.backsuend.coucommerce.catalog.repository.ProductRepository;
+import com.backsuend.coucommerce.common.exception.BusinessException;
+import com.backsuend.coucommerce.common.exception.ErrorCode;
+import com.backsuend.coucommerce.seller.entity.SellerStatus;
+import com.backsuend.coucommerce.seller.event.SellerStatusChangedEvent;
+import com.backsuend.coucommerce.seller.repository.SellerRepository;
+
+class SellerAuthorizationCacheTest {
+
+	private static final long SELLER_MEMBER_ID = 7L;
+	private static final long PRODUCT_ID = 100L;
+
+	private final SellerRepository sellerRepository = mock(SellerRepository.class);
+	private final ProductRepository productRepository = mock(ProductRepository.class);
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	private SellerAuthorizationCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new SellerAuthorizationCache(sellerRepository, productRepository, redis,
+			mock(RedisMessageListenerContainer.class));
+	}
+
+	@Test
+	void missLoadsOnceAndSuspensionEventRevokesWrites() {
+		givenStatus(SellerStatus.APPROVED);
+
+		assertThatNoException().isThrownBy(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID));
+		assertThatNoException().isThrownBy(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID));
+		verify(sellerRepository, times(1)).findStatusViewByMemberId(SELLER_MEMBER_ID);
+
+		cache.on(new SellerStatusChangedEvent(1L, SELLER_MEMBER_ID, SellerStatus.SUSPENDED));
+
+		assertDenied(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID), ErrorCode.SELLER_NOT_APPROVED);
+		verify(redis).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	void eventArrivingDuringMissLoadIsNotOverwritten() {
+		// DB 조회가 끝나기 전에 정지 이벤트가 먼저 캐시에 반영된 경우
+		when(sellerRepository.findStatusViewByMemberId(SELLER_MEMBER_ID)).thenAnswer(invocation -> {
+			cache.on(new SellerStatusChangedEvent(1L, SELLER_MEMBER_ID, SellerStatus.SUSPENDED));
+			return Optional.of(view(SellerStatus.APPROVED));
+		});
+
+		assertThat(cache.status(SELLER_MEMBER_ID)).isEqualTo(SellerStatus.SUSPENDED);
+		assertThat(cache.status(SELLER_MEMBER_ID)).isEqualTo(SellerStatus.SUSPENDED);
+	}
+
+	@Test
+	void statusPropagatedFromPeerNodeIsApplied() {
+		givenStatus(SellerStatus.APPLIED);
+		assertDenied(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID), ErrorCode.SELLER_NOT_APPROVED);
+
+		cache.onMessage(message(SELLER_MEMBER_ID + ":APPROVED:trace-1"), null);
+
+		assertThatNoException().isThrownBy(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID));
+	}
+
+	@Test
+	void productWriteRequiresOwnership() {
+		givenStatus(SellerStatus.APPROVED);
+		when(productRepository.findSellerIdById(PRODUCT_ID)).thenReturn(Optional.of(SELLER_MEMBER_ID));
+		when(productRepository.findSellerIdById(PRODUCT_ID + 1)).thenReturn(Optional.of(99L));
+
+		assertThatNoException().isThrownBy(() -> cache.checkProductWritable(SELLER_MEMBER_ID, PRODUCT_ID));
+		assertDenied(() -> cache.checkProductWritable(SELLER_MEMBER_ID, PRODUCT_ID + 1), ErrorCode.ACCESS_DENIED);
+	}
+
+	@Test
+	void nonSellerIsRejected() {
+		when(sellerRepository.findStatusViewByMemberId(SELLER_MEMBER_ID)).thenReturn(Optional.empty());
+
+		assertThat(cache.status(SELLER_MEMBER_ID)).isNull();
+		assertDenied(() -> cache.checkApprovedSeller(SELLER_MEMBER_ID), ErrorCode.SELLER_NOT_APPROVED);
+	}
+
+	private void givenStatus(SellerStatus status) {
+		when(sellerRepository.findStatusViewByMemberId(SELLER_MEMBER_ID)).thenReturn(Optional.of(view(status)));
+	}
+
+	private static SellerStatusView view(SellerStatus status) {
+		return new SellerStatusView(SELLER_MEMBER_ID, status, LocalDateTime.now(), null);
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(SellerAuthorizationCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void assertDenied(Runnable check, ErrorCode errorCode) {
+		assertThatThrownBy(check::run).isInstanceOfSatisfying(BusinessException.class,
+			ex -> assertThat(ex.errorCode()).isEqualTo(errorCode));
+	}
+}
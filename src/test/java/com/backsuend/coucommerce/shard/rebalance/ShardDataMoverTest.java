@@ -0,0 +1,109 @@
+package com.backsuend.coucommerce.shard.rebalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.backsuend.coucommerce.shard.routing.ShardIdGenerator;
+
+/**
+ * 로컬 H2(MySQL 모드) 두 개를 샤드로 두고 db/shard 스키마에서 회원 데이터 이동 검증
+ */
+class ShardDataMoverTest {
+
+	private static final long MEMBER = 42L;
+	private static final long OTHER_MEMBER = 7L;
+	private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+	private JdbcTemplate source;
+	private JdbcTemplate target;
+	private ShardDataMover mover;
+	private long orderId;
+
+	@BeforeEach
+	void setUp() {
+		source = new JdbcTemplate(shard("mover-source"));
+		target = new JdbcTemplate(shard("mover-target"));
+		mover = new ShardDataMover(source, target, 1);
+		orderId = new ShardIdGenerator(0, () -> ShardIdGenerator.EPOCH_MILLIS + 86_400_000L)
+			.next(ShardIdGenerator.bucketOfMember(MEMBER));
+
+		insertOrder(source, orderId, MEMBER, "READY", T0);
+		source.update("insert into order_product (order_id, product_id, quantity, price, created_at, updated_at)"
+			+ " values (?, 10, 2, 1500, ?, ?), (?, 11, 1, 9000, ?, ?)", orderId, T0, T0, orderId, T0, T0);
+		insertOrder(source, 5L, MEMBER, "DONE", T0);  // 샤딩 이전 ID
+		insertOrder(source, orderId + 1, OTHER_MEMBER, "READY", T0);
+		source.update("insert into cart (member_id, product_id, quantity, created_at, updated_at)"
+			+ " values (?, 10, 3, ?, ?)", MEMBER, T0, T0);
+	}
+
+	@Test
+	void copiesThenCatchesUpChangesAndDeletesSourceExceptLegacyOrders() {
+		int memberBucket = ShardIdGenerator.bucketOfMember(MEMBER);
+		List<Long> members = mover.findMembers(bucket -> bucket == memberBucket);
+		assertThat(members).containsExactly(MEMBER);
+
+		assertThat(mover.copyOrders(members, null)).isEqualTo(1);
+		assertThat(mover.copyCarts(members)).isEqualTo(1);
+
+		// 복사 이후 결제 완료 → 차분 복사는 변경된 주문만, 여러 번 실행해도 같은 결과
+		LocalDateTime paidAt = T0.plusMinutes(5);
+		source.update("insert into payment (id, order_id, card_id, total_price, created_at, updated_at)"
+			+ " values (?, ?, 'KB', 12000, ?, ?)", orderId + 2, orderId, paidAt, paidAt);
+		source.update("update orders set status = 'START', payment_id = ?, updated_at = ? where id = ?",
+			orderId + 2, paidAt, orderId);
+		assertThat(mover.copyOrders(members, paidAt)).isEqualTo(1);
+		assertThat(mover.copyOrders(members, paidAt)).isEqualTo(1);
+		mover.copyCarts(members);
+
+		assertThat(target.queryForObject("select status from orders where id = ?", String.class, orderId))
+			.isEqualTo("START");
+		assertThat(count(target, "order_product")).isEqualTo(2);
+		assertThat(target.queryForObject("select sum(price * quantity) from order_product", Long.class))
+			.isEqualTo(12_000L);
+		assertThat(count(target, "payment")).isEqualTo(1);
+		assertThat(count(target, "cart")).isEqualTo(1);
+		assertThat(count(target, "orders")).isEqualTo(1);
+
+		mover.deleteSource(members);
+
+		assertThat(source.queryForList("select id from orders order by id", Long.class))
+			.containsExactly(5L, orderId + 1);
+		assertThat(count(source, "order_product")).isZero();
+		assertThat(count(source, "payment")).isZero();
+		assertThat(count(source, "cart")).isZero();
+	}
+
+	private static DataSource shard(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		Flyway flyway = Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/shard")
+			.cleanDisabled(false)
+			.load();
+		flyway.clean();
+		flyway.migrate();
+		return dataSource;
+	}
+
+	private static void insertOrder(JdbcTemplate jdbc, long id, long memberId, String status, LocalDateTime at) {
+		jdbc.update("insert into orders (id, member_id, consumer_name, consumer_phone, receiver_name,"
+				+ " receiver_road_name, receiver_phone, receiver_postal_code, status, created_at, updated_at)"
+				+ " values (?, ?, '홍길동', '010-0000-0000', '홍길동', '서울시 중구', '010-0000-0000', '04524', ?, ?, ?)",
+			id, memberId, status, at, at);
+	}
+
+	private static int count(JdbcTemplate jdbc, String table) {
+		return jdbc.queryForObject("select count(*) from " + table, Integer.class);
+	}
+}
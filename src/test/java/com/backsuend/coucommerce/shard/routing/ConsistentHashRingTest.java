@@ -0,0 +1,45 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+	@Test
+	void spreadsBucketsEvenlyAndMovesOnlyNewShardShareWhenShardAdded() {
+		ConsistentHashRing three = new ConsistentHashRing(List.of(0, 1, 2), 160);
+		ConsistentHashRing four = new ConsistentHashRing(List.of(3, 2, 1, 0), 160);
+
+		int[] counts = new int[4];
+		int moved = 0;
+		for (int bucket = 0; bucket < ShardIdGenerator.BUCKETS; bucket++) {
+			int before = three.shardOf(bucket);
+			int after = four.shardOf(bucket);
+			counts[after]++;
+			if (before != after) {
+				// 옮겨 가는 버킷은 모두 새 샤드로 (기존 샤드끼리는 이동 없음)
+				assertThat(after).isEqualTo(3);
+				moved++;
+			}
+		}
+
+		// 이상적인 몫 256 개 기준 ±25%
+		for (int count : counts) {
+			assertThat(count).isBetween(192, 320);
+		}
+		assertThat(moved).isEqualTo(counts[3]);
+	}
+
+	@Test
+	void ringDoesNotDependOnShardListOrder() {
+		ConsistentHashRing a = new ConsistentHashRing(List.of(0, 1, 2, 3), 64);
+		ConsistentHashRing b = new ConsistentHashRing(List.of(2, 0, 3, 1), 64);
+
+		for (int bucket = 0; bucket < ShardIdGenerator.BUCKETS; bucket++) {
+			assertThat(a.shardOf(bucket)).isEqualTo(b.shardOf(bucket));
+		}
+	}
+}
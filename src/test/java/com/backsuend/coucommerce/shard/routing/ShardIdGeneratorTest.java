@@ -0,0 +1,62 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ShardIdGeneratorTest {
+
+	private static final long NOW = ShardIdGenerator.EPOCH_MILLIS + 400L * 24 * 60 * 60 * 1000;
+
+	@Test
+	void issuesUniqueIdsCarryingBucketAcrossSequenceOverflow() {
+		AtomicLong clock = new AtomicLong(NOW);
+		ShardIdGenerator generator = new ShardIdGenerator(7, clock::get);
+		Set<Long> issued = new HashSet<>();
+
+		// 시계가 멈춘 채 한 ms 순번(128개)을 여러 번 넘김 → 다음 ms 를 당겨 씀
+		for (int i = 0; i < 1_000; i++) {
+			int bucket = i % ShardIdGenerator.BUCKETS;
+			long id = generator.next(bucket);
+			assertThat(issued.add(id)).isTrue();
+			assertThat(id).isGreaterThanOrEqualTo(ShardIdGenerator.LEGACY_ID_LIMIT);
+			assertThat(ShardIdGenerator.bucketOf(id)).isEqualTo(bucket);
+		}
+
+		// 당겨 쓴 범위 안의 시계 역행은 마지막 시각을 이어 써서 발급
+		clock.addAndGet(-5);
+		for (int i = 0; i < 300; i++) {
+			assertThat(issued.add(generator.next(i % 3))).isTrue();
+		}
+	}
+
+	@Test
+	void rejectsLargeClockRollback() {
+		AtomicLong clock = new AtomicLong(NOW);
+		ShardIdGenerator generator = new ShardIdGenerator(0, clock::get);
+		generator.next(0);
+
+		clock.addAndGet(-60_000);
+
+		assertThatThrownBy(() -> generator.next(0)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void treatsAutoIncrementIdsAsLegacyAndSpreadsMembersOverBuckets() {
+		assertThat(ShardIdGenerator.bucketOf(1L)).isEqualTo(-1);
+		assertThat(ShardIdGenerator.bucketOf(ShardIdGenerator.LEGACY_ID_LIMIT - 1)).isEqualTo(-1);
+
+		int[] counts = new int[ShardIdGenerator.BUCKETS];
+		for (long memberId = 1; memberId <= 102_400; memberId++) {
+			counts[ShardIdGenerator.bucketOfMember(memberId)]++;
+		}
+		for (int count : counts) {
+			assertThat(count).isBetween(50, 150);
+		}
+	}
+}
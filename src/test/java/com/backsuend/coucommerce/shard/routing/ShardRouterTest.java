@@ -0,0 +1,74 @@
+package com.backsuend.coucommerce.shard.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.backsuend.coucommerce.shard.config.ShardProperties;
+import com.backsuend.coucommerce.shard.repository.ShardAssignmentJdbcRepository;
+
+class ShardRouterTest {
+
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> values = mock(ValueOperations.class);
+	private ShardRouter router;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(redis.opsForValue()).thenReturn(values);
+		when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+		ShardProperties properties = new ShardProperties(false, 160, -1, false, Duration.ofSeconds(5),
+			new ShardProperties.Rebalance(Duration.ofSeconds(10), 64, 500), List.of());
+		router = new ShardRouter(properties, mock(ObjectProvider.class), mock(ShardAssignmentJdbcRepository.class),
+			redis, mock(RedisMessageListenerContainer.class), mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void leasesFirstFreeNodeId() {
+		when(values.setIfAbsent(eq("shard:node:2"), anyString(), any(Duration.class))).thenReturn(true);
+
+		assertThat(nodeOf(router.nextId(1L))).isEqualTo(2);
+		assertThat(nodeOf(router.nextId(2L))).isEqualTo(2);
+	}
+
+	@Test
+	void stopsIssuingWithNodeIdAfterLosingLease() {
+		when(values.setIfAbsent(eq("shard:node:0"), anyString(), any(Duration.class))).thenReturn(true, false);
+		when(values.setIfAbsent(eq("shard:node:1"), anyString(), any(Duration.class))).thenReturn(true);
+		assertThat(nodeOf(router.nextId(1L))).isEqualTo(0);
+
+		// 연장 시 값이 내 토큰이 아님 → 만료 후 다른 노드가 0 번을 잡음
+		when(redis.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+		router.renewNodeLease();
+
+		assertThat(nodeOf(router.nextId(1L))).isEqualTo(1);
+	}
+
+	@Test
+	void refusesToReuseNodeIdWhenAllAreLeased() {
+		assertThatThrownBy(() -> router.nextId(1L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static int nodeOf(long id) {
+		return (int)((id >>> 7) & (ShardIdGenerator.MAX_NODES - 1));
+	}
+}